@@ -53,6 +53,34 @@ CREATE TABLE empleos (
     CONSTRAINT chk_ingreso CHECK (ingreso_mensual > 0)
 );
 
+-- Resumen de empleos por candidato, mantenido por pkg_empleos en cada
+-- alta/cambio/baja de empleo. Solo candidatos con al menos un empleo activo.
+CREATE TABLE candidato_resumen_empleo (
+    candidato_id NUMBER PRIMARY KEY,
+    meses_cerrados NUMBER NOT NULL,          -- meses de empleos con fecha_salida
+    num_abiertos NUMBER NOT NULL,            -- empleos sin fecha_salida
+    meses_inicios_abiertos NUMBER NOT NULL,  -- suma de año * 12 + mes + día / 31 de sus fecha_ingreso
+    ultimo_empleo_id NUMBER NOT NULL,        -- empleo con la fecha_ingreso más reciente
+    ultima_empresa VARCHAR2(200) NOT NULL,
+    ultimo_ingreso DATE NOT NULL,
+    ultima_salida DATE,
+    ingreso_actual NUMBER(10,2),             -- ingreso del empleo sin fecha_salida más reciente
+    laborando NUMBER(1) NOT NULL,
+    CONSTRAINT fk_resumen_candidato FOREIGN KEY (candidato_id)
+        REFERENCES candidatos(id) ON DELETE CASCADE,
+    CONSTRAINT chk_resumen_laborando CHECK (laborando IN (0, 1))
+);
+
+-- Trigramas de los nombres de empresa (en mayúsculas) para resolver la búsqueda
+-- por subcadena sin recorrer empleos. Los mantiene pkg_empleos al insertar o
+-- actualizar un empleo; los nombres que ya no se usan se quedan y solo agregan
+-- candidatos que la verificación con LIKE descarta.
+CREATE TABLE empresa_trigrama (
+    trigrama VARCHAR2(3 CHAR) NOT NULL,
+    nombre_empresa VARCHAR2(200) NOT NULL,
+    CONSTRAINT pk_empresa_trigrama PRIMARY KEY (trigrama, nombre_empresa)
+) ORGANIZATION INDEX;
+
 -- Índices para mejorar el rendimiento
 CREATE INDEX idx_candidatos_email ON candidatos(email);
 CREATE INDEX idx_candidatos_rfc ON candidatos(rfc);
@@ -62,6 +90,18 @@ CREATE INDEX idx_empleos_empresa ON empleos(nombre_empresa);
 CREATE INDEX idx_empleos_ingreso ON empleos(ingreso_mensual);
 CREATE INDEX idx_empleos_fecha_salida ON empleos(fecha_salida);
 
+-- Índices para paginación por llave (apellidos, nombres, id): cada página es un range scan.
+-- El ORDER BY y las comparaciones de llave deben usar el orden binario del índice;
+-- DBConfig fija NLS_SORT y NLS_COMP en BINARY en cada conexión de los pools
+CREATE INDEX idx_candidatos_orden ON candidatos(activo, apellidos, nombres, id);
+CREATE INDEX idx_candidatos_cp_orden ON candidatos(codigo_postal, activo, apellidos, nombres, id);
+
+-- Índices para la versión (ETag) de los recursos: MAX(fecha_actualizacion) se
+-- resuelve leyendo un extremo del índice en lugar de la tabla
+CREATE INDEX idx_candidatos_fecha_act ON candidatos(fecha_actualizacion);
+CREATE INDEX idx_empleos_candidato_fecha ON empleos(candidato_id, fecha_actualizacion);
+CREATE INDEX idx_empleos_fecha_act ON empleos(fecha_actualizacion);
+
 -- Trigger para actualizar fecha_actualizacion en candidatos
 CREATE OR REPLACE TRIGGER trg_candidatos_update
 BEFORE UPDATE ON candidatos
@@ -80,6 +120,14 @@ BEGIN
 END;
 
 
+-- Tipos de colección para el enlace de arreglos desde JDBC (operaciones en lote)
+CREATE OR REPLACE TYPE t_varchar_tab AS TABLE OF VARCHAR2(200);
+
+CREATE OR REPLACE TYPE t_date_tab AS TABLE OF DATE;
+
+CREATE OR REPLACE TYPE t_number_tab AS TABLE OF NUMBER;
+
+
 
 -- =====================================================
 -- Paquete de Candidatos
@@ -107,6 +155,27 @@ CREATE OR REPLACE PACKAGE pkg_candidatos AS
         p_candidato_id OUT NUMBER
     );
     
+    -- Procedimiento para insertar candidatos en lote (un elemento por fila).
+    -- p_codigos_error regresa 0 si la fila se insertó, 1 si el email o RFC
+    -- ya existe, o el código ORA correspondiente en cualquier otro caso.
+    PROCEDURE sp_insertar_candidatos_lote(
+        p_nombres IN t_varchar_tab,
+        p_apellidos IN t_varchar_tab,
+        p_email IN t_varchar_tab,
+        p_fecha_nacimiento IN t_date_tab,
+        p_rfc IN t_varchar_tab,
+        p_telefono IN t_varchar_tab,
+        p_calle IN t_varchar_tab,
+        p_numero IN t_varchar_tab,
+        p_colonia IN t_varchar_tab,
+        p_ciudad IN t_varchar_tab,
+        p_estado IN t_varchar_tab,
+        p_pais IN t_varchar_tab,
+        p_codigo_postal IN t_varchar_tab,
+        p_candidato_ids OUT t_number_tab,
+        p_codigos_error OUT t_number_tab
+    );
+    
     -- Procedimiento para actualizar datos personales
     PROCEDURE sp_actualizar_datos_personales(
         p_id IN NUMBER,
@@ -143,6 +212,13 @@ CREATE OR REPLACE PACKAGE pkg_candidatos AS
         p_id IN NUMBER
     ) RETURN SYS_REFCURSOR;
     
+    -- Procedimiento para obtener el perfil (candidato + empleos) en una sola llamada
+    PROCEDURE sp_obtener_perfil(
+        p_id IN NUMBER,
+        p_candidato OUT SYS_REFCURSOR,
+        p_empleos OUT SYS_REFCURSOR
+    );
+    
     -- Función para listar todos los candidatos activos
     PROCEDURE sp_listar_candidatos(p_cursor OUT SYS_REFCURSOR);
     
@@ -151,6 +227,82 @@ CREATE OR REPLACE PACKAGE pkg_candidatos AS
         p_codigo_postal IN VARCHAR2
     ) RETURN SYS_REFCURSOR;
     
+    -- Función para listar candidatos paginados por llave (apellidos, nombres, id)
+    FUNCTION fn_pagina_candidatos(
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Función para buscar candidatos por código postal paginados por llave
+    FUNCTION fn_pagina_por_cp(
+        p_codigo_postal IN VARCHAR2,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Función con los atributos que indexa el motor de filtros en memoria.
+    -- Sin parámetros regresa todos los candidatos activos; con p_candidato_id o
+    -- p_empleo_id regresa solo ese candidato, aunque esté inactivo
+    FUNCTION fn_datos_indice_busqueda(
+        p_candidato_id IN NUMBER,
+        p_empleo_id IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Función para obtener varios candidatos activos por ID, ordenados por ID
+    FUNCTION fn_obtener_candidatos_por_ids(
+        p_ids IN t_number_tab
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Procedimiento con el email y RFC de todos los candidatos, activos o no,
+    -- para construir el filtro de duplicados en memoria
+    PROCEDURE sp_listar_claves_unicas(p_cursor OUT SYS_REFCURSOR);
+    
+    -- Función que regresa id, email y RFC de los candidatos, activos o no, que
+    -- ya usan alguno de los emails o RFCs recibidos, sin contar a p_excluir_id
+    FUNCTION fn_claves_existentes(
+        p_email IN t_varchar_tab,
+        p_rfc IN t_varchar_tab,
+        p_excluir_id IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Procedimiento con la última fecha_actualizacion de los datos de un recurso.
+    -- p_alcance: CANDIDATO, PERFIL y EMPLEOS_CANDIDATO usan p_candidato_id;
+    -- CANDIDATOS cubre la tabla completa y CANDIDATOS_EMPLEOS además la de
+    -- empleos. Nulo si no hay filas.
+    PROCEDURE sp_version_datos(
+        p_alcance IN VARCHAR2,
+        p_candidato_id IN NUMBER,
+        p_ultima_actualizacion OUT TIMESTAMP
+    );
+    
+    -- Función para consultar candidatos activos leyendo solo las columnas
+    -- pedidas (?fields=). p_columnas: nombres de columna separados por coma,
+    -- validados contra una lista fija; nulo para todas. Con p_id o
+    -- p_codigo_postal filtra por esos valores; con p_limite pagina por llave
+    -- (apellidos, nombres, id) igual que fn_pagina_candidatos
+    FUNCTION fn_proyectar_candidatos(
+        p_columnas IN VARCHAR2,
+        p_id IN NUMBER,
+        p_codigo_postal IN VARCHAR2,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Función con los empleos activos de varios candidatos (?expand=empleos),
+    -- ordenados por candidato y fecha de ingreso descendente
+    FUNCTION fn_empleos_de_candidatos(
+        p_ids IN t_number_tab
+    ) RETURN SYS_REFCURSOR;
+    
 END pkg_candidatos;
 
 
@@ -191,6 +343,67 @@ CREATE OR REPLACE PACKAGE BODY pkg_candidatos AS
             RAISE_APPLICATION_ERROR(-20002, 'Error al insertar candidato: ' || SQLERRM);
     END sp_insertar_candidato;
     
+    -- Implementación: Insertar candidatos en lote
+    PROCEDURE sp_insertar_candidatos_lote(
+        p_nombres IN t_varchar_tab,
+        p_apellidos IN t_varchar_tab,
+        p_email IN t_varchar_tab,
+        p_fecha_nacimiento IN t_date_tab,
+        p_rfc IN t_varchar_tab,
+        p_telefono IN t_varchar_tab,
+        p_calle IN t_varchar_tab,
+        p_numero IN t_varchar_tab,
+        p_colonia IN t_varchar_tab,
+        p_ciudad IN t_varchar_tab,
+        p_estado IN t_varchar_tab,
+        p_pais IN t_varchar_tab,
+        p_codigo_postal IN t_varchar_tab,
+        p_candidato_ids OUT t_number_tab,
+        p_codigos_error OUT t_number_tab
+    ) AS
+        e_errores_lote EXCEPTION;
+        PRAGMA EXCEPTION_INIT(e_errores_lote, -24381);
+        v_ids t_number_tab := t_number_tab();
+        v_total PLS_INTEGER := p_nombres.COUNT;
+        v_siguiente PLS_INTEGER := 1;
+    BEGIN
+        p_candidato_ids := t_number_tab();
+        p_codigos_error := t_number_tab();
+        p_candidato_ids.EXTEND(v_total);
+        p_codigos_error.EXTEND(v_total);
+        
+        BEGIN
+            FORALL i IN 1 .. v_total SAVE EXCEPTIONS
+                INSERT INTO candidatos (
+                    nombres, apellidos, email, fecha_nacimiento, rfc, telefono,
+                    calle, numero, colonia, ciudad, estado, pais, codigo_postal
+                ) VALUES (
+                    p_nombres(i), p_apellidos(i), p_email(i), p_fecha_nacimiento(i), p_rfc(i), p_telefono(i),
+                    p_calle(i), p_numero(i), p_colonia(i), p_ciudad(i), p_estado(i), p_pais(i), p_codigo_postal(i)
+                ) RETURNING id BULK COLLECT INTO v_ids;
+        EXCEPTION
+            WHEN e_errores_lote THEN
+                FOR j IN 1 .. SQL%BULK_EXCEPTIONS.COUNT LOOP
+                    p_codigos_error(SQL%BULK_EXCEPTIONS(j).ERROR_INDEX) := SQL%BULK_EXCEPTIONS(j).ERROR_CODE;
+                END LOOP;
+        END;
+        
+        -- Los IDs regresan solo para las filas insertadas y en orden de entrada
+        FOR i IN 1 .. v_total LOOP
+            IF p_codigos_error(i) IS NULL THEN
+                p_candidato_ids(i) := v_ids(v_siguiente);
+                p_codigos_error(i) := 0;
+                v_siguiente := v_siguiente + 1;
+            END IF;
+        END LOOP;
+        
+        COMMIT;
+    EXCEPTION
+        WHEN OTHERS THEN
+            ROLLBACK;
+            RAISE_APPLICATION_ERROR(-20002, 'Error al insertar lote de candidatos: ' || SQLERRM);
+    END sp_insertar_candidatos_lote;
+    
     -- Implementación: Actualizar datos personales
     PROCEDURE sp_actualizar_datos_personales(
         p_id IN NUMBER,
@@ -320,6 +533,22 @@ CREATE OR REPLACE PACKAGE BODY pkg_candidatos AS
         RETURN v_cursor;
     END fn_obtener_candidato;
     
+    -- Implementación: Obtener perfil del candidato
+    PROCEDURE sp_obtener_perfil(
+        p_id IN NUMBER,
+        p_candidato OUT SYS_REFCURSOR,
+        p_empleos OUT SYS_REFCURSOR
+    ) AS
+    BEGIN
+        OPEN p_candidato FOR
+            SELECT * FROM candidatos WHERE id = p_id AND activo = 1;
+        
+        OPEN p_empleos FOR
+            SELECT e.* FROM empleos e
+            WHERE e.candidato_id = p_id AND e.activo = 1
+            ORDER BY e.fecha_ingreso DESC;
+    END sp_obtener_perfil;
+    
     -- Implementación: Listar candidatos
     PROCEDURE sp_listar_candidatos(p_cursor OUT SYS_REFCURSOR) AS
 	BEGIN
@@ -342,6 +571,311 @@ CREATE OR REPLACE PACKAGE BODY pkg_candidatos AS
         RETURN v_cursor;
     END fn_buscar_por_cp;
     
+    -- Implementación: Listar candidatos paginados
+    FUNCTION fn_pagina_candidatos(
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        v_cursor SYS_REFCURSOR;
+    BEGIN
+        IF p_descendente = 1 THEN
+            OPEN v_cursor FOR
+                SELECT * FROM candidatos c
+                WHERE c.activo = 1
+                    AND c.apellidos <= NVL(p_cursor_apellidos, c.apellidos)
+                    AND (p_cursor_id IS NULL
+                         OR c.apellidos < p_cursor_apellidos
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres < p_cursor_nombres)
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres = p_cursor_nombres AND c.id < p_cursor_id))
+                ORDER BY c.apellidos DESC, c.nombres DESC, c.id DESC
+                FETCH FIRST p_limite ROWS ONLY;
+        ELSE
+            OPEN v_cursor FOR
+                SELECT * FROM candidatos c
+                WHERE c.activo = 1
+                    AND c.apellidos >= NVL(p_cursor_apellidos, c.apellidos)
+                    AND (p_cursor_id IS NULL
+                         OR c.apellidos > p_cursor_apellidos
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres > p_cursor_nombres)
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres = p_cursor_nombres AND c.id > p_cursor_id))
+                ORDER BY c.apellidos, c.nombres, c.id
+                FETCH FIRST p_limite ROWS ONLY;
+        END IF;
+        RETURN v_cursor;
+    END fn_pagina_candidatos;
+    
+    -- Implementación: Buscar por código postal paginado
+    FUNCTION fn_pagina_por_cp(
+        p_codigo_postal IN VARCHAR2,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        v_cursor SYS_REFCURSOR;
+    BEGIN
+        IF p_descendente = 1 THEN
+            OPEN v_cursor FOR
+                SELECT * FROM candidatos c
+                WHERE c.codigo_postal = p_codigo_postal AND c.activo = 1
+                    AND c.apellidos <= NVL(p_cursor_apellidos, c.apellidos)
+                    AND (p_cursor_id IS NULL
+                         OR c.apellidos < p_cursor_apellidos
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres < p_cursor_nombres)
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres = p_cursor_nombres AND c.id < p_cursor_id))
+                ORDER BY c.apellidos DESC, c.nombres DESC, c.id DESC
+                FETCH FIRST p_limite ROWS ONLY;
+        ELSE
+            OPEN v_cursor FOR
+                SELECT * FROM candidatos c
+                WHERE c.codigo_postal = p_codigo_postal AND c.activo = 1
+                    AND c.apellidos >= NVL(p_cursor_apellidos, c.apellidos)
+                    AND (p_cursor_id IS NULL
+                         OR c.apellidos > p_cursor_apellidos
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres > p_cursor_nombres)
+                         OR (c.apellidos = p_cursor_apellidos AND c.nombres = p_cursor_nombres AND c.id > p_cursor_id))
+                ORDER BY c.apellidos, c.nombres, c.id
+                FETCH FIRST p_limite ROWS ONLY;
+        END IF;
+        RETURN v_cursor;
+    END fn_pagina_por_cp;
+    
+    -- Implementación: Datos del índice de búsqueda en memoria. fecha_actualizacion
+    -- es la más reciente del candidato y sus empleos (las bajas son lógicas):
+    -- el índice descarta una lectura que no sea posterior a la ya aplicada
+    FUNCTION fn_datos_indice_busqueda(
+        p_candidato_id IN NUMBER,
+        p_empleo_id IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        v_cursor SYS_REFCURSOR;
+    BEGIN
+        IF p_candidato_id IS NULL AND p_empleo_id IS NULL THEN
+            OPEN v_cursor FOR
+                SELECT c.id, c.activo, c.estado,
+                       NVL(r.laborando, 0) as laborando, r.ingreso_actual,
+                       NVL(r.meses_cerrados, 0) as meses_cerrados, NVL(r.num_abiertos, 0) as num_abiertos,
+                       NVL(r.meses_inicios_abiertos, 0) as meses_inicios_abiertos,
+                       GREATEST(c.fecha_actualizacion,
+                                NVL((SELECT MAX(e.fecha_actualizacion) FROM empleos e
+                                     WHERE e.candidato_id = c.id), c.fecha_actualizacion)) as fecha_actualizacion
+                FROM candidatos c
+                LEFT JOIN candidato_resumen_empleo r ON c.id = r.candidato_id
+                WHERE c.activo = 1;
+        ELSE
+            OPEN v_cursor FOR
+                SELECT c.id, c.activo, c.estado,
+                       NVL(r.laborando, 0) as laborando, r.ingreso_actual,
+                       NVL(r.meses_cerrados, 0) as meses_cerrados, NVL(r.num_abiertos, 0) as num_abiertos,
+                       NVL(r.meses_inicios_abiertos, 0) as meses_inicios_abiertos,
+                       GREATEST(c.fecha_actualizacion,
+                                NVL((SELECT MAX(e.fecha_actualizacion) FROM empleos e
+                                     WHERE e.candidato_id = c.id), c.fecha_actualizacion)) as fecha_actualizacion
+                FROM candidatos c
+                LEFT JOIN candidato_resumen_empleo r ON c.id = r.candidato_id
+                WHERE c.id = NVL(p_candidato_id,
+                                 (SELECT e.candidato_id FROM empleos e WHERE e.id = p_empleo_id));
+        END IF;
+        RETURN v_cursor;
+    END fn_datos_indice_busqueda;
+    
+    -- Implementación: Obtener candidatos por ID
+    FUNCTION fn_obtener_candidatos_por_ids(
+        p_ids IN t_number_tab
+    ) RETURN SYS_REFCURSOR AS
+        v_cursor SYS_REFCURSOR;
+    BEGIN
+        OPEN v_cursor FOR
+            SELECT c.* FROM candidatos c
+            WHERE c.id IN (SELECT t.COLUMN_VALUE FROM TABLE(p_ids) t)
+                AND c.activo = 1
+            ORDER BY c.id;
+        RETURN v_cursor;
+    END fn_obtener_candidatos_por_ids;
+    
+    -- Implementación: Listar email y RFC de todos los candidatos
+    PROCEDURE sp_listar_claves_unicas(p_cursor OUT SYS_REFCURSOR) AS
+    BEGIN
+        OPEN p_cursor FOR
+            SELECT c.email, c.rfc FROM candidatos c;
+    END sp_listar_claves_unicas;
+    
+    -- Implementación: Emails y RFCs ya registrados
+    FUNCTION fn_claves_existentes(
+        p_email IN t_varchar_tab,
+        p_rfc IN t_varchar_tab,
+        p_excluir_id IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        v_cursor SYS_REFCURSOR;
+    BEGIN
+        -- Una rama por llave única para que cada una se resuelva con su índice;
+        -- con OR el optimizador puede terminar recorriendo la tabla
+        OPEN v_cursor FOR
+            SELECT c.id, c.email, c.rfc FROM candidatos c
+            WHERE c.email IN (SELECT /*+ CARDINALITY(t 10) */ t.COLUMN_VALUE FROM TABLE(p_email) t)
+                AND c.id <> NVL(p_excluir_id, -1)
+            UNION
+            SELECT c.id, c.email, c.rfc FROM candidatos c
+            WHERE c.rfc IN (SELECT /*+ CARDINALITY(t 10) */ t.COLUMN_VALUE FROM TABLE(p_rfc) t)
+                AND c.id <> NVL(p_excluir_id, -1);
+        RETURN v_cursor;
+    END fn_claves_existentes;
+    
+    -- Implementación: Versión de los datos de un recurso
+    PROCEDURE sp_version_datos(
+        p_alcance IN VARCHAR2,
+        p_candidato_id IN NUMBER,
+        p_ultima_actualizacion OUT TIMESTAMP
+    ) AS
+        v_empleos TIMESTAMP;
+    BEGIN
+        -- Se consideran también las filas inactivas: una baja lógica actualiza
+        -- fecha_actualizacion y debe cambiar la versión
+        IF p_alcance IN ('CANDIDATOS', 'CANDIDATOS_EMPLEOS') THEN
+            SELECT MAX(c.fecha_actualizacion) INTO p_ultima_actualizacion
+            FROM candidatos c;
+            
+            IF p_alcance = 'CANDIDATOS_EMPLEOS' THEN
+                SELECT MAX(e.fecha_actualizacion) INTO v_empleos
+                FROM empleos e;
+                
+                IF v_empleos > p_ultima_actualizacion THEN
+                    p_ultima_actualizacion := v_empleos;
+                END IF;
+            END IF;
+        ELSIF p_alcance = 'EMPLEOS_CANDIDATO' THEN
+            SELECT MAX(e.fecha_actualizacion) INTO p_ultima_actualizacion
+            FROM empleos e
+            WHERE e.candidato_id = p_candidato_id;
+        ELSE
+            SELECT MAX(c.fecha_actualizacion) INTO p_ultima_actualizacion
+            FROM candidatos c
+            WHERE c.id = p_candidato_id;
+            
+            IF p_alcance = 'PERFIL' AND p_ultima_actualizacion IS NOT NULL THEN
+                SELECT MAX(e.fecha_actualizacion) INTO v_empleos
+                FROM empleos e
+                WHERE e.candidato_id = p_candidato_id;
+                
+                IF v_empleos > p_ultima_actualizacion THEN
+                    p_ultima_actualizacion := v_empleos;
+                END IF;
+            END IF;
+        END IF;
+    END sp_version_datos;
+    
+    -- Implementación: Consultar candidatos con proyección de columnas
+    FUNCTION fn_proyectar_candidatos(
+        p_columnas IN VARCHAR2,
+        p_id IN NUMBER,
+        p_codigo_postal IN VARCHAR2,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        c_permitidas CONSTANT VARCHAR2(200) := ',NOMBRES,APELLIDOS,EMAIL,FECHA_NACIMIENTO,RFC,TELEFONO,CALLE,'
+            || 'NUMERO,COLONIA,CIUDAD,ESTADO,PAIS,CODIGO_POSTAL,ACTIVO,';
+        v_columnas VARCHAR2(1000) := 'c.id';
+        v_columna VARCHAR2(4000);
+        v_sql VARCHAR2(4000);
+        v_orden VARCHAR2(10) := '';
+        v_comparador VARCHAR2(1) := '>';
+        v_cursor INTEGER;
+        v_filas INTEGER;
+        i PLS_INTEGER := 1;
+    BEGIN
+        -- Al texto de la consulta solo llegan nombres de la lista permitida;
+        -- el id siempre se incluye
+        IF p_columnas IS NULL THEN
+            v_columnas := 'c.*';
+        ELSE
+            LOOP
+                v_columna := UPPER(TRIM(REGEXP_SUBSTR(p_columnas, '[^,]+', 1, i)));
+                EXIT WHEN v_columna IS NULL;
+                IF v_columna <> 'ID' THEN
+                    IF INSTR(c_permitidas, ',' || v_columna || ',') = 0 THEN
+                        RAISE_APPLICATION_ERROR(-20010, 'Columna no permitida: ' || SUBSTR(v_columna, 1, 30));
+                    END IF;
+                    v_columnas := v_columnas || ', c.' || LOWER(v_columna);
+                END IF;
+                i := i + 1;
+            END LOOP;
+        END IF;
+        
+        IF p_descendente = 1 THEN
+            v_orden := ' DESC';
+            v_comparador := '<';
+        END IF;
+        
+        -- Solo se agregan los filtros que aplican, para que cada combinación
+        -- tenga su propio plan (range scan sobre idx_candidatos_orden o
+        -- idx_candidatos_cp_orden; con solo id, nombres y apellidos la
+        -- consulta se resuelve en el índice sin visitar la tabla)
+        v_sql := 'SELECT ' || v_columnas || ' FROM candidatos c WHERE c.activo = 1';
+        IF p_id IS NOT NULL THEN
+            v_sql := v_sql || ' AND c.id = :id';
+        END IF;
+        IF p_codigo_postal IS NOT NULL THEN
+            v_sql := v_sql || ' AND c.codigo_postal = :cp';
+        END IF;
+        IF p_cursor_id IS NOT NULL THEN
+            v_sql := v_sql || ' AND c.apellidos ' || v_comparador || '= :ap'
+                || ' AND (c.apellidos ' || v_comparador || ' :ap'
+                || ' OR (c.apellidos = :ap AND c.nombres ' || v_comparador || ' :nom)'
+                || ' OR (c.apellidos = :ap AND c.nombres = :nom AND c.id ' || v_comparador || ' :cid))';
+        END IF;
+        v_sql := v_sql || ' ORDER BY c.apellidos' || v_orden || ', c.nombres' || v_orden || ', c.id' || v_orden;
+        IF p_limite IS NOT NULL THEN
+            v_sql := v_sql || ' FETCH FIRST :lim ROWS ONLY';
+        END IF;
+        
+        -- DBMS_SQL enlaza por nombre: cada variable una vez aunque se repita en el texto
+        v_cursor := DBMS_SQL.OPEN_CURSOR;
+        DBMS_SQL.PARSE(v_cursor, v_sql, DBMS_SQL.NATIVE);
+        IF p_id IS NOT NULL THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':id', p_id);
+        END IF;
+        IF p_codigo_postal IS NOT NULL THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':cp', p_codigo_postal);
+        END IF;
+        IF p_cursor_id IS NOT NULL THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':ap', p_cursor_apellidos);
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':nom', p_cursor_nombres);
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':cid', p_cursor_id);
+        END IF;
+        IF p_limite IS NOT NULL THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':lim', p_limite);
+        END IF;
+        v_filas := DBMS_SQL.EXECUTE(v_cursor);
+        
+        RETURN DBMS_SQL.TO_REFCURSOR(v_cursor);
+    EXCEPTION
+        WHEN OTHERS THEN
+            IF DBMS_SQL.IS_OPEN(v_cursor) THEN
+                DBMS_SQL.CLOSE_CURSOR(v_cursor);
+            END IF;
+            RAISE;
+    END fn_proyectar_candidatos;
+    
+    -- Implementación: Empleos de varios candidatos
+    FUNCTION fn_empleos_de_candidatos(
+        p_ids IN t_number_tab
+    ) RETURN SYS_REFCURSOR AS
+        v_cursor SYS_REFCURSOR;
+    BEGIN
+        OPEN v_cursor FOR
+            SELECT /*+ CARDINALITY(t 100) */ e.* FROM TABLE(p_ids) t
+            JOIN empleos e ON e.candidato_id = t.COLUMN_VALUE
+            WHERE e.activo = 1
+            ORDER BY e.candidato_id, e.fecha_ingreso DESC;
+        RETURN v_cursor;
+    END fn_empleos_de_candidatos;
+    
 END pkg_candidatos;
 
 
@@ -382,6 +916,12 @@ CREATE OR REPLACE PACKAGE pkg_empleos AS
 	    p_status_oper OUT NUMBER 
     );
     
+    -- Procedimiento para recalcular candidato_resumen_empleo de un candidato
+    -- (sin COMMIT: corre dentro de la transacción de quien lo llama)
+    PROCEDURE sp_recalcular_resumen(
+        p_candidato_id IN NUMBER
+    );
+    
     -- Función para obtener empleos de un candidato
     FUNCTION fn_obtener_empleos_candidato(
         p_candidato_id IN NUMBER
@@ -408,11 +948,237 @@ CREATE OR REPLACE PACKAGE pkg_empleos AS
     -- Función para candidatos laborando actualmente
     FUNCTION fn_candidatos_laborando_actual RETURN SYS_REFCURSOR;
     
+    -- Versiones paginadas por llave (apellidos, nombres, id) de las búsquedas
+    FUNCTION fn_pagina_por_empresa(
+        p_nombre_empresa IN VARCHAR2,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Candidatos con antigüedad > 2 años, paginado
+    FUNCTION fn_pagina_antiguedad_2anios(
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Candidatos con ingreso mayor a X, paginado
+    FUNCTION fn_pagina_ingreso_mayor(
+        p_ingreso_minimo IN NUMBER,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Candidatos con más de X años de experiencia, paginado
+    FUNCTION fn_pagina_experiencia(
+        p_anios_experiencia IN NUMBER,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
+    -- Candidatos laborando actualmente, paginado
+    FUNCTION fn_pagina_laborando_actual(
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR;
+    
 END pkg_empleos;
 
 
 CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
     
+    -- Implementación: Recalcular el resumen de empleos de un candidato
+    PROCEDURE sp_recalcular_resumen(
+        p_candidato_id IN NUMBER
+    ) AS
+        v_id NUMBER;
+    BEGIN
+        -- Serializa los recálculos del mismo candidato: el MERGE empieza después
+        -- de tomar el candado y ve los empleos ya confirmados por el otro
+        SELECT id INTO v_id FROM candidatos WHERE id = p_candidato_id FOR UPDATE;
+        
+        MERGE INTO candidato_resumen_empleo r
+        USING (
+            SELECT p_candidato_id as candidato_id,
+                   NVL(SUM(CASE WHEN e.fecha_salida IS NOT NULL THEN
+                           MONTHS_BETWEEN(e.fecha_salida, e.fecha_ingreso) END), 0) as meses_cerrados,
+                   -- Con la suma de los inicios, la experiencia de los empleos abiertos es
+                   -- num_abiertos * mes(SYSDATE) - meses_inicios_abiertos, igual que
+                   -- SUM(MONTHS_BETWEEN(SYSDATE, fecha_ingreso)) sin recorrer empleos
+                   COUNT(CASE WHEN e.fecha_salida IS NULL THEN 1 END) as num_abiertos,
+                   NVL(SUM(CASE WHEN e.fecha_salida IS NULL THEN
+                           EXTRACT(YEAR FROM e.fecha_ingreso) * 12 + EXTRACT(MONTH FROM e.fecha_ingreso)
+                           + EXTRACT(DAY FROM e.fecha_ingreso) / 31 END), 0) as meses_inicios_abiertos,
+                   MAX(e.id) KEEP (DENSE_RANK LAST ORDER BY e.fecha_ingreso, e.id) as ultimo_empleo_id,
+                   MAX(e.nombre_empresa) KEEP (DENSE_RANK LAST ORDER BY e.fecha_ingreso, e.id) as ultima_empresa,
+                   MAX(e.fecha_ingreso) as ultimo_ingreso,
+                   MAX(e.fecha_salida) KEEP (DENSE_RANK LAST ORDER BY e.fecha_ingreso, e.id) as ultima_salida,
+                   MAX(CASE WHEN e.fecha_salida IS NULL THEN e.ingreso_mensual END)
+                       KEEP (DENSE_RANK LAST ORDER BY
+                             CASE WHEN e.fecha_salida IS NULL THEN e.fecha_ingreso END NULLS FIRST,
+                             e.id) as ingreso_actual,
+                   CASE WHEN COUNT(CASE WHEN e.fecha_salida IS NULL THEN 1 END) > 0
+                        THEN 1 ELSE 0 END as laborando,
+                   COUNT(e.id) as empleos_activos
+            FROM empleos e
+            WHERE e.candidato_id = p_candidato_id
+                AND e.activo = 1
+        ) s
+        ON (r.candidato_id = s.candidato_id)
+        WHEN MATCHED THEN
+            UPDATE SET r.meses_cerrados = s.meses_cerrados,
+                       r.num_abiertos = s.num_abiertos,
+                       r.meses_inicios_abiertos = s.meses_inicios_abiertos,
+                       r.ultimo_empleo_id = NVL(s.ultimo_empleo_id, r.ultimo_empleo_id),
+                       r.ultima_empresa = NVL(s.ultima_empresa, r.ultima_empresa),
+                       r.ultimo_ingreso = NVL(s.ultimo_ingreso, r.ultimo_ingreso),
+                       r.ultima_salida = s.ultima_salida,
+                       r.ingreso_actual = s.ingreso_actual,
+                       r.laborando = s.laborando
+            DELETE WHERE s.empleos_activos = 0
+        WHEN NOT MATCHED THEN
+            INSERT (candidato_id, meses_cerrados, num_abiertos, meses_inicios_abiertos, ultimo_empleo_id, ultima_empresa,
+                    ultimo_ingreso, ultima_salida, ingreso_actual, laborando)
+            VALUES (s.candidato_id, s.meses_cerrados, s.num_abiertos, s.meses_inicios_abiertos, s.ultimo_empleo_id, s.ultima_empresa,
+                    s.ultimo_ingreso, s.ultima_salida, s.ingreso_actual, s.laborando)
+            WHERE s.empleos_activos > 0;
+    END sp_recalcular_resumen;
+    
+    -- Implementación: Registrar los trigramas de un nombre de empresa
+    PROCEDURE sp_indexar_empresa(
+        p_nombre_empresa IN VARCHAR2
+    ) AS
+    BEGIN
+        MERGE INTO empresa_trigrama t
+        USING (
+            SELECT DISTINCT SUBSTR(UPPER(p_nombre_empresa), LEVEL, 3) as trigrama
+            FROM dual
+            CONNECT BY LEVEL <= LENGTH(UPPER(p_nombre_empresa)) - 2
+        ) s
+        ON (t.trigrama = s.trigrama AND t.nombre_empresa = p_nombre_empresa)
+        WHEN NOT MATCHED THEN
+            INSERT (trigrama, nombre_empresa) VALUES (s.trigrama, p_nombre_empresa);
+    EXCEPTION
+        -- Otra sesión registró el mismo nombre al mismo tiempo
+        WHEN DUP_VAL_ON_INDEX THEN
+            NULL;
+    END sp_indexar_empresa;
+    
+    -- Implementación: Nombres de empresa que cumplen UPPER(nombre) LIKE UPPER('%' || p || '%').
+    -- Con 3 o más caracteres sin comodines se parte de los trigramas del patrón;
+    -- en otro caso se recorre empleos como antes
+    FUNCTION fn_empresas_coincidentes(
+        p_nombre_empresa IN VARCHAR2
+    ) RETURN t_varchar_tab AS
+        v_patron VARCHAR2(4000) := UPPER(p_nombre_empresa);
+        v_empresas t_varchar_tab;
+    BEGIN
+        IF v_patron IS NULL OR LENGTH(v_patron) < 3
+            OR INSTR(v_patron, '%') > 0 OR INSTR(v_patron, '_') > 0 THEN
+            SELECT DISTINCT nombre_empresa BULK COLLECT INTO v_empresas
+            FROM empleos
+            WHERE UPPER(nombre_empresa) LIKE '%' || v_patron || '%';
+        ELSE
+            WITH trigramas AS (
+                SELECT DISTINCT SUBSTR(v_patron, LEVEL, 3) as trigrama
+                FROM dual
+                CONNECT BY LEVEL <= LENGTH(v_patron) - 2
+            )
+            SELECT t.nombre_empresa BULK COLLECT INTO v_empresas
+            FROM empresa_trigrama t
+            INNER JOIN trigramas g ON t.trigrama = g.trigrama
+            GROUP BY t.nombre_empresa
+            HAVING COUNT(*) = (SELECT COUNT(*) FROM trigramas)
+                AND UPPER(t.nombre_empresa) LIKE '%' || v_patron || '%';
+        END IF;
+        RETURN v_empresas;
+    END fn_empresas_coincidentes;
+    
+    -- Implementación: Página por llave (apellidos, nombres, id) de una búsqueda.
+    -- p_coincide es la condición que cumple cada candidato (subconsulta
+    -- correlacionada con c) y va en el mismo bloque que el predicado de llave y
+    -- FETCH FIRST: con un filtro amplio se recorre idx_candidatos_orden desde el
+    -- cursor y se detiene al juntar p_limite candidatos; con uno selectivo solo
+    -- se ordenan las coincidencias posteriores al cursor. p_detalle es el SELECT
+    -- de las filas que se regresan (candidatos como c, con WHERE) y se limita a
+    -- los candidatos de la página. Ambos textos solo pueden usar :empresas y
+    -- :parametro; el orden ascendente o descendente se arma igual que en
+    -- pkg_candidatos.fn_proyectar_candidatos
+    FUNCTION fn_abrir_pagina(
+        p_detalle IN VARCHAR2,
+        p_coincide IN VARCHAR2,
+        p_empresas IN t_varchar_tab,
+        p_parametro IN NUMBER,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        v_sql VARCHAR2(4000);
+        v_llave VARCHAR2(200);
+        v_orden VARCHAR2(10) := '';
+        v_comparador VARCHAR2(1) := '>';
+        v_cursor INTEGER;
+        v_filas INTEGER;
+    BEGIN
+        IF p_descendente = 1 THEN
+            v_orden := ' DESC';
+            v_comparador := '<';
+        END IF;
+        v_llave := ' ORDER BY c.apellidos' || v_orden || ', c.nombres' || v_orden || ', c.id' || v_orden;
+        
+        v_sql := 'WITH pagina AS (SELECT c.id FROM candidatos c WHERE c.activo = 1'
+            || ' AND EXISTS (' || p_coincide || ')';
+        IF p_cursor_id IS NOT NULL THEN
+            v_sql := v_sql || ' AND c.apellidos ' || v_comparador || '= :ap'
+                || ' AND (c.apellidos ' || v_comparador || ' :ap'
+                || ' OR (c.apellidos = :ap AND c.nombres ' || v_comparador || ' :nom)'
+                || ' OR (c.apellidos = :ap AND c.nombres = :nom AND c.id ' || v_comparador || ' :cid))';
+        END IF;
+        v_sql := v_sql || v_llave || ' FETCH FIRST :lim ROWS ONLY) '
+            || p_detalle || ' AND c.id IN (SELECT p.id FROM pagina p)' || v_llave;
+        
+        -- DBMS_SQL enlaza por nombre: cada variable una vez aunque se repita en el texto
+        v_cursor := DBMS_SQL.OPEN_CURSOR;
+        DBMS_SQL.PARSE(v_cursor, v_sql, DBMS_SQL.NATIVE);
+        IF INSTR(v_sql, ':empresas') > 0 THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':empresas', p_empresas);
+        END IF;
+        IF INSTR(v_sql, ':parametro') > 0 THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':parametro', p_parametro);
+        END IF;
+        IF p_cursor_id IS NOT NULL THEN
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':ap', p_cursor_apellidos);
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':nom', p_cursor_nombres);
+            DBMS_SQL.BIND_VARIABLE(v_cursor, ':cid', p_cursor_id);
+        END IF;
+        DBMS_SQL.BIND_VARIABLE(v_cursor, ':lim', p_limite);
+        v_filas := DBMS_SQL.EXECUTE(v_cursor);
+        
+        RETURN DBMS_SQL.TO_REFCURSOR(v_cursor);
+    EXCEPTION
+        WHEN OTHERS THEN
+            IF DBMS_SQL.IS_OPEN(v_cursor) THEN
+                DBMS_SQL.CLOSE_CURSOR(v_cursor);
+            END IF;
+            RAISE;
+    END fn_abrir_pagina;
+    
     -- Implementación: Insertar empleo
     PROCEDURE sp_insertar_empleo(
         p_candidato_id IN NUMBER,
@@ -441,6 +1207,9 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
             p_ingreso_mensual, p_giro_empresa
         ) RETURNING id INTO p_empleo_id;
         
+        sp_recalcular_resumen(p_candidato_id);
+        sp_indexar_empresa(p_nombre_empresa);
+        
         COMMIT;
     EXCEPTION
         WHEN OTHERS THEN
@@ -459,6 +1228,7 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
 	    p_status_oper OUT NUMBER 
     ) AS
         v_count NUMBER;
+        v_candidato_id NUMBER;
     BEGIN
         SELECT COUNT(*) INTO v_count FROM empleos WHERE id = p_id AND activo = 1;
         
@@ -472,9 +1242,12 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
             fecha_salida = p_fecha_salida,
             ingreso_mensual = p_ingreso_mensual,
             giro_empresa = p_giro_empresa
-        WHERE id = p_id AND activo = 1;
+        WHERE id = p_id AND activo = 1
+        RETURNING candidato_id INTO v_candidato_id;
         IF SQL%ROWCOUNT > 0 THEN
 	        p_status_oper := 0; 
+	        sp_recalcular_resumen(v_candidato_id);
+	        sp_indexar_empresa(p_nombre_empresa);
 	        COMMIT;
 	    ELSE
 	        p_status_oper := 1;
@@ -493,6 +1266,7 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
 	    p_status_oper OUT NUMBER 
     ) AS
         v_count NUMBER;
+        v_candidato_id NUMBER;
     BEGIN
         SELECT COUNT(*) INTO v_count FROM empleos WHERE id = p_id;
         
@@ -500,9 +1274,11 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
             RAISE_APPLICATION_ERROR(-20006, 'Empleo no encontrado');
         END IF;
         
-        UPDATE empleos SET activo = 0 WHERE id = p_id;
+        UPDATE empleos SET activo = 0 WHERE id = p_id
+        RETURNING candidato_id INTO v_candidato_id;
         IF SQL%ROWCOUNT > 0 THEN
 	        p_status_oper := 0; 
+	        sp_recalcular_resumen(v_candidato_id);
 	        COMMIT;
 	    ELSE
 	        p_status_oper := 1;
@@ -532,15 +1308,23 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
         p_nombre_empresa IN VARCHAR2
     ) RETURN SYS_REFCURSOR AS
         v_cursor SYS_REFCURSOR;
+        v_empresas t_varchar_tab := fn_empresas_coincidentes(p_nombre_empresa);
     BEGIN
+        -- CARDINALITY: la lista suele ser corta; sin la pista se estiman 8168 filas
+        -- y el optimizador prefiere recorrer empleos en lugar de idx_empleos_empresa
         OPEN v_cursor FOR
-            SELECT DISTINCT c.*
+            SELECT DISTINCT c.*, 
+                   e.nombre_empresa, 
+                   e.fecha_ingreso,
+                   e.fecha_salida,
+                   e.ingreso_mensual,
+                   e.giro_empresa
             FROM candidatos c
             INNER JOIN empleos e ON c.id = e.candidato_id
-            WHERE UPPER(e.nombre_empresa) LIKE UPPER('%' || p_nombre_empresa || '%')
+            WHERE e.nombre_empresa IN (SELECT /*+ CARDINALITY(x 10) */ x.COLUMN_VALUE FROM TABLE(v_empresas) x)
                 AND c.activo = 1
                 AND e.activo = 1
-            ORDER BY c.apellidos, c.nombres;
+            ORDER BY c.apellidos, c.nombres, c.id;
         RETURN v_cursor;
     END fn_candidatos_por_empresa;
     
@@ -549,31 +1333,14 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
         v_cursor SYS_REFCURSOR;
     BEGIN
         OPEN v_cursor FOR
-            WITH ultimo_empleo AS (
-                SELECT candidato_id, 
-                       MAX(fecha_ingreso) as ultima_fecha_ingreso
-                FROM empleos
-                WHERE activo = 1
-                GROUP BY candidato_id
-            )
-            SELECT DISTINCT c.*, e.nombre_empresa, e.fecha_ingreso, e.fecha_salida,
-                   CASE 
-                       WHEN e.fecha_salida IS NULL THEN 
-                           TRUNC(MONTHS_BETWEEN(SYSDATE, e.fecha_ingreso) / 12, 2)
-                       ELSE 
-                           TRUNC(MONTHS_BETWEEN(e.fecha_salida, e.fecha_ingreso) / 12, 2)
-                   END as anios_antiguedad
+            SELECT c.*, r.ultima_empresa as nombre_empresa, r.ultimo_ingreso as fecha_ingreso,
+                   r.ultima_salida as fecha_salida,
+                   TRUNC(MONTHS_BETWEEN(NVL(r.ultima_salida, SYSDATE), r.ultimo_ingreso) / 12, 2) as anios_antiguedad
             FROM candidatos c
-            INNER JOIN empleos e ON c.id = e.candidato_id
-            INNER JOIN ultimo_empleo ue ON e.candidato_id = ue.candidato_id 
-                AND e.fecha_ingreso = ue.ultima_fecha_ingreso
+            INNER JOIN candidato_resumen_empleo r ON c.id = r.candidato_id
             WHERE c.activo = 1
-                AND e.activo = 1
-                AND (
-                    (e.fecha_salida IS NULL AND MONTHS_BETWEEN(SYSDATE, e.fecha_ingreso) >= 24) OR
-                    (e.fecha_salida IS NOT NULL AND MONTHS_BETWEEN(e.fecha_salida, e.fecha_ingreso) >= 24)
-                )
-            ORDER BY c.apellidos, c.nombres;
+                AND MONTHS_BETWEEN(NVL(r.ultima_salida, SYSDATE), r.ultimo_ingreso) >= 24
+            ORDER BY c.apellidos, c.nombres, c.id;
         RETURN v_cursor;
     END fn_candidatos_antiguedad_2anios;
     
@@ -594,7 +1361,7 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
             WHERE e.ingreso_mensual > p_ingreso_minimo
                 AND c.activo = 1
                 AND e.activo = 1
-            ORDER BY c.apellidos, c.nombres;
+            ORDER BY c.apellidos, c.nombres, c.id;
         RETURN v_cursor;
     END fn_candidatos_ingreso_mayor;
     
@@ -603,34 +1370,21 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
         p_anios_experiencia IN NUMBER DEFAULT 5
     ) RETURN SYS_REFCURSOR AS
         v_cursor SYS_REFCURSOR;
+        -- Mes de hoy con la misma aproximación que meses_inicios_abiertos
+        v_mes_hoy CONSTANT NUMBER := EXTRACT(YEAR FROM SYSDATE) * 12 + EXTRACT(MONTH FROM SYSDATE)
+            + EXTRACT(DAY FROM SYSDATE) / 31;
     BEGIN
         OPEN v_cursor FOR
             WITH experiencia_total AS (
                 SELECT candidato_id,
-                       SUM(
-                           CASE 
-                               WHEN fecha_salida IS NULL THEN 
-                                   MONTHS_BETWEEN(SYSDATE, fecha_ingreso)
-                               ELSE 
-                                   MONTHS_BETWEEN(fecha_salida, fecha_ingreso)
-                           END
-                       ) / 12 as total_anios
-                FROM empleos
-                WHERE activo = 1
-                GROUP BY candidato_id
-                HAVING SUM(
-                    CASE 
-                        WHEN fecha_salida IS NULL THEN 
-                            MONTHS_BETWEEN(SYSDATE, fecha_ingreso)
-                        ELSE 
-                            MONTHS_BETWEEN(fecha_salida, fecha_ingreso)
-                    END
-                ) / 12 > p_anios_experiencia
+                       (meses_cerrados + num_abiertos * v_mes_hoy - meses_inicios_abiertos) / 12 as total_anios
+                FROM candidato_resumen_empleo
             )
             SELECT c.*, TRUNC(et.total_anios, 2) as anios_experiencia
             FROM candidatos c
             INNER JOIN experiencia_total et ON c.id = et.candidato_id
             WHERE c.activo = 1
+                AND et.total_anios > p_anios_experiencia
             ORDER BY et.total_anios DESC, c.apellidos, c.nombres;
         RETURN v_cursor;
     END fn_candidatos_experiencia;
@@ -650,13 +1404,132 @@ CREATE OR REPLACE PACKAGE BODY pkg_empleos AS
             WHERE e.fecha_salida IS NULL
                 AND c.activo = 1
                 AND e.activo = 1
-            ORDER BY c.apellidos, c.nombres;
+            ORDER BY c.apellidos, c.nombres, c.id;
         RETURN v_cursor;
     END fn_candidatos_laborando_actual;
     
+    -- Implementación: Candidatos por empresa paginado
+    FUNCTION fn_pagina_por_empresa(
+        p_nombre_empresa IN VARCHAR2,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        c_empresas CONSTANT VARCHAR2(200) :=
+            'e.nombre_empresa IN (SELECT /*+ CARDINALITY(x 10) */ x.COLUMN_VALUE FROM TABLE(:empresas) x)';
+    BEGIN
+        RETURN fn_abrir_pagina(
+            'SELECT DISTINCT c.*, e.nombre_empresa, e.fecha_ingreso, e.fecha_salida, e.ingreso_mensual, e.giro_empresa'
+                || ' FROM candidatos c INNER JOIN empleos e ON c.id = e.candidato_id'
+                || ' WHERE e.activo = 1 AND ' || c_empresas,
+            'SELECT 1 FROM empleos e WHERE e.candidato_id = c.id AND e.activo = 1 AND ' || c_empresas,
+            fn_empresas_coincidentes(p_nombre_empresa), NULL,
+            p_cursor_apellidos, p_cursor_nombres, p_cursor_id, p_descendente, p_limite);
+    END fn_pagina_por_empresa;
+    
+    -- Implementación: Candidatos con antigüedad > 2 años paginado
+    FUNCTION fn_pagina_antiguedad_2anios(
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+    BEGIN
+        RETURN fn_abrir_pagina(
+            'SELECT c.*, r.ultima_empresa as nombre_empresa, r.ultimo_ingreso as fecha_ingreso,'
+                || ' r.ultima_salida as fecha_salida,'
+                || ' TRUNC(MONTHS_BETWEEN(NVL(r.ultima_salida, SYSDATE), r.ultimo_ingreso) / 12, 2) as anios_antiguedad'
+                || ' FROM candidatos c INNER JOIN candidato_resumen_empleo r ON c.id = r.candidato_id'
+                || ' WHERE c.activo = 1',
+            'SELECT 1 FROM candidato_resumen_empleo r WHERE r.candidato_id = c.id'
+                || ' AND MONTHS_BETWEEN(NVL(r.ultima_salida, SYSDATE), r.ultimo_ingreso) >= 24',
+            NULL, NULL,
+            p_cursor_apellidos, p_cursor_nombres, p_cursor_id, p_descendente, p_limite);
+    END fn_pagina_antiguedad_2anios;
+    
+    -- Implementación: Candidatos con ingreso mayor a X paginado
+    FUNCTION fn_pagina_ingreso_mayor(
+        p_ingreso_minimo IN NUMBER,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+    BEGIN
+        RETURN fn_abrir_pagina(
+            'SELECT DISTINCT c.*, e.nombre_empresa, e.ingreso_mensual, e.fecha_ingreso, e.fecha_salida'
+                || ' FROM candidatos c INNER JOIN empleos e ON c.id = e.candidato_id'
+                || ' WHERE e.activo = 1 AND e.ingreso_mensual > :parametro',
+            'SELECT 1 FROM empleos e WHERE e.candidato_id = c.id AND e.activo = 1'
+                || ' AND e.ingreso_mensual > :parametro',
+            NULL, p_ingreso_minimo,
+            p_cursor_apellidos, p_cursor_nombres, p_cursor_id, p_descendente, p_limite);
+    END fn_pagina_ingreso_mayor;
+    
+    -- Implementación: Candidatos con más de X años de experiencia paginado
+    FUNCTION fn_pagina_experiencia(
+        p_anios_experiencia IN NUMBER,
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+        c_total_anios CONSTANT VARCHAR2(300) :=
+            '(r.meses_cerrados + r.num_abiertos * (EXTRACT(YEAR FROM SYSDATE) * 12'
+            || ' + EXTRACT(MONTH FROM SYSDATE) + EXTRACT(DAY FROM SYSDATE) / 31) - r.meses_inicios_abiertos) / 12';
+    BEGIN
+        RETURN fn_abrir_pagina(
+            'SELECT c.*, TRUNC(' || c_total_anios || ', 2) as anios_experiencia'
+                || ' FROM candidatos c INNER JOIN candidato_resumen_empleo r ON c.id = r.candidato_id'
+                || ' WHERE c.activo = 1',
+            'SELECT 1 FROM candidato_resumen_empleo r WHERE r.candidato_id = c.id'
+                || ' AND ' || c_total_anios || ' > :parametro',
+            NULL, p_anios_experiencia,
+            p_cursor_apellidos, p_cursor_nombres, p_cursor_id, p_descendente, p_limite);
+    END fn_pagina_experiencia;
+    
+    -- Implementación: Candidatos laborando actualmente paginado
+    FUNCTION fn_pagina_laborando_actual(
+        p_cursor_apellidos IN VARCHAR2,
+        p_cursor_nombres IN VARCHAR2,
+        p_cursor_id IN NUMBER,
+        p_descendente IN NUMBER,
+        p_limite IN NUMBER
+    ) RETURN SYS_REFCURSOR AS
+    BEGIN
+        RETURN fn_abrir_pagina(
+            'SELECT DISTINCT c.*, e.nombre_empresa, e.fecha_ingreso, e.ingreso_mensual, e.giro_empresa'
+                || ' FROM candidatos c INNER JOIN empleos e ON c.id = e.candidato_id'
+                || ' WHERE e.activo = 1 AND e.fecha_salida IS NULL',
+            'SELECT 1 FROM empleos e WHERE e.candidato_id = c.id AND e.activo = 1 AND e.fecha_salida IS NULL',
+            NULL, NULL,
+            p_cursor_apellidos, p_cursor_nombres, p_cursor_id, p_descendente, p_limite);
+    END fn_pagina_laborando_actual;
+    
 END pkg_empleos;
 
 
+-- Carga inicial de empresa_trigrama para los nombres de empresa ya existentes
+INSERT INTO empresa_trigrama (trigrama, nombre_empresa)
+SELECT DISTINCT SUBSTR(UPPER(n.nombre_empresa), g.pos, 3), n.nombre_empresa
+FROM (SELECT DISTINCT nombre_empresa FROM empleos) n
+INNER JOIN (SELECT LEVEL as pos FROM dual CONNECT BY LEVEL <= 200) g
+    ON g.pos <= LENGTH(UPPER(n.nombre_empresa)) - 2;
+COMMIT;
+
+-- Carga inicial de candidato_resumen_empleo para empleos ya existentes
+BEGIN
+    FOR r IN (SELECT DISTINCT candidato_id FROM empleos WHERE activo = 1) LOOP
+        pkg_empleos.sp_recalcular_resumen(r.candidato_id);
+    END LOOP;
+    COMMIT;
+END;
+
 
 -- =====================================================
 -- Script de inserción de datos de prueba
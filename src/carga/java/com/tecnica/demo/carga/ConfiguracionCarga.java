@@ -0,0 +1,64 @@
+package com.tecnica.demo.carga;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * <b>ConfiguracionCarga.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Parámetros de la prueba de carga, leídos de propiedades del
+ *               sistema (-Dcarga.*). La tasa es de llegadas por segundo y no
+ *               depende de cuánto tarde la aplicación en responder.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public record ConfiguracionCarga(
+        URI url,
+        double tasa,
+        Duration duracion,
+        Duration calentamiento,
+        boolean llegadasPoisson,
+        MezclaEscenarios mezcla,
+        long semilla,
+        Duration timeout,
+        int tamanioPagina,
+        Path salida) {
+
+    static final String MEZCLA_DEFECTO = "crear:5,obtener:35,listar:15,codigo-postal:15,empleo:5,"
+            + "empresa:5,antiguedad:5,ingreso-mayor:5,experiencia:5,laborando:5";
+
+    /**
+     * Lee la configuración de las propiedades del sistema
+     *
+     * @return configuración validada
+     * @throws IllegalArgumentException si algún valor no es válido
+     */
+    public static ConfiguracionCarga desdePropiedades() {
+        String url = System.getProperty("carga.url", "http://localhost:8080/api/v1");
+        double tasa = Double.parseDouble(System.getProperty("carga.tasa", "100"));
+        long duracion = Long.parseLong(System.getProperty("carga.duracion", "60"));
+        long calentamiento = Long.parseLong(System.getProperty("carga.calentamiento", "10"));
+        String llegadas = System.getProperty("carga.llegadas", "poisson");
+        int tamanioPagina = Integer.parseInt(System.getProperty("carga.tamanio", "20"));
+
+        if (tasa <= 0 || duracion <= 0 || calentamiento < 0 || tamanioPagina <= 0) {
+            throw new IllegalArgumentException("carga.tasa, carga.duracion y carga.tamanio deben ser positivos");
+        }
+        if (!"poisson".equals(llegadas) && !"constante".equals(llegadas)) {
+            throw new IllegalArgumentException("carga.llegadas debe ser poisson o constante");
+        }
+
+        return new ConfiguracionCarga(
+                URI.create(url.endsWith("/") ? url.substring(0, url.length() - 1) : url),
+                tasa,
+                Duration.ofSeconds(duracion),
+                Duration.ofSeconds(calentamiento),
+                "poisson".equals(llegadas),
+                MezclaEscenarios.de(System.getProperty("carga.mezcla", MEZCLA_DEFECTO)),
+                Long.parseLong(System.getProperty("carga.semilla", "42")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("carga.timeout", "10"))),
+                tamanioPagina,
+                Path.of(System.getProperty("carga.salida", "target/carga")));
+    }
+}
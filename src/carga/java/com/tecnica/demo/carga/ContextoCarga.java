@@ -0,0 +1,212 @@
+package com.tecnica.demo.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <b>ContextoCarga.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Datos de una corrida: IDs de candidatos existentes, códigos
+ *               postales conocidos y generadores de cuerpos. Los valores
+ *               aleatorios salen de una semilla y solo los pide el hilo que
+ *               programa las llegadas; los IDs creados durante la corrida se
+ *               registran desde los hilos que reciben las respuestas.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class ContextoCarga {
+
+    private static final int CAPACIDAD_IDS = 1 << 16;
+
+    private static final String[] NOMBRES = {"María", "José", "Guadalupe", "Juan", "Fernanda", "Luis",
+        "Ana", "Carlos", "Sofía", "Miguel", "Valeria", "Jorge"};
+    private static final String[] APELLIDOS = {"Hernández", "García", "Martínez", "López", "González",
+        "Pérez", "Rodríguez", "Sánchez", "Ramírez", "Cruz", "Flores", "Gómez"};
+    private static final String[] ESTADOS = {"Ciudad de México", "Jalisco", "Nuevo León", "Puebla",
+        "Estado de México", "Yucatán"};
+    private static final String[] CODIGOS_POSTALES = {"06600", "44100", "64000", "72000", "50000", "97000"};
+    /* Las primeras empresas son las más frecuentes: peso 1/(posición + 1) */
+    private static final String[] EMPRESAS = {"Tecnología Global", "Banco del Norte", "Comercializadora Azteca",
+        "Servicios Integrales", "Grupo Industrial del Bajío", "Consultores Asociados", "Logística Express",
+        "Farmacias Unidas", "Constructora del Pacífico", "Alimentos Selectos"};
+    private static final String[] GIROS = {"Tecnología", "Finanzas", "Comercio", "Servicios", "Manufactura"};
+
+    private final ConfiguracionCarga configuracion;
+    private final ObjectMapper mapper;
+    private final SplittableRandom random;
+    private final double[] pesoEmpresas;
+    private final long corrida;
+    private long secuencia;
+
+    private final AtomicLongArray ids = new AtomicLongArray(CAPACIDAD_IDS);
+    private final AtomicLong totalIds = new AtomicLong();
+    private final List<String> codigosPostales = new CopyOnWriteArrayList<>();
+
+    public ContextoCarga(ConfiguracionCarga configuracion, ObjectMapper mapper) {
+        this.configuracion = configuracion;
+        this.mapper = mapper;
+        this.random = new SplittableRandom(configuracion.semilla());
+        // RFC y email únicos entre corridas: la corrida cambia cada segundo
+        this.corrida = (System.currentTimeMillis() / 1_000L) % (26L * 26 * 26 * 26);
+
+        this.pesoEmpresas = new double[EMPRESAS.length];
+        double acumulado = 0;
+        for (int i = 0; i < EMPRESAS.length; i++) {
+            acumulado += 1.0 / (i + 1);
+            this.pesoEmpresas[i] = acumulado;
+        }
+    }
+
+    public SplittableRandom random() {
+        return this.random;
+    }
+
+    public int tamanioPagina() {
+        return this.configuracion.tamanioPagina();
+    }
+
+    /**
+     * Registra un candidato que existe en la base; los más antiguos se
+     * reemplazan cuando se llena el buffer
+     *
+     * @param candidatoId ID del candidato
+     */
+    public void registrarId(long candidatoId) {
+        long posicion = this.totalIds.getAndIncrement();
+        this.ids.set((int) (posicion % CAPACIDAD_IDS), candidatoId);
+    }
+
+    public long idsRegistrados() {
+        return this.totalIds.get();
+    }
+
+    public void registrarCodigoPostal(String codigoPostal) {
+        if (codigoPostal != null && !codigoPostal.isBlank() && !this.codigosPostales.contains(codigoPostal)) {
+            this.codigosPostales.add(codigoPostal);
+        }
+    }
+
+    long idAleatorio() {
+        long total = Math.min(this.totalIds.get(), CAPACIDAD_IDS);
+        return total == 0 ? 1L : this.ids.get(this.random.nextInt((int) total));
+    }
+
+    String codigoPostalAleatorio() {
+        return this.codigosPostales.isEmpty()
+                ? CODIGOS_POSTALES[this.random.nextInt(CODIGOS_POSTALES.length)]
+                : this.codigosPostales.get(this.random.nextInt(this.codigosPostales.size()));
+    }
+
+    String empresaAleatoria() {
+        return URLEncoder.encode(empresa(), StandardCharsets.UTF_8);
+    }
+
+    int ingresoAleatorio() {
+        return 10_000 + this.random.nextInt(8) * 5_000;
+    }
+
+    int aniosAleatorios() {
+        return 1 + this.random.nextInt(10);
+    }
+
+    /**
+     * Candidato válido con email y RFC que no existen en la base
+     */
+    Map<String, Object> cuerpoCandidato() {
+        long n = this.secuencia++;
+        int estado = this.random.nextInt(ESTADOS.length);
+
+        Map<String, Object> cuerpo = new LinkedHashMap<>();
+        cuerpo.put("nombres", NOMBRES[this.random.nextInt(NOMBRES.length)]);
+        cuerpo.put("apellidos", APELLIDOS[this.random.nextInt(APELLIDOS.length)] + " "
+                + APELLIDOS[this.random.nextInt(APELLIDOS.length)]);
+        cuerpo.put("email", "carga." + this.corrida + "." + n + "@prueba.local");
+        cuerpo.put("fechaNacimiento", LocalDate.of(1970, 1, 1).plusDays(this.random.nextInt(12_000)).toString());
+        cuerpo.put("rfc", rfc(n));
+        cuerpo.put("telefono", "55" + String.format("%08d", this.random.nextInt(100_000_000)));
+        cuerpo.put("calle", "Av. Reforma");
+        cuerpo.put("numero", String.valueOf(1 + this.random.nextInt(500)));
+        cuerpo.put("colonia", "Centro");
+        cuerpo.put("ciudad", ESTADOS[estado]);
+        cuerpo.put("estado", ESTADOS[estado]);
+        cuerpo.put("pais", "México");
+        cuerpo.put("codigoPostal", CODIGOS_POSTALES[estado]);
+        return cuerpo;
+    }
+
+    /**
+     * Empleo con empresa sesgada hacia las más frecuentes; la mitad sigue vigente
+     */
+    Map<String, Object> cuerpoEmpleo() {
+        LocalDate ingreso = LocalDate.now().minusDays(30 + this.random.nextInt(3_650));
+
+        Map<String, Object> cuerpo = new LinkedHashMap<>();
+        cuerpo.put("nombreEmpresa", empresa());
+        cuerpo.put("fechaIngreso", ingreso.toString());
+        if (this.random.nextBoolean()) {
+            cuerpo.put("fechaSalida", ingreso.plusDays(1 + this.random.nextInt(
+                    (int) (LocalDate.now().toEpochDay() - ingreso.toEpochDay()))).toString());
+        }
+        cuerpo.put("ingresoMensual", 8_000 + this.random.nextInt(72_000));
+        cuerpo.put("giroEmpresa", GIROS[this.random.nextInt(GIROS.length)]);
+        return cuerpo;
+    }
+
+    HttpRequest get(String ruta) {
+        return peticion(ruta).GET().build();
+    }
+
+    HttpRequest post(String ruta, Map<String, Object> cuerpo) {
+        try {
+            return peticion(ruta)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(this.mapper.writeValueAsBytes(cuerpo)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder peticion(String ruta) {
+        Duration timeout = this.configuracion.timeout();
+        return HttpRequest.newBuilder(URI.create(this.configuracion.url() + ruta))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+    }
+
+    private String empresa() {
+        double valor = this.random.nextDouble() * this.pesoEmpresas[this.pesoEmpresas.length - 1];
+        int indice = Arrays.binarySearch(this.pesoEmpresas, valor);
+        return EMPRESAS[Math.min(indice >= 0 ? indice : -indice - 1, EMPRESAS.length - 1)];
+    }
+
+    /**
+     * Cuatro letras de la corrida, seis dígitos y homoclave con la secuencia
+     */
+    private String rfc(long n) {
+        char[] letras = new char[4];
+        long valor = this.corrida;
+        for (int i = 3; i >= 0; i--) {
+            letras[i] = (char) ('A' + valor % 26);
+            valor /= 26;
+        }
+        String homoclave = Long.toString(n / 1_000_000L, 36).toUpperCase();
+        return new String(letras) + String.format("%06d", n % 1_000_000L)
+                + "000".substring(homoclave.length()) + homoclave;
+    }
+}
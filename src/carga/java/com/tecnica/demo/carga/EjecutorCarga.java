@@ -0,0 +1,124 @@
+package com.tecnica.demo.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <b>EjecutorCarga.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Generador de carga de ciclo abierto. Un solo hilo programa
+ *               las llegadas a la tasa configurada (Poisson o constante) y
+ *               cada petición sale en su propio hilo virtual, sin esperar a
+ *               que terminen las anteriores. Si el hilo programador se
+ *               atrasa envía de inmediato, pero la latencia se sigue
+ *               midiendo desde el instante programado.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class EjecutorCarga {
+
+    private final ConfiguracionCarga configuracion;
+    private final ContextoCarga contexto;
+    private final HttpClient cliente;
+    private final ObjectMapper mapper;
+    private final Map<Escenario, MedicionEscenario> mediciones = new EnumMap<>(Escenario.class);
+
+    public EjecutorCarga(ConfiguracionCarga configuracion, ContextoCarga contexto, HttpClient cliente,
+                         ObjectMapper mapper) {
+        this.configuracion = configuracion;
+        this.contexto = contexto;
+        this.cliente = cliente;
+        this.mapper = mapper;
+        configuracion.mezcla().pesos().keySet()
+                .forEach(escenario -> this.mediciones.put(escenario, new MedicionEscenario(escenario)));
+    }
+
+    /**
+     * Ejecuta el calentamiento y la medición; regresa cuando todas las
+     * peticiones enviadas terminaron o vencieron
+     *
+     * @return mediciones por escenario, solo de las llegadas programadas después del calentamiento
+     */
+    public Map<Escenario, MedicionEscenario> ejecutar() {
+        long inicio = System.nanoTime();
+        long inicioMedicion = inicio + this.configuracion.calentamiento().toNanos();
+        long fin = inicioMedicion + this.configuracion.duracion().toNanos();
+        double intervaloNanos = TimeUnit.SECONDS.toNanos(1) / this.configuracion.tasa();
+
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            double programada = inicio;
+            while (programada < fin) {
+                esperarHasta((long) programada);
+
+                Escenario escenario = this.configuracion.mezcla().elegir(this.contexto.random());
+                HttpRequest peticion = escenario.peticion(this.contexto);
+                long instante = (long) programada;
+                boolean medir = instante >= inicioMedicion;
+                hilos.execute(() -> enviar(escenario, peticion, instante, medir));
+
+                programada += this.configuracion.llegadasPoisson()
+                        ? -Math.log(1.0 - this.contexto.random().nextDouble()) * intervaloNanos
+                        : intervaloNanos;
+            }
+        }
+        return this.mediciones;
+    }
+
+    private void enviar(Escenario escenario, HttpRequest peticion, long programada, boolean medir) {
+        long envio = System.nanoTime();
+        String error;
+        try {
+            HttpResponse<byte[]> respuesta = this.cliente.send(peticion, HttpResponse.BodyHandlers.ofByteArray());
+            int status = respuesta.statusCode();
+            error = status < 400 ? null : String.valueOf(status);
+            if (error == null && escenario == Escenario.CREAR_CANDIDATO) {
+                registrarCreado(respuesta.body());
+            }
+        } catch (HttpTimeoutException e) {
+            error = "timeout";
+        } catch (IOException e) {
+            error = "io";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long respuesta = System.nanoTime();
+
+        if (medir) {
+            this.mediciones.get(escenario).registrar(respuesta - programada, respuesta - envio, error);
+        }
+    }
+
+    /**
+     * Los candidatos creados entran a la rotación de lecturas y de empleos
+     */
+    private void registrarCreado(byte[] cuerpo) {
+        try {
+            JsonNode data = this.mapper.readTree(cuerpo).path("data");
+            if (data.canConvertToLong()) {
+                this.contexto.registrarId(data.asLong());
+            }
+        } catch (IOException e) {
+            // La petición sí fue exitosa; solo no se reutiliza el ID
+        }
+    }
+
+    private static void esperarHasta(long instante) {
+        long restante;
+        while ((restante = instante - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(restante);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.tecnica.demo.carga;
+
+import java.net.http.HttpRequest;
+import java.util.function.Function;
+
+/**
+ * <b>Escenario.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Operaciones de la API que ejercita la prueba de carga. Cada
+ *               escenario arma su petición con datos del ContextoCarga; el
+ *               endpoint agrupa los resultados en el reporte.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public enum Escenario {
+
+    CREAR_CANDIDATO("crear", "POST /candidatos",
+            ctx -> ctx.post("/candidatos", ctx.cuerpoCandidato())),
+    OBTENER_CANDIDATO("obtener", "GET /candidatos/{id}",
+            ctx -> ctx.get("/candidatos/" + ctx.idAleatorio())),
+    LISTAR_CANDIDATOS("listar", "GET /candidatos?tamanio",
+            ctx -> ctx.get("/candidatos?tamanio=" + ctx.tamanioPagina())),
+    BUSCAR_CODIGO_POSTAL("codigo-postal", "GET /candidatos/buscar/codigo-postal/{cp}",
+            ctx -> ctx.get("/candidatos/buscar/codigo-postal/" + ctx.codigoPostalAleatorio()
+                    + "?tamanio=" + ctx.tamanioPagina())),
+    AGREGAR_EMPLEO("empleo", "POST /empleos/candidato/{id}",
+            ctx -> ctx.post("/empleos/candidato/" + ctx.idAleatorio(), ctx.cuerpoEmpleo())),
+    BUSCAR_EMPRESA("empresa", "GET /empleos/buscar/empresa",
+            ctx -> ctx.get("/empleos/buscar/empresa?nombreEmpresa=" + ctx.empresaAleatoria()
+                    + "&tamanio=" + ctx.tamanioPagina())),
+    BUSCAR_ANTIGUEDAD("antiguedad", "GET /empleos/buscar/antiguedad-2-anios",
+            ctx -> ctx.get("/empleos/buscar/antiguedad-2-anios?tamanio=" + ctx.tamanioPagina())),
+    BUSCAR_INGRESO_MAYOR("ingreso-mayor", "GET /empleos/buscar/ingreso-mayor",
+            ctx -> ctx.get("/empleos/buscar/ingreso-mayor?ingresoMinimo=" + ctx.ingresoAleatorio()
+                    + "&tamanio=" + ctx.tamanioPagina())),
+    BUSCAR_EXPERIENCIA("experiencia", "GET /empleos/buscar/experiencia",
+            ctx -> ctx.get("/empleos/buscar/experiencia?aniosExperiencia=" + ctx.aniosAleatorios()
+                    + "&tamanio=" + ctx.tamanioPagina())),
+    BUSCAR_LABORANDO("laborando", "GET /empleos/buscar/laborando-actualmente",
+            ctx -> ctx.get("/empleos/buscar/laborando-actualmente?tamanio=" + ctx.tamanioPagina()));
+
+    private final String clave;
+    private final String endpoint;
+    private final Function<ContextoCarga, HttpRequest> peticion;
+
+    Escenario(String clave, String endpoint, Function<ContextoCarga, HttpRequest> peticion) {
+        this.clave = clave;
+        this.endpoint = endpoint;
+        this.peticion = peticion;
+    }
+
+    /**
+     * Busca el escenario por su clave en carga.mezcla
+     *
+     * @param clave clave del escenario
+     * @return escenario
+     * @throws IllegalArgumentException si la clave no existe
+     */
+    public static Escenario deClave(String clave) {
+        for (Escenario escenario : values()) {
+            if (escenario.clave.equals(clave)) {
+                return escenario;
+            }
+        }
+        StringBuilder claves = new StringBuilder();
+        for (Escenario escenario : values()) {
+            claves.append(claves.isEmpty() ? "" : ", ").append(escenario.clave);
+        }
+        throw new IllegalArgumentException("Escenario no válido: " + clave + ". Permitidos: " + claves);
+    }
+
+    /**
+     * Arma la petición de la siguiente llegada; se llama solo desde el hilo
+     * que programa las llegadas
+     *
+     * @param contexto datos de la corrida
+     * @return petición lista para enviarse
+     */
+    public HttpRequest peticion(ContextoCarga contexto) {
+        return this.peticion.apply(contexto);
+    }
+
+    public String getClave() {
+        return this.clave;
+    }
+
+    public String getEndpoint() {
+        return this.endpoint;
+    }
+}
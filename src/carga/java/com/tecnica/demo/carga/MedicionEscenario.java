@@ -0,0 +1,83 @@
+package com.tecnica.demo.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <b>MedicionEscenario.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Histogramas de un escenario en microsegundos. La latencia se
+ *               mide desde el instante en que la petición debía salir según
+ *               la tasa de llegadas, así que incluye la espera que provoca
+ *               una aplicación lenta (corrige la omisión coordinada); el
+ *               tiempo de servicio se mide desde que realmente salió.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class MedicionEscenario {
+
+    private static final long MAXIMO_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int DIGITOS_SIGNIFICATIVOS = 3;
+
+    private final Escenario escenario;
+    private final Histogram latencia = new ConcurrentHistogram(MAXIMO_MICROS, DIGITOS_SIGNIFICATIVOS);
+    private final Histogram servicio = new ConcurrentHistogram(MAXIMO_MICROS, DIGITOS_SIGNIFICATIVOS);
+    private final LongAdder exitosas = new LongAdder();
+    private final Map<String, LongAdder> errores = new ConcurrentHashMap<>();
+
+    public MedicionEscenario(Escenario escenario) {
+        this.escenario = escenario;
+    }
+
+    /**
+     * Registra una petición terminada
+     *
+     * @param latenciaNanos desde el instante programado hasta la respuesta
+     * @param servicioNanos desde el envío real hasta la respuesta
+     * @param error causa del error (código HTTP, timeout, io); nulo si fue exitosa
+     */
+    public void registrar(long latenciaNanos, long servicioNanos, String error) {
+        this.latencia.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latenciaNanos), MAXIMO_MICROS));
+        this.servicio.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(servicioNanos), MAXIMO_MICROS));
+        if (error == null) {
+            this.exitosas.increment();
+        } else {
+            this.errores.computeIfAbsent(error, k -> new LongAdder()).increment();
+        }
+    }
+
+    public Escenario getEscenario() {
+        return this.escenario;
+    }
+
+    public Histogram getLatencia() {
+        return this.latencia;
+    }
+
+    public Histogram getServicio() {
+        return this.servicio;
+    }
+
+    public long getExitosas() {
+        return this.exitosas.sum();
+    }
+
+    public long getSolicitudes() {
+        return this.latencia.getTotalCount();
+    }
+
+    /**
+     * @return errores por causa, ordenados
+     */
+    public Map<String, Long> getErrores() {
+        Map<String, Long> resumen = new TreeMap<>();
+        this.errores.forEach((causa, total) -> resumen.put(causa, total.sum()));
+        return resumen;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tecnica.demo.carga;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * <b>MezclaEscenarios.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Proporción de cada escenario en la carga, con el formato
+ *               clave:peso separado por comas (crear:5,obtener:35,...).
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class MezclaEscenarios {
+
+    private final Escenario[] escenarios;
+    private final int[] acumulado;
+    private final Map<Escenario, Integer> pesos;
+
+    private MezclaEscenarios(Map<Escenario, Integer> pesos) {
+        this.pesos = pesos;
+        this.escenarios = pesos.keySet().toArray(new Escenario[0]);
+        this.acumulado = new int[this.escenarios.length];
+        int total = 0;
+        for (int i = 0; i < this.escenarios.length; i++) {
+            total += pesos.get(this.escenarios[i]);
+            this.acumulado[i] = total;
+        }
+    }
+
+    /**
+     * Interpreta la mezcla
+     *
+     * @param mezcla pares clave:peso separados por coma
+     * @return mezcla con al menos un escenario de peso positivo
+     * @throws IllegalArgumentException si alguna clave o peso no es válido
+     */
+    public static MezclaEscenarios de(String mezcla) {
+        Map<Escenario, Integer> pesos = new EnumMap<>(Escenario.class);
+        for (String par : mezcla.split(",")) {
+            String[] partes = par.trim().split(":");
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Mezcla no válida: " + par + ". Formato clave:peso");
+            }
+            int peso = Integer.parseInt(partes[1].trim());
+            if (peso < 0) {
+                throw new IllegalArgumentException("Peso negativo: " + par);
+            }
+            if (peso > 0) {
+                pesos.merge(Escenario.deClave(partes[0].trim()), peso, Integer::sum);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene escenarios con peso positivo");
+        }
+        return new MezclaEscenarios(pesos);
+    }
+
+    /**
+     * Elige el escenario de la siguiente llegada
+     *
+     * @param random generador del hilo que programa las llegadas
+     * @return escenario elegido según su peso
+     */
+    public Escenario elegir(SplittableRandom random) {
+        int valor = random.nextInt(this.acumulado[this.acumulado.length - 1]);
+        int indice = Arrays.binarySearch(this.acumulado, valor + 1);
+        return this.escenarios[indice >= 0 ? indice : -indice - 1];
+    }
+
+    public Map<Escenario, Integer> pesos() {
+        return this.pesos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder();
+        this.pesos.forEach((escenario, peso) -> texto.append(texto.isEmpty() ? "" : ",")
+                .append(escenario.getClave()).append(':').append(peso));
+        return texto.toString();
+    }
+}
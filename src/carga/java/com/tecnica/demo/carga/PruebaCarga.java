@@ -0,0 +1,89 @@
+package com.tecnica.demo.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * <b>PruebaCarga.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Prueba de carga de extremo a extremo contra la aplicación ya
+ *               levantada. Antes de medir toma IDs y códigos postales de la
+ *               primera página de candidatos (o crea algunos si no hay) para
+ *               que las lecturas peguen a datos existentes.
+ *
+ *               mvn spring-boot:run
+ *               mvn -Pcarga compile exec:java -Dcarga.tasa=200 -Dcarga.duracion=60
+ *
+ *               Propiedades (-Dcarga.*): url, tasa (llegadas/s), duracion y
+ *               calentamiento (s), llegadas (poisson|constante), mezcla
+ *               (crear:5,obtener:35,...), semilla, timeout (s), tamanio
+ *               (página de los listados) y salida (target/carga).
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class PruebaCarga {
+
+    private static final int CANDIDATOS_INICIALES = 20;
+
+    private PruebaCarga() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ConfiguracionCarga configuracion = ConfiguracionCarga.desdePropiedades();
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(configuracion.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        ContextoCarga contexto = new ContextoCarga(configuracion, mapper);
+
+        prepararDatos(configuracion, cliente, mapper, contexto);
+        System.out.printf("Carga contra %s: %s req/s %s durante %ds (calentamiento %ds), %d candidatos conocidos%n",
+                configuracion.url(), configuracion.tasa(), configuracion.llegadasPoisson() ? "poisson" : "constante",
+                configuracion.duracion().toSeconds(), configuracion.calentamiento().toSeconds(),
+                contexto.idsRegistrados());
+
+        Map<Escenario, MedicionEscenario> mediciones =
+                new EjecutorCarga(configuracion, contexto, cliente, mapper).ejecutar();
+
+        ReporteCarga reporte = new ReporteCarga(configuracion, mediciones);
+        reporte.imprimir(System.out);
+        Path salida = reporte.escribir();
+        System.out.println("Reporte en " + salida.toAbsolutePath());
+    }
+
+    /**
+     * Registra los candidatos de la primera página; si no hay, crea algunos
+     */
+    private static void prepararDatos(ConfiguracionCarga configuracion, HttpClient cliente, ObjectMapper mapper,
+                                      ContextoCarga contexto) throws IOException, InterruptedException {
+        HttpResponse<byte[]> pagina = cliente.send(
+                contexto.get("/candidatos?tamanio=100&fields=id,codigoPostal"), HttpResponse.BodyHandlers.ofByteArray());
+        if (pagina.statusCode() != 200) {
+            throw new IllegalStateException("GET " + configuracion.url() + "/candidatos respondió " + pagina.statusCode());
+        }
+        for (JsonNode candidato : mapper.readTree(pagina.body()).path("data").path("elementos")) {
+            contexto.registrarId(candidato.path("id").asLong());
+            contexto.registrarCodigoPostal(candidato.path("codigoPostal").asText(null));
+        }
+
+        int porCrear = contexto.idsRegistrados() == 0 ? CANDIDATOS_INICIALES : 0;
+        for (int i = 0; i < porCrear; i++) {
+            HttpRequest crear = contexto.post("/candidatos", contexto.cuerpoCandidato());
+            HttpResponse<byte[]> creado = cliente.send(crear, HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode data = mapper.readTree(creado.body()).path("data");
+            if (creado.statusCode() == 201 && data.canConvertToLong()) {
+                contexto.registrarId(data.asLong());
+            }
+        }
+    }
+}
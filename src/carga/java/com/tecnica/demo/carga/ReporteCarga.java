@@ -0,0 +1,194 @@
+package com.tecnica.demo.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <b>ReporteCarga.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Reporte de la corrida: throughput, errores y percentiles
+ *               p50/p90/p99/p99.9 por endpoint, en JSON (para comparar
+ *               corridas) y HTML, más la distribución completa de latencia
+ *               de cada escenario en formato .hgrm de HdrHistogram.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class ReporteCarga {
+
+    private static final double MICROS_POR_MILI = 1_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] ETIQUETAS = {"p50", "p90", "p99", "p999"};
+
+    private final ConfiguracionCarga configuracion;
+    private final Map<String, Object> resumen = new LinkedHashMap<>();
+    private final Map<Escenario, MedicionEscenario> mediciones;
+
+    public ReporteCarga(ConfiguracionCarga configuracion, Map<Escenario, MedicionEscenario> mediciones) {
+        this.configuracion = configuracion;
+        this.mediciones = mediciones;
+
+        double segundos = configuracion.duracion().toMillis() / 1_000.0;
+        Histogram latenciaTotal = new Histogram(3);
+        Histogram servicioTotal = new Histogram(3);
+        long exitosasTotal = 0;
+        Map<String, Long> erroresTotal = new TreeMap<>();
+        List<Map<String, Object>> escenarios = new ArrayList<>();
+
+        for (MedicionEscenario medicion : mediciones.values()) {
+            escenarios.add(resumir(medicion.getEscenario().getEndpoint(), medicion.getLatencia(),
+                    medicion.getServicio(), medicion.getExitosas(), medicion.getErrores(), segundos));
+            latenciaTotal.add(medicion.getLatencia());
+            servicioTotal.add(medicion.getServicio());
+            exitosasTotal += medicion.getExitosas();
+            medicion.getErrores().forEach((causa, total) -> erroresTotal.merge(causa, total, Long::sum));
+        }
+
+        this.resumen.put("fecha", OffsetDateTime.now().toString());
+        this.resumen.put("url", configuracion.url().toString());
+        this.resumen.put("llegadas", configuracion.llegadasPoisson() ? "poisson" : "constante");
+        this.resumen.put("tasaObjetivo", configuracion.tasa());
+        this.resumen.put("duracionSegundos", segundos);
+        this.resumen.put("calentamientoSegundos", configuracion.calentamiento().toSeconds());
+        this.resumen.put("mezcla", configuracion.mezcla().toString());
+        this.resumen.put("semilla", configuracion.semilla());
+        this.resumen.put("total", resumir("TOTAL", latenciaTotal, servicioTotal, exitosasTotal, erroresTotal, segundos));
+        this.resumen.put("escenarios", escenarios);
+    }
+
+    /**
+     * Escribe reporte.json, reporte.html y un .hgrm por escenario
+     *
+     * @return directorio del reporte
+     * @throws IOException si no se pueden escribir los archivos
+     */
+    public Path escribir() throws IOException {
+        Path salida = this.configuracion.salida();
+        Files.createDirectories(salida);
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(salida.resolve("reporte.json").toFile(), this.resumen);
+        Files.writeString(salida.resolve("reporte.html"), html(), StandardCharsets.UTF_8);
+
+        for (MedicionEscenario medicion : this.mediciones.values()) {
+            Path hgrm = salida.resolve(medicion.getEscenario().getClave() + ".hgrm");
+            try (PrintStream archivo = new PrintStream(Files.newOutputStream(hgrm), false, StandardCharsets.UTF_8)) {
+                // Valores en milisegundos, como los espera el graficador de HdrHistogram
+                medicion.getLatencia().outputPercentileDistribution(archivo, MICROS_POR_MILI);
+            }
+        }
+        return salida;
+    }
+
+    /**
+     * Tabla de resultados para la consola
+     */
+    @SuppressWarnings("unchecked")
+    public void imprimir(PrintStream consola) {
+        String formato = "%-45s %9s %9s %8s %9s %9s %9s %9s%n";
+        consola.printf(formato, "endpoint", "req", "req/s", "errores", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        List<Map<String, Object>> filas = new ArrayList<>((List<Map<String, Object>>) this.resumen.get("escenarios"));
+        filas.add((Map<String, Object>) this.resumen.get("total"));
+        for (Map<String, Object> fila : filas) {
+            Map<String, Object> latencia = (Map<String, Object>) fila.get("latenciaMs");
+            consola.printf(formato, fila.get("endpoint"), fila.get("solicitudes"), fila.get("throughput"),
+                    fila.get("totalErrores"), latencia.get("p50"), latencia.get("p99"), latencia.get("p999"),
+                    latencia.get("max"));
+        }
+    }
+
+    private static Map<String, Object> resumir(String endpoint, Histogram latencia, Histogram servicio,
+                                               long exitosas, Map<String, Long> errores, double segundos) {
+        Map<String, Object> fila = new LinkedHashMap<>();
+        fila.put("endpoint", endpoint);
+        fila.put("solicitudes", latencia.getTotalCount());
+        fila.put("exitosas", exitosas);
+        fila.put("totalErrores", latencia.getTotalCount() - exitosas);
+        fila.put("errores", errores);
+        fila.put("throughput", redondear(exitosas / segundos));
+        fila.put("latenciaMs", percentiles(latencia));
+        fila.put("servicioMs", percentiles(servicio));
+        return fila;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histograma) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            valores.put(ETIQUETAS[i], milis(histograma.getValueAtPercentile(PERCENTILES[i])));
+        }
+        valores.put("max", milis(histograma.getMaxValue()));
+        valores.put("media", redondear(histograma.getMean() / MICROS_POR_MILI));
+        return valores;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String html() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html lang=\"es\"><head><meta charset=\"utf-8\"><title>Prueba de carga</title>")
+            .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}")
+            .append("td,th{border:1px solid #ccc;padding:4px 10px;text-align:right}td:first-child{text-align:left}")
+            .append("tr:last-child{font-weight:bold}</style></head><body>\n")
+            .append("<h1>Prueba de carga</h1>\n<p>")
+            .append(escapar(String.valueOf(this.resumen.get("url")))).append(" &middot; ")
+            .append(this.resumen.get("fecha")).append("<br>Llegadas ").append(this.resumen.get("llegadas"))
+            .append(" a ").append(this.resumen.get("tasaObjetivo")).append(" req/s durante ")
+            .append(this.resumen.get("duracionSegundos")).append(" s (calentamiento ")
+            .append(this.resumen.get("calentamientoSegundos")).append(" s) &middot; mezcla ")
+            .append(escapar(String.valueOf(this.resumen.get("mezcla")))).append("</p>\n")
+            .append("<p>Latencia desde el instante programado (corrige la omisión coordinada); ")
+            .append("servicio desde el envío real. Valores en ms.</p>\n<table>\n<tr><th>Endpoint</th>")
+            .append("<th>Solicitudes</th><th>req/s</th><th>Errores</th>");
+        for (String etiqueta : ETIQUETAS) {
+            html.append("<th>").append(etiqueta).append("</th>");
+        }
+        html.append("<th>max</th>");
+        for (String etiqueta : ETIQUETAS) {
+            html.append("<th>servicio ").append(etiqueta).append("</th>");
+        }
+        html.append("</tr>\n");
+
+        List<Map<String, Object>> filas = new ArrayList<>((List<Map<String, Object>>) this.resumen.get("escenarios"));
+        filas.add((Map<String, Object>) this.resumen.get("total"));
+        for (Map<String, Object> fila : filas) {
+            Map<String, Object> latencia = (Map<String, Object>) fila.get("latenciaMs");
+            Map<String, Object> servicio = (Map<String, Object>) fila.get("servicioMs");
+            html.append("<tr><td>").append(escapar(String.valueOf(fila.get("endpoint")))).append("</td><td>")
+                .append(fila.get("solicitudes")).append("</td><td>").append(fila.get("throughput"))
+                .append("</td><td title=\"").append(fila.get("errores")).append("\">")
+                .append(fila.get("totalErrores")).append("</td>");
+            for (String etiqueta : ETIQUETAS) {
+                html.append("<td>").append(latencia.get(etiqueta)).append("</td>");
+            }
+            html.append("<td>").append(latencia.get("max")).append("</td>");
+            for (String etiqueta : ETIQUETAS) {
+                html.append("<td>").append(servicio.get(etiqueta)).append("</td>");
+            }
+            html.append("</tr>\n");
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private static double milis(long micros) {
+        return redondear(micros / MICROS_POR_MILI);
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 1_000.0) / 1_000.0;
+    }
+
+    private static String escapar(String texto) {
+        return texto.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,46 @@
+package com.tecnica.demo.carga.datos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * <b>CandidatoSintetico.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Fila generada de candidatos con sus empleos. El índice es la
+ *               posición en la secuencia de la semilla y sirve como ID en los
+ *               archivos CSV.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public record CandidatoSintetico(
+        long indice,
+        String nombres,
+        String apellidos,
+        String email,
+        LocalDate fechaNacimiento,
+        String rfc,
+        String telefono,
+        String calle,
+        String numero,
+        String colonia,
+        String ciudad,
+        String estado,
+        String pais,
+        String codigoPostal,
+        boolean activo,
+        List<EmpleoSintetico> empleos) {
+
+    /**
+     * <b>EmpleoSintetico</b>
+     *
+     * @descripcion: Fila generada de empleos; fechaSalida nula si sigue vigente
+     */
+    public record EmpleoSintetico(
+            String nombreEmpresa,
+            LocalDate fechaIngreso,
+            LocalDate fechaSalida,
+            long ingresoMensualCentavos,
+            String giroEmpresa,
+            boolean activo) {
+    }
+}
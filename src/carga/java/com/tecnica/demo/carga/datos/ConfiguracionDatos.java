@@ -0,0 +1,73 @@
+package com.tecnica.demo.carga.datos;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * <b>ConfiguracionDatos.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Parámetros del generador de datos, leídos de propiedades del
+ *               sistema (-Ddatos.*). Con la misma semilla, desplazamiento y
+ *               fecha de corte se generan exactamente los mismos registros,
+ *               sin importar el tamaño de lote ni el destino.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public record ConfiguracionDatos(
+        long semilla,
+        long candidatos,
+        long desplazamiento,
+        LocalDate fechaCorte,
+        int empresas,
+        int lote,
+        String destino,
+        Path salida,
+        String jdbcUrl,
+        String usuario,
+        String clave,
+        String esquema,
+        boolean directo) {
+
+    static final String DESTINO_CSV = "csv";
+    static final String DESTINO_ORACLE = "oracle";
+
+    /**
+     * Lee la configuración de las propiedades del sistema
+     *
+     * @return configuración validada
+     * @throws IllegalArgumentException si algún valor no es válido
+     */
+    public static ConfiguracionDatos desdePropiedades() {
+        long candidatos = Long.parseLong(System.getProperty("datos.candidatos", "100000"));
+        long desplazamiento = Long.parseLong(System.getProperty("datos.desplazamiento", "0"));
+        int empresas = Integer.parseInt(System.getProperty("datos.empresas", "2000"));
+        int lote = Integer.parseInt(System.getProperty("datos.lote", "5000"));
+        String destino = System.getProperty("datos.destino", DESTINO_CSV);
+        String clave = System.getProperty("datos.clave");
+
+        if (candidatos <= 0 || desplazamiento < 0 || empresas <= 0 || lote <= 0) {
+            throw new IllegalArgumentException("datos.candidatos, datos.empresas y datos.lote deben ser positivos");
+        }
+        if (!DESTINO_CSV.equals(destino) && !DESTINO_ORACLE.equals(destino)) {
+            throw new IllegalArgumentException("datos.destino debe ser csv u oracle");
+        }
+        if (DESTINO_ORACLE.equals(destino) && clave == null) {
+            throw new IllegalArgumentException("datos.clave es requerida para el destino oracle");
+        }
+
+        return new ConfiguracionDatos(
+                Long.parseLong(System.getProperty("datos.semilla", "42")),
+                candidatos,
+                desplazamiento,
+                LocalDate.parse(System.getProperty("datos.fecha-corte", "2026-01-01")),
+                empresas,
+                lote,
+                destino,
+                Path.of(System.getProperty("datos.salida", "target/datos")),
+                System.getProperty("datos.url", "jdbc:oracle:thin:@//localhost:1521/ORCLCDB"),
+                System.getProperty("datos.usuario", "system"),
+                clave,
+                System.getProperty("datos.esquema", "TEST"),
+                Boolean.parseBoolean(System.getProperty("datos.directo", "false")));
+    }
+}
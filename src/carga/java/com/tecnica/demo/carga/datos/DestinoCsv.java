@@ -0,0 +1,104 @@
+package com.tecnica.demo.carga.datos;
+
+import com.tecnica.demo.carga.datos.CandidatoSintetico.EmpleoSintetico;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * <b>DestinoCsv.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Escribe candidatos.csv y empleos.csv con encabezado. El ID
+ *               de candidato es índice + 1 y el de empleo (índice + 1) * 8
+ *               más su posición, así que no se repiten al agregar datos con
+ *               otro desplazamiento. Para cargarlos con SQL*Loader o tablas
+ *               externas las columnas ID deben aceptar valores explícitos
+ *               (GENERATED BY DEFAULT ON NULL).
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class DestinoCsv implements DestinoDatos {
+
+    private static final int BUFFER = 1 << 20;
+    /* Mayor que el máximo de empleos que genera GeneradorCandidatos por candidato */
+    private static final int EMPLEOS_POR_ID = 8;
+
+    private final Writer candidatos;
+    private final Writer empleos;
+
+    /**
+     * @param directorio directorio de salida; se crea si no existe
+     */
+    public DestinoCsv(Path directorio) throws IOException {
+        Files.createDirectories(directorio);
+        this.candidatos = abrir(directorio.resolve("candidatos.csv"));
+        this.empleos = abrir(directorio.resolve("empleos.csv"));
+
+        this.candidatos.write("id,nombres,apellidos,email,fecha_nacimiento,rfc,telefono,calle,numero,colonia,"
+                + "ciudad,estado,pais,codigo_postal,activo\n");
+        this.empleos.write("id,candidato_id,nombre_empresa,fecha_ingreso,fecha_salida,ingreso_mensual,"
+                + "giro_empresa,activo\n");
+    }
+
+    @Override
+    public long escribir(List<CandidatoSintetico> lote) throws IOException {
+        long escritos = 0;
+        for (CandidatoSintetico c : lote) {
+            long candidatoId = c.indice() + 1;
+            linea(this.candidatos, candidatoId, c.nombres(), c.apellidos(), c.email(), c.fechaNacimiento(),
+                    c.rfc(), c.telefono(), c.calle(), c.numero(), c.colonia(), c.ciudad(), c.estado(), c.pais(),
+                    c.codigoPostal(), c.activo() ? 1 : 0);
+            for (int j = 0; j < c.empleos().size(); j++) {
+                EmpleoSintetico e = c.empleos().get(j);
+                linea(this.empleos, candidatoId * EMPLEOS_POR_ID + j, candidatoId, e.nombreEmpresa(), e.fechaIngreso(),
+                        e.fechaSalida(), BigDecimal.valueOf(e.ingresoMensualCentavos(), 2), e.giroEmpresa(),
+                        e.activo() ? 1 : 0);
+                escritos++;
+            }
+        }
+        return escritos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Writer c = this.candidatos; Writer e = this.empleos) {
+            c.flush();
+            e.flush();
+        }
+    }
+
+    private static Writer abrir(Path archivo) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(archivo), StandardCharsets.UTF_8),
+                BUFFER);
+    }
+
+    /**
+     * Una fila RFC 4180: comillas solo si el valor trae coma, comillas o salto de línea
+     */
+    private static void linea(Writer salida, Object... valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                salida.write(',');
+            }
+            if (valores[i] == null) {
+                continue;
+            }
+            String valor = valores[i].toString();
+            if (valor.indexOf(',') >= 0 || valor.indexOf('"') >= 0 || valor.indexOf('\n') >= 0) {
+                salida.write('"');
+                salida.write(valor.replace("\"", "\"\""));
+                salida.write('"');
+            } else {
+                salida.write(valor);
+            }
+        }
+        salida.write('\n');
+    }
+}
@@ -0,0 +1,31 @@
+package com.tecnica.demo.carga.datos;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * <b>DestinoDatos.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Destino de los lotes generados. Cada lote se escribe y se
+ *               suelta antes de generar el siguiente, así que la memoria no
+ *               crece con el tamaño del conjunto de datos.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public interface DestinoDatos extends AutoCloseable {
+
+    /**
+     * Escribe un lote de candidatos con sus empleos
+     *
+     * @param lote candidatos en orden de índice
+     * @return número de empleos escritos
+     */
+    long escribir(List<CandidatoSintetico> lote) throws IOException, SQLException;
+
+    /**
+     * Termina la carga (tablas derivadas, estadísticas) y libera recursos
+     */
+    @Override
+    void close() throws IOException, SQLException;
+}
@@ -0,0 +1,284 @@
+package com.tecnica.demo.carga.datos;
+
+import com.tecnica.demo.carga.datos.CandidatoSintetico.EmpleoSintetico;
+import oracle.jdbc.OracleConnection;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <b>DestinoOracle.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Inserta los lotes directo en las tablas con arreglos JDBC
+ *               (executeBatch) y el hint APPEND_VALUES, confirmando cada
+ *               lote. Como los ID son identidad, después de insertar los
+ *               candidatos se leen sus ID por RFC para enlazar los empleos.
+ *
+ *               Oracle solo hace la carga por ruta directa si la tabla no
+ *               tiene triggers ni llaves foráneas habilitadas; con
+ *               datos.directo=true se deshabilitan los triggers de
+ *               actualización y fk_empleo_candidato durante la carga y se
+ *               vuelven a habilitar (validando) al cerrar, aunque la carga
+ *               haya fallado. Sin eso el hint se ignora y la carga es
+ *               convencional.
+ *
+ *               Al no pasar por pkg_empleos, candidato_resumen_empleo se
+ *               recalcula por lote con sp_recalcular_resumen y
+ *               empresa_trigrama se completa al final, antes de recolectar
+ *               estadísticas.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class DestinoOracle implements DestinoDatos {
+
+    private final Connection conexion;
+    private final String esquema;
+    private final boolean directo;
+    private final PreparedStatement insertarCandidato;
+    private final PreparedStatement insertarEmpleo;
+    private final PreparedStatement idsPorRfc;
+    private final CallableStatement recalcularResumen;
+
+    public DestinoOracle(ConfiguracionDatos configuracion) throws SQLException {
+        this.esquema = configuracion.esquema();
+        this.directo = configuracion.directo();
+        this.conexion = DriverManager.getConnection(configuracion.jdbcUrl(), configuracion.usuario(),
+                configuracion.clave());
+        this.conexion.setAutoCommit(false);
+
+        try {
+            if (this.directo) {
+                ejecutar("ALTER TRIGGER " + this.esquema + ".trg_candidatos_update DISABLE",
+                        "ALTER TRIGGER " + this.esquema + ".trg_empleos_update DISABLE",
+                        "ALTER TABLE " + this.esquema + ".empleos DISABLE CONSTRAINT fk_empleo_candidato");
+            }
+            this.insertarCandidato = this.conexion.prepareStatement(
+                    "INSERT /*+ APPEND_VALUES */ INTO " + this.esquema + ".candidatos (nombres, apellidos, email, "
+                    + "fecha_nacimiento, rfc, telefono, calle, numero, colonia, ciudad, estado, pais, codigo_postal, activo) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            this.insertarEmpleo = this.conexion.prepareStatement(
+                    "INSERT /*+ APPEND_VALUES */ INTO " + this.esquema + ".empleos (candidato_id, nombre_empresa, "
+                    + "fecha_ingreso, fecha_salida, ingreso_mensual, giro_empresa, activo) VALUES (?, ?, ?, ?, ?, ?, ?)");
+            this.idsPorRfc = this.conexion.prepareStatement(
+                    "SELECT c.id, c.rfc FROM " + this.esquema + ".candidatos c "
+                    + "WHERE c.rfc IN (SELECT COLUMN_VALUE FROM TABLE(?))");
+            this.recalcularResumen = this.conexion.prepareCall(
+                    "DECLARE v_ids " + this.esquema + ".t_number_tab := ?; "
+                    + "BEGIN FOR i IN 1 .. v_ids.COUNT LOOP "
+                    + this.esquema + ".pkg_empleos.sp_recalcular_resumen(v_ids(i)); END LOOP; END;");
+        } catch (SQLException | RuntimeException e) {
+            // Sin esto la base quedaría sin triggers ni llave foránea tras un arranque fallido
+            try {
+                if (this.directo) {
+                    habilitarRestricciones();
+                }
+            } catch (SQLException suprimida) {
+                e.addSuppressed(suprimida);
+            } finally {
+                this.conexion.close();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long escribir(List<CandidatoSintetico> lote) throws SQLException {
+        String[] rfcs = new String[lote.size()];
+        for (int i = 0; i < lote.size(); i++) {
+            CandidatoSintetico c = lote.get(i);
+            rfcs[i] = c.rfc();
+            this.insertarCandidato.setString(1, c.nombres());
+            this.insertarCandidato.setString(2, c.apellidos());
+            this.insertarCandidato.setString(3, c.email());
+            this.insertarCandidato.setDate(4, Date.valueOf(c.fechaNacimiento()));
+            this.insertarCandidato.setString(5, c.rfc());
+            this.insertarCandidato.setString(6, c.telefono());
+            this.insertarCandidato.setString(7, c.calle());
+            this.insertarCandidato.setString(8, c.numero());
+            this.insertarCandidato.setString(9, c.colonia());
+            this.insertarCandidato.setString(10, c.ciudad());
+            this.insertarCandidato.setString(11, c.estado());
+            this.insertarCandidato.setString(12, c.pais());
+            this.insertarCandidato.setString(13, c.codigoPostal());
+            this.insertarCandidato.setInt(14, c.activo() ? 1 : 0);
+            this.insertarCandidato.addBatch();
+        }
+        this.insertarCandidato.executeBatch();
+        // Una tabla cargada por ruta directa no se puede leer en la misma transacción (ORA-12838)
+        this.conexion.commit();
+
+        Map<String, Long> ids = idsPorRfc(rfcs);
+        List<Long> conEmpleoActivo = new ArrayList<>();
+        long empleos = 0;
+        for (CandidatoSintetico c : lote) {
+            Long candidatoId = ids.get(c.rfc());
+            boolean activo = false;
+            for (EmpleoSintetico e : c.empleos()) {
+                this.insertarEmpleo.setLong(1, candidatoId);
+                this.insertarEmpleo.setString(2, e.nombreEmpresa());
+                this.insertarEmpleo.setDate(3, Date.valueOf(e.fechaIngreso()));
+                if (e.fechaSalida() != null) {
+                    this.insertarEmpleo.setDate(4, Date.valueOf(e.fechaSalida()));
+                } else {
+                    this.insertarEmpleo.setNull(4, Types.DATE);
+                }
+                this.insertarEmpleo.setBigDecimal(5, BigDecimal.valueOf(e.ingresoMensualCentavos(), 2));
+                this.insertarEmpleo.setString(6, e.giroEmpresa());
+                this.insertarEmpleo.setInt(7, e.activo() ? 1 : 0);
+                this.insertarEmpleo.addBatch();
+                activo |= e.activo();
+                empleos++;
+            }
+            if (activo) {
+                conEmpleoActivo.add(candidatoId);
+            }
+        }
+        if (empleos > 0) {
+            this.insertarEmpleo.executeBatch();
+            this.conexion.commit();
+        }
+
+        if (!conEmpleoActivo.isEmpty()) {
+            Array arreglo = arreglo("T_NUMBER_TAB", conEmpleoActivo.toArray());
+            try {
+                this.recalcularResumen.setArray(1, arreglo);
+                this.recalcularResumen.execute();
+            } finally {
+                arreglo.free();
+            }
+            this.conexion.commit();
+        }
+        return empleos;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            try {
+                // Mismo conjunto que la carga inicial de Script.sql, sin repetir los ya registrados
+                ejecutar("MERGE INTO " + this.esquema + ".empresa_trigrama t USING ("
+                        + "SELECT DISTINCT SUBSTR(UPPER(n.nombre_empresa), g.pos, 3) as trigrama, n.nombre_empresa "
+                        + "FROM (SELECT DISTINCT nombre_empresa FROM " + this.esquema + ".empleos) n "
+                        + "INNER JOIN (SELECT LEVEL as pos FROM dual CONNECT BY LEVEL <= 200) g "
+                        + "ON g.pos <= LENGTH(UPPER(n.nombre_empresa)) - 2) s "
+                        + "ON (t.trigrama = s.trigrama AND t.nombre_empresa = s.nombre_empresa) "
+                        + "WHEN NOT MATCHED THEN INSERT (trigrama, nombre_empresa) VALUES (s.trigrama, s.nombre_empresa)");
+                this.conexion.commit();
+            } finally {
+                // También si la carga o el MERGE fallaron: la base no debe quedar sin triggers ni llave foránea
+                if (this.directo) {
+                    habilitarRestricciones();
+                }
+            }
+
+            // Sin estadísticas nuevas el optimizador sigue planeando como si las tablas estuvieran vacías
+            for (String tabla : new String[] {"CANDIDATOS", "EMPLEOS", "CANDIDATO_RESUMEN_EMPLEO", "EMPRESA_TRIGRAMA"}) {
+                try (CallableStatement estadisticas = this.conexion.prepareCall(
+                        "BEGIN DBMS_STATS.GATHER_TABLE_STATS(?, ?, cascade => TRUE); END;")) {
+                    estadisticas.setString(1, this.esquema);
+                    estadisticas.setString(2, tabla);
+                    estadisticas.execute();
+                }
+            }
+        } finally {
+            try {
+                cerrar(this.insertarCandidato, this.insertarEmpleo, this.idsPorRfc, this.recalcularResumen);
+            } finally {
+                this.conexion.close();
+            }
+        }
+    }
+
+    /**
+     * Vuelve a habilitar los triggers y la llave foránea (validando) deshabilitados
+     * para la carga directa. Cada sentencia se intenta aunque falle otra; la primera
+     * excepción se propaga. Lo pendiente se descarta antes porque el DDL confirmaría
+     * un lote a medias.
+     */
+    private void habilitarRestricciones() throws SQLException {
+        this.conexion.rollback();
+        SQLException error = null;
+        for (String sentencia : new String[] {
+                "ALTER TRIGGER " + this.esquema + ".trg_candidatos_update ENABLE",
+                "ALTER TRIGGER " + this.esquema + ".trg_empleos_update ENABLE",
+                "ALTER TABLE " + this.esquema + ".empleos ENABLE VALIDATE CONSTRAINT fk_empleo_candidato"}) {
+            try {
+                ejecutar(sentencia);
+            } catch (SQLException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Cierra todos los statements aunque alguno falle; la primera excepción se propaga
+     */
+    private static void cerrar(Statement... statements) throws SQLException {
+        SQLException error = null;
+        for (Statement statement : statements) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private Map<String, Long> idsPorRfc(String[] rfcs) throws SQLException {
+        Map<String, Long> ids = new HashMap<>(rfcs.length * 2);
+        Array arreglo = arreglo("T_VARCHAR_TAB", rfcs);
+        try {
+            this.idsPorRfc.setArray(1, arreglo);
+            try (ResultSet rs = this.idsPorRfc.executeQuery()) {
+                while (rs.next()) {
+                    ids.put(rs.getString(2), rs.getLong(1));
+                }
+            }
+        } finally {
+            arreglo.free();
+        }
+        if (ids.size() != rfcs.length) {
+            throw new SQLException("Se insertaron " + rfcs.length + " candidatos pero se encontraron " + ids.size());
+        }
+        return ids;
+    }
+
+    private Array arreglo(String tipo, Object[] valores) throws SQLException {
+        return this.conexion.unwrap(OracleConnection.class).createOracleArray(this.esquema + "." + tipo, valores);
+    }
+
+    private void ejecutar(String... sentencias) throws SQLException {
+        try (Statement statement = this.conexion.createStatement()) {
+            for (String sentencia : sentencias) {
+                statement.execute(sentencia);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.tecnica.demo.carga.datos;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * <b>DistribucionZipf.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Muestreo de posiciones 0..n-1 con probabilidad proporcional a
+ *               1/(k+1)^s: pocas posiciones concentran la mayoría de las
+ *               muestras (empresas populares, apellidos comunes).
+ * @author: Sistema de Gestión de Candidatos
+ */
+final class DistribucionZipf {
+
+    private final double[] acumulado;
+
+    DistribucionZipf(int n, double exponente) {
+        this.acumulado = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / Math.pow(k + 1, exponente);
+            this.acumulado[k] = total;
+        }
+    }
+
+    int muestra(SplittableRandom random) {
+        double valor = random.nextDouble() * this.acumulado[this.acumulado.length - 1];
+        int indice = Arrays.binarySearch(this.acumulado, valor);
+        return Math.min(indice >= 0 ? indice : -indice - 1, this.acumulado.length - 1);
+    }
+}
@@ -0,0 +1,305 @@
+package com.tecnica.demo.carga.datos;
+
+import com.tecnica.demo.carga.datos.CandidatoSintetico.EmpleoSintetico;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * <b>GeneradorCandidatos.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Genera el candidato i de la secuencia con un generador
+ *               aleatorio propio sembrado con (semilla, i), así que cada
+ *               candidato es reproducible por sí solo y el resultado no
+ *               depende del orden ni del tamaño de lote.
+ *
+ *               - Estado ponderado por población; código postal con el
+ *                 prefijo real del estado y concentrado en pocas zonas.
+ *               - RFC de persona física: letras de apellidos y nombre,
+ *                 fecha de nacimiento y homoclave. Para que sea único, la
+ *                 homoclave sale de i módulo 36^3 y la fecha de nacimiento
+ *                 se elige entre los días congruentes con i / 36^3 módulo
+ *                 1024: hasta 47 millones de RFC distintos, también al
+ *                 agregar datos con otro desplazamiento.
+ *               - Empresa con popularidad Zipf sobre el catálogo.
+ *               - Empleos consecutivos con huecos y traslapes, el último o
+ *                 los dos últimos vigentes.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class GeneradorCandidatos {
+
+    private static final int HOMOCLAVES = 36 * 36 * 36;
+    private static final int CLASES_NACIMIENTO = 1024;
+    private static final int ZONAS_POR_ESTADO = 400;
+    private static final DateTimeFormatter FECHA_RFC = DateTimeFormatter.ofPattern("yyMMdd");
+
+    /* nombre, ciudad, lada, primer y último prefijo de código postal, población (millones) */
+    private static final Object[][] ESTADOS = {
+        {"Ciudad de México", "Ciudad de México", "55", 1, 16, 9.2},
+        {"Estado de México", "Toluca", "722", 50, 57, 17.0},
+        {"Jalisco", "Guadalajara", "33", 44, 49, 8.3},
+        {"Veracruz", "Veracruz", "229", 91, 96, 8.1},
+        {"Puebla", "Puebla", "222", 72, 75, 6.6},
+        {"Guanajuato", "León", "477", 36, 38, 6.2},
+        {"Nuevo León", "Monterrey", "81", 64, 67, 5.8},
+        {"Chiapas", "Tuxtla Gutiérrez", "961", 29, 30, 5.5},
+        {"Michoacán", "Morelia", "443", 58, 61, 4.7},
+        {"Oaxaca", "Oaxaca", "951", 68, 71, 4.1},
+        {"Baja California", "Tijuana", "664", 21, 22, 3.8},
+        {"Chihuahua", "Chihuahua", "614", 31, 33, 3.7},
+        {"Coahuila", "Saltillo", "844", 25, 27, 3.1},
+        {"Sonora", "Hermosillo", "662", 83, 85, 2.9},
+        {"Querétaro", "Querétaro", "442", 76, 76, 2.4},
+        {"Yucatán", "Mérida", "999", 97, 97, 2.3}
+    };
+
+    private static final String[] NOMBRES_MUJER = {"María Guadalupe", "Guadalupe", "María", "Juana",
+        "Margarita", "Verónica", "Leticia", "Rosa María", "Josefina", "Alejandra", "Patricia", "Gabriela",
+        "Adriana", "Sofía", "Fernanda", "Valeria", "Daniela", "Ximena", "Andrea", "Mariana"};
+    private static final String[] NOMBRES_HOMBRE = {"José", "José Luis", "Juan", "Miguel Ángel", "Jesús",
+        "Francisco", "Alejandro", "Pedro", "Antonio", "Manuel", "Ricardo", "Fernando", "Jorge", "Carlos",
+        "Luis", "Roberto", "Eduardo", "Santiago", "Diego", "Emiliano"};
+    private static final String[] APELLIDOS = {"Hernández", "García", "Martínez", "López", "González",
+        "Pérez", "Rodríguez", "Sánchez", "Ramírez", "Cruz", "Flores", "Gómez", "Morales", "Vázquez",
+        "Reyes", "Jiménez", "Torres", "Díaz", "Gutiérrez", "Ruiz", "Mendoza", "Aguilar", "Ortiz", "Moreno",
+        "Castillo", "Romero", "Álvarez", "Méndez", "Chávez", "Rivera", "Juárez", "Ramos", "Domínguez",
+        "Herrera", "Medina", "Castro", "Vargas", "Guzmán", "Velázquez", "Muñoz", "Rojas", "Contreras",
+        "Salazar", "Luna", "Ortega", "Santiago", "Guerrero", "Estrada", "Bautista", "Cortés"};
+    private static final String[] CALLES = {"Av. Juárez", "Av. Hidalgo", "Calle Morelos", "Av. Insurgentes",
+        "Calle 5 de Mayo", "Av. Revolución", "Calle Allende", "Av. Reforma", "Calle Zaragoza", "Av. Independencia"};
+    private static final String[] COLONIAS = {"Centro", "Del Valle", "Roma Norte", "Jardines", "Las Flores",
+        "San Miguel", "La Joya", "Santa María", "Industrial", "Lomas", "El Mirador", "Obrera", "Providencia",
+        "Los Pinos", "San Juan", "Residencial del Parque"};
+    private static final String[] DOMINIOS = {"gmail.com", "hotmail.com", "outlook.com", "yahoo.com.mx",
+        "icloud.com", "prodigy.net.mx"};
+    private static final String[] GIROS = {"Comercio", "Manufactura", "Servicios financieros", "Tecnología",
+        "Construcción", "Logística", "Salud", "Educación", "Telecomunicaciones", "Alimentos"};
+    /* Empresas más frecuentes; el resto del catálogo se arma con prefijo + raíz */
+    private static final String[] EMPRESAS_GRANDES = {"Walmart de México", "FEMSA", "Grupo Bimbo", "BBVA México",
+        "Banorte", "América Móvil", "Coppel", "Liverpool", "Cemex", "Grupo Modelo", "Soriana", "Santander México",
+        "Oxxo", "Elektra", "Grupo Salinas", "Televisa", "Banamex", "Mabe", "Alsea", "Grupo Lala"};
+    private static final String[] PREFIJOS = {"Grupo", "Servicios", "Comercializadora", "Industrias",
+        "Consultores", "Distribuidora", "Tecnologías", "Constructora", "Transportes", "Corporativo"};
+    private static final String[] RAICES = {"Azteca", "del Norte", "del Pacífico", "del Bajío", "Peninsular",
+        "Occidente", "Integral", "Nacional", "Global", "Regional", "Metropolitana", "del Golfo", "Sierra Madre",
+        "Anáhuac", "Continental", "del Sureste", "Atlas", "Nova", "Vértice", "Horizonte"};
+    /* Número de empleos por candidato: peso de 0, 1, 2, ... */
+    private static final int[] PESO_EMPLEOS = {8, 22, 25, 20, 13, 7, 5};
+
+    private final long semilla;
+    private final LocalDate fechaCorte;
+    private final LocalDate nacimientoMinimo;
+    private final int diasPorClase;
+    private final double[] pesoEstados;
+    private final int pesoTotalEmpleos;
+    private final String[] empresas;
+    private final String[] giroEmpresa;
+    private final DistribucionZipf zipfEmpresas;
+    private final DistribucionZipf zipfApellidos;
+    private final DistribucionZipf zipfNombres;
+    private final DistribucionZipf zipfZonas;
+
+    /**
+     * @param configuracion semilla, fecha de corte, catálogo y total a generar
+     * @throws IllegalArgumentException si no caben tantos RFC distintos en el rango de fechas
+     */
+    public GeneradorCandidatos(ConfiguracionDatos configuracion) {
+        this.semilla = configuracion.semilla();
+        this.fechaCorte = configuracion.fechaCorte();
+        // Edades de 18 a 65 años a la fecha de corte
+        this.nacimientoMinimo = this.fechaCorte.minusYears(65);
+        int dias = (int) (this.fechaCorte.minusYears(18).toEpochDay() - this.nacimientoMinimo.toEpochDay());
+        long ultimo = configuracion.desplazamiento() + configuracion.candidatos();
+        if (ultimo > (long) HOMOCLAVES * CLASES_NACIMIENTO) {
+            throw new IllegalArgumentException("Demasiados candidatos para generar RFC únicos: " + ultimo);
+        }
+        this.diasPorClase = dias / CLASES_NACIMIENTO;
+
+        this.pesoEstados = new double[ESTADOS.length];
+        double total = 0;
+        for (int i = 0; i < ESTADOS.length; i++) {
+            total += (double) ESTADOS[i][5];
+            this.pesoEstados[i] = total;
+        }
+        int totalEmpleos = 0;
+        for (int peso : PESO_EMPLEOS) {
+            totalEmpleos += peso;
+        }
+        this.pesoTotalEmpleos = totalEmpleos;
+
+        this.empresas = new String[configuracion.empresas()];
+        this.giroEmpresa = new String[configuracion.empresas()];
+        for (int k = 0; k < this.empresas.length; k++) {
+            this.empresas[k] = k < EMPRESAS_GRANDES.length
+                    ? EMPRESAS_GRANDES[k]
+                    : PREFIJOS[k % PREFIJOS.length] + " " + RAICES[(k / PREFIJOS.length) % RAICES.length]
+                        + (k >= PREFIJOS.length * RAICES.length ? " " + (k / (PREFIJOS.length * RAICES.length)) : "")
+                        + " S.A. de C.V.";
+            this.giroEmpresa[k] = GIROS[Math.floorMod(this.empresas[k].hashCode(), GIROS.length)];
+        }
+        this.zipfEmpresas = new DistribucionZipf(this.empresas.length, 1.07);
+        this.zipfApellidos = new DistribucionZipf(APELLIDOS.length, 0.9);
+        this.zipfNombres = new DistribucionZipf(NOMBRES_MUJER.length, 0.8);
+        this.zipfZonas = new DistribucionZipf(ZONAS_POR_ESTADO, 1.0);
+    }
+
+    /**
+     * Genera el candidato de la posición indicada
+     *
+     * @param indice posición en la secuencia (desplazamiento incluido)
+     * @return candidato con sus empleos
+     */
+    public CandidatoSintetico generar(long indice) {
+        SplittableRandom random = new SplittableRandom(mezclar(this.semilla, indice));
+
+        String nombre = (random.nextBoolean() ? NOMBRES_MUJER : NOMBRES_HOMBRE)[this.zipfNombres.muestra(random)];
+        String paterno = APELLIDOS[this.zipfApellidos.muestra(random)];
+        String materno = APELLIDOS[this.zipfApellidos.muestra(random)];
+
+        // Más candidatos jóvenes que mayores: sqrt sesga hacia fechas recientes
+        int clase = (int) (indice / HOMOCLAVES);
+        int dia = (int) (this.diasPorClase * Math.sqrt(random.nextDouble()));
+        LocalDate nacimiento = this.nacimientoMinimo.plusDays((long) dia * CLASES_NACIMIENTO + clase);
+
+        int estado = estado(random);
+        int zona = this.zipfZonas.muestra(random);
+        Object[] datosEstado = ESTADOS[estado];
+        int primerPrefijo = (int) datosEstado[3];
+        int prefijos = (int) datosEstado[4] - primerPrefijo + 1;
+        String codigoPostal = String.format("%02d%03d", primerPrefijo + zona % prefijos,
+                (zona * 389 + estado * 17) % 1000);
+        String lada = (String) datosEstado[2];
+
+        return new CandidatoSintetico(
+                indice,
+                nombre,
+                paterno + " " + materno,
+                (simple(nombre.split(" ")[0]) + "." + simple(paterno) + "." + indice + "@"
+                        + DOMINIOS[random.nextInt(DOMINIOS.length)]).toLowerCase(Locale.ROOT),
+                nacimiento,
+                rfc(paterno, materno, nombre, nacimiento, indice),
+                lada + digitos(random, 10 - lada.length()),
+                CALLES[random.nextInt(CALLES.length)],
+                String.valueOf(1 + random.nextInt(2_500)),
+                COLONIAS[(zona * 7 + estado) % COLONIAS.length],
+                (String) datosEstado[1],
+                (String) datosEstado[0],
+                "México",
+                codigoPostal,
+                random.nextInt(100) >= 2,
+                empleos(random, nacimiento));
+    }
+
+    /**
+     * Trayectoria laboral desde los 18-24 años: cada empleo dura alrededor de
+     * dos años y medio, el siguiente empieza tras un hueco o se traslapa con
+     * el anterior; el sueldo crece con los años de experiencia.
+     */
+    private List<EmpleoSintetico> empleos(SplittableRandom random, LocalDate nacimiento) {
+        int total = numeroEmpleos(random);
+        List<EmpleoSintetico> empleos = new ArrayList<>(total);
+        LocalDate inicioCarrera = nacimiento.plusYears(18).plusDays(random.nextInt(6 * 365));
+        LocalDate ingreso = inicioCarrera;
+        double sueldoBase = Math.exp(Math.log(11_000) + 0.5 * random.nextGaussian());
+
+        for (int j = 0; j < total && ingreso.isBefore(this.fechaCorte.minusDays(30)); j++) {
+            long meses = Math.max(1, Math.round(Math.exp(Math.log(30) + 0.8 * random.nextGaussian())));
+            LocalDate salida = ingreso.plusMonths(meses);
+            boolean ultimo = j == total - 1;
+            if (!salida.isBefore(this.fechaCorte) || (ultimo && random.nextInt(100) < 55)) {
+                salida = null;
+            }
+
+            int empresa = this.zipfEmpresas.muestra(random);
+            double anios = (ingreso.toEpochDay() - inicioCarrera.toEpochDay()) / 365.0;
+            long centavos = Math.round(sueldoBase * (1 + 0.05 * anios) / 50) * 50 * 100;
+            empleos.add(new EmpleoSintetico(this.empresas[empresa], ingreso, salida, Math.max(centavos, 100_000),
+                    this.giroEmpresa[empresa], random.nextInt(100) >= 3));
+
+            if (salida == null) {
+                // Algunos tienen dos empleos vigentes a la vez
+                if (random.nextInt(100) >= 15) {
+                    break;
+                }
+                ingreso = ingreso.plusMonths(1 + random.nextInt(24));
+            } else {
+                // 20% se traslapa con el anterior hasta 6 meses; el resto deja un hueco de hasta un año
+                ingreso = random.nextInt(100) < 20
+                        ? salida.minusDays(1 + random.nextInt(180))
+                        : salida.plusDays(random.nextInt(365));
+            }
+        }
+        return empleos;
+    }
+
+    private int numeroEmpleos(SplittableRandom random) {
+        int valor = random.nextInt(this.pesoTotalEmpleos);
+        for (int k = 0; k < PESO_EMPLEOS.length; k++) {
+            valor -= PESO_EMPLEOS[k];
+            if (valor < 0) {
+                return k;
+            }
+        }
+        return PESO_EMPLEOS.length - 1;
+    }
+
+    private int estado(SplittableRandom random) {
+        double valor = random.nextDouble() * this.pesoEstados[this.pesoEstados.length - 1];
+        for (int i = 0; i < this.pesoEstados.length; i++) {
+            if (valor < this.pesoEstados[i]) {
+                return i;
+            }
+        }
+        return this.pesoEstados.length - 1;
+    }
+
+    /**
+     * Primera letra y primera vocal interna del paterno, primera del materno y
+     * del nombre, fecha de nacimiento y homoclave
+     */
+    private static String rfc(String paterno, String materno, String nombre, LocalDate nacimiento, long indice) {
+        String ap = simple(paterno).toUpperCase(Locale.ROOT);
+        char vocal = 'X';
+        for (int i = 1; i < ap.length(); i++) {
+            if ("AEIOU".indexOf(ap.charAt(i)) >= 0) {
+                vocal = ap.charAt(i);
+                break;
+            }
+        }
+        String homoclave = Integer.toString((int) (indice % HOMOCLAVES), 36).toUpperCase(Locale.ROOT);
+        return "" + ap.charAt(0) + vocal + simple(materno).toUpperCase(Locale.ROOT).charAt(0)
+                + simple(nombre).toUpperCase(Locale.ROOT).charAt(0) + nacimiento.format(FECHA_RFC)
+                + "000".substring(homoclave.length()) + homoclave;
+    }
+
+    /**
+     * Sin acentos ni espacios; la Ñ queda como N
+     */
+    private static String simple(String texto) {
+        return Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("[^A-Za-z]", "");
+    }
+
+    private static String digitos(SplittableRandom random, int cuantos) {
+        StringBuilder texto = new StringBuilder(cuantos);
+        for (int i = 0; i < cuantos; i++) {
+            texto.append((char) ('0' + random.nextInt(10)));
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Semilla independiente por candidato (finalizador de SplitMix64)
+     */
+    private static long mezclar(long semilla, long indice) {
+        long z = semilla * 0x9E3779B97F4A7C15L + indice;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
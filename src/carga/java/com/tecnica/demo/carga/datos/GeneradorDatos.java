@@ -0,0 +1,72 @@
+package com.tecnica.demo.carga.datos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>GeneradorDatos.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Genera un conjunto de candidatos y empleos reproducible para
+ *               pruebas de rendimiento y lo escribe por lotes en CSV o en la
+ *               base. Solo se mantiene en memoria el lote en curso, así que
+ *               el tiempo crece linealmente con el número de filas.
+ *
+ *               mvn -Pcarga compile exec:java@generar-datos -Ddatos.candidatos=1000000
+ *               mvn -Pcarga compile exec:java@generar-datos -Ddatos.destino=oracle -Ddatos.clave=...
+ *
+ *               Propiedades (-Ddatos.*): semilla, candidatos, desplazamiento
+ *               (primer índice, para agregar a un conjunto existente),
+ *               fecha-corte, empresas (tamaño del catálogo), lote, destino
+ *               (csv|oracle), salida (target/datos), url, usuario, clave,
+ *               esquema (TEST) y directo (carga por ruta directa).
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class GeneradorDatos {
+
+    private static final int REPORTES = 20;
+
+    private GeneradorDatos() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracionDatos configuracion = ConfiguracionDatos.desdePropiedades();
+        GeneradorCandidatos generador = new GeneradorCandidatos(configuracion);
+
+        long inicio = System.nanoTime();
+        long primero = configuracion.desplazamiento();
+        long fin = primero + configuracion.candidatos();
+        long cadaReporte = Math.max(configuracion.lote(), configuracion.candidatos() / REPORTES);
+        long siguienteReporte = primero + cadaReporte;
+        long empleos = 0;
+
+        try (DestinoDatos destino = ConfiguracionDatos.DESTINO_ORACLE.equals(configuracion.destino())
+                ? new DestinoOracle(configuracion)
+                : new DestinoCsv(configuracion.salida())) {
+            List<CandidatoSintetico> lote = new ArrayList<>(configuracion.lote());
+            for (long indice = primero; indice < fin; indice++) {
+                lote.add(generador.generar(indice));
+                if (lote.size() == configuracion.lote() || indice == fin - 1) {
+                    empleos += destino.escribir(lote);
+                    lote.clear();
+                    if (indice + 1 >= siguienteReporte || indice == fin - 1) {
+                        reportar(indice + 1 - primero, empleos, inicio);
+                        siguienteReporte += cadaReporte;
+                    }
+                }
+            }
+            System.out.println("Cerrando destino...");
+        }
+        System.out.printf("Listo: %d candidatos y %d empleos en %s (semilla %d)%n", configuracion.candidatos(),
+                empleos, ConfiguracionDatos.DESTINO_ORACLE.equals(configuracion.destino())
+                        ? configuracion.jdbcUrl() : configuracion.salida().toAbsolutePath(),
+                configuracion.semilla());
+    }
+
+    private static void reportar(long candidatos, long empleos, long inicio) {
+        double segundos = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)) / 1_000.0;
+        System.out.printf("%,d candidatos, %,d empleos, %.1fs (%,.0f filas/s)%n", candidatos, empleos, segundos,
+                (candidatos + empleos) / segundos);
+    }
+}
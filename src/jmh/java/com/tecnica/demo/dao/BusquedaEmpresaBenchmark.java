@@ -0,0 +1,157 @@
+package com.tecnica.demo.dao;
+
+import oracle.jdbc.OracleTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>BusquedaEmpresaBenchmark.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Búsqueda por subcadena de empresa contra una base Oracle real:
+ *               consulta anterior con UPPER(...) LIKE '%x%' (recorre empleos)
+ *               contra fn_candidatos_por_empresa resuelta con empresa_trigrama.
+ *               Los patrones cubren uno selectivo, uno que coincide con todas
+ *               las empresas y uno corto que cae en el recorrido completo.
+ *
+ *               La conexión se toma de JMH_DB_URL, JMH_DB_USER y
+ *               JMH_DB_PASSWORD. Con JMH_DB_SEMBRAR=true se insertan una vez
+ *               200,000 candidatos con 4 empleos cada uno entre 20,000
+ *               empresas (correos jmh*@carga.test); usar solo en bases de
+ *               desarrollo.
+ *
+ *               mvn -Pbenchmark compile exec:exec -Djmh.filtro=BusquedaEmpresa
+ * @author: Sistema de Gestión de Candidatos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusquedaEmpresaBenchmark {
+
+    private static final int CANDIDATOS = 200_000;
+    private static final int EMPRESAS = 20_000;
+
+    private static final String SQL_LIKE = "SELECT DISTINCT c.*, e.nombre_empresa, e.fecha_ingreso, e.fecha_salida, "
+        + "e.ingreso_mensual, e.giro_empresa "
+        + "FROM TEST.candidatos c INNER JOIN TEST.empleos e ON c.id = e.candidato_id "
+        + "WHERE UPPER(e.nombre_empresa) LIKE UPPER('%' || ? || '%') AND c.activo = 1 AND e.activo = 1 "
+        + "ORDER BY c.apellidos, c.nombres, c.id";
+
+    private static final String CALL_TRIGRAMAS = "{? = call TEST.PKG_EMPLEOS.FN_CANDIDATOS_POR_EMPRESA(?)}";
+
+    private static final String SQL_SEMBRADO = "SELECT COUNT(*) FROM TEST.candidatos WHERE email = 'jmh1@carga.test'";
+
+    private static final String[] SQL_SEMBRAR = {
+        "INSERT INTO TEST.candidatos (nombres, apellidos, email, fecha_nacimiento, rfc, estado, codigo_postal) "
+            + "SELECT 'Nombre ' || LEVEL, 'Apellido ' || MOD(LEVEL, 5000), 'jmh' || LEVEL || '@carga.test', "
+            + "DATE '1975-01-01' + MOD(LEVEL, 12000), 'JMH' || LPAD(LEVEL, 10, '0'), 'CDMX', '06000' "
+            + "FROM dual CONNECT BY LEVEL <= " + CANDIDATOS,
+        "INSERT INTO TEST.empleos (candidato_id, nombre_empresa, fecha_ingreso, fecha_salida, ingreso_mensual, giro_empresa) "
+            + "SELECT c.id, 'Empresa ' || MOD(c.id * 7 + k.n, " + EMPRESAS + ") || ' S.A. de C.V.', "
+            + "DATE '2008-01-01' + k.n * 700, CASE WHEN k.n < 4 THEN DATE '2008-01-01' + k.n * 700 + 650 END, "
+            + "8000 + MOD(c.id, 40000), 'Servicios' "
+            + "FROM TEST.candidatos c CROSS JOIN (SELECT LEVEL as n FROM dual CONNECT BY LEVEL <= 4) k "
+            + "WHERE c.email LIKE 'jmh%@carga.test'",
+        "INSERT INTO TEST.empresa_trigrama (trigrama, nombre_empresa) "
+            + "SELECT DISTINCT SUBSTR(UPPER(n.nombre_empresa), g.pos, 3), n.nombre_empresa "
+            + "FROM (SELECT DISTINCT nombre_empresa FROM TEST.empleos) n "
+            + "INNER JOIN (SELECT LEVEL as pos FROM dual CONNECT BY LEVEL <= 200) g "
+            + "ON g.pos <= LENGTH(UPPER(n.nombre_empresa)) - 2 "
+            + "WHERE NOT EXISTS (SELECT 1 FROM TEST.empresa_trigrama t "
+            + "WHERE t.trigrama = SUBSTR(UPPER(n.nombre_empresa), g.pos, 3) AND t.nombre_empresa = n.nombre_empresa)"
+    };
+
+    @Param({"empresa 1234 ", "s.a. de", "12"})
+    private String patron;
+
+    private Connection conexion;
+    private PreparedStatement like;
+    private CallableStatement trigramas;
+
+    @Setup
+    public void conectar() throws SQLException {
+        this.conexion = DriverManager.getConnection(
+            System.getenv().getOrDefault("JMH_DB_URL", "jdbc:oracle:thin:@//localhost:1521/ORCLCDB"),
+            System.getenv().getOrDefault("JMH_DB_USER", "system"),
+            System.getenv("JMH_DB_PASSWORD"));
+
+        if (Boolean.parseBoolean(System.getenv("JMH_DB_SEMBRAR"))) {
+            sembrar();
+        }
+
+        this.like = this.conexion.prepareStatement(SQL_LIKE);
+        this.like.setFetchSize(500);
+        this.trigramas = this.conexion.prepareCall(CALL_TRIGRAMAS);
+        this.trigramas.registerOutParameter(1, OracleTypes.CURSOR);
+    }
+
+    @TearDown
+    public void cerrar() throws SQLException {
+        this.conexion.close();
+    }
+
+    @Benchmark
+    public long likeSobreEmpleos() throws SQLException {
+        this.like.setString(1, this.patron);
+        try (ResultSet rs = this.like.executeQuery()) {
+            return drenar(rs);
+        }
+    }
+
+    @Benchmark
+    public long trigramas() throws SQLException {
+        this.trigramas.setString(2, this.patron);
+        this.trigramas.execute();
+        try (ResultSet rs = (ResultSet) this.trigramas.getObject(1)) {
+            rs.setFetchSize(500);
+            return drenar(rs);
+        }
+    }
+
+    private void sembrar() throws SQLException {
+        try (Statement st = this.conexion.createStatement(); ResultSet rs = st.executeQuery(SQL_SEMBRADO)) {
+            rs.next();
+            if (rs.getInt(1) > 0) {
+                return;
+            }
+        }
+        try (Statement st = this.conexion.createStatement()) {
+            for (String sql : SQL_SEMBRAR) {
+                st.executeUpdate(sql);
+            }
+            st.execute("BEGIN DBMS_STATS.GATHER_SCHEMA_STATS('TEST'); END;");
+        }
+        this.conexion.commit();
+    }
+
+    private static long drenar(ResultSet rs) throws SQLException {
+        long filas = 0;
+        while (rs.next()) {
+            filas += rs.getLong(1);
+        }
+        return filas;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.tecnica.demo.dto.registry;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>ValidacionCandidatoBenchmark.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Costo de Bean Validation (@Valid) sobre CrearCandidatoRequest
+ *               como lo hace Spring MVC en POST /candidatos: petición válida,
+ *               RFC que no cumple el patrón y petición con empleos anidados.
+ *
+ *               mvn -Pbenchmark compile exec:exec -Djmh.filtro=ValidacionCandidato
+ * @author: Sistema de Gestión de Candidatos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidacionCandidatoBenchmark {
+
+    private ValidatorFactory fabrica;
+    private Validator validador;
+
+    private CrearCandidatoRequest valido;
+    private CrearCandidatoRequest rfcInvalido;
+    private CrearCandidatoRequest conEmpleos;
+
+    @Setup
+    public void preparar() {
+        this.fabrica = Validation.buildDefaultValidatorFactory();
+        this.validador = this.fabrica.getValidator();
+
+        this.valido = candidato("GODE561231GR8");
+        this.rfcInvalido = candidato("GODE56123");
+
+        this.conEmpleos = candidato("GODE561231GR8");
+        CrearEmpleoRequest empleo = new CrearEmpleoRequest();
+        empleo.setNombreEmpresa("Empresa");
+        empleo.setFechaIngreso(LocalDate.of(2018, 1, 8));
+        empleo.setIngresoMensual(new BigDecimal("25000.00"));
+        empleo.setGiroEmpresa("Servicios");
+        this.conEmpleos.setEmpleos(List.of(empleo, empleo, empleo));
+    }
+
+    @TearDown
+    public void cerrar() {
+        this.fabrica.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CrearCandidatoRequest>> valido() {
+        return this.validador.validate(this.valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CrearCandidatoRequest>> rfcInvalido() {
+        return this.validador.validate(this.rfcInvalido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CrearCandidatoRequest>> conEmpleos() {
+        return this.validador.validate(this.conEmpleos);
+    }
+
+    private static CrearCandidatoRequest candidato(String rfc) {
+        CrearCandidatoRequest request = new CrearCandidatoRequest();
+        request.setNombres("Juan");
+        request.setApellidos("Pérez López");
+        request.setEmail("juan.perez@correo.com");
+        request.setFechaNacimiento(LocalDate.of(1956, 12, 31));
+        request.setRfc(rfc);
+        request.setTelefono("5512345678");
+        request.setCalle("Reforma");
+        request.setNumero("100");
+        request.setColonia("Centro");
+        request.setCiudad("CDMX");
+        request.setEstado("CDMX");
+        request.setPais("México");
+        request.setCodigoPostal("06000");
+        return request;
+    }
+
+}
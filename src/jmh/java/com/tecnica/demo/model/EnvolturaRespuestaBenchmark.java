@@ -0,0 +1,71 @@
+package com.tecnica.demo.model;
+
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.util.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>EnvolturaRespuestaBenchmark.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Costo de las envolturas que arma cada petición: Result en el
+ *               servicio y ApiResponse en el controlador (incluye el
+ *               LocalDateTime.now() del timestamp), en éxito y en error.
+ *
+ *               mvn -Pbenchmark compile exec:exec -Djmh.filtro=EnvolturaRespuesta
+ * @author: Sistema de Gestión de Candidatos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnvolturaRespuestaBenchmark {
+
+    private List<CandidatoDto> candidatos;
+    private String error;
+
+    @Setup
+    public void preparar() {
+        CandidatoDto candidato = new CandidatoDto();
+        candidato.setId(1L);
+        this.candidatos = List.of(candidato);
+        this.error = "Candidato no encontrado con ID: 1";
+    }
+
+    @Benchmark
+    public Result<List<CandidatoDto>> resultExito() {
+        return Result.success(this.candidatos);
+    }
+
+    @Benchmark
+    public Result<List<CandidatoDto>> resultFalla() {
+        return Result.failure(this.error);
+    }
+
+    @Benchmark
+    public ApiResponse<List<CandidatoDto>> apiResponseExito() {
+        Result<List<CandidatoDto>> result = Result.success(this.candidatos);
+        return ApiResponse.success(result.getData(), "Candidatos obtenidos exitosamente");
+    }
+
+    @Benchmark
+    public ApiResponse<List<CandidatoDto>> apiResponseError() {
+        Result<List<CandidatoDto>> result = Result.failure(this.error);
+        return ApiResponse.error(404, "Candidato no encontrado", result.getError(), "/api/v1/candidatos/1");
+    }
+
+}
@@ -9,13 +9,14 @@ import java.sql.SQLException;
 import java.math.BigDecimal;
 
 /**
- * <b>CandidatoEmpleoRowMapper.java</b>
+ * <b>CandidatoEmpleoRowMapperLegado.java</b>
  *
  * @version:  1.0
- * @descripcion: RowMapper para mapear resultados de candidatos con empleos
+ * @descripcion: Copia del mapper anterior (búsqueda por nombre y hasColumn por fila),
+ *               se conserva solo como línea base del benchmark
  * @author: Sistema de Gestión de Candidatos
  */
-public class CandidatoEmpleoRowMapper implements RowMapper<CandidatoDto> {
+public class CandidatoEmpleoRowMapperLegado implements RowMapper<CandidatoDto> {
 
     @Override
     public CandidatoDto mapRow(ResultSet rs, int rowNum) throws SQLException {
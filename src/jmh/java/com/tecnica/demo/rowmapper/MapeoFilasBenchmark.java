@@ -0,0 +1,110 @@
+package com.tecnica.demo.rowmapper;
+
+import com.tecnica.demo.dto.CandidatoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>MapeoFilasBenchmark.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Costo de mapeo por fila del cursor de fn_candidatos_ingreso_mayor:
+ *               mapper anterior (por nombre, con hasColumn) contra el mapper
+ *               con columnas resueltas una vez por cursor. Incluye
+ *               CandidatoExtractor sobre el cursor de sp_listar_candidatos.
+ *
+ *               mvn -Pbenchmark compile exec:exec -Djmh.filtro=MapeoFilas
+ * @author: Sistema de Gestión de Candidatos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapeoFilasBenchmark {
+
+    private static final int FILAS = 1_000;
+
+    private static final String[] COLUMNAS = {
+        "ID", "NOMBRES", "APELLIDOS", "EMAIL", "FECHA_NACIMIENTO", "RFC", "TELEFONO", "CALLE", "NUMERO",
+        "COLONIA", "CIUDAD", "ESTADO", "PAIS", "CODIGO_POSTAL", "FECHA_CREACION", "FECHA_ACTUALIZACION",
+        "ACTIVO", "NOMBRE_EMPRESA", "INGRESO_MENSUAL", "FECHA_INGRESO", "FECHA_SALIDA"
+    };
+
+    /* Columnas de candidatos (SELECT * FROM candidatos) */
+    private static final int COLUMNAS_CANDIDATO = 17;
+
+    private ResultSetSintetico cursor;
+    private ResultSetSintetico cursorCandidatos;
+    private final CandidatoEmpleoRowMapperLegado legado = new CandidatoEmpleoRowMapperLegado();
+    private final CandidatoEmpleoExtractor indexado = new CandidatoEmpleoExtractor();
+    private final CandidatoExtractor candidatos = new CandidatoExtractor();
+
+    @Setup
+    public void preparar() {
+        Object[][] filas = new Object[FILAS][];
+        Date nacimiento = Date.valueOf(LocalDate.of(1990, 5, 17));
+        Date ingreso = Date.valueOf(LocalDate.of(2018, 1, 8));
+
+        for (int i = 0; i < FILAS; i++) {
+            filas[i] = new Object[] {
+                (long) i + 1, "Nombre " + i, "Apellido " + i, "candidato" + i + "@correo.com", nacimiento,
+                "RFC" + i, "5512345678", "Reforma", "100", "Centro", "CDMX", "CDMX", "México", "06000",
+                null, null, 1, "Empresa " + (i % 50), new BigDecimal("25000.00"), ingreso, i % 3 == 0 ? null : ingreso
+            };
+        }
+        this.cursor = new ResultSetSintetico(COLUMNAS, filas);
+
+        Object[][] filasCandidatos = new Object[FILAS][];
+        for (int i = 0; i < FILAS; i++) {
+            filasCandidatos[i] = Arrays.copyOf(filas[i], COLUMNAS_CANDIDATO);
+        }
+        this.cursorCandidatos = new ResultSetSintetico(Arrays.copyOf(COLUMNAS, COLUMNAS_CANDIDATO), filasCandidatos);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public List<CandidatoDto> legadoPorNombre() throws SQLException {
+        ResultSet rs = this.cursor.abrir();
+        List<CandidatoDto> candidatos = new ArrayList<>();
+        int fila = 0;
+
+        while (rs.next()) {
+            candidatos.add(this.legado.mapRow(rs, fila++));
+        }
+        return candidatos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public List<CandidatoDto> indexadoPorMetaData() throws SQLException {
+        return this.indexado.extractData(this.cursor.abrir());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public List<CandidatoDto> candidatoExtractor() throws SQLException {
+        return this.candidatos.extractData(this.cursorCandidatos.abrir());
+    }
+
+}
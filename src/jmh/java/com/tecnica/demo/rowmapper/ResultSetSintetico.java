@@ -0,0 +1,111 @@
+package com.tecnica.demo.rowmapper;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <b>ResultSetSintetico.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: ResultSet en memoria para medir el costo de mapeo sin red ni
+ *               driver. findColumn lanza SQLException para columnas ausentes,
+ *               igual que el driver de Oracle.
+ * @author: Sistema de Gestión de Candidatos
+ */
+final class ResultSetSintetico {
+
+    private final String[] columnas;
+    private final Object[][] filas;
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    ResultSetSintetico(String[] columnas, Object[][] filas) {
+        this.columnas = columnas;
+        this.filas = filas;
+        for (int i = 0; i < columnas.length; i++) {
+            this.indices.putIfAbsent(columnas[i].toUpperCase(Locale.ROOT), i + 1);
+        }
+    }
+
+    /**
+     * Abre un cursor nuevo, posicionado antes de la primera fila
+     */
+    ResultSet abrir() {
+        int[] fila = {-1};
+        boolean[] nulo = {false};
+        ResultSetMetaData metaData = metaData();
+
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, metodo, args) -> {
+                    switch (metodo.getName()) {
+                        case "next":
+                            return ++fila[0] < this.filas.length;
+                        case "getMetaData":
+                            return metaData;
+                        case "findColumn":
+                            return buscar((String) args[0]);
+                        case "wasNull":
+                            return nulo[0];
+                        case "close":
+                            return null;
+                        default:
+                            break;
+                    }
+                    int indice = args[0] instanceof String nombre ? buscar(nombre) : (Integer) args[0];
+                    Object valor = this.filas[fila[0]][indice - 1];
+                    nulo[0] = valor == null;
+                    return convertir(metodo.getName(), valor);
+                });
+    }
+
+    private int buscar(String columna) throws SQLException {
+        Integer indice = this.indices.get(columna.toUpperCase(Locale.ROOT));
+        if (indice == null) {
+            throw new SQLException("Nombre de columna no válido: " + columna);
+        }
+        return indice;
+    }
+
+    private static Object convertir(String metodo, Object valor) {
+        switch (metodo) {
+            case "getLong":
+                return valor == null ? 0L : ((Number) valor).longValue();
+            case "getInt":
+                return valor == null ? 0 : ((Number) valor).intValue();
+            case "getDouble":
+                return valor == null ? 0d : ((Number) valor).doubleValue();
+            case "getBigDecimal":
+                return valor == null ? null : new BigDecimal(valor.toString());
+            case "getString":
+                return valor == null ? null : valor.toString();
+            case "getDate":
+                return (Date) valor;
+            case "getObject":
+                return valor;
+            default:
+                throw new UnsupportedOperationException(metodo);
+        }
+    }
+
+    private ResultSetMetaData metaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[] {ResultSetMetaData.class}, (proxy, metodo, args) -> {
+                    switch (metodo.getName()) {
+                        case "getColumnCount":
+                            return this.columnas.length;
+                        case "getColumnLabel":
+                        case "getColumnName":
+                            return this.columnas[(Integer) args[0] - 1];
+                        default:
+                            throw new UnsupportedOperationException(metodo.getName());
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.tecnica.demo.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.tecnica.demo.config.json.CodecJson;
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.EmpleoDto;
+import com.tecnica.demo.model.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>SerializacionJsonBenchmark.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Costo de serializar una respuesta ApiResponse con candidatos
+ *               (cada uno con 3 empleos): ObjectMapper nuevo por llamada (como
+ *               hacía Converters), ObjectMapper compartido con reflexión (camino
+ *               por defecto de Spring MVC) y CodecJson con Blackbird y
+ *               ObjectWriter por tipo.
+ *
+ *               mvn -Pbenchmark compile exec:exec -Djmh.filtro=SerializacionJson
+ * @author: Sistema de Gestión de Candidatos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializacionJsonBenchmark {
+
+    @Param({"1", "100"})
+    private int candidatos;
+
+    private ApiResponse<List<CandidatoDto>> respuesta;
+    private ObjectMapper compartido;
+    private CodecJson codec;
+
+    @Setup
+    public void preparar() {
+        List<CandidatoDto> lista = new ArrayList<>(candidatos);
+        for (int i = 0; i < candidatos; i++) {
+            lista.add(candidato(i));
+        }
+        this.respuesta = ApiResponse.success(lista, "Candidatos obtenidos exitosamente");
+        this.compartido = Jackson2ObjectMapperBuilder.json().build();
+        this.codec = new CodecJson(Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build());
+    }
+
+    @Benchmark
+    public byte[] mapperPorLlamada() throws JsonProcessingException {
+        // Converters no registraba JavaTimeModule y fallaba con LocalDate; se agrega para comparar solo el costo
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return mapper.writeValueAsBytes(this.respuesta);
+    }
+
+    @Benchmark
+    public byte[] mapperCompartido() throws JsonProcessingException {
+        return this.compartido.writeValueAsBytes(this.respuesta);
+    }
+
+    @Benchmark
+    public byte[] codecBlackbird() throws JsonProcessingException {
+        return this.codec.escribirBytes(this.respuesta);
+    }
+
+    private static CandidatoDto candidato(int i) {
+        CandidatoDto candidato = new CandidatoDto();
+        candidato.setId((long) i + 1);
+        candidato.setNombres("Nombre " + i);
+        candidato.setApellidos("Apellido " + i);
+        candidato.setEmail("candidato" + i + "@correo.com");
+        candidato.setFechaNacimiento(LocalDate.of(1990, 5, 17));
+        candidato.setRfc("ABCD900517XY" + (i % 10));
+        candidato.setTelefono("5512345678");
+        candidato.setCalle("Reforma");
+        candidato.setNumero("100");
+        candidato.setColonia("Centro");
+        candidato.setCiudad("CDMX");
+        candidato.setEstado("CDMX");
+        candidato.setPais("México");
+        candidato.setCodigoPostal("06000");
+        candidato.setActivo(true);
+
+        List<EmpleoDto> empleos = new ArrayList<>();
+        for (int j = 0; j < 3; j++) {
+            EmpleoDto empleo = new EmpleoDto();
+            empleo.setId((long) i * 3 + j);
+            empleo.setNombreEmpresa("Empresa " + (i + j) % 50);
+            empleo.setFechaIngreso(LocalDate.of(2015 + j, 1, 8));
+            empleo.setFechaSalida(j < 2 ? LocalDate.of(2016 + j, 1, 8) : null);
+            empleo.setIngresoMensual(new BigDecimal("25000.00"));
+            empleo.setGiroEmpresa("Servicios");
+            empleos.add(empleo);
+        }
+        candidato.setListaEmpleos(empleos);
+        return candidato;
+    }
+
+}
@@ -2,8 +2,10 @@ package com.tecnica.demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
+@EnableCaching
 public class PruebaTecnicaApplication {
 
 	public static void main(String[] args) {
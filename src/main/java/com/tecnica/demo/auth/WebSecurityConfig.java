@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.util.Arrays;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -46,6 +49,8 @@ public class WebSecurityConfig extends OncePerRequestFilter {
 	private static final String PUT = "PUT";
 	/* Constant PATTER_CONFIG of type String */
 	private static final String PATTER_CONFIG = "/**";
+	/* Constant ROL_ACTUATOR_ADMIN of type String */
+	private static final String ROL_ACTUATOR_ADMIN = "ACTUATOR_ADMIN";
 	/* Constant basePath of type String */
 	@Value("${basePath}")
 	private String basePath;
@@ -99,8 +104,14 @@ public class WebSecurityConfig extends OncePerRequestFilter {
 		http.headers(h -> h.addHeaderWriter(new StaticHeadersWriter("Expect-CT", "max-age=3600, enforce")));
 		http.csrf(csrf -> csrf.requireCsrfProtectionMatcher(new OrRequestMatcher(new AntPathRequestMatcher(basePath))));
 
-		http.authorizeHttpRequests(auth -> auth.requestMatchers(basePath).permitAll().requestMatchers(basePath)
+		// Fuera de health e info, el actuator (caches, metrics, prometheus, jfr) pide
+		// autenticación básica: DELETE /caches vacía todos los caches y prometheus
+		// expone las mismas métricas que /metrics, así que el scraper usa basic_auth
+		http.authorizeHttpRequests(auth -> auth
+				.requestMatchers(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class, InfoEndpoint.class))
+				.hasRole(ROL_ACTUATOR_ADMIN).requestMatchers(basePath).permitAll().requestMatchers(basePath)
 				.permitAll().anyRequest().permitAll());
+		http.httpBasic(Customizer.withDefaults());
 		http.cors(Customizer.withDefaults());
 
 		return http.build();
@@ -0,0 +1,20 @@
+package com.tecnica.demo.busqueda;
+
+import java.math.BigDecimal;
+
+/**
+ * <b>FiltroCandidatos.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Criterios del motor de filtros en memoria. Todos se combinan
+ *               con AND; un criterio nulo no filtra.
+ * @author: Sistema de Gestión de Candidatos
+ *
+ * @param laborando con o sin empleo sin fecha de salida
+ * @param ingresoMinimo ingreso del empleo actual estrictamente mayor
+ * @param aniosExperiencia años de experiencia acumulada estrictamente mayor
+ * @param estado estado del domicilio, sin distinguir mayúsculas
+ */
+public record FiltroCandidatos(Boolean laborando, BigDecimal ingresoMinimo, BigDecimal aniosExperiencia,
+                               String estado) {
+}
@@ -0,0 +1,437 @@
+package com.tecnica.demo.busqueda;
+
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dao.ICandidatoDao;
+import com.tecnica.demo.dto.DatosIndiceDto;
+import com.tecnica.demo.evento.DatosCandidatoModificadosEvent;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * <b>MotorFiltrosCandidatos.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Índice en memoria para combinar filtros de candidatos sin ir a
+ *               Oracle. Los atributos numéricos viven en arreglos primitivos
+ *               indexados por ID de candidato y los categóricos en bitmaps
+ *               comprimidos (RoaringBitmap). Un filtro intersecta primero los
+ *               bitmaps y después recorre, en paralelo si son muchos, los IDs
+ *               restantes contra los arreglos. Se carga completo al arrancar y
+ *               se actualiza por candidato con DatosCandidatoModificadosEvent.
+ *               Los eventos de varios candidatos piden una recarga completa en
+ *               segundo plano; las actualizaciones por candidato que llegan
+ *               mientras se lee la tabla se repiten sobre el índice nuevo
+ *               antes de reemplazar el actual, para que no se pierdan. Cada
+ *               candidato guarda la fecha_actualizacion de la fila aplicada:
+ *               dos escrituras seguidas se leen fuera del candado y pueden
+ *               aplicarse en otro orden, así que una fila que no sea
+ *               posterior a la aplicada se descarta.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Component
+public class MotorFiltrosCandidatos {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MotorFiltrosCandidatos.class);
+
+    private static final double MESES_POR_ANIO = 12d;
+
+    /* Versión de una fila sin fecha_actualizacion: siempre se aplica */
+    private static final long SIN_VERSION = Long.MIN_VALUE;
+
+    @Autowired
+    private ICandidatoDao candidatoDao;
+
+    /* Candidatos a partir de los cuales el recorrido numérico se reparte en varios hilos */
+    @Value("${busqueda.umbral-paralelo:50000}")
+    private int umbralParalelo;
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+
+    /* Una recarga a la vez; las pedidas mientras corre una se juntan en la siguiente */
+    private final ExecutorService recargas = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("recarga-indice").factory());
+    private final AtomicBoolean recargaSolicitada = new AtomicBoolean();
+
+    /* null hasta la primera carga completa */
+    private Indice indice;
+
+    /* Eventos por candidato recibidos durante una recarga; null si no hay recarga. Con el candado */
+    private List<DatosCandidatoModificadosEvent> pendientes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarAlArrancar() {
+        try {
+            recargar();
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+        }
+    }
+
+    /**
+     * Pide una recarga completa en segundo plano. Si ya hay una esperando, no
+     * agrega otra; si hay una corriendo, se hace una más al terminar.
+     */
+    public void solicitarRecarga() {
+        if (!recargaSolicitada.compareAndSet(false, true)) {
+            return;
+        }
+        recargas.execute(() -> {
+            recargaSolicitada.set(false);
+            try {
+                recargar();
+            } catch (RuntimeException e) {
+                LOGGER.error("No se pudo recargar el índice de búsqueda", e);
+            }
+        });
+    }
+
+    /**
+     * Reconstruye el índice completo y lo reemplaza de una sola vez. Los
+     * eventos por candidato que llegan durante la lectura se vuelven a
+     * consultar y se aplican al índice nuevo antes del reemplazo.
+     */
+    public synchronized void recargar() {
+        long inicio = System.nanoTime();
+        candado.writeLock().lock();
+        try {
+            pendientes = new ArrayList<>();
+        } finally {
+            candado.writeLock().unlock();
+        }
+        try {
+            List<DatosIndiceDto> filas = datosIndice(null, null);
+
+            long maximo = filas.stream().mapToLong(DatosIndiceDto::getId).max().orElse(0);
+            Indice nuevo = new Indice((int) maximo + 1);
+            filas.forEach(nuevo::aplicar);
+            nuevo.optimizar();
+
+            int repetidos = 0;
+            while (true) {
+                List<DatosCandidatoModificadosEvent> repetir;
+                candado.writeLock().lock();
+                try {
+                    if (pendientes.isEmpty()) {
+                        indice = nuevo;
+                        break;
+                    }
+                    repetir = pendientes;
+                    pendientes = new ArrayList<>();
+                } finally {
+                    candado.writeLock().unlock();
+                }
+                // El índice nuevo solo lo ve este hilo hasta el reemplazo
+                for (DatosCandidatoModificadosEvent evento : repetir) {
+                    aplicar(nuevo, evento, datosIndice(evento.candidatoId(), evento.empleoId()));
+                }
+                repetidos += repetir.size();
+            }
+            LOGGER.info("Índice de búsqueda cargado: {} candidatos y {} actualizaciones repetidas en {} ms",
+                    filas.size(), repetidos, (System.nanoTime() - inicio) / 1_000_000);
+        } finally {
+            candado.writeLock().lock();
+            try {
+                pendientes = null;
+            } finally {
+                candado.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Sincroniza el índice después de una escritura. Un error aquí no debe
+     * revertir la respuesta de la escritura, que ya se confirmó en Oracle.
+     */
+    @EventListener
+    public void alModificarCandidato(DatosCandidatoModificadosEvent evento) {
+        try {
+            if (evento.esVarios()) {
+                solicitarRecarga();
+                return;
+            }
+            List<DatosIndiceDto> filas = datosIndice(evento.candidatoId(), evento.empleoId());
+
+            candado.writeLock().lock();
+            try {
+                if (pendientes != null) {
+                    pendientes.add(evento);
+                }
+                if (indice != null) {
+                    aplicar(indice, evento, filas);
+                }
+            } finally {
+                candado.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("No se pudo sincronizar el índice de búsqueda para {}", evento, e);
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        recargas.shutdownNow();
+    }
+
+    public boolean isCargado() {
+        candado.readLock().lock();
+        try {
+            return indice != null;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica el filtro y regresa una página de IDs en orden ascendente
+     *
+     * @param filtro criterios a combinar
+     * @param despuesDe ID a partir del cual continuar (exclusivo); nulo para la primera página
+     * @param limite IDs máximos a regresar
+     * @return IDs de la página y total de coincidencias
+     * @throws IllegalArgumentException si despuesDe está fuera de 0..Integer.MAX_VALUE
+     */
+    public ResultadoFiltro filtrar(FiltroCandidatos filtro, Long despuesDe, int limite) {
+        // El índice guarda los IDs como int sin signo: un valor fuera de rango daría otra página
+        if (despuesDe != null && (despuesDe < 0 || despuesDe > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("ID fuera de rango: " + despuesDe);
+        }
+        candado.readLock().lock();
+        try {
+            if (indice == null) {
+                throw new IllegalStateException("El índice de búsqueda no se ha cargado");
+            }
+            RoaringBitmap coincidencias = indice.filtrar(filtro, umbralParalelo);
+
+            PeekableIntIterator it = coincidencias.getIntIterator();
+            if (despuesDe != null) {
+                it.advanceIfNeeded((int) (despuesDe + 1));
+            }
+            long[] ids = new long[limite];
+            int tomados = 0;
+            while (tomados < limite && it.hasNext()) {
+                ids[tomados++] = it.next();
+            }
+            return new ResultadoFiltro(Arrays.copyOf(ids, tomados), it.hasNext(), coincidencias.getCardinality());
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    private static void aplicar(Indice destino, DatosCandidatoModificadosEvent evento, List<DatosIndiceDto> filas) {
+        if (filas.isEmpty() && evento.candidatoId() != null) {
+            destino.quitar(evento.candidatoId().intValue());
+        }
+        filas.forEach(destino::aplicar);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DatosIndiceDto> datosIndice(Long candidatoId, Long empleoId) {
+        Map<String, Object> result = candidatoDao.obtenerDatosIndice(candidatoId, empleoId);
+        List<DatosIndiceDto> filas = (List<DatosIndiceDto>) result.get(Constants.CUR_RESULTADO);
+        return filas != null ? filas : List.of();
+    }
+
+    /**
+     * Mes fraccionario al estilo de MONTHS_BETWEEN (mes + día / 31); la
+     * diferencia entre dos valores da los meses transcurridos
+     */
+    static double mesFraccionario(LocalDate fecha) {
+        return fecha.getYear() * MESES_POR_ANIO + fecha.getMonthValue() + fecha.getDayOfMonth() / 31d;
+    }
+
+    /**
+     * Página de un filtro
+     *
+     * @param ids IDs de la página en orden ascendente
+     * @param hayMas indica si hay más coincidencias después del último ID
+     * @param total coincidencias totales del filtro
+     */
+    public record ResultadoFiltro(long[] ids, boolean hayMas, long total) {
+    }
+
+    /**
+     * Columnas del índice. Solo se modifica con el candado de escritura.
+     */
+    private static final class Indice {
+
+        private final RoaringBitmap activos = new RoaringBitmap();
+        private final RoaringBitmap laborando = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> porEstado = new HashMap<>();
+
+        /* NaN cuando el candidato no tiene empleo actual */
+        private double[] ingresoActual;
+        private double[] mesesCerrados;
+        /*
+         * Empleos abiertos y suma del mesFraccionario de sus inicios: los meses que
+         * suman a hoy son numAbiertos * mesHoy - mesesIniciosAbiertos, igual que
+         * SUM(MONTHS_BETWEEN(SYSDATE, fecha_ingreso)) aunque se traslapen
+         */
+        private int[] numAbiertos;
+        private double[] mesesIniciosAbiertos;
+        /* Microsegundos UTC de la fecha_actualizacion aplicada; SIN_VERSION si la fila no la trae */
+        private long[] versiones;
+
+        Indice(int capacidad) {
+            ingresoActual = new double[capacidad];
+            mesesCerrados = new double[capacidad];
+            numAbiertos = new int[capacidad];
+            mesesIniciosAbiertos = new double[capacidad];
+            versiones = new long[capacidad];
+        }
+
+        void aplicar(DatosIndiceDto fila) {
+            int id = fila.getId().intValue();
+            // También para las bajas: una lectura anterior no debe volver a agregar al candidato
+            asegurarCapacidad(id);
+
+            long version = version(fila.getFechaActualizacion());
+            if (version != SIN_VERSION && version <= versiones[id]) {
+                return;
+            }
+            versiones[id] = version;
+
+            if (!Boolean.TRUE.equals(fila.getActivo())) {
+                quitar(id);
+                return;
+            }
+            quitarDeEstados(id);
+
+            activos.add(id);
+            if (Boolean.TRUE.equals(fila.getLaborando())) {
+                laborando.add(id);
+            } else {
+                laborando.remove(id);
+            }
+            if (fila.getEstado() != null) {
+                porEstado.computeIfAbsent(normalizar(fila.getEstado()), e -> new RoaringBitmap()).add(id);
+            }
+            ingresoActual[id] = fila.getIngresoActual() != null ? fila.getIngresoActual().doubleValue() : Double.NaN;
+            mesesCerrados[id] = fila.getMesesCerrados() != null ? fila.getMesesCerrados().doubleValue() : 0d;
+            numAbiertos[id] = fila.getNumAbiertos() != null ? fila.getNumAbiertos().intValue() : 0;
+            mesesIniciosAbiertos[id] = fila.getMesesIniciosAbiertos() != null
+                    ? fila.getMesesIniciosAbiertos().doubleValue() : 0d;
+        }
+
+        void quitar(int id) {
+            activos.remove(id);
+            laborando.remove(id);
+            quitarDeEstados(id);
+        }
+
+        void optimizar() {
+            activos.runOptimize();
+            laborando.runOptimize();
+            porEstado.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        RoaringBitmap filtrar(FiltroCandidatos filtro, int umbralParalelo) {
+            RoaringBitmap base = activos.clone();
+
+            if (filtro.laborando() != null) {
+                if (filtro.laborando()) {
+                    base.and(laborando);
+                } else {
+                    base.andNot(laborando);
+                }
+            }
+            if (filtro.estado() != null) {
+                base.and(porEstado.getOrDefault(normalizar(filtro.estado()), new RoaringBitmap()));
+            }
+            if (filtro.ingresoMinimo() == null && filtro.aniosExperiencia() == null) {
+                return base;
+            }
+
+            double ingresoMinimo = filtro.ingresoMinimo() != null ? filtro.ingresoMinimo().doubleValue() : Double.NaN;
+            double mesesMinimos = filtro.aniosExperiencia() != null
+                    ? filtro.aniosExperiencia().doubleValue() * MESES_POR_ANIO : Double.NaN;
+            double mesHoy = mesFraccionario(LocalDate.now());
+
+            // Sin candidatos no hay rango que repartir (base.last() fallaría)
+            if (base.isEmpty() || base.getCardinality() < umbralParalelo) {
+                return recorrer(base, 0, Long.MAX_VALUE, ingresoMinimo, mesesMinimos, mesHoy);
+            }
+
+            // Rangos de ID contiguos por hilo; cada uno produce su bitmap y se unen al final
+            int partes = ForkJoinPool.getCommonPoolParallelism() * 2;
+            long ancho = (base.last() + 1L + partes - 1) / partes;
+            return IntStream.range(0, partes).parallel()
+                    .mapToObj(p -> recorrer(base, p * ancho, (p + 1) * ancho, ingresoMinimo, mesesMinimos, mesHoy))
+                    .reduce(new RoaringBitmap(), (a, b) -> RoaringBitmap.or(a, b));
+        }
+
+        private RoaringBitmap recorrer(RoaringBitmap base, long desde, long hasta, double ingresoMinimo,
+                                       double mesesMinimos, double mesHoy) {
+            RoaringBitmap resultado = new RoaringBitmap();
+            PeekableIntIterator it = base.getIntIterator();
+            it.advanceIfNeeded((int) desde);
+
+            while (it.hasNext() && it.peekNext() < hasta) {
+                int id = it.next();
+
+                if (!Double.isNaN(ingresoMinimo) && !(ingresoActual[id] > ingresoMinimo)) {
+                    continue;
+                }
+                if (!Double.isNaN(mesesMinimos)) {
+                    double abiertos = numAbiertos[id] * mesHoy - mesesIniciosAbiertos[id];
+                    if (!(mesesCerrados[id] + abiertos > mesesMinimos)) {
+                        continue;
+                    }
+                }
+                resultado.add(id);
+            }
+            return resultado;
+        }
+
+        private void quitarDeEstados(int id) {
+            porEstado.values().forEach(b -> b.remove(id));
+        }
+
+        private void asegurarCapacidad(int id) {
+            if (id < ingresoActual.length) {
+                return;
+            }
+            int capacidad = Math.max(id + 1, ingresoActual.length + (ingresoActual.length >> 1));
+            ingresoActual = Arrays.copyOf(ingresoActual, capacidad);
+            mesesCerrados = Arrays.copyOf(mesesCerrados, capacidad);
+            numAbiertos = Arrays.copyOf(numAbiertos, capacidad);
+            mesesIniciosAbiertos = Arrays.copyOf(mesesIniciosAbiertos, capacidad);
+            versiones = Arrays.copyOf(versiones, capacidad);
+        }
+
+        private static long version(LocalDateTime fecha) {
+            if (fecha == null) {
+                return SIN_VERSION;
+            }
+            return fecha.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + fecha.getNano() / 1_000;
+        }
+
+        private static String normalizar(String estado) {
+            return estado.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+}
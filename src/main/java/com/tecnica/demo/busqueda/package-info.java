@@ -0,0 +1 @@
+package com.tecnica.demo.busqueda;
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.tecnica.demo.config.json;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tecnica.demo.enums.EnumFaseTiempo;
+import com.tecnica.demo.jfr.EventoSerializacion;
+import com.tecnica.demo.tiempos.TiemposPeticion;
+
+/**
+ * <b>CodecJson.java</b>
+ *
+ * @descripcion: Punto único de serialización JSON. Comparte el ObjectMapper
+ *               configurado por Spring (con Blackbird) y conserva un
+ *               ObjectWriter por tipo raíz, de modo que cada respuesta reutiliza
+ *               el serializador ya resuelto en lugar de buscarlo otra vez.
+ *               Lo usan Converters, el convertidor HTTP de Spring MVC y el
+ *               streaming de candidatos. Cada cuerpo completo se suma a la
+ *               fase json de TiemposPeticion; al escribir directo en la
+ *               respuesta eso incluye la escritura al socket. Con una
+ *               grabación JFR activa emite además un EventoSerializacion.
+ */
+public class CodecJson {
+
+  private final ObjectMapper objectMapper;
+
+  /* El número de tipos raíz es acotado (DTOs y envolturas de respuesta) */
+  private final Map<Class<?>, ObjectWriter> escritores = new ConcurrentHashMap<>();
+
+  public CodecJson(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public ObjectMapper getObjectMapper() {
+    return this.objectMapper;
+  }
+
+  /**
+   * ObjectWriter para un tipo raíz; se crea una sola vez por tipo
+   *
+   * @param tipo clase del valor a serializar
+   * @return ObjectWriter reutilizable y thread-safe
+   */
+  public ObjectWriter escritor(Class<?> tipo) {
+    return this.escritores.computeIfAbsent(tipo, this.objectMapper::writerFor);
+  }
+
+  public String escribirTexto(Object valor) throws JsonProcessingException {
+    EventoSerializacion evento = new EventoSerializacion();
+    evento.begin();
+    long inicio = System.nanoTime();
+    String texto = null;
+    try {
+      texto = escritor(valor.getClass()).writeValueAsString(valor);
+      return texto;
+    } finally {
+      terminar(evento, inicio, valor, texto == null ? -1 : texto.length());
+    }
+  }
+
+  public byte[] escribirBytes(Object valor) throws JsonProcessingException {
+    EventoSerializacion evento = new EventoSerializacion();
+    evento.begin();
+    long inicio = System.nanoTime();
+    byte[] json = null;
+    try {
+      json = escritor(valor.getClass()).writeValueAsBytes(valor);
+      return json;
+    } finally {
+      terminar(evento, inicio, valor, json == null ? -1 : json.length);
+    }
+  }
+
+  /**
+   * Escribe el valor en UTF-8 sin cerrar la salida
+   */
+  public void escribir(Object valor, OutputStream salida) throws IOException {
+    EventoSerializacion evento = new EventoSerializacion();
+    evento.begin();
+    long inicio = System.nanoTime();
+    // Los bytes solo se cuentan si hay una grabación JFR que los vaya a registrar
+    SalidaContada contada = evento.isEnabled() ? new SalidaContada(salida) : null;
+    try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(contada != null ? contada : salida)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      escritor(valor.getClass()).writeValue(generator, valor);
+    } finally {
+      terminar(evento, inicio, valor, contada != null ? contada.bytes : -1);
+    }
+  }
+
+  /**
+   * Escribe el valor en un generador ya abierto (streaming de varios valores)
+   */
+  public void escribir(Object valor, JsonGenerator generator) throws IOException {
+    escritor(valor.getClass()).writeValue(generator, valor);
+  }
+
+  private static void terminar(EventoSerializacion evento, long inicio, Object valor, long tamanio) {
+    TiemposPeticion.registrar(EnumFaseTiempo.JSON, System.nanoTime() - inicio);
+    evento.end();
+    if (evento.shouldCommit()) {
+      evento.tipo = valor.getClass().getName();
+      evento.tamanio = tamanio;
+      evento.commit();
+    }
+  }
+
+  /**
+   * Cuenta los bytes escritos en la salida
+   */
+  private static final class SalidaContada extends FilterOutputStream {
+
+    private long bytes;
+
+    SalidaContada(OutputStream salida) {
+      super(salida);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      this.out.write(b);
+      this.bytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      this.out.write(b, off, len);
+      this.bytes += len;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.tecnica.demo.config.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StreamUtils;
+
+/**
+ * <b>ConvertidorJsonCodec.java</b>
+ *
+ * @descripcion: Convertidor HTTP de Spring MVC que escribe las respuestas con
+ *               CodecJson. Los casos que CodecJson no cubre (MappingJacksonValue
+ *               con vistas o filtros, charset distinto de UTF-8) siguen el camino
+ *               de MappingJackson2HttpMessageConverter.
+ */
+public class ConvertidorJsonCodec extends MappingJackson2HttpMessageConverter {
+
+  private final CodecJson codec;
+
+  public ConvertidorJsonCodec(CodecJson codec) {
+    super(codec.getObjectMapper());
+    this.codec = codec;
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+    MediaType contentType = outputMessage.getHeaders().getContentType();
+
+    if (object instanceof MappingJacksonValue || !esUtf8(contentType)) {
+      super.writeInternal(object, type, outputMessage);
+      return;
+    }
+    this.codec.escribir(object, StreamUtils.nonClosing(outputMessage.getBody()));
+  }
+
+  private static boolean esUtf8(MediaType contentType) {
+    return contentType == null || contentType.getCharset() == null
+      || StandardCharsets.UTF_8.equals(contentType.getCharset());
+  }
+}
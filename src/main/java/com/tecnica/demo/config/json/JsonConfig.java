@@ -0,0 +1,35 @@
+package com.tecnica.demo.config.json;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * <b>JsonConfig.java</b>
+ *
+ * @descripcion: Configuración de la serialización JSON. BlackbirdModule se
+ *               registra en el ObjectMapper de Spring Boot (JacksonAutoConfiguration
+ *               instala todos los beans Module) y reemplaza la reflexión de los
+ *               getters/setters de los DTOs por accesores generados. El
+ *               convertidor declarado aquí sustituye al de Spring Boot.
+ */
+@Configuration
+public class JsonConfig {
+
+  @Bean
+  public BlackbirdModule blackbirdModule() {
+    return new BlackbirdModule();
+  }
+
+  @Bean
+  public CodecJson codecJson(ObjectMapper objectMapper) {
+    return new CodecJson(objectMapper);
+  }
+
+  @Bean
+  public ConvertidorJsonCodec convertidorJsonCodec(CodecJson codecJson) {
+    return new ConvertidorJsonCodec(codecJson);
+  }
+}
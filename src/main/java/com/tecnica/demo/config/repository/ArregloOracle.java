@@ -0,0 +1,59 @@
+package com.tecnica.demo.config.repository;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.SqlReturnType;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+
+import oracle.jdbc.OracleConnection;
+
+/**
+ * <b>ArregloOracle.java</b>
+ *
+ * @descripcion: Utilerías para enlazar colecciones SQL de Oracle (TABLE OF ...)
+ *               como parametros de entrada y salida de SimpleJdbcCall.
+ */
+public final class ArregloOracle {
+
+  /**
+   * Lee un parametro de salida de tipo colección como arreglo de Java mientras
+   * el statement sigue abierto.
+   */
+  public static final SqlReturnType LECTOR = ArregloOracle::leer;
+
+  private ArregloOracle() {
+    super();
+  }
+
+  /**
+   * Crea el valor de un parametro de entrada de tipo colección
+   *
+   * @param valores Elementos de la colección, en orden
+   * @return SqlTypeValue que crea el arreglo Oracle sobre la conexión del call
+   */
+  public static SqlTypeValue de(Object[] valores) {
+    return new AbstractSqlTypeValue() {
+      @Override
+      protected Object createTypeValue(Connection con, int sqlType, String typeName) throws SQLException {
+        return con.unwrap(OracleConnection.class).createOracleArray(typeName, valores);
+      }
+    };
+  }
+
+  private static Object leer(CallableStatement cs, int indice, int sqlType, String typeName) throws SQLException {
+    Array arreglo = cs.getArray(indice);
+
+    if (arreglo == null) {
+      return null;
+    }
+    try {
+      return arreglo.getArray();
+    } finally {
+      arreglo.free();
+    }
+  }
+}
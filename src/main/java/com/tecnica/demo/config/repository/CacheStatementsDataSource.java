@@ -0,0 +1,101 @@
+package com.tecnica.demo.config.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import oracle.jdbc.OracleStatement;
+
+/**
+ * <b>CacheStatementsDataSource.java</b>
+ *
+ * @descripcion: DataSource que cuenta los aciertos y fallos del cache
+ *               implícito de statements del driver de Oracle. Cada
+ *               prepareCall/prepareStatement se clasifica según
+ *               OracleStatement.creationState() y los contadores se publican
+ *               como oracle.statement.cache{resultado=hit|miss}.
+ */
+public class CacheStatementsDataSource extends DelegatingDataSource implements MeterBinder {
+
+  private static final String METRICA = "oracle.statement.cache";
+
+  private final LongAdder aciertos = new LongAdder();
+  private final LongAdder fallos = new LongAdder();
+
+  public CacheStatementsDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return contar(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return contar(super.getConnection(username, password));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(METRICA, this.aciertos, LongAdder::sum)
+      .description("Statements obtenidos del cache implícito del driver")
+      .tag("resultado", "hit")
+      .register(registry);
+    FunctionCounter.builder(METRICA, this.fallos, LongAdder::sum)
+      .description("Statements creados y parseados de nuevo por el driver")
+      .tag("resultado", "miss")
+      .register(registry);
+  }
+
+  public long getAciertos() {
+    return this.aciertos.sum();
+  }
+
+  public long getFallos() {
+    return this.fallos.sum();
+  }
+
+  private Connection contar(Connection conexion) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+      (proxy, metodo, args) -> {
+        Object resultado;
+        try {
+          resultado = metodo.invoke(conexion, args);
+        } catch (InvocationTargetException e) {
+          throw e.getTargetException();
+        }
+
+        if (resultado instanceof Statement statement && metodo.getName().startsWith("prepare")) {
+          registrar(statement);
+        }
+        return resultado;
+      });
+  }
+
+  /*
+   * creationState() está deprecado en ojdbc11 y no tiene reemplazo; es la única
+   * forma de saber si el statement salió del cache implícito
+   */
+  @SuppressWarnings("deprecation")
+  private void registrar(Statement statement) throws SQLException {
+    if (!statement.isWrapperFor(OracleStatement.class)) {
+      return;
+    }
+    if (statement.unwrap(OracleStatement.class).creationState() == OracleStatement.IMPLICIT) {
+      this.aciertos.increment();
+    } else {
+      this.fallos.increment();
+    }
+  }
+}
@@ -1,15 +1,25 @@
 package com.tecnica.demo.config.repository;
 
+import java.sql.Connection;
+
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import oracle.jdbc.OracleConnection;
 
 @Configuration
 @EnableTransactionManagement
@@ -17,6 +27,14 @@ public class DBConfig {
 
   private static final String DRIVER_CLASS_NAME = "oracle.jdbc.OracleDriver";
 
+  /*
+   * El driver thin toma NLS_LANGUAGE del locale de la JVM y con él NLS_SORT (por
+   * ejemplo SPANISH). Los predicados de llave de la paginación comparan según
+   * NLS_COMP (binario) y el ORDER BY según NLS_SORT: si difieren, las páginas
+   * saltan o repiten filas y se pierde el range scan de idx_candidatos_orden.
+   */
+  private static final String SQL_SESION_BINARIA = "ALTER SESSION SET NLS_SORT = BINARY NLS_COMP = BINARY";
+
   /*
    * Estas variables urlDBConnection, username y password deben ir almacenadas en
    * un vault de secretos
@@ -48,6 +66,44 @@ public class DBConfig {
   @Value("${database.minimum-idle}")
   private int minimumIdle;
 
+  /*
+   * Statements por conexión que el driver conserva ya parseados; 0 lo desactiva.
+   * Debe cubrir todas las llamadas de SimpleJdbcCallFactory más las sentencias
+   * que se ejecutan directo con JdbcTemplate
+   */
+  @Value("${database.statement-cache-size:64}")
+  private int statementCacheSize;
+
+  /* Filas que el driver trae por viaje a la base de datos */
+  @Value("${database.row-prefetch:50}")
+  private int rowPrefetch;
+
+  /*
+   * Réplica de lectura; sin configurar apunta a la misma base que el primario
+   * con un pool propio
+   */
+  @Value("${database.replica.urlconnection:${database.urlconnection}}")
+  private String urlReplicaConnection;
+
+  @Value("${database.replica.username:${database.username}}")
+  private String usernameReplica;
+
+  @Value("${database.replica.password:${database.password}}")
+  private String passwordReplica;
+
+  @Value("${database.replica.maximum-pool-size:${database.maximum-pool-size}}")
+  private int maximumPoolsizeReplica;
+
+  @Value("${database.replica.minimum-idle:${database.minimum-idle}}")
+  private int minimumIdleReplica;
+
+  @Value("${database.replica.pool-name:${database.pool-name}Replica}")
+  private String poolNameReplica;
+
+  /* Milisegundos que las lecturas de un cliente se quedan en el primario después de que escribe */
+  @Value("${database.replica.ventana-primario-ms:5000}")
+  private long ventanaPrimarioMs;
+
   /**
    * @param dataSource
    * @return JdbcTemplate
@@ -59,30 +115,91 @@ public class DBConfig {
   }
 
   /**
+   * DataSource principal: enruta cada transacción al primario o a la réplica y
+   * cuenta los aciertos del cache de statements de ambos pools
+   *
+   * @param hikariDataSource
+   * @param hikariReplicaDataSource
    * @return DataSource
    */
+  @Bean
+  @Primary
+  CacheStatementsDataSource dataSource(@Qualifier("hikariDataSource") HikariDataSource hikariDataSource,
+    @Qualifier("hikariReplicaDataSource") HikariDataSource hikariReplicaDataSource) {
+
+    EnrutadorDataSource enrutador = EnrutadorDataSource.crear(hikariDataSource, hikariReplicaDataSource,
+      this.ventanaPrimarioMs);
+
+    /*
+     * La conexión real se pide hasta el primer statement, cuando ya se conoce si
+     * la transacción es de solo lectura. Los valores por defecto evitan que el
+     * proxy abra una conexión al arrancar para descubrirlos.
+     */
+    LazyConnectionDataSourceProxy perezoso = new LazyConnectionDataSourceProxy();
+    perezoso.setTargetDataSource(enrutador);
+    perezoso.setDefaultAutoCommit(false);
+    perezoso.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    perezoso.afterPropertiesSet();
+
+    return new CacheStatementsDataSource(perezoso);
+  }
+
+  /**
+   * @param meterRegistry
+   * @return HikariDataSource del primario
+   */
+  @Bean(destroyMethod = "close")
+  HikariDataSource hikariDataSource(MeterRegistry meterRegistry) {
+
+    return crearPool(this.urlDBConnection, this.username, this.password, this.poolName, this.maximumPoolsize,
+      this.minimumIdle, meterRegistry);
+  }
+
+  /**
+   * @param meterRegistry
+   * @return HikariDataSource de la réplica de lectura
+   */
   @Bean(destroyMethod = "close")
-  DataSource dataSource() {
+  HikariDataSource hikariReplicaDataSource(MeterRegistry meterRegistry) {
+
+    return crearPool(this.urlReplicaConnection, this.usernameReplica, this.passwordReplica, this.poolNameReplica,
+      this.maximumPoolsizeReplica, this.minimumIdleReplica, meterRegistry);
+  }
+
+  private HikariDataSource crearPool(String url, String usuario, String contrasenia, String nombre,
+    int maximumPoolsize, int minimumIdle, MeterRegistry meterRegistry) {
 
     HikariConfig hikariConfig = new HikariConfig();
 
     hikariConfig.setDriverClassName(DRIVER_CLASS_NAME);
-    hikariConfig.setJdbcUrl(this.urlDBConnection);
-    hikariConfig.setUsername(this.username);
-    hikariConfig.setPassword(this.password);
+    hikariConfig.setJdbcUrl(url);
+    hikariConfig.setUsername(usuario);
+    hikariConfig.setPassword(contrasenia);
     /*
      * MaximumPoolSize = ((core_count * 2) + effective_spindle_count)
      *
      * Dónde core_count son los núcleos del CPU y effective_spindle_count la
      * cantidad de discos en un RAID. Connection to database
      */
-    hikariConfig.setMaximumPoolSize(this.maximumPoolsize);
-    hikariConfig.setPoolName(this.poolName);
+    hikariConfig.setMaximumPoolSize(maximumPoolsize);
+    hikariConfig.setPoolName(nombre);
     hikariConfig.setMaxLifetime(this.maxLifeTime);
     hikariConfig.setIdleTimeout(this.idleTimeOut);
     hikariConfig.setAutoCommit(false);
     hikariConfig.setConnectionTimeout(this.connectionTimeOut);
-    hikariConfig.setMinimumIdle(this.minimumIdle);
+    hikariConfig.setMinimumIdle(minimumIdle);
+    hikariConfig.setConnectionInitSql(SQL_SESION_BINARIA);
+    /*
+     * hikaricp.connections.{active,idle,pending} y el timer
+     * hikaricp.connections.acquire, etiquetados con pool=nombre. Se asigna aquí
+     * porque el pool arranca en el constructor y después ya no se puede cambiar.
+     */
+    hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+    hikariConfig.addDataSourceProperty(OracleConnection.CONNECTION_PROPERTY_IMPLICIT_STATEMENT_CACHE_SIZE,
+      String.valueOf(this.statementCacheSize));
+    hikariConfig.addDataSourceProperty(OracleConnection.CONNECTION_PROPERTY_DEFAULT_ROW_PREFETCH,
+      String.valueOf(this.rowPrefetch));
 
     return new HikariDataSource(hikariConfig);
   }
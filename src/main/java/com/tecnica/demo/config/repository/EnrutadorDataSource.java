@@ -0,0 +1,120 @@
+package com.tecnica.demo.config.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tecnica.demo.enums.EnumFaseTiempo;
+import com.tecnica.demo.tiempos.TiemposPeticion;
+
+/**
+ * <b>EnrutadorDataSource.java</b>
+ *
+ * @descripcion: DataSource que envía las transacciones de solo lectura
+ *               (@Transactional(readOnly = true)) al pool de réplica y todo lo
+ *               demás al primario. Después de confirmar una escritura, las
+ *               lecturas de ese mismo cliente se quedan en el primario durante
+ *               ventanaPrimarioMs (ver VentanaPrimario), para que lea sus
+ *               propios cambios aunque la réplica vaya atrasada; los demás
+ *               clientes siguen leyendo de la réplica. Debe ir detrás de un
+ *               LazyConnectionDataSourceProxy para que la conexión se pida
+ *               ya con la transacción iniciada. La espera por la conexión se
+ *               suma a la fase pool de TiemposPeticion. Las lecturas que se
+ *               guardan para otros clientes (caches, versiones, refrescos en
+ *               segundo plano) se hacen dentro de enPrimario.
+ */
+public class EnrutadorDataSource extends AbstractRoutingDataSource {
+
+  public enum Destino {
+    PRIMARIO, REPLICA
+  }
+
+  /* Lecturas del hilo actual forzadas al primario (ver enPrimario) */
+  private static final ThreadLocal<Boolean> EN_PRIMARIO = new ThreadLocal<>();
+
+  private final VentanaPrimario ventanaPrimario;
+
+  private EnrutadorDataSource(long ventanaPrimarioMs) {
+    super();
+    this.ventanaPrimario = new VentanaPrimario(ventanaPrimarioMs);
+  }
+
+  /**
+   * Crea el enrutador ya inicializado
+   *
+   * @param primario          pool del primario; también el destino por defecto
+   * @param replica           pool de la réplica de lectura
+   * @param ventanaPrimarioMs milisegundos que un cliente lee del primario después de escribir; 0 lo desactiva
+   * @return EnrutadorDataSource listo para usarse
+   */
+  public static EnrutadorDataSource crear(DataSource primario, DataSource replica, long ventanaPrimarioMs) {
+    EnrutadorDataSource enrutador = new EnrutadorDataSource(ventanaPrimarioMs);
+    enrutador.setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+    enrutador.setDefaultTargetDataSource(primario);
+    enrutador.setLenientFallback(false);
+    enrutador.afterPropertiesSet();
+    return enrutador;
+  }
+
+  /**
+   * Ejecuta una lectura en el primario aunque su transacción sea de solo
+   * lectura, sin abrir la ventana del cliente. Se usa cuando el resultado se
+   * guarda y se sirve después: uno leído de una réplica atrasada quedaría
+   * guardado con los datos de antes de la escritura.
+   *
+   * @param lectura llamada a los DAO
+   * @return resultado de la lectura
+   */
+  public static <T> T enPrimario(Supplier<T> lectura) {
+    Boolean anterior = EN_PRIMARIO.get();
+    EN_PRIMARIO.set(Boolean.TRUE);
+    try {
+      return lectura.get();
+    } finally {
+      if (anterior == null) {
+        EN_PRIMARIO.remove();
+      } else {
+        EN_PRIMARIO.set(anterior);
+      }
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long inicio = System.nanoTime();
+    try {
+      return super.getConnection();
+    } finally {
+      TiemposPeticion.registrar(EnumFaseTiempo.POOL, System.nanoTime() - inicio);
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    long inicio = System.nanoTime();
+    try {
+      return super.getConnection(username, password);
+    } finally {
+      TiemposPeticion.registrar(EnumFaseTiempo.POOL, System.nanoTime() - inicio);
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      // Solo las transacciones de escritura abren la ventana, al confirmarse; las
+      // llamadas sin transacción (validaciones al arrancar) van al primario sin abrirla
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        this.ventanaPrimario.abrirAlConfirmar();
+      }
+      return Destino.PRIMARIO;
+    }
+    return EN_PRIMARIO.get() != null || this.ventanaPrimario.vigente() ? Destino.PRIMARIO : Destino.REPLICA;
+  }
+}
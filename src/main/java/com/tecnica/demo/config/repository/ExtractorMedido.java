@@ -0,0 +1,50 @@
+package com.tecnica.demo.config.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.tecnica.demo.enums.EnumFaseTiempo;
+import com.tecnica.demo.jfr.EventoMapeoCursor;
+import com.tecnica.demo.tiempos.TiemposPeticion;
+
+/**
+ * <b>ExtractorMedido.java</b>
+ *
+ * @descripcion: Envuelve el extractor de un cursor de salida y suma su tiempo
+ *               a la fase mapeo de la petición en curso. Incluye los viajes
+ *               a la base que hace el driver al pedir más filas (fetch), que
+ *               ocurren dentro de rs.next(). Con una grabación JFR activa
+ *               emite además un EventoMapeoCursor.
+ */
+class ExtractorMedido<T> implements ResultSetExtractor<T> {
+
+  private final ResultSetExtractor<T> extractor;
+
+  ExtractorMedido(ResultSetExtractor<T> extractor) {
+    this.extractor = extractor;
+  }
+
+  @Override
+  public T extractData(ResultSet rs) throws SQLException, DataAccessException {
+    EventoMapeoCursor evento = new EventoMapeoCursor();
+    evento.begin();
+    long inicio = System.nanoTime();
+    T resultado = null;
+    try {
+      resultado = this.extractor.extractData(rs);
+      return resultado;
+    } finally {
+      TiemposPeticion.registrar(EnumFaseTiempo.MAPEO, System.nanoTime() - inicio);
+      evento.end();
+      if (evento.shouldCommit()) {
+        evento.extractor = this.extractor.getClass().getSimpleName();
+        evento.filas = resultado instanceof Collection<?> filas ? filas.size() : -1;
+        evento.commit();
+      }
+    }
+  }
+}
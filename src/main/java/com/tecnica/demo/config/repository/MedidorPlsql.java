@@ -0,0 +1,98 @@
+package com.tecnica.demo.config.repository;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.tecnica.demo.enums.EnumFaseTiempo;
+import com.tecnica.demo.jfr.EventoLlamadaPlsql;
+import com.tecnica.demo.tiempos.TiemposPeticion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * <b>MedidorPlsql.java</b>
+ *
+ * @descripcion: Registra las ejecuciones de un procedure o función en el
+ *               timer plsql.llamadas con paquete, procedure, resultado (exito
+ *               o error) y filas devueltas en los cursores, agrupadas por
+ *               rango para acotar la cardinalidad. Los timers se resuelven
+ *               una vez por combinación y se guardan en un arreglo atómico;
+ *               registrar una muestra solo toca contadores sin candados del
+ *               registro. En la petición en curso se suma a la fase plsql
+ *               solo el tiempo propio de la llamada: se descuenta la espera
+ *               del pool y el mapeo de cursores que ocurrieron dentro.
+ *               También emite un EventoLlamadaPlsql cuando hay una grabación
+ *               JFR con ese evento habilitado. Lo usan SimpleJdbcCallMedido y
+ *               las llamadas que se ejecutan directo con JdbcTemplate.
+ */
+class MedidorPlsql {
+
+  static final String METRICA = "plsql.llamadas";
+
+  private static final String EXITO = "exito";
+  private static final String ERROR = "error";
+  /* Límite superior de cada rango de filas; el último rango no tiene límite */
+  private static final long[] LIMITES_FILAS = { 0, 1, 10, 100, 1000 };
+  private static final String[] RANGOS_FILAS = { "0", "1", "2-10", "11-100", "101-1000", "1001+" };
+
+  private final MeterRegistry meterRegistry;
+  private final String paquete;
+  private final String nombre;
+  /* [resultado][rango de filas]; se llenan al primer uso */
+  private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(2 * RANGOS_FILAS.length);
+
+  MedidorPlsql(MeterRegistry meterRegistry, String paquete, String nombre) {
+    this.meterRegistry = meterRegistry;
+    this.paquete = paquete;
+    this.nombre = nombre;
+  }
+
+  /**
+   * Registra una ejecución
+   *
+   * @param evento   evento JFR iniciado antes de la llamada
+   * @param inicio   System.nanoTime() al iniciar la llamada
+   * @param anidadas TiemposPeticion.anidadas() al iniciar la llamada
+   * @param exito    si la llamada terminó sin excepción
+   * @param filas    filas devueltas en los cursores
+   */
+  void registrar(EventoLlamadaPlsql evento, long inicio, long anidadas, boolean exito, long filas) {
+    long duracion = System.nanoTime() - inicio;
+    TiemposPeticion.registrar(EnumFaseTiempo.PLSQL, duracion - (TiemposPeticion.anidadas() - anidadas));
+    int rango = rango(filas);
+
+    evento.end();
+    if (evento.shouldCommit()) {
+      evento.paquete = this.paquete;
+      evento.procedure = this.nombre;
+      evento.filas = filas;
+      evento.exito = exito;
+      evento.commit();
+    }
+    int indice = (exito ? 0 : RANGOS_FILAS.length) + rango;
+
+    Timer timer = this.timers.get(indice);
+    if (timer == null) {
+      // El registro devuelve el mismo timer si dos hilos llegan aquí a la vez
+      timer = Timer.builder(METRICA)
+        .description("Duración de las llamadas a procedures y funciones PL/SQL")
+        .tag("paquete", this.paquete)
+        .tag("procedure", this.nombre)
+        .tag("resultado", exito ? EXITO : ERROR)
+        .tag("filas", RANGOS_FILAS[rango])
+        .register(this.meterRegistry);
+      this.timers.set(indice, timer);
+    }
+    timer.record(duracion, TimeUnit.NANOSECONDS);
+  }
+
+  private static int rango(long filas) {
+    for (int i = 0; i < LIMITES_FILAS.length; i++) {
+      if (filas <= LIMITES_FILAS[i]) {
+        return i;
+      }
+    }
+    return LIMITES_FILAS.length;
+  }
+}
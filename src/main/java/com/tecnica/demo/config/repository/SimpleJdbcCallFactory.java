@@ -1,45 +1,424 @@
 package com.tecnica.demo.config.repository;
 
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.CallableStatementCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlOutParameter;
 import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.stereotype.Component;
 
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.jfr.EventoLlamadaPlsql;
+import com.tecnica.demo.rowmapper.CandidatoEmpleoAgrupadoExtractor;
+import com.tecnica.demo.rowmapper.CandidatoEmpleoExtractor;
+import com.tecnica.demo.rowmapper.CandidatoExtractor;
+import com.tecnica.demo.rowmapper.DatosIndiceExtractor;
+import com.tecnica.demo.rowmapper.EmpleoExtractor;
+import com.tecnica.demo.tiempos.TiemposPeticion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import oracle.jdbc.OracleTypes;
 
+/**
+ * <b>SimpleJdbcCallFactory.java</b>
+ *
+ * @descripcion: Registro de llamadas a los paquetes PL/SQL. Cada procedure o
+ *               función se declara y compila una sola vez al arrancar la
+ *               aplicación; los DAOs reutilizan la instancia compilada, que es
+ *               thread-safe una vez compilada. Cada ejecución, también las
+ *               que se hacen directo con JdbcTemplate (ver ejecutarMedido),
+ *               se mide en el timer plsql.llamadas (ver MedidorPlsql) y el mapeo
+ *               de cada cursor en la fase mapeo de TiemposPeticion (ver
+ *               ExtractorMedido).
+ */
 @Component
 public class SimpleJdbcCallFactory {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(SimpleJdbcCallFactory.class);
+
+  /* Sin esquema en el nombre del paquete se busca en el esquema actual de la sesión, como lo resuelve Oracle */
+  private static final String SQL_PROCEDURES_PAQUETE = "SELECT PROCEDURE_NAME FROM ALL_PROCEDURES "
+    + "WHERE OWNER = NVL(?, SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA')) AND OBJECT_NAME = ? AND PROCEDURE_NAME IS NOT NULL";
+
+  /* Sentencias ejecutadas directo con JdbcTemplate: CALL_LISTAR_* y SQL_PROCEDURES_PAQUETE */
+  private static final int SENTENCIAS_DIRECTAS = 3;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Value("${database.validate-procedures:true}")
+  private boolean validarProcedures;
+
+  @Value("${database.statement-cache-size:64}")
+  private int statementCacheSize;
+
+  /* Llamadas compiladas, indexadas por paquete.nombre; solo se escribe en el arranque */
+  private final Map<String, SimpleJdbcCall> llamadas = new HashMap<>();
+
+  /* Medidores de las llamadas ejecutadas directo con JdbcTemplate, indexados por paquete.nombre */
+  private final Map<String, MedidorPlsql> directas = new ConcurrentHashMap<>();
+
   /**
-   * Metodo que crea una nueva instancia de SimpleJdbcCall con resultSet
+   * Declara, compila y valida todas las llamadas de PKG_CANDIDATOS y PKG_EMPLEOS.
+   */
+  @PostConstruct
+  public void inicializar() {
+    registrarCandidatos();
+    registrarEmpleos();
+
+    if (this.validarProcedures) {
+      validarExistencia();
+    }
+
+    this.llamadas.values().forEach(SimpleJdbcCall::compile);
+    LOGGER.info("Se compilaron {} llamadas a procedures/funciones", this.llamadas.size());
+
+    int sentencias = this.llamadas.size() + SENTENCIAS_DIRECTAS;
+    if (this.statementCacheSize > 0 && this.statementCacheSize < sentencias) {
+      LOGGER.warn("database.statement-cache-size={} no cubre las {} sentencias de la aplicación; el driver "
+        + "desalojará y volverá a parsear statements", this.statementCacheSize, sentencias);
+    }
+  }
+
+  /**
+   * Metodo que obtiene la instancia compilada de SimpleJdbcCall
    *
-   * @param paquete       Paquete del procedure que se ejecutará
-   * @param procedure     Nombre del Procedure que se ejecutará
-   * @param parameterName Nombre del Parametro que será el resultSet
-   * @param rowMapper     RowMapper que indica el mapeo para el resultSet
-   * @param parameters    Parametros de entrada y salida que recibe el procedure
-   * @return SimpleJdbcCall creado con los campos enviados
+   * @param paquete Paquete del procedure o función
+   * @param nombre  Nombre del procedure o función
+   * @return SimpleJdbcCall compilado y listo para ejecutarse
    */
+  public SimpleJdbcCall getJdbcCall(String paquete, String nombre) {
+    SimpleJdbcCall jdbcCall = this.llamadas.get(clave(paquete, nombre));
+
+    if (jdbcCall == null) {
+      throw new IllegalArgumentException("Llamada no registrada: " + clave(paquete, nombre));
+    }
+    return jdbcCall;
+  }
+
+  /**
+   * Ejecuta directo con JdbcTemplate una llamada que SimpleJdbcCall no cubre,
+   * como un cursor leído hacia adelante sin materializarlo, y la mide en
+   * plsql.llamadas con las mismas etiquetas que las llamadas compiladas
+   *
+   * @param paquete Paquete del procedure
+   * @param nombre  Nombre del procedure
+   * @param llamada Sentencia {call ...} que se ejecutará
+   * @param lectura Ejecuta la sentencia y devuelve las filas leídas
+   * @return Filas leídas
+   */
+  public long ejecutarMedido(String paquete, String nombre, String llamada, CallableStatementCallback<Long> lectura) {
+    MedidorPlsql medidor = this.directas.computeIfAbsent(clave(paquete, nombre),
+      llave -> new MedidorPlsql(this.meterRegistry, paquete, nombre));
+
+    EventoLlamadaPlsql evento = new EventoLlamadaPlsql();
+    evento.begin();
+    long inicio = System.nanoTime();
+    long anidadas = TiemposPeticion.anidadas();
+    boolean exito = false;
+    long filas = 0;
+    try {
+      Long leidas = this.jdbcTemplate.execute(llamada, lectura);
+      filas = leidas == null ? 0 : leidas;
+      exito = true;
+      return filas;
+    } finally {
+      medidor.registrar(evento, inicio, anidadas, exito, filas);
+    }
+  }
+
+  private void registrarCandidatos() {
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_INSERTAR_CANDIDATO,
+      new SqlParameter(Constants.PA_NOMBRES, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_APELLIDOS, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_EMAIL, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_FECHA_NACIMIENTO, OracleTypes.DATE),
+      new SqlParameter(Constants.PA_RFC, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_TELEFONO, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_CALLE, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_NUMERO, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_COLONIA, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_CIUDAD, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_ESTADO, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_PAIS, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR),
+      new SqlOutParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_INSERTAR_CANDIDATOS_LOTE,
+      new SqlParameter(Constants.PA_NOMBRES, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_APELLIDOS, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_EMAIL, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_FECHA_NACIMIENTO, OracleTypes.ARRAY, Constants.TIPO_DATE_TAB),
+      new SqlParameter(Constants.PA_RFC, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_TELEFONO, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_CALLE, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_NUMERO, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_COLONIA, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_CIUDAD, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_ESTADO, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_PAIS, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlOutParameter(Constants.PA_CANDIDATO_IDS, OracleTypes.ARRAY, Constants.TIPO_NUMBER_TAB, ArregloOracle.LECTOR),
+      new SqlOutParameter(Constants.PA_CODIGOS_ERROR, OracleTypes.ARRAY, Constants.TIPO_NUMBER_TAB, ArregloOracle.LECTOR));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_ACTUALIZAR_DATOS_PERSONALES,
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_NOMBRES, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_APELLIDOS, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_EMAIL, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_FECHA_NACIMIENTO, OracleTypes.DATE),
+      new SqlParameter(Constants.PA_RFC, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_TELEFONO, OracleTypes.VARCHAR),
+      new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_ACTUALIZAR_DOMICILIO,
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_CALLE, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_NUMERO, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_COLONIA, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_CIUDAD, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_ESTADO, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_PAIS, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR),
+      new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_ELIMINAR_CANDIDATO,
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER));
+
+    registrarFuncion(Constants.PAQUETE_CANDIDATOS, Constants.FN_OBTENER_CANDIDATO,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoExtractor()),
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_OBTENER_PERFIL,
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlOutParameter(Constants.CUR_CANDIDATO, OracleTypes.CURSOR, new CandidatoExtractor()),
+      new SqlOutParameter(Constants.CUR_EMPLEOS, OracleTypes.CURSOR, new EmpleoExtractor()));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.sp_listar_candidatos,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoExtractor()));
+
+    registrarFuncion(Constants.PAQUETE_CANDIDATOS, Constants.FN_BUSCAR_POR_CP,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoExtractor()),
+      new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR));
+
+    registrarFuncionPaginada(Constants.PAQUETE_CANDIDATOS, Constants.FN_PAGINA_CANDIDATOS, new CandidatoExtractor());
+
+    registrarFuncionPaginada(Constants.PAQUETE_CANDIDATOS, Constants.FN_PAGINA_POR_CP, new CandidatoExtractor(),
+      new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR));
+
+    registrarFuncion(Constants.PAQUETE_CANDIDATOS, Constants.FN_DATOS_INDICE_BUSQUEDA,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new DatosIndiceExtractor()),
+      new SqlParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_EMPLEO_ID, OracleTypes.NUMBER));
+
+    registrarFuncion(Constants.PAQUETE_CANDIDATOS, Constants.FN_OBTENER_CANDIDATOS_POR_IDS,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoExtractor()),
+      new SqlParameter(Constants.PA_IDS, OracleTypes.ARRAY, Constants.TIPO_NUMBER_TAB));
+
+    registrarFuncion(Constants.PAQUETE_CANDIDATOS, Constants.FN_CLAVES_EXISTENTES,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoExtractor()),
+      new SqlParameter(Constants.PA_EMAIL, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_RFC, OracleTypes.ARRAY, Constants.TIPO_VARCHAR_TAB),
+      new SqlParameter(Constants.PA_EXCLUIR_ID, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE_CANDIDATOS, Constants.SP_VERSION_DATOS,
+      new SqlParameter(Constants.PA_ALCANCE, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER),
+      new SqlOutParameter(Constants.PA_ULTIMA_ACTUALIZACION, OracleTypes.TIMESTAMP));
+
+    registrarFuncionPaginada(Constants.PAQUETE_CANDIDATOS, Constants.FN_PROYECTAR_CANDIDATOS, new CandidatoExtractor(),
+      new SqlParameter(Constants.PA_COLUMNAS, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR));
+
+    registrarFuncion(Constants.PAQUETE_CANDIDATOS, Constants.FN_EMPLEOS_DE_CANDIDATOS,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new EmpleoExtractor()),
+      new SqlParameter(Constants.PA_IDS, OracleTypes.ARRAY, Constants.TIPO_NUMBER_TAB));
+  }
+
+  private void registrarEmpleos() {
+    registrarProcedure(Constants.PAQUETE, Constants.SP_INSERTAR_EMPLEO,
+      new SqlParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_FECHA_INGRESO, OracleTypes.DATE),
+      new SqlParameter(Constants.PA_FECHA_SALIDA, OracleTypes.DATE),
+      new SqlParameter(Constants.PA_INGRESO_MENSUAL, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_GIRO_EMPRESA, OracleTypes.VARCHAR),
+      new SqlOutParameter(Constants.PA_EMPLEO_ID, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE, Constants.SP_ACTUALIZAR_EMPLEO,
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR),
+      new SqlParameter(Constants.PA_FECHA_INGRESO, OracleTypes.DATE),
+      new SqlParameter(Constants.PA_FECHA_SALIDA, OracleTypes.DATE),
+      new SqlParameter(Constants.PA_INGRESO_MENSUAL, OracleTypes.NUMBER),
+      new SqlParameter(Constants.PA_GIRO_EMPRESA, OracleTypes.VARCHAR),
+      new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER));
+
+    registrarProcedure(Constants.PAQUETE, Constants.SP_ELIMINAR_EMPLEO,
+      new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
+      new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER));
+
+    registrarFuncion(Constants.PAQUETE, Constants.FN_OBTENER_EMPLEOS_CANDIDATO,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new EmpleoExtractor()),
+      new SqlParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER));
+
+    registrarFuncion(Constants.PAQUETE, Constants.FN_CANDIDATOS_POR_EMPRESA,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoAgrupadoExtractor()),
+      new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR));
+
+    registrarFuncion(Constants.PAQUETE, Constants.FN_CANDIDATOS_ANTIGUEDAD_2ANIOS,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoAgrupadoExtractor()));
+
+    registrarFuncion(Constants.PAQUETE, Constants.FN_CANDIDATOS_INGRESO_MAYOR,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoAgrupadoExtractor()),
+      new SqlParameter(Constants.PA_INGRESO_MINIMO, OracleTypes.NUMBER));
+
+    registrarFuncion(Constants.PAQUETE, Constants.FN_CANDIDATOS_EXPERIENCIA,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoExtractor()),
+      new SqlParameter(Constants.PA_ANIOS_EXPERIENCIA, OracleTypes.NUMBER));
+
+    registrarFuncion(Constants.PAQUETE, Constants.FN_CANDIDATOS_LABORANDO_ACTUAL,
+      new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoAgrupadoExtractor()));
+
+    registrarFuncionPaginada(Constants.PAQUETE, Constants.FN_PAGINA_POR_EMPRESA, new CandidatoEmpleoAgrupadoExtractor(),
+      new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR));
 
-  public SimpleJdbcCall createJdbcCall(JdbcTemplate jdbcTemplate, String paquete, String procedure,
-                                       String parameterName, RowMapper<?> rowMapper, SqlParameter... parameters) {
-    return new SimpleJdbcCall(jdbcTemplate).withCatalogName(paquete)
-      .withProcedureName(procedure).withoutProcedureColumnMetaDataAccess().declareParameters(parameters)
-      .returningResultSet(parameterName, rowMapper);
+    registrarFuncionPaginada(Constants.PAQUETE, Constants.FN_PAGINA_ANTIGUEDAD_2ANIOS, new CandidatoEmpleoAgrupadoExtractor());
+
+    registrarFuncionPaginada(Constants.PAQUETE, Constants.FN_PAGINA_INGRESO_MAYOR, new CandidatoEmpleoAgrupadoExtractor(),
+      new SqlParameter(Constants.PA_INGRESO_MINIMO, OracleTypes.NUMBER));
+
+    registrarFuncionPaginada(Constants.PAQUETE, Constants.FN_PAGINA_EXPERIENCIA, new CandidatoEmpleoExtractor(),
+      new SqlParameter(Constants.PA_ANIOS_EXPERIENCIA, OracleTypes.NUMBER));
+
+    registrarFuncionPaginada(Constants.PAQUETE, Constants.FN_PAGINA_LABORANDO_ACTUAL, new CandidatoEmpleoAgrupadoExtractor());
   }
 
   /**
-   * Metodo que crea una nueva instancia de SimpleJdbcCall sin resultSet
+   * Registra un procedure del paquete
    *
    * @param paquete    Paquete del procedure que se ejecutará
    * @param procedure  Nombre del Procedure que se ejecutará
    * @param parameters Parametros de entrada y salida que recibe el procedure
-   * @return SimpleJdbcCall creado con los campos enviados
    */
+  private void registrarProcedure(String paquete, String procedure, SqlParameter... parameters) {
+    this.llamadas.put(clave(paquete, procedure), medido(paquete, procedure).withCatalogName(paquete)
+      .withProcedureName(procedure).withoutProcedureColumnMetaDataAccess().declareParameters(mapeoMedido(parameters)));
+  }
+
+  /**
+   * Registra una función del paquete; el primer parametro declarado es el de retorno
+   *
+   * @param paquete    Paquete de la función que se ejecutará
+   * @param funcion    Nombre de la función que se ejecutará
+   * @param parameters Parametro de retorno seguido de los parametros de entrada
+   */
+  private void registrarFuncion(String paquete, String funcion, SqlParameter... parameters) {
+    this.llamadas.put(clave(paquete, funcion), medido(paquete, funcion).withCatalogName(paquete)
+      .withFunctionName(funcion).withoutProcedureColumnMetaDataAccess().declareParameters(mapeoMedido(parameters)));
+  }
+
+  /**
+   * Registra una función fn_pagina_*: cursor de retorno, filtros propios y los
+   * parametros de paginación por llave comunes a todas
+   *
+   * @param paquete   Paquete de la función que se ejecutará
+   * @param funcion   Nombre de la función que se ejecutará
+   * @param extractor Extractor del cursor
+   * @param filtros   Parametros de entrada propios de la búsqueda
+   */
+  private void registrarFuncionPaginada(String paquete, String funcion, ResultSetExtractor<?> extractor, SqlParameter... filtros) {
+    List<SqlParameter> parameters = new ArrayList<>();
+    parameters.add(new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, extractor));
+    parameters.addAll(List.of(filtros));
+    parameters.add(new SqlParameter(Constants.PA_CURSOR_APELLIDOS, OracleTypes.VARCHAR));
+    parameters.add(new SqlParameter(Constants.PA_CURSOR_NOMBRES, OracleTypes.VARCHAR));
+    parameters.add(new SqlParameter(Constants.PA_CURSOR_ID, OracleTypes.NUMBER));
+    parameters.add(new SqlParameter(Constants.PA_DESCENDENTE, OracleTypes.NUMBER));
+    parameters.add(new SqlParameter(Constants.PA_LIMITE, OracleTypes.NUMBER));
+
+    registrarFuncion(paquete, funcion, parameters.toArray(new SqlParameter[0]));
+  }
+
+  /**
+   * Verifica en el diccionario de datos que cada procedure/función declarado
+   * exista; si falta alguno se detiene el arranque.
+   */
+  private void validarExistencia() {
+    Map<String, Set<String>> existentes = new HashMap<>();
+    List<String> faltantes = new ArrayList<>();
+
+    for (String llave : this.llamadas.keySet()) {
+      int separador = llave.lastIndexOf('.');
+      String paquete = llave.substring(0, separador);
+      String nombre = llave.substring(separador + 1).toUpperCase(Locale.ROOT);
+
+      Set<String> procedures = existentes.computeIfAbsent(paquete, this::consultarProcedures);
+      if (!procedures.contains(nombre)) {
+        faltantes.add(llave);
+      }
+    }
+
+    if (!faltantes.isEmpty()) {
+      throw new IllegalStateException("Procedures/funciones no encontrados en la base de datos: " + faltantes);
+    }
+  }
+
+  /**
+   * Procedures y funciones de un paquete, nombrado como ESQUEMA.PAQUETE o solo PAQUETE
+   */
+  private Set<String> consultarProcedures(String paquete) {
+    String[] partes = paquete.toUpperCase(Locale.ROOT).split("\\.");
+    if (partes.length > 2 || partes[partes.length - 1].isEmpty()) {
+      throw new IllegalStateException("Nombre de paquete no válido, se espera [ESQUEMA.]PAQUETE: " + paquete);
+    }
+    String esquema = partes.length == 2 ? partes[0] : null;
+    String nombre = partes[partes.length - 1];
+    return new HashSet<>(this.jdbcTemplate.queryForList(SQL_PROCEDURES_PAQUETE, String.class,
+      new SqlParameterValue(Types.VARCHAR, esquema), nombre));
+  }
+
+  private SimpleJdbcCall medido(String paquete, String nombre) {
+    return new SimpleJdbcCallMedido(this.jdbcTemplate, this.meterRegistry, paquete, nombre);
+  }
+
+  /**
+   * Envuelve el extractor de cada cursor de salida en un ExtractorMedido
+   */
+  private static SqlParameter[] mapeoMedido(SqlParameter[] parameters) {
+    SqlParameter[] medidos = parameters.clone();
+    for (int i = 0; i < medidos.length; i++) {
+      if (medidos[i] instanceof SqlOutParameter salida && salida.getResultSetExtractor() != null) {
+        medidos[i] = new SqlOutParameter(salida.getName(), salida.getSqlType(),
+          new ExtractorMedido<>(salida.getResultSetExtractor()));
+      }
+    }
+    return medidos;
+  }
 
-  public SimpleJdbcCall createJdbcCall(JdbcTemplate jdbcTemplate, String paquete, String procedure,
-                                       SqlParameter... parameters) {
-    return new SimpleJdbcCall(jdbcTemplate).withCatalogName(paquete)
-      .withProcedureName(procedure).withoutProcedureColumnMetaDataAccess().declareParameters(parameters);
+  private static String clave(String paquete, String nombre) {
+    return paquete + "." + nombre;
   }
 }
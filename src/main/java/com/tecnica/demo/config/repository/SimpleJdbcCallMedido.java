@@ -0,0 +1,101 @@
+package com.tecnica.demo.config.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcCall;
+
+import com.tecnica.demo.jfr.EventoLlamadaPlsql;
+import com.tecnica.demo.tiempos.TiemposPeticion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * <b>SimpleJdbcCallMedido.java</b>
+ *
+ * @descripcion: SimpleJdbcCall que registra cada ejecución en el timer
+ *               plsql.llamadas (ver MedidorPlsql) con las filas devueltas en
+ *               los cursores del resultado.
+ */
+class SimpleJdbcCallMedido extends SimpleJdbcCall {
+
+  private final MedidorPlsql medidor;
+
+  SimpleJdbcCallMedido(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, String paquete, String nombre) {
+    super(jdbcTemplate);
+    this.medidor = new MedidorPlsql(meterRegistry, paquete, nombre);
+  }
+
+  @Override
+  protected Map<String, Object> doExecute(SqlParameterSource parameterSource) {
+    EventoLlamadaPlsql evento = new EventoLlamadaPlsql();
+    evento.begin();
+    long inicio = System.nanoTime();
+    long anidadas = TiemposPeticion.anidadas();
+    boolean exito = false;
+    Map<String, Object> resultado = null;
+    try {
+      resultado = super.doExecute(parameterSource);
+      exito = true;
+      return resultado;
+    } finally {
+      registrar(evento, inicio, anidadas, exito, resultado);
+    }
+  }
+
+  @Override
+  protected Map<String, Object> doExecute(Object... args) {
+    EventoLlamadaPlsql evento = new EventoLlamadaPlsql();
+    evento.begin();
+    long inicio = System.nanoTime();
+    long anidadas = TiemposPeticion.anidadas();
+    boolean exito = false;
+    Map<String, Object> resultado = null;
+    try {
+      resultado = super.doExecute(args);
+      exito = true;
+      return resultado;
+    } finally {
+      registrar(evento, inicio, anidadas, exito, resultado);
+    }
+  }
+
+  @Override
+  protected Map<String, Object> doExecute(Map<String, ?> args) {
+    EventoLlamadaPlsql evento = new EventoLlamadaPlsql();
+    evento.begin();
+    long inicio = System.nanoTime();
+    long anidadas = TiemposPeticion.anidadas();
+    boolean exito = false;
+    Map<String, Object> resultado = null;
+    try {
+      resultado = super.doExecute(args);
+      exito = true;
+      return resultado;
+    } finally {
+      registrar(evento, inicio, anidadas, exito, resultado);
+    }
+  }
+
+  private void registrar(EventoLlamadaPlsql evento, long inicio, long anidadas, boolean exito,
+      Map<String, Object> resultado) {
+    this.medidor.registrar(evento, inicio, anidadas, exito, exito ? filas(resultado) : 0);
+  }
+
+  /**
+   * Filas de los cursores del resultado (listas mapeadas por los extractores)
+   */
+  private static long filas(Map<String, Object> resultado) {
+    long filas = 0;
+    if (resultado != null) {
+      for (Object valor : resultado.values()) {
+        if (valor instanceof Collection<?> coleccion) {
+          filas += coleccion.size();
+        }
+      }
+    }
+    return filas;
+  }
+}
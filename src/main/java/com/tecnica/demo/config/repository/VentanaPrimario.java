@@ -0,0 +1,101 @@
+package com.tecnica.demo.config.repository;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * <b>VentanaPrimario.java</b>
+ *
+ * @descripcion: Ventana en la que las lecturas de un mismo cliente se quedan
+ *               en el primario después de que ese cliente escribió. Se abre
+ *               al confirmar (afterCommit) una transacción de escritura hecha
+ *               dentro de una petición: se guarda en un atributo de la
+ *               petición, para las lecturas que siguen en la misma, y en la
+ *               cookie primario-hasta, que el cliente devuelve en las
+ *               siguientes. Una cookie con un instante más allá de la ventana
+ *               se ignora. Fuera de una petición (arranque, refrescos en
+ *               segundo plano) no hay cliente y no se abre ninguna ventana.
+ */
+class VentanaPrimario {
+
+  static final String COOKIE = "primario-hasta";
+  static final String ATRIBUTO = VentanaPrimario.class.getName() + ".hasta";
+
+  private final long ventanaMs;
+
+  VentanaPrimario(long ventanaMs) {
+    this.ventanaMs = ventanaMs;
+  }
+
+  /**
+   * Abre la ventana del cliente actual cuando la transacción en curso se confirme
+   */
+  void abrirAlConfirmar() {
+    if (this.ventanaMs <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        abrir();
+      }
+    });
+  }
+
+  /**
+   * @return true si el cliente actual escribió hace menos de la ventana
+   */
+  boolean vigente() {
+    HttpServletRequest request = peticion();
+    if (this.ventanaMs <= 0 || request == null) {
+      return false;
+    }
+    long ahora = System.currentTimeMillis();
+    long hasta = request.getAttribute(ATRIBUTO) instanceof Long atributo ? atributo : desdeCookie(request);
+    return ahora < hasta && hasta <= ahora + this.ventanaMs;
+  }
+
+  private void abrir() {
+    if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+      return;
+    }
+    long hasta = System.currentTimeMillis() + this.ventanaMs;
+    atributos.getRequest().setAttribute(ATRIBUTO, hasta);
+
+    HttpServletResponse response = atributos.getResponse();
+    if (response != null && !response.isCommitted()) {
+      Cookie cookie = new Cookie(COOKIE, Long.toString(hasta));
+      cookie.setPath("/");
+      cookie.setHttpOnly(true);
+      cookie.setMaxAge((int) Math.max(1, (this.ventanaMs + 999) / 1000));
+      response.addCookie(cookie);
+    }
+  }
+
+  private static long desdeCookie(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies != null) {
+      for (Cookie cookie : cookies) {
+        if (COOKIE.equals(cookie.getName())) {
+          try {
+            return Long.parseLong(cookie.getValue());
+          } catch (NumberFormatException e) {
+            return 0;
+          }
+        }
+      }
+    }
+    return 0;
+  }
+
+  private static HttpServletRequest peticion() {
+    return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos
+      ? atributos.getRequest() : null;
+  }
+}
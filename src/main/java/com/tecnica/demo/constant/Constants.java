@@ -78,6 +78,8 @@ public class Constants {
   public static final String SP_ACTUALIZAR_DATOS_PERSONALES = "SP_ACTUALIZAR_DATOS_PERSONALES";
   public static final String SP_ELIMINAR_CANDIDATO = "SP_ELIMINAR_CANDIDATO";
   public static final String SP_INSERTAR_CANDIDATO = "SP_INSERTAR_CANDIDATO";
+  public static final String SP_INSERTAR_CANDIDATOS_LOTE = "SP_INSERTAR_CANDIDATOS_LOTE";
+  public static final String SP_OBTENER_PERFIL = "SP_OBTENER_PERFIL";
   public static final String SP_ACTUALIZAR_EMPLEO = "SP_ACTUALIZAR_EMPLEO";
   public static final String SP_ELIMINAR_EMPLEO = "SP_ELIMINAR_EMPLEO";
 
@@ -85,12 +87,30 @@ public class Constants {
   public static final String FN_OBTENER_EMPLEOS_CANDIDATO = "FN_OBTENER_EMPLEOS_CANDIDATO";
   public static final String FN_OBTENER_CANDIDATO = "FN_OBTENER_CANDIDATO";
   public static final String sp_listar_candidatos = "sp_listar_candidatos";
+  public static final String CALL_LISTAR_CANDIDATOS = "{call " + PAQUETE_CANDIDATOS + "." + sp_listar_candidatos + "(?)}";
   public static final String FN_BUSCAR_POR_CP = "FN_BUSCAR_POR_CP";
   public static final String FN_CANDIDATOS_POR_EMPRESA = "FN_CANDIDATOS_POR_EMPRESA";
   public static final String FN_CANDIDATOS_ANTIGUEDAD_2ANIOS = "FN_CANDIDATOS_ANTIGUEDAD_2ANIOS";
   public static final String FN_CANDIDATOS_INGRESO_MAYOR = "FN_CANDIDATOS_INGRESO_MAYOR";
   public static final String FN_CANDIDATOS_EXPERIENCIA = "FN_CANDIDATOS_EXPERIENCIA";
   public static final String FN_CANDIDATOS_LABORANDO_ACTUAL = "FN_CANDIDATOS_LABORANDO_ACTUAL";
+  public static final String FN_DATOS_INDICE_BUSQUEDA = "FN_DATOS_INDICE_BUSQUEDA";
+  public static final String FN_OBTENER_CANDIDATOS_POR_IDS = "FN_OBTENER_CANDIDATOS_POR_IDS";
+  public static final String SP_LISTAR_CLAVES_UNICAS = "SP_LISTAR_CLAVES_UNICAS";
+  public static final String CALL_LISTAR_CLAVES_UNICAS = "{call " + PAQUETE_CANDIDATOS + "." + SP_LISTAR_CLAVES_UNICAS + "(?)}";
+  public static final String FN_CLAVES_EXISTENTES = "FN_CLAVES_EXISTENTES";
+  public static final String SP_VERSION_DATOS = "SP_VERSION_DATOS";
+  public static final String FN_PROYECTAR_CANDIDATOS = "FN_PROYECTAR_CANDIDATOS";
+  public static final String FN_EMPLEOS_DE_CANDIDATOS = "FN_EMPLEOS_DE_CANDIDATOS";
+
+  // Funciones paginadas por llave (apellidos, nombres, id)
+  public static final String FN_PAGINA_CANDIDATOS = "FN_PAGINA_CANDIDATOS";
+  public static final String FN_PAGINA_POR_CP = "FN_PAGINA_POR_CP";
+  public static final String FN_PAGINA_POR_EMPRESA = "FN_PAGINA_POR_EMPRESA";
+  public static final String FN_PAGINA_ANTIGUEDAD_2ANIOS = "FN_PAGINA_ANTIGUEDAD_2ANIOS";
+  public static final String FN_PAGINA_INGRESO_MAYOR = "FN_PAGINA_INGRESO_MAYOR";
+  public static final String FN_PAGINA_EXPERIENCIA = "FN_PAGINA_EXPERIENCIA";
+  public static final String FN_PAGINA_LABORANDO_ACTUAL = "FN_PAGINA_LABORANDO_ACTUAL";
 
   // Parámetros de entrada/salida
   public static final String PA_ID = "P_ID";
@@ -119,8 +139,32 @@ public class Constants {
   public static final String PA_ESTADO = "P_ESTADO";
   public static final String PA_PAIS = "P_PAIS";
   public static final String PA_CODIGO_POSTAL = "P_CODIGO_POSTAL";
+  public static final String PA_CANDIDATO_IDS = "P_CANDIDATO_IDS";
+  public static final String PA_CODIGOS_ERROR = "P_CODIGOS_ERROR";
+  public static final String PA_CURSOR_APELLIDOS = "P_CURSOR_APELLIDOS";
+  public static final String PA_CURSOR_NOMBRES = "P_CURSOR_NOMBRES";
+  public static final String PA_CURSOR_ID = "P_CURSOR_ID";
+  public static final String PA_DESCENDENTE = "P_DESCENDENTE";
+  public static final String PA_LIMITE = "P_LIMITE";
+  public static final String PA_IDS = "P_IDS";
+  public static final String PA_EXCLUIR_ID = "P_EXCLUIR_ID";
+  public static final String PA_ALCANCE = "P_ALCANCE";
+  public static final String PA_ULTIMA_ACTUALIZACION = "P_ULTIMA_ACTUALIZACION";
+  public static final String PA_COLUMNAS = "P_COLUMNAS";
+
+  // Tipos de colección para enlace de arreglos
+  public static final String TIPO_VARCHAR_TAB = "TEST.T_VARCHAR_TAB";
+  public static final String TIPO_DATE_TAB = "TEST.T_DATE_TAB";
+  public static final String TIPO_NUMBER_TAB = "TEST.T_NUMBER_TAB";
+
+  // Códigos de error por fila en operaciones en lote
+  public static final int LOTE_FILA_OK = 0;
+  public static final int LOTE_FILA_DUPLICADA = 1;
+
   // Cursores
   public static final String CUR_RESULTADO = "CUR_RESULTADO";
+  public static final String CUR_CANDIDATO = "CUR_CANDIDATO";
+  public static final String CUR_EMPLEOS = "CUR_EMPLEOS";
 
   // Mensajes de log
   public static final String LOG_ERROR = "Error en operación de empleo";
@@ -185,6 +229,11 @@ public class Constants {
 
   public static final String PATH_CONTROLLER_LISTAR_CANDIDATOS = "/listarCandidatos";
 
+  /**
+   * Cache de GET /candidatos/{id}; límites en spring.cache.caffeine.spec
+   */
+  public static final String CACHE_CANDIDATOS = "candidatos";
+
 
   /**
    * Constructor privado, se agrega para sobreescribir el implicito publico y la
@@ -1,24 +1,50 @@
 package com.tecnica.demo.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tecnica.demo.busqueda.FiltroCandidatos;
+import com.tecnica.demo.config.json.CodecJson;
 import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.DisponibilidadDto;
+import com.tecnica.demo.dto.PaginaDto;
+import com.tecnica.demo.dto.ResultadoLoteDto;
 import com.tecnica.demo.dto.registry.ActualizarDatosPersonalesRequest;
 import com.tecnica.demo.dto.registry.ActualizarDomicilioRequest;
 import com.tecnica.demo.dto.registry.CrearCandidatoRequest;
+import com.tecnica.demo.enums.EnumAlcanceVersion;
 import com.tecnica.demo.model.ApiResponse;
+import com.tecnica.demo.respuestas.CacheRespuestas;
+import com.tecnica.demo.respuestas.VersionRecurso;
 import com.tecnica.demo.service.ICandidatoService;
+import com.tecnica.demo.util.Paginacion;
+import com.tecnica.demo.util.Proyeccion;
 import com.tecnica.demo.util.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 /**
  * <b>CandidatoController.java</b>
@@ -33,10 +59,51 @@ public class CandidatoController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CandidatoController.class);
 
+    /* Llaves del cache de respuestas serializadas */
+    private static final String CLAVE_LISTAR_CANDIDATOS = "GET /candidatos";
+    private static final String CLAVE_CODIGO_POSTAL = "GET /candidatos/buscar/codigo-postal/";
+
     private final ICandidatoService candidatoService;
 
-    public CandidatoController(ICandidatoService candidatoService) {
+    private final CodecJson codecJson;
+
+    private final ValidadorVersion validadorVersion;
+
+    private final CacheRespuestas cacheRespuestas;
+
+    private final int tamanioMaximoPagina;
+
+    private final Duration tiempoMaximoStream;
+
+    /*
+     * Cada stream ocupa una conexión de la réplica mientras dura: se ejecutan en
+     * hilos virtuales propios (no en applicationTaskExecutor, donde esperarían en
+     * la cola con su tiempo máximo corriendo) y los permisos dejan conexiones
+     * libres para el resto de las lecturas
+     */
+    private final AsyncTaskExecutor ejecutorStreams;
+
+    private final Semaphore streamsDisponibles;
+
+    public CandidatoController(ICandidatoService candidatoService, CodecJson codecJson,
+            ValidadorVersion validadorVersion, CacheRespuestas cacheRespuestas,
+            @Value("${paginacion.tamanio-maximo:100}") int tamanioMaximoPagina,
+            @Value("${candidatos.stream.tiempo-maximo:10m}") Duration tiempoMaximoStream,
+            @Value("${candidatos.stream.maximo-concurrentes:0}") int maximoStreams,
+            @Value("${database.replica.maximum-pool-size:${database.maximum-pool-size}}") int poolReplica) {
         this.candidatoService = candidatoService;
+        this.codecJson = codecJson;
+        this.validadorVersion = validadorVersion;
+        this.cacheRespuestas = cacheRespuestas;
+        this.tamanioMaximoPagina = tamanioMaximoPagina;
+        this.tiempoMaximoStream = tiempoMaximoStream;
+
+        SimpleAsyncTaskExecutor ejecutor = new SimpleAsyncTaskExecutor("stream-candidatos-");
+        ejecutor.setVirtualThreads(true);
+        this.ejecutorStreams = ejecutor;
+        // Sin configurar, los streams pueden ocupar la mitad de la réplica; nunca más que el pool
+        this.streamsDisponibles = new Semaphore(maximoStreams > 0
+                ? Math.min(maximoStreams, poolReplica) : Math.max(1, poolReplica / 2));
     }
 
     /**
@@ -66,24 +133,72 @@ public class CandidatoController {
         }
     }
 
+    /**
+     * Crear candidatos en lote
+     *
+     * @param requests candidatos a crear
+     * @return ResponseEntity con el resultado de cada fila, en el orden de la petición
+     */
+    @PostMapping("/lote")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseEntity<ApiResponse<List<ResultadoLoteDto>>> crearCandidatosLote(@RequestBody List<@Valid CrearCandidatoRequest> requests) {
+        LOGGER.info("POST /api/v1/candidatos/lote - Creando lote de {} candidatos", requests.size());
+
+        Result<List<ResultadoLoteDto>> result = candidatoService.crearCandidatosLote(requests);
+
+        if (result.isSuccess()) {
+            ApiResponse<List<ResultadoLoteDto>> response = ApiResponse.success(result.getData(), "Lote procesado exitosamente");
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } else {
+            ApiResponse<List<ResultadoLoteDto>> response = ApiResponse.error(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Error al crear lote de candidatos",
+                    result.getError(),
+                    "/api/v1/candidatos/lote"
+            );
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     /**
      * Listar todos los candidatos
      *
-     * @return ResponseEntity con lista de candidatos
+     * @param fields campos de cada candidato separados por coma (opcional, default: todos)
+     * @param expand "empleos" para incluir el historial de empleos (opcional)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con el cuerpo JSON ya codificado (del cache de
+     *         respuestas o recién guardado en él), o con el error
      */
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<ApiResponse<List<CandidatoDto>>> listarCandidatos() {
+    public ResponseEntity<?> listarCandidatos(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            ServletWebRequest webRequest) throws IOException {
         LOGGER.info("GET /api/v1/candidatos - Listando todos los candidatos");
 
-        Result<List<CandidatoDto>> result = candidatoService.listarCandidatos();
+        Proyeccion proyeccion = proyeccion(fields, expand);
+        // Antes que los datos: una entrada nunca lleva una versión más nueva que su cuerpo.
+        // El 304 lo resuelve Spring MVC con el ETag de la entrada que se responde
+        VersionRecurso recurso = validadorVersion.version(alcanceLista(proyeccion), null);
+
+        String clave = CLAVE_LISTAR_CANDIDATOS + "?" + proyeccion;
+        long version = cacheRespuestas.version();
+        ResponseEntity<byte[]> guardada = cacheRespuestas.responder(clave, version, recurso, webRequest.getRequest());
+        if (guardada != null) {
+            return guardada;
+        }
+
+        Result<List<CandidatoDto>> result = cacheRespuestas.cargar(() -> proyeccion.isCompleta()
+                ? candidatoService.listarCandidatos()
+                : candidatoService.consultarCandidatos(proyeccion, null));
 
         if (result.isSuccess()) {
             ApiResponse<List<CandidatoDto>> response = ApiResponse.success(
                     result.getData(),
                     "Candidatos obtenidos exitosamente"
             );
-            return ResponseEntity.ok(response);
+            return cacheRespuestas.guardarYResponder(clave, version, recurso, response, webRequest.getRequest());
         } else {
             ApiResponse<List<CandidatoDto>> response = ApiResponse.error(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -95,18 +210,170 @@ public class CandidatoController {
         }
     }
 
+    /**
+     * Listar candidatos, paginado por llave
+     *
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @param fields campos de cada candidato separados por coma (opcional, default: todos)
+     * @param expand "empleos" para incluir el historial de empleos (opcional)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> listarCandidatosPagina(
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            ServletWebRequest webRequest) {
+        LOGGER.info("GET /api/v1/candidatos?tamanio={}&cursor={}&orden={}", tamanio, cursor, orden);
+
+        Paginacion pagina = paginacion(cursor, orden, tamanio);
+        Proyeccion proyeccion = proyeccion(fields, expand);
+        if (validadorVersion.noModificado(webRequest, alcanceLista(proyeccion), null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        Result<PaginaDto<CandidatoDto>> result = proyeccion.isCompleta()
+                ? candidatoService.listarCandidatosPagina(pagina)
+                : candidatoService.consultarCandidatosPagina(proyeccion, null, pagina);
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos obtenidos exitosamente"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/candidatos"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Listar todos los candidatos en streaming, un objeto JSON por línea (NDJSON)
+     *
+     * @param response respuesta en la que se escribe cada candidato conforme se lee del cursor
+     * @return tarea asíncrona con su propio tiempo máximo
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> transmitirCandidatosNdjson(HttpServletResponse response) {
+        LOGGER.info("GET /api/v1/candidatos - Transmitiendo candidatos como NDJSON");
+
+        return transmitirConLimite(response, MediaType.APPLICATION_NDJSON, out -> transmitir(out, true));
+    }
+
+    /**
+     * Listar todos los candidatos en streaming como arreglo JSON enviado por partes
+     *
+     * @param response respuesta en la que se escribe cada candidato conforme se lee del cursor
+     * @return tarea asíncrona con su propio tiempo máximo
+     */
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public WebAsyncTask<Void> transmitirCandidatosArreglo(HttpServletResponse response) {
+        LOGGER.info("GET /api/v1/candidatos?stream=true - Transmitiendo candidatos como arreglo JSON");
+
+        return transmitirConLimite(response, MediaType.APPLICATION_JSON, out -> transmitir(out, false));
+    }
+
+    /**
+     * Escribe el cuerpo dentro de una WebAsyncTask con candidatos.stream.tiempo-maximo,
+     * de modo que solo el streaming amplía el tiempo asíncrono y el resto de los
+     * endpoints conserva el de spring.mvc.async.request-timeout. Si ya hay
+     * candidatos.stream.maximo-concurrentes streams en curso responde 503 en lugar
+     * de esperar una conexión de la réplica
+     */
+    private WebAsyncTask<Void> transmitirConLimite(HttpServletResponse response, MediaType tipo,
+            StreamingResponseBody cuerpo) {
+        if (!streamsDisponibles.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Demasiadas transmisiones en curso, intente más tarde");
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(tipo.toString());
+
+        return new WebAsyncTask<>(tiempoMaximoStream.toMillis(), ejecutorStreams, () -> {
+            try {
+                cuerpo.writeTo(response.getOutputStream());
+                response.flushBuffer();
+                return null;
+            } finally {
+                streamsDisponibles.release();
+            }
+        });
+    }
+
+    /**
+     * Escribe los candidatos directamente en la respuesta sin acumularlos en memoria
+     */
+    private void transmitir(OutputStream out, boolean ndjson) throws IOException {
+        try (JsonGenerator generator = codecJson.getObjectMapper().getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+
+            Result<Long> result = candidatoService.transmitirCandidatos(candidato -> {
+                try {
+                    codecJson.escribir(candidato, generator);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            if (!result.isSuccess()) {
+                // La respuesta ya está comprometida; se corta para que el cliente no la tome como completa
+                throw new IOException(result.getError());
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
     /**
      * Obtener candidato por ID
      *
      * @param id ID del candidato
+     * @param fields campos del candidato separados por coma (opcional, default: todos)
+     * @param expand "empleos" para incluir el historial de empleos (opcional)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
      * @return ResponseEntity con datos del candidato
      */
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<ApiResponse<CandidatoDto>> obtenerCandidato(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<CandidatoDto>> obtenerCandidato(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            ServletWebRequest webRequest) {
         LOGGER.info("GET /api/v1/candidatos/{} - Obteniendo candidato", id);
 
-        Result<CandidatoDto> result = candidatoService.obtenerCandidato(id);
+        Proyeccion proyeccion = proyeccion(fields, expand);
+        EnumAlcanceVersion alcance = proyeccion.isExpandirEmpleos() ? EnumAlcanceVersion.PERFIL : EnumAlcanceVersion.CANDIDATO;
+        if (validadorVersion.noModificado(webRequest, alcance, id)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        // La respuesta completa sale del cache de candidatos; las proyecciones van a Oracle
+        Result<CandidatoDto> result = proyeccion.isCompleta()
+                ? candidatoService.obtenerCandidato(id)
+                : candidatoService.obtenerCandidato(id, proyeccion);
 
         if (result.isSuccess()) {
             ApiResponse<CandidatoDto> response = ApiResponse.success(
@@ -125,26 +392,82 @@ public class CandidatoController {
         }
     }
 
+    /**
+     * Obtener perfil del candidato con su historial de empleos
+     *
+     * @param id ID del candidato
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con datos del candidato y su lista de empleos
+     */
+    @GetMapping("/{id}/perfil")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<CandidatoDto>> obtenerPerfil(@PathVariable Long id, ServletWebRequest webRequest) {
+        LOGGER.info("GET /api/v1/candidatos/{}/perfil - Obteniendo perfil", id);
+
+        if (validadorVersion.noModificado(webRequest, EnumAlcanceVersion.PERFIL, id)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        Result<CandidatoDto> result = candidatoService.obtenerPerfil(id);
+
+        if (result.isSuccess()) {
+            ApiResponse<CandidatoDto> response = ApiResponse.success(
+                    result.getData(),
+                    "Perfil encontrado"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<CandidatoDto> response = ApiResponse.error(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Candidato no encontrado",
+                    result.getError(),
+                    "/api/v1/candidatos/" + id + "/perfil"
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
     /**
      * Buscar candidatos por código postal
      *
      * @param codigoPostal código postal
-     * @return ResponseEntity con lista de candidatos
+     * @param fields campos de cada candidato separados por coma (opcional, default: todos)
+     * @param expand "empleos" para incluir el historial de empleos (opcional)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     *                   y para elegir el cuerpo comprimido del cache de respuestas
+     * @return ResponseEntity con el cuerpo JSON ya codificado, o con el error
      */
     @GetMapping("/buscar/codigo-postal/{codigoPostal}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<ApiResponse<List<CandidatoDto>>> buscarPorCodigoPostal(
-            @PathVariable String codigoPostal) {
+    public ResponseEntity<?> buscarPorCodigoPostal(
+            @PathVariable String codigoPostal,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            ServletWebRequest webRequest) throws IOException {
         LOGGER.info("GET /api/v1/candidatos/buscar/codigo-postal/{} - Buscando candidatos", codigoPostal);
 
-        Result<List<CandidatoDto>> result = candidatoService.buscarPorCodigoPostal(codigoPostal);
+        Proyeccion proyeccion = proyeccion(fields, expand);
+        // Antes que los datos: una entrada nunca lleva una versión más nueva que su cuerpo.
+        // El 304 lo resuelve Spring MVC con el ETag de la entrada que se responde
+        VersionRecurso recurso = validadorVersion.version(alcanceLista(proyeccion), null);
+
+        String clave = CLAVE_CODIGO_POSTAL + codigoPostal + "?" + proyeccion;
+        long version = cacheRespuestas.version();
+        ResponseEntity<byte[]> guardada = cacheRespuestas.responder(clave, version, recurso, webRequest.getRequest());
+        if (guardada != null) {
+            return guardada;
+        }
+
+        Result<List<CandidatoDto>> result = cacheRespuestas.cargar(() -> proyeccion.isCompleta()
+                ? candidatoService.buscarPorCodigoPostal(codigoPostal)
+                : candidatoService.consultarCandidatos(proyeccion, codigoPostal));
 
         if (result.isSuccess()) {
             ApiResponse<List<CandidatoDto>> response = ApiResponse.success(
                     result.getData(),
                     "Búsqueda completada"
             );
-            return ResponseEntity.ok(response);
+            return cacheRespuestas.guardarYResponder(clave, version, recurso, response, webRequest.getRequest());
         } else {
             ApiResponse<List<CandidatoDto>> response = ApiResponse.error(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -156,6 +479,57 @@ public class CandidatoController {
         }
     }
 
+    /**
+     * Buscar candidatos por código postal, paginado por llave
+     *
+     * @param codigoPostal código postal
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @param fields campos de cada candidato separados por coma (opcional, default: todos)
+     * @param expand "empleos" para incluir el historial de empleos (opcional)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(value = "/buscar/codigo-postal/{codigoPostal}", params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> buscarPorCodigoPostalPagina(
+            @PathVariable String codigoPostal,
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            ServletWebRequest webRequest) {
+        LOGGER.info("GET /api/v1/candidatos/buscar/codigo-postal/{}?tamanio={}&cursor={}&orden={}", codigoPostal, tamanio, cursor, orden);
+
+        Paginacion pagina = paginacion(cursor, orden, tamanio);
+        Proyeccion proyeccion = proyeccion(fields, expand);
+        if (validadorVersion.noModificado(webRequest, alcanceLista(proyeccion), null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        Result<PaginaDto<CandidatoDto>> result = proyeccion.isCompleta()
+                ? candidatoService.buscarPorCodigoPostalPagina(codigoPostal, pagina)
+                : candidatoService.consultarCandidatosPagina(proyeccion, codigoPostal, pagina);
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Búsqueda completada"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/candidatos/buscar/codigo-postal/" + codigoPostal
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * Actualizar datos personales
      *
@@ -243,4 +617,127 @@ public class CandidatoController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Filtrar candidatos combinando criterios (AND) con el índice en memoria
+     *
+     * @param laborando con o sin empleo actual (opcional)
+     * @param ingresoMinimo ingreso del empleo actual mayor a (opcional)
+     * @param aniosExperiencia años de experiencia mayor a (opcional)
+     * @param estado estado del domicilio (opcional)
+     * @param tamanio tamaño de página (opcional, default: máximo)
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @return ResponseEntity con la página de candidatos en orden de ID y el total de coincidencias
+     */
+    @GetMapping("/filtrar")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> filtrarCandidatos(
+            @RequestParam(required = false) Boolean laborando,
+            @RequestParam(required = false) BigDecimal ingresoMinimo,
+            @RequestParam(required = false) BigDecimal aniosExperiencia,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) Integer tamanio,
+            @RequestParam(required = false) String cursor) {
+        LOGGER.info("GET /api/v1/candidatos/filtrar?laborando={}&ingresoMinimo={}&aniosExperiencia={}&estado={}",
+                laborando, ingresoMinimo, aniosExperiencia, estado);
+
+        int tamanioPagina = tamanio != null ? tamanio : tamanioMaximoPagina;
+        if (tamanioPagina < 1 || tamanioPagina > tamanioMaximoPagina) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "El tamaño de página debe estar entre 1 y " + tamanioMaximoPagina);
+        }
+        Long despuesDe;
+        try {
+            despuesDe = Paginacion.idDeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        FiltroCandidatos filtro = new FiltroCandidatos(laborando, ingresoMinimo, aniosExperiencia, estado);
+        Result<PaginaDto<CandidatoDto>> result = candidatoService.filtrarCandidatos(filtro, despuesDe, tamanioPagina);
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos obtenidos exitosamente"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/candidatos/filtrar"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Verificar si un email y un RFC están libres antes de enviar un alta o cambio
+     *
+     * @param email email a verificar (opcional)
+     * @param rfc RFC a verificar (opcional)
+     * @param excluirId ID del candidato que se está editando (opcional)
+     * @return ResponseEntity con la disponibilidad de cada valor recibido
+     */
+    @GetMapping("/disponibilidad")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<DisponibilidadDto>> verificarDisponibilidad(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String rfc,
+            @RequestParam(required = false) Long excluirId) {
+        LOGGER.info("GET /api/v1/candidatos/disponibilidad?email={}&rfc={}&excluirId={}", email, rfc, excluirId);
+
+        if (email == null && rfc == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Se requiere email o rfc");
+        }
+
+        Result<DisponibilidadDto> result = candidatoService.verificarDisponibilidad(email, rfc, excluirId);
+
+        if (result.isSuccess()) {
+            ApiResponse<DisponibilidadDto> response = ApiResponse.success(
+                    result.getData(),
+                    "Disponibilidad verificada"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<DisponibilidadDto> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error al verificar disponibilidad",
+                    result.getError(),
+                    "/api/v1/candidatos/disponibilidad"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Valida los parámetros de paginación; un valor inválido responde 400
+     */
+    private Paginacion paginacion(String cursor, String orden, Integer tamanio) {
+        try {
+            return Paginacion.de(cursor, orden, tamanio, tamanioMaximoPagina);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Valida fields y expand; un campo inválido responde 400
+     */
+    private static Proyeccion proyeccion(String fields, String expand) {
+        try {
+            return Proyeccion.de(fields, expand);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Con empleos expandidos la versión de la lista depende también de la tabla de empleos
+     */
+    private static EnumAlcanceVersion alcanceLista(Proyeccion proyeccion) {
+        return proyeccion.isExpandirEmpleos() ? EnumAlcanceVersion.CANDIDATOS_EMPLEOS : EnumAlcanceVersion.CANDIDATOS;
+    }
+
+}
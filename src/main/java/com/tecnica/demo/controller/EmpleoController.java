@@ -1,18 +1,24 @@
 package com.tecnica.demo.controller;
 
 import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.PaginaDto;
 import com.tecnica.demo.dto.EmpleoDto;
 import com.tecnica.demo.dto.registry.ActualizarEmpleoRequest;
 import com.tecnica.demo.dto.registry.CrearEmpleoRequest;
+import com.tecnica.demo.enums.EnumAlcanceVersion;
 import com.tecnica.demo.model.ApiResponse;
 import com.tecnica.demo.service.IEmpleoService;
+import com.tecnica.demo.util.Paginacion;
 import com.tecnica.demo.util.Result;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,8 +38,15 @@ public class EmpleoController {
 
     private final IEmpleoService empleoService;
 
-    public EmpleoController(IEmpleoService empleoService) {
+    private final ValidadorVersion validadorVersion;
+
+    private final int tamanioMaximoPagina;
+
+    public EmpleoController(IEmpleoService empleoService, ValidadorVersion validadorVersion,
+            @Value("${paginacion.tamanio-maximo:100}") int tamanioMaximoPagina) {
         this.empleoService = empleoService;
+        this.validadorVersion = validadorVersion;
+        this.tamanioMaximoPagina = tamanioMaximoPagina;
     }
 
     /**
@@ -70,14 +83,19 @@ public class EmpleoController {
      * Obtener empleos de un candidato
      *
      * @param candidatoId ID del candidato
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
      * @return ResponseEntity con lista de empleos
      */
     @GetMapping("/candidato/{candidatoId}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<ApiResponse<List<EmpleoDto>>> obtenerEmpleosCandidato(
-            @PathVariable Long candidatoId) {
+            @PathVariable Long candidatoId, ServletWebRequest webRequest) {
         LOGGER.info("GET /api/v1/empleos/candidato/{} - Obteniendo empleos", candidatoId);
 
+        if (validadorVersion.noModificado(webRequest, EnumAlcanceVersion.EMPLEOS_CANDIDATO, candidatoId)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         Result<List<EmpleoDto>> result = empleoService.obtenerEmpleosCandidato(candidatoId);
 
         if (result.isSuccess()) {
@@ -158,14 +176,19 @@ public class EmpleoController {
      * Buscar candidatos por empresa
      *
      * @param nombreEmpresa nombre de la empresa
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
      * @return ResponseEntity con lista de candidatos
      */
     @GetMapping("/buscar/empresa")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<ApiResponse<List<CandidatoDto>>> buscarCandidatosPorEmpresa(
-            @RequestParam String nombreEmpresa) {
+            @RequestParam String nombreEmpresa, ServletWebRequest webRequest) {
         LOGGER.info("GET /api/v1/empleos/buscar/empresa?nombreEmpresa={}", nombreEmpresa);
 
+        if (validadorVersion.noModificado(webRequest, EnumAlcanceVersion.CANDIDATOS_EMPLEOS, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         Result<List<CandidatoDto>> result = empleoService.buscarCandidatosPorEmpresa(nombreEmpresa);
 
         if (result.isSuccess()) {
@@ -305,4 +328,217 @@ public class EmpleoController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Buscar candidatos por empresa, paginado por llave
+     *
+     * @param nombreEmpresa nombre de la empresa
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(value = "/buscar/empresa", params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> buscarCandidatosPorEmpresaPagina(
+            @RequestParam String nombreEmpresa,
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden,
+            ServletWebRequest webRequest) {
+        LOGGER.info("GET /api/v1/empleos/buscar/empresa?nombreEmpresa={}&tamanio={}&cursor={}&orden={}", nombreEmpresa, tamanio, cursor, orden);
+
+        Paginacion pagina = paginacion(cursor, orden, tamanio);
+        if (validadorVersion.noModificado(webRequest, EnumAlcanceVersion.CANDIDATOS_EMPLEOS, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        Result<PaginaDto<CandidatoDto>> result = empleoService.buscarCandidatosPorEmpresaPagina(nombreEmpresa, pagina);
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos encontrados"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/empleos/buscar/empresa"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Candidatos con antigüedad mayor a 2 años, paginado por llave
+     *
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(value = "/buscar/antiguedad-2-anios", params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> candidatosConAntiguedad2AniosPagina(
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden) {
+        LOGGER.info("GET /api/v1/empleos/buscar/antiguedad-2-anios?tamanio={}&cursor={}&orden={}", tamanio, cursor, orden);
+
+        Result<PaginaDto<CandidatoDto>> result = empleoService.candidatosConAntiguedad2AniosPagina(paginacion(cursor, orden, tamanio));
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos con antigüedad > 2 años"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/empleos/buscar/antiguedad-2-anios"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Candidatos con ingreso mayor al especificado, paginado por llave
+     *
+     * @param ingresoMinimo ingreso mínimo (opcional, default: 10000)
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(value = "/buscar/ingreso-mayor", params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> candidatosConIngresoMayorPagina(
+            @RequestParam(required = false) BigDecimal ingresoMinimo,
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden,
+            ServletWebRequest webRequest) {
+        LOGGER.info("GET /api/v1/empleos/buscar/ingreso-mayor?ingresoMinimo={}&tamanio={}&cursor={}&orden={}", ingresoMinimo, tamanio, cursor, orden);
+
+        Paginacion pagina = paginacion(cursor, orden, tamanio);
+        if (validadorVersion.noModificado(webRequest, EnumAlcanceVersion.CANDIDATOS_EMPLEOS, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        Result<PaginaDto<CandidatoDto>> result = empleoService.candidatosConIngresoMayorPagina(ingresoMinimo, pagina);
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos con ingreso mayor a " + (ingresoMinimo != null ? ingresoMinimo : 10000)
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/empleos/buscar/ingreso-mayor"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Candidatos con más de X años de experiencia, paginado por llave
+     *
+     * @param aniosExperiencia años de experiencia (opcional, default: 5)
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(value = "/buscar/experiencia", params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> candidatosConExperienciaPagina(
+            @RequestParam(required = false) BigDecimal aniosExperiencia,
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden) {
+        LOGGER.info("GET /api/v1/empleos/buscar/experiencia?aniosExperiencia={}&tamanio={}&cursor={}&orden={}", aniosExperiencia, tamanio, cursor, orden);
+
+        Result<PaginaDto<CandidatoDto>> result = empleoService.candidatosConExperienciaPagina(aniosExperiencia, paginacion(cursor, orden, tamanio));
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos con experiencia > " + (aniosExperiencia != null ? aniosExperiencia : 5) + " años"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/empleos/buscar/experiencia"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Candidatos laborando actualmente, paginado por llave
+     *
+     * @param tamanio tamaño de página
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param orden apellidos | -apellidos (opcional, default: apellidos)
+     * @param webRequest petición, para responder 304 si el cliente tiene la versión vigente
+     * @return ResponseEntity con la página de candidatos
+     */
+    @GetMapping(value = "/buscar/laborando-actualmente", params = "tamanio")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ApiResponse<PaginaDto<CandidatoDto>>> candidatosLaborandoActualmentePagina(
+            @RequestParam Integer tamanio,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String orden,
+            ServletWebRequest webRequest) {
+        LOGGER.info("GET /api/v1/empleos/buscar/laborando-actualmente?tamanio={}&cursor={}&orden={}", tamanio, cursor, orden);
+
+        Paginacion pagina = paginacion(cursor, orden, tamanio);
+        if (validadorVersion.noModificado(webRequest, EnumAlcanceVersion.CANDIDATOS_EMPLEOS, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        Result<PaginaDto<CandidatoDto>> result = empleoService.candidatosLaborandoActualmentePagina(pagina);
+
+        if (result.isSuccess()) {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.success(
+                    result.getData(),
+                    "Candidatos laborando actualmente"
+            );
+            return ResponseEntity.ok(response);
+        } else {
+            ApiResponse<PaginaDto<CandidatoDto>> response = ApiResponse.error(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Error en la búsqueda",
+                    result.getError(),
+                    "/api/v1/empleos/buscar/laborando-actualmente"
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Valida los parámetros de paginación; un valor inválido responde 400
+     */
+    private Paginacion paginacion(String cursor, String orden, Integer tamanio) {
+        try {
+            return Paginacion.de(cursor, orden, tamanio, tamanioMaximoPagina);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+}
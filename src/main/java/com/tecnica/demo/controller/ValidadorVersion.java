@@ -0,0 +1,88 @@
+package com.tecnica.demo.controller;
+
+import com.tecnica.demo.enums.EnumAlcanceVersion;
+import com.tecnica.demo.respuestas.VersionRecurso;
+import com.tecnica.demo.service.IVersionService;
+import com.tecnica.demo.util.Result;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * <b>ValidadorVersion.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: GET condicional para los controladores. Calcula ETag y
+ *               Last-Modified con la versión del recurso y responde si el
+ *               cliente ya tiene esa versión, antes de consultar, mapear y
+ *               serializar los datos.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Component
+public class ValidadorVersion {
+
+    private final IVersionService versionService;
+
+    public ValidadorVersion(IVersionService versionService) {
+        this.versionService = versionService;
+    }
+
+    /**
+     * Agrega ETag y Last-Modified a la respuesta y evalúa If-None-Match /
+     * If-Modified-Since. Si la versión no se puede obtener la petición sigue
+     * sin encabezados de versión.
+     *
+     * @param request petición en curso
+     * @param alcance recurso que se responde
+     * @param candidatoId ID del candidato; nulo para CANDIDATOS
+     * @return true si el cliente ya tiene la versión vigente y debe responderse 304
+     */
+    public boolean noModificado(ServletWebRequest request, EnumAlcanceVersion alcance, Long candidatoId) {
+        VersionRecurso version = version(alcance, candidatoId);
+
+        if (version == null) {
+            return false;
+        }
+
+        // Sin esto Spring Security agrega no-store y ningún cliente HTTP guardaría la respuesta
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+
+        return request.checkNotModified(version.etag(), version.ultimaActualizacion().toEpochMilli());
+    }
+
+    /**
+     * Versión vigente del recurso, sin tocar la respuesta. La usan los
+     * endpoints cuyo cuerpo sale de CacheRespuestas: el ETag debe ser el de
+     * la entrada servida, no el de la versión recién leída.
+     *
+     * @param alcance recurso que se responde
+     * @param candidatoId ID del candidato; nulo para CANDIDATOS
+     * @return versión y ETag; null si la versión no se puede obtener
+     */
+    public VersionRecurso version(EnumAlcanceVersion alcance, Long candidatoId) {
+        Result<Instant> version = versionService.obtenerVersion(alcance, candidatoId);
+
+        if (!version.isSuccess() || version.getData() == null) {
+            return null;
+        }
+        return new VersionRecurso(version.getData(), etag(alcance, candidatoId, version.getData()));
+    }
+
+    /**
+     * ETag fuerte: recurso y microsegundos de la última actualización
+     */
+    private static String etag(EnumAlcanceVersion alcance, Long candidatoId, Instant ultimaActualizacion) {
+        long micros = ultimaActualizacion.getEpochSecond() * 1_000_000L + ultimaActualizacion.getNano() / 1_000;
+        String recurso = alcance.name().toLowerCase(Locale.ROOT) + (candidatoId != null ? "-" + candidatoId : "");
+
+        return "\"" + recurso + "-" + Long.toHexString(micros) + "\"";
+    }
+}
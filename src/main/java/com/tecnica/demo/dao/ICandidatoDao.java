@@ -1,11 +1,17 @@
 package com.tecnica.demo.dao;
 
+import com.tecnica.demo.dto.CandidatoDto;
 import com.tecnica.demo.dto.registry.ActualizarDatosPersonalesRequest;
 import com.tecnica.demo.dto.registry.ActualizarDomicilioRequest;
 import com.tecnica.demo.dto.registry.CrearCandidatoRequest;
+import com.tecnica.demo.enums.EnumAlcanceVersion;
+import com.tecnica.demo.util.Paginacion;
+
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * <b>ICandidatoDao.java</b>
@@ -22,8 +28,18 @@ public interface ICandidatoDao {
      * @param request datos del candidato a crear
      * @return Map con candidatoId y statusOper
      */
+    @Transactional
     Map<String, Object> insertarCandidato(CrearCandidatoRequest request);
 
+    /**
+     * Insertar un lote de candidatos en una sola llamada
+     *
+     * @param lote candidatos a crear
+     * @return Map con los arreglos candidatoIds y codigosError, en el orden del lote
+     */
+    @Transactional
+    Map<String, Object> insertarCandidatosLote(List<CrearCandidatoRequest> lote);
+
     /**
      * Actualizar datos personales del candidato
      *
@@ -31,6 +47,7 @@ public interface ICandidatoDao {
      * @param request datos personales a actualizar
      * @return Integer status de la operación
      */
+    @Transactional
     Integer actualizarDatosPersonales(Long candidatoId, ActualizarDatosPersonalesRequest request);
 
     /**
@@ -40,6 +57,7 @@ public interface ICandidatoDao {
      * @param request datos del domicilio a actualizar
      * @return Integer status de la operación
      */
+    @Transactional
     Integer actualizarDomicilio(Long candidatoId, ActualizarDomicilioRequest request);
 
     /**
@@ -48,6 +66,7 @@ public interface ICandidatoDao {
      * @param candidatoId ID del candidato a eliminar
      * @return Integer status de la operación
      */
+    @Transactional
     Integer eliminarCandidato(Long candidatoId);
 
     /**
@@ -56,21 +75,131 @@ public interface ICandidatoDao {
      * @param candidatoId ID del candidato
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> obtenerCandidato(Long candidatoId);
 
+    /**
+     * Obtener candidato y sus empleos en una sola llamada
+     *
+     * @param candidatoId ID del candidato
+     * @return Map con el cursor del candidato y el cursor de empleos
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> obtenerPerfil(Long candidatoId);
+
     /**
      * Listar todos los candidatos activos
      *
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> listarCandidatos();
 
+    /**
+     * Listar candidatos activos, paginado por llave
+     *
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> listarCandidatosPagina(Paginacion pagina);
+
+    /**
+     * Recorrer los candidatos activos fila por fila sin materializar el cursor
+     *
+     * @param consumidor recibe cada candidato conforme se lee del cursor
+     * @return número de candidatos leídos
+     */
+    @Transactional(readOnly = true)
+    long recorrerCandidatos(Consumer<CandidatoDto> consumidor);
+
     /**
      * Buscar candidatos por código postal
      *
      * @param codigoPostal código postal a buscar
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> buscarPorCodigoPostal(String codigoPostal);
 
-}
\ No newline at end of file
+    /**
+     * Buscar candidatos por código postal, paginado por llave
+     *
+     * @param codigoPostal código postal a buscar
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> buscarPorCodigoPostalPagina(String codigoPostal, Paginacion pagina);
+
+
+    /**
+     * Obtener los atributos del índice de búsqueda en memoria
+     *
+     * @param candidatoId ID del candidato; nulo junto con empleoId para todos los activos
+     * @param empleoId ID de un empleo del candidato, cuando no se conoce el candidato
+     * @return Map con cursor de DatosIndiceDto
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> obtenerDatosIndice(Long candidatoId, Long empleoId);
+
+    /**
+     * Obtener candidatos activos por ID
+     *
+     * @param candidatoIds IDs de los candidatos
+     * @return Map con cursor de candidatos ordenados por ID
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> obtenerCandidatosPorIds(long[] candidatoIds);
+
+    /**
+     * Recorrer email y RFC de todos los candidatos, activos o no, sin materializar el cursor
+     *
+     * @param consumidor recibe cada candidato (solo email y RFC) conforme se lee del cursor
+     * @return número de candidatos leídos
+     */
+    @Transactional(readOnly = true)
+    long recorrerClavesUnicas(Consumer<CandidatoDto> consumidor);
+
+    /**
+     * Buscar candidatos, activos o no, que ya usan alguno de los emails o RFCs
+     *
+     * @param emails emails a verificar
+     * @param rfcs RFCs a verificar
+     * @param excluirId candidato que no se considera duplicado de sí mismo (opcional)
+     * @return Map con cursor de candidatos (id, email y RFC)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> buscarClavesExistentes(List<String> emails, List<String> rfcs, Long excluirId);
+
+    /**
+     * Obtener la última fecha de actualización de los datos de un recurso
+     *
+     * @param alcance recurso a versionar
+     * @param candidatoId ID del candidato; no aplica para CANDIDATOS
+     * @return Map con la fecha (Timestamp), nula si el recurso no tiene filas
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> obtenerVersion(EnumAlcanceVersion alcance, Long candidatoId);
+
+    /**
+     * Consultar candidatos activos leyendo solo las columnas indicadas
+     *
+     * @param columnas columnas separadas por coma; nulo para todas
+     * @param candidatoId ID del candidato (opcional)
+     * @param codigoPostal código postal (opcional)
+     * @param pagina cursor, orden y tamaño de página; nulo para no paginar
+     * @return Map con el cursor de candidatos ordenados por apellidos, nombres e ID
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> proyectarCandidatos(String columnas, Long candidatoId, String codigoPostal, Paginacion pagina);
+
+    /**
+     * Obtener los empleos activos de varios candidatos en una sola llamada
+     *
+     * @param candidatoIds IDs de los candidatos
+     * @return Map con cursor de empleos ordenados por candidato y fecha de ingreso descendente
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> obtenerEmpleosDeCandidatos(long[] candidatoIds);
+}
@@ -2,6 +2,9 @@ package com.tecnica.demo.dao;
 
 import com.tecnica.demo.dto.registry.ActualizarEmpleoRequest;
 import com.tecnica.demo.dto.registry.CrearEmpleoRequest;
+import com.tecnica.demo.util.Paginacion;
+
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Map;
@@ -22,6 +25,7 @@ public interface IEmpleoDao {
      * @param request datos del empleo a crear
      * @return Map con empleoId y statusOper
      */
+    @Transactional
     Map<String, Object> insertarEmpleo(Long candidatoId, CrearEmpleoRequest request);
 
     /**
@@ -31,6 +35,7 @@ public interface IEmpleoDao {
      * @param request datos del empleo a actualizar
      * @return Integer status de la operación
      */
+    @Transactional
     Integer actualizarEmpleo(Long empleoId, ActualizarEmpleoRequest request);
 
     /**
@@ -39,6 +44,7 @@ public interface IEmpleoDao {
      * @param empleoId ID del empleo a eliminar
      * @return Integer status de la operación
      */
+    @Transactional
     Integer eliminarEmpleo(Long empleoId);
 
     /**
@@ -47,6 +53,7 @@ public interface IEmpleoDao {
      * @param candidatoId ID del candidato
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> obtenerEmpleosCandidato(Long candidatoId);
 
     /**
@@ -55,6 +62,7 @@ public interface IEmpleoDao {
      * @param nombreEmpresa nombre de la empresa
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> buscarCandidatosPorEmpresa(String nombreEmpresa);
 
     /**
@@ -62,6 +70,7 @@ public interface IEmpleoDao {
      *
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> candidatosConAntiguedad2Anios();
 
     /**
@@ -70,6 +79,7 @@ public interface IEmpleoDao {
      * @param ingresoMinimo ingreso mínimo a buscar
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> candidatosConIngresoMayor(BigDecimal ingresoMinimo);
 
     /**
@@ -78,6 +88,7 @@ public interface IEmpleoDao {
      * @param aniosExperiencia años de experiencia mínimos
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> candidatosConExperiencia(BigDecimal aniosExperiencia);
 
     /**
@@ -85,6 +96,55 @@ public interface IEmpleoDao {
      *
      * @return Map con el cursor de resultados y status
      */
+    @Transactional(readOnly = true)
     Map<String, Object> candidatosLaborandoActualmente();
 
+    /**
+     * Buscar candidatos por empresa, paginado por llave
+     *
+     * @param nombreEmpresa nombre de la empresa
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> buscarCandidatosPorEmpresaPagina(String nombreEmpresa, Paginacion pagina);
+
+    /**
+     * Candidatos con antigüedad mayor a 2 años, paginado por llave
+     *
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> candidatosConAntiguedad2AniosPagina(Paginacion pagina);
+
+    /**
+     * Candidatos con ingreso mayor al especificado, paginado por llave
+     *
+     * @param ingresoMinimo ingreso mínimo
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> candidatosConIngresoMayorPagina(BigDecimal ingresoMinimo, Paginacion pagina);
+
+    /**
+     * Candidatos con más de X años de experiencia, paginado por llave
+     *
+     * @param aniosExperiencia años de experiencia
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> candidatosConExperienciaPagina(BigDecimal aniosExperiencia, Paginacion pagina);
+
+    /**
+     * Candidatos laborando actualmente, paginado por llave
+     *
+     * @param pagina cursor, orden y tamaño de página
+     * @return Map con el cursor de resultados (tamaño + 1 candidatos)
+     */
+    @Transactional(readOnly = true)
+    Map<String, Object> candidatosLaborandoActualmentePagina(Paginacion pagina);
+
 }
\ No newline at end of file
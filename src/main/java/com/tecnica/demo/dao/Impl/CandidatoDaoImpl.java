@@ -1,26 +1,34 @@
 package com.tecnica.demo.dao.Impl;
 
+import com.tecnica.demo.config.repository.ArregloOracle;
 import com.tecnica.demo.config.repository.SimpleJdbcCallFactory;
 import com.tecnica.demo.dao.ICandidatoDao;
 import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dto.CandidatoDto;
 import com.tecnica.demo.dto.registry.ActualizarDatosPersonalesRequest;
 import com.tecnica.demo.dto.registry.ActualizarDomicilioRequest;
 import com.tecnica.demo.dto.registry.CrearCandidatoRequest;
-import com.tecnica.demo.rowmapper.CandidatoRowMapper;
-import oracle.jdbc.OracleTypes;
+import com.tecnica.demo.enums.EnumAlcanceVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.tecnica.demo.rowmapper.CandidatoExtractor;
+import com.tecnica.demo.util.Paginacion;
+import oracle.jdbc.OracleTypes;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.SqlOutParameter;
-import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.sql.CallableStatement;
 import java.sql.Date;
+import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <b>CandidatoDaoImpl.java</b>
@@ -34,33 +42,15 @@ public class CandidatoDaoImpl implements ICandidatoDao {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CandidatoDaoImpl.class);
 
-    @Autowired
-    private JdbcTemplate jdbcTemplate;
-
     @Autowired
     private SimpleJdbcCallFactory simpleJdbcCallFactory;
 
+    @Value("${candidatos.stream.fetch-size:500}")
+    private int fetchSizeStream;
+
     @Override
     public Map<String, Object> insertarCandidato(CrearCandidatoRequest request) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE_CANDIDATOS,
-                Constants.SP_INSERTAR_CANDIDATO,
-                new SqlParameter(Constants.PA_NOMBRES, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_APELLIDOS, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_EMAIL, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_FECHA_NACIMIENTO, OracleTypes.DATE),
-                new SqlParameter(Constants.PA_RFC, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_TELEFONO, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_CALLE, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_NUMERO, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_COLONIA, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_CIUDAD, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_ESTADO, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_PAIS, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR),
-                new SqlOutParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_INSERTAR_CANDIDATO);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -86,21 +76,37 @@ public class CandidatoDaoImpl implements ICandidatoDao {
         }
     }
 
+    @Override
+    public Map<String, Object> insertarCandidatosLote(List<CrearCandidatoRequest> lote) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_INSERTAR_CANDIDATOS_LOTE);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_NOMBRES, columna(lote, CrearCandidatoRequest::getNombres));
+            inParams.put(Constants.PA_APELLIDOS, columna(lote, CrearCandidatoRequest::getApellidos));
+            inParams.put(Constants.PA_EMAIL, columna(lote, CrearCandidatoRequest::getEmail));
+            inParams.put(Constants.PA_FECHA_NACIMIENTO, columna(lote, r -> Date.valueOf(r.getFechaNacimiento())));
+            inParams.put(Constants.PA_RFC, columna(lote, CrearCandidatoRequest::getRfc));
+            inParams.put(Constants.PA_TELEFONO, columna(lote, CrearCandidatoRequest::getTelefono));
+            inParams.put(Constants.PA_CALLE, columna(lote, CrearCandidatoRequest::getCalle));
+            inParams.put(Constants.PA_NUMERO, columna(lote, CrearCandidatoRequest::getNumero));
+            inParams.put(Constants.PA_COLONIA, columna(lote, CrearCandidatoRequest::getColonia));
+            inParams.put(Constants.PA_CIUDAD, columna(lote, CrearCandidatoRequest::getCiudad));
+            inParams.put(Constants.PA_ESTADO, columna(lote, CrearCandidatoRequest::getEstado));
+            inParams.put(Constants.PA_PAIS, columna(lote, CrearCandidatoRequest::getPais));
+            inParams.put(Constants.PA_CODIGO_POSTAL, columna(lote, CrearCandidatoRequest::getCodigoPostal));
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
     @Override
     public Integer actualizarDatosPersonales(Long candidatoId, ActualizarDatosPersonalesRequest request) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE_CANDIDATOS,
-                Constants.SP_ACTUALIZAR_DATOS_PERSONALES,
-                new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
-                new SqlParameter(Constants.PA_NOMBRES, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_APELLIDOS, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_EMAIL, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_FECHA_NACIMIENTO, OracleTypes.DATE),
-                new SqlParameter(Constants.PA_RFC, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_TELEFONO, OracleTypes.VARCHAR),
-                new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_ACTUALIZAR_DATOS_PERSONALES);
 
         try {
             Map<String, Object> out = jdbcCall.execute(
@@ -124,20 +130,7 @@ public class CandidatoDaoImpl implements ICandidatoDao {
 
     @Override
     public Integer actualizarDomicilio(Long candidatoId, ActualizarDomicilioRequest request) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE_CANDIDATOS,
-                Constants.SP_ACTUALIZAR_DOMICILIO,
-                new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
-                new SqlParameter(Constants.PA_CALLE, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_NUMERO, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_COLONIA, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_CIUDAD, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_ESTADO, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_PAIS, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR),
-                new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_ACTUALIZAR_DOMICILIO);
 
         try {
             Map<String, Object> out = jdbcCall.execute(
@@ -162,13 +155,7 @@ public class CandidatoDaoImpl implements ICandidatoDao {
 
     @Override
     public Integer eliminarCandidato(Long candidatoId) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE_CANDIDATOS,
-                Constants.SP_ELIMINAR_CANDIDATO,
-                new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
-                new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_ELIMINAR_CANDIDATO);
 
         try {
             Map<String, Object> out = jdbcCall.execute(candidatoId);
@@ -183,16 +170,23 @@ public class CandidatoDaoImpl implements ICandidatoDao {
 
     @Override
     public Map<String, Object> obtenerCandidato(Long candidatoId) {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE_CANDIDATOS)
-                .withFunctionName(Constants.FN_OBTENER_CANDIDATO)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        // Parámetro de RETORNO de la función
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoRowMapper()),
-                        // Parámetro de entrada
-                        new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER)
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_OBTENER_CANDIDATO);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_ID, candidatoId);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> obtenerPerfil(Long candidatoId) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_OBTENER_PERFIL);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -208,12 +202,7 @@ public class CandidatoDaoImpl implements ICandidatoDao {
 
     @Override
     public Map<String, Object> listarCandidatos() {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE_CANDIDATOS,
-                Constants.sp_listar_candidatos,
-                new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoRowMapper())
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.sp_listar_candidatos);
 
         try {
             return jdbcCall.execute();
@@ -224,18 +213,62 @@ public class CandidatoDaoImpl implements ICandidatoDao {
         }
     }
 
+    @Override
+    public Map<String, Object> listarCandidatosPagina(Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_PAGINA_CANDIDATOS);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long recorrerCandidatos(Consumer<CandidatoDto> consumidor) {
+        return recorrer(Constants.sp_listar_candidatos, Constants.CALL_LISTAR_CANDIDATOS, consumidor);
+    }
+
+    @Override
+    public long recorrerClavesUnicas(Consumer<CandidatoDto> consumidor) {
+        return recorrer(Constants.SP_LISTAR_CLAVES_UNICAS, Constants.CALL_LISTAR_CLAVES_UNICAS, consumidor);
+    }
+
+    /**
+     * Ejecuta un procedure cuyo único parámetro es un cursor de candidatos de salida;
+     * se mide en plsql.llamadas como las llamadas compiladas
+     */
+    private long recorrer(String procedure, String llamada, Consumer<CandidatoDto> consumidor) {
+        try {
+            // SimpleJdbcCall materializa el cursor completo; aquí se lee hacia adelante con fetch size propio
+            return simpleJdbcCallFactory.ejecutarMedido(Constants.PAQUETE_CANDIDATOS, procedure, llamada, (CallableStatement cs) -> {
+                cs.registerOutParameter(1, OracleTypes.CURSOR);
+                cs.execute();
+
+                long filas = 0;
+                try (ResultSet rs = (ResultSet) cs.getObject(1)) {
+                    rs.setFetchSize(fetchSizeStream);
+                    CandidatoExtractor.Columnas columnas = CandidatoExtractor.Columnas.de(rs.getMetaData());
+                    while (rs.next()) {
+                        consumidor.accept(CandidatoExtractor.mapear(rs, columnas));
+                        filas++;
+                    }
+                }
+                return filas;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
     @Override
     public Map<String, Object> buscarPorCodigoPostal(String codigoPostal) {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE_CANDIDATOS)
-                .withFunctionName(Constants.FN_BUSCAR_POR_CP)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        // Parámetro de RETORNO de la función
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoRowMapper()),
-                        // Parámetro de entrada
-                        new SqlParameter(Constants.PA_CODIGO_POSTAL, OracleTypes.VARCHAR)
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_BUSCAR_POR_CP);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -249,4 +282,129 @@ public class CandidatoDaoImpl implements ICandidatoDao {
         }
     }
 
-}
\ No newline at end of file
+    @Override
+    public Map<String, Object> buscarPorCodigoPostalPagina(String codigoPostal, Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_PAGINA_POR_CP);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            inParams.put(Constants.PA_CODIGO_POSTAL, codigoPostal);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> obtenerDatosIndice(Long candidatoId, Long empleoId) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_DATOS_INDICE_BUSQUEDA);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_CANDIDATO_ID, candidatoId);
+            inParams.put(Constants.PA_EMPLEO_ID, empleoId);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> obtenerCandidatosPorIds(long[] candidatoIds) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_OBTENER_CANDIDATOS_POR_IDS);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_IDS, ArregloOracle.de(Arrays.stream(candidatoIds).boxed().toArray()));
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> buscarClavesExistentes(List<String> emails, List<String> rfcs, Long excluirId) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_CLAVES_EXISTENTES);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_EMAIL, ArregloOracle.de(emails.toArray()));
+            inParams.put(Constants.PA_RFC, ArregloOracle.de(rfcs.toArray()));
+            inParams.put(Constants.PA_EXCLUIR_ID, excluirId);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> obtenerVersion(EnumAlcanceVersion alcance, Long candidatoId) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.SP_VERSION_DATOS);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_ALCANCE, alcance.name());
+            inParams.put(Constants.PA_CANDIDATO_ID, candidatoId);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> proyectarCandidatos(String columnas, Long candidatoId, String codigoPostal, Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_PROYECTAR_CANDIDATOS);
+
+        try {
+            Map<String, Object> inParams = pagina != null ? pagina.parametros() : Paginacion.sinPaginar();
+            inParams.put(Constants.PA_COLUMNAS, columnas);
+            inParams.put(Constants.PA_ID, candidatoId);
+            inParams.put(Constants.PA_CODIGO_POSTAL, codigoPostal);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> obtenerEmpleosDeCandidatos(long[] candidatoIds) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE_CANDIDATOS, Constants.FN_EMPLEOS_DE_CANDIDATOS);
+
+        try {
+            Map<String, Object> inParams = new HashMap<>();
+            inParams.put(Constants.PA_IDS, ArregloOracle.de(Arrays.stream(candidatoIds).boxed().toArray()));
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Extrae un campo de cada request del lote como colección Oracle
+     */
+    private static Object columna(List<CrearCandidatoRequest> lote, Function<CrearCandidatoRequest, Object> campo) {
+        return ArregloOracle.de(lote.stream().map(campo).toArray());
+    }
+
+}
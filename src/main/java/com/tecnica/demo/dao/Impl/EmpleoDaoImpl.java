@@ -5,21 +5,15 @@ import com.tecnica.demo.constant.Constants;
 import com.tecnica.demo.dao.IEmpleoDao;
 import com.tecnica.demo.dto.registry.ActualizarEmpleoRequest;
 import com.tecnica.demo.dto.registry.CrearEmpleoRequest;
-import com.tecnica.demo.rowmapper.CandidatoEmpleoRowMapper;
-import oracle.jdbc.OracleTypes;
+import com.tecnica.demo.util.Paginacion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.SqlOutParameter;
-import org.springframework.jdbc.core.SqlParameter;
 import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.stereotype.Repository;
-import org.springframework.jdbc.core.SqlReturnResultSet;
 
 import java.math.BigDecimal;
 import java.sql.Date;
-import java.sql.Types;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,26 +29,12 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmpleoDaoImpl.class);
 
-    @Autowired
-    private JdbcTemplate jdbcTemplate;
-
     @Autowired
     private SimpleJdbcCallFactory simpleJdbcCallFactory;
 
     @Override
     public Map<String, Object> insertarEmpleo(Long candidatoId, CrearEmpleoRequest request) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE,
-                Constants.SP_INSERTAR_EMPLEO,
-                new SqlParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER),
-                new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_FECHA_INGRESO, OracleTypes.DATE),
-                new SqlParameter(Constants.PA_FECHA_SALIDA, OracleTypes.DATE),
-                new SqlParameter(Constants.PA_INGRESO_MENSUAL, OracleTypes.NUMBER),
-                new SqlParameter(Constants.PA_GIRO_EMPRESA, OracleTypes.VARCHAR),
-                new SqlOutParameter(Constants.PA_EMPLEO_ID, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.SP_INSERTAR_EMPLEO);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -75,18 +55,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Integer actualizarEmpleo(Long empleoId, ActualizarEmpleoRequest request) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE,
-                Constants.SP_ACTUALIZAR_EMPLEO,
-                new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
-                new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR),
-                new SqlParameter(Constants.PA_FECHA_INGRESO, OracleTypes.DATE),
-                new SqlParameter(Constants.PA_FECHA_SALIDA, OracleTypes.DATE),
-                new SqlParameter(Constants.PA_INGRESO_MENSUAL, OracleTypes.NUMBER),
-                new SqlParameter(Constants.PA_GIRO_EMPRESA, OracleTypes.VARCHAR),
-                new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.SP_ACTUALIZAR_EMPLEO);
 
         try {
             Map<String, Object> out = jdbcCall.execute(
@@ -109,13 +78,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Integer eliminarEmpleo(Long empleoId) {
-        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.createJdbcCall(
-                jdbcTemplate,
-                Constants.PAQUETE,
-                Constants.SP_ELIMINAR_EMPLEO,
-                new SqlParameter(Constants.PA_ID, OracleTypes.NUMBER),
-                new SqlOutParameter(Constants.PA_STATUS_OPER, OracleTypes.NUMBER)
-        );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.SP_ELIMINAR_EMPLEO);
 
         try {
             Map<String, Object> out = jdbcCall.execute(empleoId);
@@ -130,14 +93,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Map<String, Object> obtenerEmpleosCandidato(Long candidatoId) {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE)
-                .withFunctionName(Constants.FN_OBTENER_EMPLEOS_CANDIDATO)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoRowMapper()),
-                        new SqlParameter(Constants.PA_CANDIDATO_ID, OracleTypes.NUMBER)
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_OBTENER_EMPLEOS_CANDIDATO);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -151,14 +107,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Map<String, Object> buscarCandidatosPorEmpresa(String nombreEmpresa) {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE)
-                .withFunctionName(Constants.FN_CANDIDATOS_POR_EMPRESA)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoRowMapper()),
-                        new SqlParameter(Constants.PA_NOMBRE_EMPRESA, OracleTypes.VARCHAR)
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_CANDIDATOS_POR_EMPRESA);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -172,13 +121,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Map<String, Object> candidatosConAntiguedad2Anios() {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE)
-                .withFunctionName(Constants.FN_CANDIDATOS_ANTIGUEDAD_2ANIOS)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoRowMapper())
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_CANDIDATOS_ANTIGUEDAD_2ANIOS);
 
         try {
             return jdbcCall.execute(new HashMap<>());
@@ -190,14 +133,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Map<String, Object> candidatosConIngresoMayor(BigDecimal ingresoMinimo) {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE)
-                .withFunctionName(Constants.FN_CANDIDATOS_INGRESO_MAYOR)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoRowMapper()),
-                        new SqlParameter(Constants.PA_INGRESO_MINIMO, OracleTypes.NUMBER)
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_CANDIDATOS_INGRESO_MAYOR);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -211,14 +147,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Map<String, Object> candidatosConExperiencia(BigDecimal aniosExperiencia) {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE)
-                .withFunctionName(Constants.FN_CANDIDATOS_EXPERIENCIA)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR, new CandidatoEmpleoRowMapper()),
-                        new SqlParameter(Constants.PA_ANIOS_EXPERIENCIA, OracleTypes.NUMBER)
-                );
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_CANDIDATOS_EXPERIENCIA);
 
         try {
             Map<String, Object> inParams = new HashMap<>();
@@ -232,15 +161,7 @@ public class EmpleoDaoImpl implements IEmpleoDao {
 
     @Override
     public Map<String, Object> candidatosLaborandoActualmente() {
-        SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
-                .withCatalogName(Constants.PAQUETE)
-                .withFunctionName(Constants.FN_CANDIDATOS_LABORANDO_ACTUAL)
-                .withoutProcedureColumnMetaDataAccess()
-                .declareParameters(
-                        new SqlOutParameter(Constants.CUR_RESULTADO, OracleTypes.CURSOR,
-                                new CandidatoEmpleoRowMapper())
-                )
-                .returningResultSet(Constants.CUR_RESULTADO, new CandidatoEmpleoRowMapper());
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_CANDIDATOS_LABORANDO_ACTUAL);
 
         try {
             Map<String, Object> result = jdbcCall.execute(new HashMap<>());
@@ -251,4 +172,80 @@ public class EmpleoDaoImpl implements IEmpleoDao {
         }
     }
 
-}
\ No newline at end of file
+    @Override
+    public Map<String, Object> buscarCandidatosPorEmpresaPagina(String nombreEmpresa, Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_PAGINA_POR_EMPRESA);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            inParams.put(Constants.PA_NOMBRE_EMPRESA, nombreEmpresa);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> candidatosConAntiguedad2AniosPagina(Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_PAGINA_ANTIGUEDAD_2ANIOS);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> candidatosConIngresoMayorPagina(BigDecimal ingresoMinimo, Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_PAGINA_INGRESO_MAYOR);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            inParams.put(Constants.PA_INGRESO_MINIMO, ingresoMinimo);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> candidatosConExperienciaPagina(BigDecimal aniosExperiencia, Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_PAGINA_EXPERIENCIA);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            inParams.put(Constants.PA_ANIOS_EXPERIENCIA, aniosExperiencia);
+
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> candidatosLaborandoActualmentePagina(Paginacion pagina) {
+        SimpleJdbcCall jdbcCall = simpleJdbcCallFactory.getJdbcCall(Constants.PAQUETE, Constants.FN_PAGINA_LABORANDO_ACTUAL);
+
+        try {
+            Map<String, Object> inParams = pagina.parametros();
+            return jdbcCall.execute(inParams);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.tecnica.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * <b>DatosIndiceDto.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: DTO con los atributos de un candidato que indexa el motor de
+ *               filtros en memoria (fn_datos_indice_busqueda)
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatosIndiceDto {
+
+    /**
+     * id - ID del candidato
+     */
+    private Long id;
+
+    /**
+     * activo - indica si el candidato sigue activo
+     */
+    private Boolean activo;
+
+    /**
+     * estado - estado del domicilio
+     */
+    private String estado;
+
+    /**
+     * laborando - indica si tiene un empleo sin fecha de salida
+     */
+    private Boolean laborando;
+
+    /**
+     * ingresoActual - ingreso del empleo actual; nulo si no labora
+     */
+    private BigDecimal ingresoActual;
+
+    /**
+     * mesesCerrados - meses de empleos con fecha de salida
+     */
+    private BigDecimal mesesCerrados;
+
+    /**
+     * numAbiertos - empleos sin fecha de salida
+     */
+    private Long numAbiertos;
+
+    /**
+     * mesesIniciosAbiertos - suma de los meses fraccionarios (año * 12 + mes + día / 31)
+     * de los ingresos de los empleos sin fecha de salida
+     */
+    private BigDecimal mesesIniciosAbiertos;
+
+    /**
+     * fechaActualizacion - fecha_actualizacion más reciente del candidato y sus empleos
+     */
+    private LocalDateTime fechaActualizacion;
+
+
+    // Getters y Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public void setActivo(Boolean activo) {
+        this.activo = activo;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public Boolean getLaborando() {
+        return laborando;
+    }
+
+    public void setLaborando(Boolean laborando) {
+        this.laborando = laborando;
+    }
+
+    public BigDecimal getIngresoActual() {
+        return ingresoActual;
+    }
+
+    public void setIngresoActual(BigDecimal ingresoActual) {
+        this.ingresoActual = ingresoActual;
+    }
+
+    public BigDecimal getMesesCerrados() {
+        return mesesCerrados;
+    }
+
+    public void setMesesCerrados(BigDecimal mesesCerrados) {
+        this.mesesCerrados = mesesCerrados;
+    }
+
+    public Long getNumAbiertos() {
+        return numAbiertos;
+    }
+
+    public void setNumAbiertos(Long numAbiertos) {
+        this.numAbiertos = numAbiertos;
+    }
+
+    public BigDecimal getMesesIniciosAbiertos() {
+        return mesesIniciosAbiertos;
+    }
+
+    public void setMesesIniciosAbiertos(BigDecimal mesesIniciosAbiertos) {
+        this.mesesIniciosAbiertos = mesesIniciosAbiertos;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.tecnica.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <b>DisponibilidadDto.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: DTO que indica si un email y un RFC pueden usarse en un candidato
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DisponibilidadDto {
+
+    /**
+     * emailDisponible - true si ningún otro candidato usa el email; nulo si no se consultó
+     */
+    private Boolean emailDisponible;
+
+    /**
+     * rfcDisponible - true si ningún otro candidato usa el RFC; nulo si no se consultó
+     */
+    private Boolean rfcDisponible;
+
+}
@@ -0,0 +1,92 @@
+package com.tecnica.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * <b>PaginaDto.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: DTO de una página de resultados con cursor a la página siguiente
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaDto<T> {
+
+    /**
+     * elementos - resultados de la página
+     */
+    private List<T> elementos;
+
+    /**
+     * tamanio - tamaño de página solicitado
+     */
+    private Integer tamanio;
+
+    /**
+     * siguienteCursor - cursor opaco para pedir la página siguiente; nulo en la última
+     */
+    private String siguienteCursor;
+
+    /**
+     * hayMas - indica si existe una página siguiente
+     */
+    private Boolean hayMas;
+
+    /**
+     * total - coincidencias totales; solo cuando la consulta lo conoce sin costo extra
+     */
+    private Long total;
+
+
+    // Getters y Setters
+    public List<T> getElementos() {
+        return elementos;
+    }
+
+    public void setElementos(List<T> elementos) {
+        this.elementos = elementos;
+    }
+
+    public Integer getTamanio() {
+        return tamanio;
+    }
+
+    public void setTamanio(Integer tamanio) {
+        this.tamanio = tamanio;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public void setSiguienteCursor(String siguienteCursor) {
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    public Boolean getHayMas() {
+        return hayMas;
+    }
+
+    public void setHayMas(Boolean hayMas) {
+        this.hayMas = hayMas;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.tecnica.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <b>ResultadoLoteDto.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: DTO con el resultado de una fila de una operación en lote
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoLoteDto {
+
+    /**
+     * indice - posición de la fila en la petición (base 0)
+     */
+    private Integer indice;
+
+    /**
+     * id - ID generado cuando la fila se insertó
+     */
+    private Long id;
+
+    /**
+     * exito - indica si la fila se insertó
+     */
+    private Boolean exito;
+
+    /**
+     * error - motivo por el que la fila no se insertó
+     */
+    private String error;
+
+
+    // Getters y Setters
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getExito() {
+        return exito;
+    }
+
+    public void setExito(Boolean exito) {
+        this.exito = exito;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.tecnica.demo.duplicados;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <b>FiltroBloom.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Filtro de Bloom sobre cadenas. Responde "seguro no está" o
+ *               "puede estar" con la tasa de falsos positivos para la que se
+ *               dimensionó. Los bits viven en un AtomicLongArray, así que se
+ *               puede agregar y consultar desde varios hilos sin candados.
+ * @author: Sistema de Gestión de Candidatos
+ */
+final class FiltroBloom {
+
+    private static final double LN2 = Math.log(2);
+
+    /* 2^32 bits (512 MB): posicion() multiplica por totalBits sin desbordar */
+    private static final int MAXIMO_PALABRAS = 1 << 26;
+
+    private final AtomicLongArray bits;
+    private final long totalBits;
+    private final int funciones;
+
+    /**
+     * @param capacidad elementos esperados
+     * @param falsosPositivos tasa de falsos positivos aceptada con esa capacidad (0 a 1)
+     */
+    FiltroBloom(long capacidad, double falsosPositivos) {
+        long n = Math.max(capacidad, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsosPositivos) / (LN2 * LN2));
+        int palabras = (int) Math.min(MAXIMO_PALABRAS, (m + 63) / 64);
+
+        this.bits = new AtomicLongArray(palabras);
+        this.totalBits = palabras * 64L;
+        this.funciones = Math.max(1, (int) Math.round((double) totalBits / n * LN2));
+    }
+
+    void agregar(String valor) {
+        long hash = hash(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= funciones; i++) {
+            long bit = posicion(h1 + i * h2);
+            long mascara = 1L << bit;
+            int palabra = (int) (bit >>> 6);
+            // Leer primero evita la escritura atómica cuando el bit ya estaba encendido
+            if ((bits.get(palabra) & mascara) == 0) {
+                bits.getAndUpdate(palabra, actual -> actual | mascara);
+            }
+        }
+    }
+
+    boolean puedeContener(String valor) {
+        long hash = hash(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= funciones; i++) {
+            long bit = posicion(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long posicion(int combinado) {
+        return (combinado & 0x7fffffffL) * totalBits >>> 31;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre UTF-8 con mezcla final; de la mitad alta y baja
+     * salen las k posiciones por doble hash
+     */
+    private static long hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
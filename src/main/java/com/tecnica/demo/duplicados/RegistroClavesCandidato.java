@@ -0,0 +1,138 @@
+package com.tecnica.demo.duplicados;
+
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dao.ICandidatoDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>RegistroClavesCandidato.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Filtros de Bloom con los emails y RFCs registrados, para que
+ *               el servicio descarte sin ir a Oracle los valores que seguro son
+ *               nuevos. Un "puede existir" siempre se confirma con la búsqueda
+ *               exacta de fn_claves_existentes. Se carga al arrancar y se
+ *               alimenta con cada alta o cambio exitoso de esta instancia; lo
+ *               que escriban otras instancias no se ve aquí, por lo que la
+ *               restricción UNIQUE de la tabla sigue siendo la última palabra.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Component
+public class RegistroClavesCandidato {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistroClavesCandidato.class);
+
+    @Autowired
+    private ICandidatoDao candidatoDao;
+
+    /* Candidatos para los que se dimensiona el filtro; crece si la tabla ya es mayor */
+    @Value("${candidatos.duplicados.capacidad:1000000}")
+    private long capacidad;
+
+    @Value("${candidatos.duplicados.falsos-positivos:0.01}")
+    private double falsosPositivos;
+
+    /* null hasta la primera carga completa */
+    private volatile Filtros filtros;
+
+    /* Filtros que se están cargando; recibe también las altas hechas durante la carga */
+    private volatile Filtros enConstruccion;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarAlArrancar() {
+        try {
+            recargar();
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+        }
+    }
+
+    /**
+     * Reconstruye los filtros desde Oracle y los reemplaza de una sola vez
+     */
+    public synchronized void recargar() {
+        long inicio = System.nanoTime();
+        Filtros actuales = this.filtros;
+        long dimension = Math.max(this.capacidad, actuales != null ? actuales.agregados.get() * 2 : 0);
+
+        Filtros nuevos = new Filtros(dimension, this.falsosPositivos);
+        this.enConstruccion = nuevos;
+        try {
+            candidatoDao.recorrerClavesUnicas(candidato -> nuevos.agregar(candidato.getEmail(), candidato.getRfc()));
+            this.filtros = nuevos;
+        } finally {
+            this.enConstruccion = null;
+        }
+        LOGGER.info("Filtro de duplicados cargado: {} candidatos en {} ms (capacidad {})", nuevos.agregados.get(),
+                (System.nanoTime() - inicio) / 1_000_000, dimension);
+
+        if (nuevos.agregados.get() > dimension) {
+            LOGGER.warn("El filtro de duplicados rebasó su capacidad; se reconstruye más grande");
+            recargar();
+        }
+    }
+
+    public boolean isCargado() {
+        return this.filtros != null;
+    }
+
+    /**
+     * @return false solo si el email seguramente no está registrado
+     */
+    public boolean puedeExistirEmail(String email) {
+        Filtros actuales = this.filtros;
+        return actuales == null || email == null || actuales.emails.puedeContener(email);
+    }
+
+    /**
+     * @return false solo si el RFC seguramente no está registrado
+     */
+    public boolean puedeExistirRfc(String rfc) {
+        Filtros actuales = this.filtros;
+        return actuales == null || rfc == null || actuales.rfcs.puedeContener(rfc);
+    }
+
+    /**
+     * Registra el email y RFC de un candidato recién guardado
+     */
+    public void agregar(String email, String rfc) {
+        Filtros actuales = this.filtros;
+        if (actuales != null) {
+            actuales.agregar(email, rfc);
+        }
+        Filtros nuevos = this.enConstruccion;
+        if (nuevos != null) {
+            nuevos.agregar(email, rfc);
+        }
+    }
+
+    private static final class Filtros {
+
+        private final FiltroBloom emails;
+        private final FiltroBloom rfcs;
+        private final AtomicLong agregados = new AtomicLong();
+
+        Filtros(long capacidad, double falsosPositivos) {
+            this.emails = new FiltroBloom(capacidad, falsosPositivos);
+            this.rfcs = new FiltroBloom(capacidad, falsosPositivos);
+        }
+
+        void agregar(String email, String rfc) {
+            if (email != null) {
+                emails.agregar(email);
+            }
+            if (rfc != null) {
+                rfcs.agregar(rfc);
+            }
+            agregados.incrementAndGet();
+        }
+    }
+}
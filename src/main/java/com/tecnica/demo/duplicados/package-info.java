@@ -0,0 +1 @@
+package com.tecnica.demo.duplicados;
@@ -0,0 +1,39 @@
+package com.tecnica.demo.enums;
+
+/**
+ * <b>EnumAlcanceVersion.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Recursos con versión (ETag / Last-Modified) calculada por
+ *               pkg_candidatos.sp_version_datos. Las consultas de antigüedad y
+ *               experiencia no tienen versión porque dependen de SYSDATE, y las
+ *               listas analíticas completas tampoco porque salen del cache que
+ *               se refresca en segundo plano.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public enum EnumAlcanceVersion {
+
+	/**
+	 * GET /candidatos/{id}
+	 */
+	CANDIDATO,
+	/**
+	 * GET /candidatos/{id}/perfil, candidato y sus empleos
+	 */
+	PERFIL,
+	/**
+	 * GET /candidatos y /candidatos/buscar/codigo-postal/{codigoPostal},
+	 * completos o paginados
+	 */
+	CANDIDATOS,
+	/**
+	 * GET /candidatos?expand=empleos, candidatos y empleos de todos; también
+	 * /empleos/buscar/empresa y las páginas de ingreso-mayor y
+	 * laborando-actualmente
+	 */
+	CANDIDATOS_EMPLEOS,
+	/**
+	 * GET /empleos/candidato/{candidatoId}
+	 */
+	EMPLEOS_CANDIDATO
+}
@@ -0,0 +1,29 @@
+package com.tecnica.demo.enums;
+
+/**
+ * <b>EnumConsultaAnalitica.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Consultas analíticas de PKG_EMPLEOS cuyo resultado se
+ *               conserva en el cache de EmpleoServiceImpl.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public enum EnumConsultaAnalitica {
+
+	/**
+	 * fn_candidatos_antiguedad_2anios, sin parámetro.
+	 */
+	ANTIGUEDAD_2_ANIOS,
+	/**
+	 * fn_candidatos_ingreso_mayor, parámetro ingreso mínimo.
+	 */
+	INGRESO_MAYOR,
+	/**
+	 * fn_candidatos_experiencia, parámetro años de experiencia.
+	 */
+	EXPERIENCIA,
+	/**
+	 * fn_candidatos_laborando_actual, sin parámetro.
+	 */
+	LABORANDO_ACTUALMENTE
+}
@@ -0,0 +1,47 @@
+package com.tecnica.demo.enums;
+
+/**
+ * <b>EnumFaseTiempo.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Fases en las que se reparte el tiempo de una petición para
+ *               el encabezado Server-Timing y el log de peticiones lentas.
+ *               El nombre y la descripción viajan en el encabezado, por eso
+ *               van sin acentos (solo ASCII).
+ * @author: Sistema de Gestión de Candidatos
+ */
+public enum EnumFaseTiempo {
+
+	/**
+	 * Espera por una conexión del pool (primario o réplica).
+	 */
+	POOL("pool", "Conexion del pool"),
+	/**
+	 * Llamadas a procedures y funciones, sin la espera del pool ni el mapeo.
+	 */
+	PLSQL("plsql", "Llamadas PL/SQL"),
+	/**
+	 * Lectura de los cursores y mapeo de filas a DTOs.
+	 */
+	MAPEO("mapeo", "Mapeo de cursores"),
+	/**
+	 * Serialización del cuerpo de la respuesta.
+	 */
+	JSON("json", "Serializacion JSON");
+
+	private final String nombre;
+	private final String descripcion;
+
+	EnumFaseTiempo(String nombre, String descripcion) {
+		this.nombre = nombre;
+		this.descripcion = descripcion;
+	}
+
+	public String getNombre() {
+		return nombre;
+	}
+
+	public String getDescripcion() {
+		return descripcion;
+	}
+}
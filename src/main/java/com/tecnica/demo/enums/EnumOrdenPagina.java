@@ -0,0 +1,58 @@
+package com.tecnica.demo.enums;
+
+import java.util.Arrays;
+
+/**
+ * <b>EnumOrdenPagina.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Ordenamientos permitidos en los listados paginados. Todos
+ *               usan la llave (apellidos, nombres, id) para que la página
+ *               siguiente se resuelva con un range scan del índice.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public enum EnumOrdenPagina {
+
+	/**
+	 * Apellidos, nombres e id ascendente.
+	 */
+	APELLIDOS("apellidos", false),
+	/**
+	 * Apellidos, nombres e id descendente.
+	 */
+	APELLIDOS_DESC("-apellidos", true);
+
+	private final String valor;
+	private final boolean descendente;
+
+	EnumOrdenPagina(String valor, boolean descendente) {
+		this.valor = valor;
+		this.descendente = descendente;
+	}
+
+	public String getValor() {
+		return valor;
+	}
+
+	public boolean isDescendente() {
+		return descendente;
+	}
+
+	/**
+	 * Obtiene el orden a partir del valor recibido en la petición
+	 *
+	 * @param valor valor del parámetro orden; si es nulo se usa APELLIDOS
+	 * @return orden permitido
+	 * @throws IllegalArgumentException si el valor no está permitido
+	 */
+	public static EnumOrdenPagina desde(String valor) {
+		if (valor == null || valor.isBlank()) {
+			return APELLIDOS;
+		}
+		return Arrays.stream(values())
+				.filter(orden -> orden.valor.equalsIgnoreCase(valor.trim()))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Orden no permitido: " + valor
+						+ ". Valores permitidos: apellidos, -apellidos"));
+	}
+}
@@ -0,0 +1,32 @@
+package com.tecnica.demo.evento;
+
+/**
+ * <b>DatosCandidatoModificadosEvent.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Evento que publican los servicios después de una escritura
+ *               exitosa sobre un candidato o sus empleos. Con ambos IDs nulos
+ *               indica que cambiaron varios candidatos (carga en lote).
+ * @author: Sistema de Gestión de Candidatos
+ *
+ * @param candidatoId ID del candidato modificado, si se conoce
+ * @param empleoId ID del empleo modificado, cuando no se conoce el candidato
+ */
+public record DatosCandidatoModificadosEvent(Long candidatoId, Long empleoId) {
+
+    public static DatosCandidatoModificadosEvent deCandidato(Long candidatoId) {
+        return new DatosCandidatoModificadosEvent(candidatoId, null);
+    }
+
+    public static DatosCandidatoModificadosEvent deEmpleo(Long empleoId) {
+        return new DatosCandidatoModificadosEvent(null, empleoId);
+    }
+
+    public static DatosCandidatoModificadosEvent varios() {
+        return new DatosCandidatoModificadosEvent(null, null);
+    }
+
+    public boolean esVarios() {
+        return candidatoId == null && empleoId == null;
+    }
+}
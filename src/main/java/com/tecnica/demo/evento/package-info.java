@@ -0,0 +1 @@
+package com.tecnica.demo.evento;
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.tecnica.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <b>EventoLlamadaPlsql.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Evento JFR de una llamada de los DAO a un procedure o función
+ *               PL/SQL. Su duración incluye la espera del pool y el mapeo de
+ *               los cursores (que tienen sus propios eventos). Sin stack
+ *               trace: el procedure ya identifica el origen.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Name(EventoLlamadaPlsql.NOMBRE)
+@Label("Llamada PL/SQL")
+@Description("Ejecución de un procedure o función de PKG_CANDIDATOS/PKG_EMPLEOS")
+@Category({ "Capital Humano", "Base de datos" })
+@StackTrace(false)
+@Threshold("1 ms")
+public final class EventoLlamadaPlsql extends jdk.jfr.Event {
+
+    public static final String NOMBRE = "com.tecnica.demo.LlamadaPlsql";
+
+    @Label("Paquete")
+    public String paquete;
+
+    @Label("Procedure")
+    public String procedure;
+
+    @Label("Filas")
+    @Description("Filas devueltas en los cursores de salida")
+    public long filas;
+
+    @Label("Exito")
+    public boolean exito;
+}
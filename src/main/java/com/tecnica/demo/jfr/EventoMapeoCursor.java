@@ -0,0 +1,35 @@
+package com.tecnica.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <b>EventoMapeoCursor.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Evento JFR de la lectura de un cursor de salida con su
+ *               extractor. Incluye los fetch que hace el driver
+ *               dentro de rs.next().
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Name(EventoMapeoCursor.NOMBRE)
+@Label("Mapeo de cursor")
+@Description("Lectura de un cursor PL/SQL y mapeo de sus filas a DTOs")
+@Category({ "Capital Humano", "Base de datos" })
+@StackTrace(false)
+@Threshold("1 ms")
+public final class EventoMapeoCursor extends jdk.jfr.Event {
+
+    public static final String NOMBRE = "com.tecnica.demo.MapeoCursor";
+
+    @Label("Extractor")
+    public String extractor;
+
+    @Label("Filas")
+    @Description("Elementos del resultado; -1 si el extractor no devuelve una colección")
+    public int filas;
+}
@@ -0,0 +1,38 @@
+package com.tecnica.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * <b>EventoSerializacion.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Evento JFR de la serialización de un cuerpo JSON completo en
+ *               CodecJson (respuestas de los controllers y cuerpos que se
+ *               guardan en CacheRespuestas). Al escribir directo en la
+ *               respuesta la duración incluye la escritura al socket.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Name(EventoSerializacion.NOMBRE)
+@Label("Serializacion JSON")
+@Description("Serialización de un valor raíz a JSON")
+@Category({ "Capital Humano", "Web" })
+@StackTrace(false)
+@Threshold("1 ms")
+public final class EventoSerializacion extends jdk.jfr.Event {
+
+    public static final String NOMBRE = "com.tecnica.demo.Serializacion";
+
+    @Label("Tipo")
+    public String tipo;
+
+    @Label("Tamanio")
+    @DataAmount
+    @Description("Bytes (o caracteres, al serializar a texto) producidos")
+    public long tamanio;
+}
@@ -0,0 +1,216 @@
+package com.tecnica.demo.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * <b>GrabacionJfrEndpoint.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Endpoint de actuator (/actuator/jfr) para tomar una grabación
+ *               JFR acotada sin reiniciar la aplicación, con los eventos de
+ *               llamadas PL/SQL, mapeo de cursores y serialización habilitados
+ *               sobre la configuración base (jfr.grabacion.configuracion).
+ *
+ *               GET    /jfr         estado de la grabación
+ *               POST   /jfr         inicia; cuerpo opcional {"duracionSegundos": 60, "umbralMs": 5}
+ *               DELETE /jfr         detiene y conserva los datos para descargarlos
+ *               GET    /jfr/{id}    descarga el .jfr (si sigue corriendo, lo grabado hasta ahora)
+ *
+ *               Hay una sola grabación a la vez; la duración y el tamaño se
+ *               limitan con jfr.grabacion.duracion-maxima y
+ *               jfr.grabacion.tamanio-maximo. Las variables de entorno, las
+ *               propiedades de sistema y los argumentos de la JVM no se
+ *               graban porque pueden traer credenciales. El endpoint está
+ *               deshabilitado por omisión y, al habilitarlo, WebSecurityConfig
+ *               exige el rol ACTUATOR_ADMIN. Para tener los eventos siempre
+ *               activos basta arrancar con -XX:StartFlightRecording: están
+ *               habilitados por omisión con umbral de 1 ms.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class GrabacionJfrEndpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrabacionJfrEndpoint.class);
+
+    private static final String NOMBRE_GRABACION = "capital-humano";
+    private static final List<String> EVENTOS = List.of(EventoLlamadaPlsql.NOMBRE, EventoMapeoCursor.NOMBRE,
+            EventoSerializacion.NOMBRE);
+    /* Variables de entorno, propiedades de sistema y argumentos de la JVM: pueden traer credenciales */
+    static final List<String> EVENTOS_EXCLUIDOS = List.of("jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    @Value("${jfr.grabacion.configuracion:profile}")
+    private String configuracion;
+
+    @Value("${jfr.grabacion.duracion-maxima:10m}")
+    private Duration duracionMaxima;
+
+    @Value("${jfr.grabacion.tamanio-maximo:100MB}")
+    private DataSize tamanioMaximo;
+
+    @Value("${jfr.grabacion.umbral:1ms}")
+    private Duration umbral;
+
+    /* Grabación en curso o la última detenida; se cierra al iniciar otra */
+    private Recording grabacion;
+    /* Último volcado descargado de la grabación */
+    private Path volcado;
+
+    @ReadOperation
+    public synchronized Map<String, Object> estado() {
+        Map<String, Object> estado = new LinkedHashMap<>();
+        if (this.grabacion == null) {
+            estado.put("estado", "sin grabacion");
+            return estado;
+        }
+        estado.put("id", this.grabacion.getId());
+        estado.put("estado", this.grabacion.getState().name().toLowerCase(Locale.ROOT));
+        estado.put("inicio", this.grabacion.getStartTime());
+        estado.put("fin", this.grabacion.getStopTime());
+        estado.put("duracion", this.grabacion.getDuration());
+        estado.put("tamanioMaximo", this.grabacion.getMaxSize());
+        estado.put("tamanio", this.grabacion.getSize());
+        estado.put("eventos", EVENTOS);
+        return estado;
+    }
+
+    /**
+     * Inicia una grabación nueva; descarta la anterior si ya estaba detenida
+     *
+     * @param duracionSegundos duración pedida, acotada a duracion-maxima (por omisión la máxima)
+     * @param umbralMs         duración mínima de los eventos propios que se registran
+     * @return estado de la grabación, o 409 si ya hay una corriendo
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> iniciar(@Nullable Long duracionSegundos,
+            @Nullable Long umbralMs) {
+
+        if (this.grabacion != null && this.grabacion.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(estado(), HttpStatus.CONFLICT.value());
+        }
+        cerrar();
+
+        Duration duracion = duracionSegundos == null || duracionSegundos <= 0 ? this.duracionMaxima
+                : Duration.ofSeconds(Math.min(duracionSegundos, this.duracionMaxima.toSeconds()));
+        long umbralEventos = umbralMs == null || umbralMs < 0 ? this.umbral.toMillis() : umbralMs;
+        try {
+            Recording nueva = new Recording(ajustes(umbralEventos));
+            nueva.setName(NOMBRE_GRABACION);
+            nueva.setToDisk(true);
+            nueva.setDuration(duracion);
+            nueva.setMaxSize(this.tamanioMaximo.toBytes());
+            nueva.start();
+            this.grabacion = nueva;
+            LOGGER.info("Grabacion JFR {} iniciada por {} (umbral {} ms)", nueva.getId(), duracion, umbralEventos);
+            return new WebEndpointResponse<>(estado());
+        } catch (IOException | ParseException e) {
+            LOGGER.error("No se pudo iniciar la grabacion JFR con la configuracion " + this.configuracion, e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Configuración base con los eventos propios habilitados y sin los que
+     * pueden exponer secretos
+     *
+     * @param umbralMs duración mínima de los eventos propios
+     * @return ajustes de la grabación
+     */
+    Map<String, String> ajustes(long umbralMs) throws IOException, ParseException {
+        Map<String, String> ajustes = new HashMap<>(Configuration.getConfiguration(this.configuracion).getSettings());
+        for (String evento : EVENTOS) {
+            ajustes.put(evento + "#enabled", "true");
+            ajustes.put(evento + "#threshold", umbralMs + " ms");
+        }
+        for (String evento : EVENTOS_EXCLUIDOS) {
+            ajustes.put(evento + "#enabled", "false");
+        }
+        return ajustes;
+    }
+
+    /**
+     * Detiene la grabación; los datos se conservan hasta que se inicie otra
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> detener() {
+        if (this.grabacion != null && this.grabacion.getState() == RecordingState.RUNNING) {
+            this.grabacion.stop();
+            LOGGER.info("Grabacion JFR {} detenida", this.grabacion.getId());
+        }
+        return estado();
+    }
+
+    /**
+     * Descarga la grabación en formato .jfr (JDK Mission Control o jfr print)
+     *
+     * @param id id de la grabación devuelto por estado
+     * @return archivo .jfr, o 404 si el id no corresponde a la grabación actual
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> descargar(@Selector long id) {
+        if (this.grabacion == null || this.grabacion.getId() != id
+                || this.grabacion.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            borrarVolcado();
+            this.volcado = Files.createTempFile("grabacion-" + id + "-", ".jfr");
+            this.grabacion.dump(this.volcado);
+            return new WebEndpointResponse<>(new FileSystemResource(this.volcado));
+        } catch (IOException e) {
+            LOGGER.error("No se pudo volcar la grabacion JFR " + id, e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void cerrar() {
+        if (this.grabacion != null) {
+            this.grabacion.close();
+            this.grabacion = null;
+        }
+        borrarVolcado();
+    }
+
+    private void borrarVolcado() {
+        if (this.volcado != null) {
+            try {
+                Files.deleteIfExists(this.volcado);
+            } catch (IOException e) {
+                LOGGER.warn("No se pudo borrar el volcado JFR {}", this.volcado, e);
+            }
+            this.volcado = null;
+        }
+    }
+}
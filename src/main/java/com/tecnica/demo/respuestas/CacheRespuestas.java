@@ -0,0 +1,217 @@
+package com.tecnica.demo.respuestas;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tecnica.demo.config.json.CodecJson;
+import com.tecnica.demo.config.repository.EnrutadorDataSource;
+import com.tecnica.demo.evento.DatosCandidatoModificadosEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <b>CacheRespuestas.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Cache de cuerpos de respuesta ya serializados (y comprimidos
+ *               con gzip si rebasan el umbral) para listados que cambian poco,
+ *               por llave de endpoint y parámetros. Cada entrada guarda el
+ *               contador de cambios con el que se leyeron sus datos; cualquier
+ *               escritura de candidatos o empleos (DatosCandidatoModificadosEvent)
+ *               avanza el contador y deja inválidas todas las entradas. Un
+ *               acierto devuelve los bytes guardados en un ResponseEntity,
+ *               que Spring MVC escribe sin pasar por DAO, mapeo ni Jackson,
+ *               por lo que el timestamp de ApiResponse es el de la
+ *               serialización original. Las escrituras de otras
+ *               instancias no avanzan este contador; por eso cada entrada
+ *               guarda también la versión del recurso (sp_version_datos)
+ *               leída antes que sus datos, y una entrada cuya versión ya no
+ *               es la vigente se trata como ausente. El ETag y el
+ *               Last-Modified salen de la entrada servida, con un ETag
+ *               propio para el cuerpo comprimido.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Component
+public class CacheRespuestas {
+
+    private static final String CACHE_RESPUESTAS = "respuestas";
+
+    private static final String GZIP = "gzip";
+
+    @Autowired
+    private CodecJson codecJson;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${respuestas.cache.maximo:64MB}")
+    private DataSize maximo;
+
+    @Value("${respuestas.cache.expirar-despues:5m}")
+    private Duration expirarDespues;
+
+    /* Cuerpos más chicos que esto no se comprimen: gzip ahorra poco y agrega encabezados */
+    @Value("${respuestas.cache.umbral-gzip:2KB}")
+    private DataSize umbralGzip;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private Cache<String, RespuestaCodificada> respuestas;
+
+    @PostConstruct
+    void inicializarCache() {
+        respuestas = Caffeine.newBuilder()
+                .maximumWeight(maximo.toBytes())
+                .weigher((String clave, RespuestaCodificada respuesta) -> respuesta.peso())
+                .expireAfterWrite(expirarDespues)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, respuestas, CACHE_RESPUESTAS);
+    }
+
+    /**
+     * Invalida todas las respuestas. Las lecturas que ya estaban en curso
+     * guardan su resultado con el contador anterior y no se sirven.
+     */
+    @EventListener
+    public void alModificarCandidato(DatosCandidatoModificadosEvent evento) {
+        version.incrementAndGet();
+        respuestas.invalidateAll();
+    }
+
+    /**
+     * Contador de cambios vigente; se toma antes de leer los datos que se
+     * van a guardar con {@link #guardarYResponder}
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Respuesta guardada, si existe y corresponde al contador y a la versión dados
+     *
+     * @param clave endpoint y parámetros
+     * @param version contador tomado con {@link #version()}
+     * @param recurso versión vigente del recurso; null si no se pudo obtener
+     * @param request petición en curso, para elegir entre el cuerpo plano y el comprimido
+     * @return cuerpo listo para devolverse desde el controller; null si no hay uno vigente
+     */
+    public ResponseEntity<byte[]> responder(String clave, long version, VersionRecurso recurso,
+            HttpServletRequest request) {
+        RespuestaCodificada respuesta = respuestas.getIfPresent(clave);
+        if (respuesta == null || respuesta.version() != version || !Objects.equals(respuesta.recurso(), recurso)) {
+            return null;
+        }
+        return respuesta(respuesta, request);
+    }
+
+    /**
+     * Lee los datos de una entrada nueva en el primario: leídos de una réplica
+     * atrasada podrían ser anteriores a la versión con la que se guardan
+     *
+     * @param lectura consulta de los datos del cuerpo
+     * @return resultado de la consulta
+     */
+    public <T> T cargar(Supplier<T> lectura) {
+        return EnrutadorDataSource.enPrimario(lectura);
+    }
+
+    /**
+     * Serializa el cuerpo una sola vez, lo guarda y lo devuelve
+     *
+     * @param clave endpoint y parámetros
+     * @param version contador tomado antes de leer los datos del cuerpo
+     * @param recurso versión del recurso leída antes que los datos; null si no se pudo obtener
+     * @param cuerpo respuesta exitosa a guardar
+     * @param request petición en curso, para elegir entre el cuerpo plano y el comprimido
+     * @return cuerpo listo para devolverse desde el controller
+     */
+    public ResponseEntity<byte[]> guardarYResponder(String clave, long version, VersionRecurso recurso, Object cuerpo,
+            HttpServletRequest request) throws IOException {
+        byte[] json = codecJson.escribirBytes(cuerpo);
+        RespuestaCodificada respuesta = new RespuestaCodificada(version, recurso, json,
+                json.length >= umbralGzip.toBytes() ? comprimir(json) : null);
+
+        // Si hubo una escritura mientras se leía, la entrada ya nace vencida y no se guarda
+        if (version == this.version.get()) {
+            respuestas.put(clave, respuesta);
+        }
+        return respuesta(respuesta, request);
+    }
+
+    /**
+     * Con versión, Spring MVC compara el ETag y el Last-Modified de la entrada
+     * con If-None-Match / If-Modified-Since y responde 304 si coinciden
+     */
+    private static ResponseEntity<byte[]> respuesta(RespuestaCodificada respuesta, HttpServletRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        byte[] cuerpo = respuesta.json();
+        boolean comprimida = false;
+
+        if (respuesta.gzip() != null) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (aceptaGzip(request)) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+                cuerpo = respuesta.gzip();
+                comprimida = true;
+            }
+        }
+
+        VersionRecurso recurso = respuesta.recurso();
+        if (recurso != null) {
+            // Sin esto Spring Security agrega no-store y ningún cliente HTTP guardaría la respuesta
+            builder.cacheControl(CacheControl.noCache())
+                    .eTag(comprimida ? recurso.etagGzip() : recurso.etag())
+                    .lastModified(recurso.ultimaActualizacion());
+        }
+        return builder.contentLength(cuerpo.length).body(cuerpo);
+    }
+
+    /**
+     * Accept-Encoding incluye gzip sin q=0
+     */
+    static boolean aceptaGzip(HttpServletRequest request) {
+        String aceptadas = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (aceptadas == null) {
+            return false;
+        }
+        for (String codificacion : aceptadas.toLowerCase(Locale.ROOT).split(",")) {
+            String[] partes = codificacion.split(";");
+            if (GZIP.equals(partes[0].trim())) {
+                return partes.length == 1 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] comprimir(byte[] json) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return salida.toByteArray();
+    }
+}
@@ -0,0 +1,21 @@
+package com.tecnica.demo.respuestas;
+
+/**
+ * <b>RespuestaCodificada.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Cuerpo de una respuesta ya serializado, listo para copiarse a
+ *               la salida del servlet.
+ * @author: Sistema de Gestión de Candidatos
+ *
+ * @param version contador de cambios con el que se leyeron los datos
+ * @param recurso versión del recurso leída antes que los datos; nula si no se pudo obtener
+ * @param json cuerpo en JSON UTF-8
+ * @param gzip el mismo cuerpo comprimido; nulo si es muy chico para comprimirse
+ */
+record RespuestaCodificada(long version, VersionRecurso recurso, byte[] json, byte[] gzip) {
+
+    int peso() {
+        return json.length + (gzip != null ? gzip.length : 0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.tecnica.demo.respuestas;
+
+import java.time.Instant;
+
+/**
+ * <b>VersionRecurso.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Versión de un recurso leída de pkg_candidatos.sp_version_datos,
+ *               con el ETag fuerte que le corresponde.
+ * @author: Sistema de Gestión de Candidatos
+ *
+ * @param ultimaActualizacion fecha_actualizacion más reciente del recurso (Last-Modified)
+ * @param etag ETag fuerte del cuerpo sin comprimir, entre comillas
+ */
+public record VersionRecurso(Instant ultimaActualizacion, String etag) {
+
+    /**
+     * ETag del cuerpo comprimido con gzip: otra representación, por lo que un
+     * ETag fuerte no puede ser el mismo que el del cuerpo plano
+     */
+    public String etagGzip() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
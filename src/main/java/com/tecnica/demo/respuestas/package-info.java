@@ -0,0 +1 @@
+package com.tecnica.demo.respuestas;
\ No newline at end of file
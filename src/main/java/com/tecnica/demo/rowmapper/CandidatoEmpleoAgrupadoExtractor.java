@@ -0,0 +1,57 @@
+package com.tecnica.demo.rowmapper;
+
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.EmpleoDto;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>CandidatoEmpleoAgrupadoExtractor.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Mapea cursores de candidatos con empleos (una fila por par
+ *               candidato-empleo) agrupando las filas consecutivas del mismo
+ *               candidato en un solo CandidatoDto con su lista de empleos.
+ *               El cursor debe venir ordenado de forma que las filas de cada
+ *               candidato sean contiguas (ORDER BY ..., c.id).
+ * @author: Sistema de Gestión de Candidatos
+ */
+public class CandidatoEmpleoAgrupadoExtractor implements ResultSetExtractor<List<CandidatoDto>> {
+
+    @Override
+    public List<CandidatoDto> extractData(ResultSet rs) throws SQLException {
+        CandidatoEmpleoExtractor.Columnas columnas = CandidatoEmpleoExtractor.Columnas.de(IndiceColumnas.de(rs.getMetaData()));
+        int columnaId = columnas.candidato.id;
+
+        List<CandidatoDto> candidatos = new ArrayList<>();
+        CandidatoDto actual = null;
+        long idActual = 0;
+
+        while (rs.next()) {
+            long id = rs.getLong(columnaId);
+
+            if (actual == null || id != idActual) {
+                actual = CandidatoEmpleoExtractor.mapear(rs, columnas);
+                idActual = id;
+                candidatos.add(actual);
+                continue;
+            }
+
+            // Fila adicional del mismo candidato: solo se agrega el empleo
+            EmpleoDto empleo = CandidatoEmpleoExtractor.mapearEmpleo(rs, columnas);
+            if (empleo == null) {
+                continue;
+            }
+            if (actual.getListaEmpleos() == null) {
+                actual.setListaEmpleos(new ArrayList<>());
+            }
+            actual.getListaEmpleos().add(empleo);
+        }
+        return candidatos;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.tecnica.demo.rowmapper;
+
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.EmpleoDto;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>CandidatoEmpleoExtractor.java</b>
+ *
+ * @version:  1.1
+ * @descripcion: Mapea resultados de candidatos con empleos. Las columnas de
+ *               empleo, antigüedad y experiencia son opcionales: se resuelven
+ *               una vez por cursor y solo se leen si vienen en la consulta.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public class CandidatoEmpleoExtractor implements ResultSetExtractor<List<CandidatoDto>> {
+
+    @Override
+    public List<CandidatoDto> extractData(ResultSet rs) throws SQLException {
+        Columnas columnas = Columnas.de(IndiceColumnas.de(rs.getMetaData()));
+        List<CandidatoDto> candidatos = new ArrayList<>();
+
+        while (rs.next()) {
+            candidatos.add(mapear(rs, columnas));
+        }
+        return candidatos;
+    }
+
+    static CandidatoDto mapear(ResultSet rs, Columnas columnas) throws SQLException {
+        CandidatoDto candidato = CandidatoExtractor.mapear(rs, columnas.candidato);
+
+        // Mapeo de datos de empleo (si existen en el resultado)
+        EmpleoDto empleo = mapearEmpleo(rs, columnas);
+        if (empleo != null) {
+            List<EmpleoDto> empleos = new ArrayList<>(1);
+            empleos.add(empleo);
+            candidato.setListaEmpleos(empleos);
+        }
+
+        // Experiencia total (si existe en la consulta)
+        BigDecimal experiencia = IndiceColumnas.decimal(rs, columnas.aniosExperiencia);
+        if (experiencia != null) {
+            candidato.setExperienciaTotal(experiencia.doubleValue());
+        }
+
+        return candidato;
+    }
+
+    /**
+     * Mapea el empleo de la fila actual; null si la consulta no trae empleo
+     */
+    static EmpleoDto mapearEmpleo(ResultSet rs, Columnas columnas) throws SQLException {
+        String nombreEmpresa = IndiceColumnas.texto(rs, columnas.nombreEmpresa);
+
+        // Solo agregar el empleo si tiene información
+        if (nombreEmpresa == null) {
+            return null;
+        }
+
+        EmpleoDto empleo = new EmpleoDto();
+        empleo.setNombreEmpresa(nombreEmpresa);
+        empleo.setFechaIngreso(IndiceColumnas.fecha(rs, columnas.fechaIngreso));
+        empleo.setFechaSalida(IndiceColumnas.fecha(rs, columnas.fechaSalida));
+        empleo.setIngresoMensual(IndiceColumnas.decimal(rs, columnas.ingresoMensual));
+        empleo.setGiroEmpresa(IndiceColumnas.texto(rs, columnas.giroEmpresa));
+        empleo.setAntiguedadAnios(IndiceColumnas.decimal(rs, columnas.aniosAntiguedad));
+
+        return empleo;
+    }
+
+    /**
+     * Posición de las columnas de candidato y empleo en un cursor; 0 si no viene
+     */
+    static final class Columnas {
+
+        final CandidatoExtractor.Columnas candidato;
+        final int nombreEmpresa;
+        final int fechaIngreso;
+        final int fechaSalida;
+        final int ingresoMensual;
+        final int giroEmpresa;
+        final int aniosAntiguedad;
+        final int aniosExperiencia;
+
+        private Columnas(IndiceColumnas indice) {
+            this.candidato = CandidatoExtractor.Columnas.de(indice);
+            this.nombreEmpresa = indice.indice("NOMBRE_EMPRESA");
+            this.fechaIngreso = indice.indice("FECHA_INGRESO");
+            this.fechaSalida = indice.indice("FECHA_SALIDA");
+            this.ingresoMensual = indice.indice("INGRESO_MENSUAL");
+            this.giroEmpresa = indice.indice("GIRO_EMPRESA");
+            this.aniosAntiguedad = indice.indice("ANIOS_ANTIGUEDAD");
+            this.aniosExperiencia = indice.indice("ANIOS_EXPERIENCIA");
+        }
+
+        static Columnas de(IndiceColumnas indice) {
+            return new Columnas(indice);
+        }
+
+    }
+
+}
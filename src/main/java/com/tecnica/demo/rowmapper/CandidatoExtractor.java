@@ -0,0 +1,111 @@
+package com.tecnica.demo.rowmapper;
+
+import com.tecnica.demo.dto.CandidatoDto;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>CandidatoExtractor.java</b>
+ *
+ * @version: 1.1
+ * @descripcion: Mapea los resultados de candidatos. Las columnas se resuelven
+ *               una vez por cursor y cada fila se lee por índice.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public class CandidatoExtractor implements ResultSetExtractor<List<CandidatoDto>> {
+
+    @Override
+    public List<CandidatoDto> extractData(ResultSet rs) throws SQLException {
+        Columnas columnas = Columnas.de(rs.getMetaData());
+        List<CandidatoDto> candidatos = new ArrayList<>();
+
+        while (rs.next()) {
+            candidatos.add(mapear(rs, columnas));
+        }
+        return candidatos;
+    }
+
+    /**
+     * Mapea la fila actual del cursor
+     *
+     * @param rs       cursor posicionado en la fila
+     * @param columnas columnas resueltas para este cursor
+     * @return CandidatoDto de la fila
+     */
+    public static CandidatoDto mapear(ResultSet rs, Columnas columnas) throws SQLException {
+        CandidatoDto candidato = new CandidatoDto();
+
+        candidato.setId(IndiceColumnas.entero(rs, columnas.id));
+        candidato.setNombres(IndiceColumnas.texto(rs, columnas.nombres));
+        candidato.setApellidos(IndiceColumnas.texto(rs, columnas.apellidos));
+        candidato.setEmail(IndiceColumnas.texto(rs, columnas.email));
+        candidato.setFechaNacimiento(IndiceColumnas.fecha(rs, columnas.fechaNacimiento));
+        candidato.setRfc(IndiceColumnas.texto(rs, columnas.rfc));
+        candidato.setTelefono(IndiceColumnas.texto(rs, columnas.telefono));
+        candidato.setCalle(IndiceColumnas.texto(rs, columnas.calle));
+        candidato.setNumero(IndiceColumnas.texto(rs, columnas.numero));
+        candidato.setColonia(IndiceColumnas.texto(rs, columnas.colonia));
+        candidato.setCiudad(IndiceColumnas.texto(rs, columnas.ciudad));
+        candidato.setEstado(IndiceColumnas.texto(rs, columnas.estado));
+        candidato.setPais(IndiceColumnas.texto(rs, columnas.pais));
+        candidato.setCodigoPostal(IndiceColumnas.texto(rs, columnas.codigoPostal));
+        candidato.setActivo(IndiceColumnas.bandera(rs, columnas.activo));
+
+        return candidato;
+    }
+
+    /**
+     * Posición de las columnas de candidato en un cursor; 0 si no viene
+     */
+    public static final class Columnas {
+
+        final int id;
+        final int nombres;
+        final int apellidos;
+        final int email;
+        final int fechaNacimiento;
+        final int rfc;
+        final int telefono;
+        final int calle;
+        final int numero;
+        final int colonia;
+        final int ciudad;
+        final int estado;
+        final int pais;
+        final int codigoPostal;
+        final int activo;
+
+        private Columnas(IndiceColumnas indice) {
+            this.id = indice.indice("ID");
+            this.nombres = indice.indice("NOMBRES");
+            this.apellidos = indice.indice("APELLIDOS");
+            this.email = indice.indice("EMAIL");
+            this.fechaNacimiento = indice.indice("FECHA_NACIMIENTO");
+            this.rfc = indice.indice("RFC");
+            this.telefono = indice.indice("TELEFONO");
+            this.calle = indice.indice("CALLE");
+            this.numero = indice.indice("NUMERO");
+            this.colonia = indice.indice("COLONIA");
+            this.ciudad = indice.indice("CIUDAD");
+            this.estado = indice.indice("ESTADO");
+            this.pais = indice.indice("PAIS");
+            this.codigoPostal = indice.indice("CODIGO_POSTAL");
+            this.activo = indice.indice("ACTIVO");
+        }
+
+        public static Columnas de(ResultSetMetaData metaData) throws SQLException {
+            return new Columnas(IndiceColumnas.de(metaData));
+        }
+
+        static Columnas de(IndiceColumnas indice) {
+            return new Columnas(indice);
+        }
+
+    }
+
+}
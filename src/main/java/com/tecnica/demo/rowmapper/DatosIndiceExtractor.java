@@ -0,0 +1,54 @@
+package com.tecnica.demo.rowmapper;
+
+import com.tecnica.demo.dto.DatosIndiceDto;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>DatosIndiceExtractor.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Mapea los atributos del índice de búsqueda en memoria
+ *               (fn_datos_indice_busqueda)
+ * @author: Sistema de Gestión de Candidatos
+ */
+public class DatosIndiceExtractor implements ResultSetExtractor<List<DatosIndiceDto>> {
+
+    @Override
+    public List<DatosIndiceDto> extractData(ResultSet rs) throws SQLException {
+        IndiceColumnas indice = IndiceColumnas.de(rs.getMetaData());
+        int id = indice.indice("ID");
+        int activo = indice.indice("ACTIVO");
+        int estado = indice.indice("ESTADO");
+        int laborando = indice.indice("LABORANDO");
+        int ingresoActual = indice.indice("INGRESO_ACTUAL");
+        int mesesCerrados = indice.indice("MESES_CERRADOS");
+        int numAbiertos = indice.indice("NUM_ABIERTOS");
+        int mesesIniciosAbiertos = indice.indice("MESES_INICIOS_ABIERTOS");
+        int fechaActualizacion = indice.indice("FECHA_ACTUALIZACION");
+
+        List<DatosIndiceDto> filas = new ArrayList<>();
+
+        while (rs.next()) {
+            DatosIndiceDto fila = new DatosIndiceDto();
+
+            fila.setId(IndiceColumnas.entero(rs, id));
+            fila.setActivo(IndiceColumnas.bandera(rs, activo));
+            fila.setEstado(IndiceColumnas.texto(rs, estado));
+            fila.setLaborando(IndiceColumnas.bandera(rs, laborando));
+            fila.setIngresoActual(IndiceColumnas.decimal(rs, ingresoActual));
+            fila.setMesesCerrados(IndiceColumnas.decimal(rs, mesesCerrados));
+            fila.setNumAbiertos(IndiceColumnas.entero(rs, numAbiertos));
+            fila.setMesesIniciosAbiertos(IndiceColumnas.decimal(rs, mesesIniciosAbiertos));
+            fila.setFechaActualizacion(IndiceColumnas.fechaHora(rs, fechaActualizacion));
+
+            filas.add(fila);
+        }
+        return filas;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.tecnica.demo.rowmapper;
+
+import com.tecnica.demo.dto.EmpleoDto;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>EmpleoExtractor.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Mapea los empleos de un candidato (fn_obtener_empleos_candidato)
+ * @author: Sistema de Gestión de Candidatos
+ */
+public class EmpleoExtractor implements ResultSetExtractor<List<EmpleoDto>> {
+
+    @Override
+    public List<EmpleoDto> extractData(ResultSet rs) throws SQLException {
+        IndiceColumnas indice = IndiceColumnas.de(rs.getMetaData());
+        int id = indice.indice("ID");
+        int candidatoId = indice.indice("CANDIDATO_ID");
+        int nombreEmpresa = indice.indice("NOMBRE_EMPRESA");
+        int fechaIngreso = indice.indice("FECHA_INGRESO");
+        int fechaSalida = indice.indice("FECHA_SALIDA");
+        int ingresoMensual = indice.indice("INGRESO_MENSUAL");
+        int giroEmpresa = indice.indice("GIRO_EMPRESA");
+        int activo = indice.indice("ACTIVO");
+
+        List<EmpleoDto> empleos = new ArrayList<>();
+
+        while (rs.next()) {
+            EmpleoDto empleo = new EmpleoDto();
+
+            empleo.setId(IndiceColumnas.entero(rs, id));
+            empleo.setCandidatoId(IndiceColumnas.entero(rs, candidatoId));
+            empleo.setNombreEmpresa(IndiceColumnas.texto(rs, nombreEmpresa));
+            empleo.setFechaIngreso(IndiceColumnas.fecha(rs, fechaIngreso));
+            empleo.setFechaSalida(IndiceColumnas.fecha(rs, fechaSalida));
+            empleo.setIngresoMensual(IndiceColumnas.decimal(rs, ingresoMensual));
+            empleo.setGiroEmpresa(IndiceColumnas.texto(rs, giroEmpresa));
+            empleo.setActivo(IndiceColumnas.bandera(rs, activo));
+
+            empleos.add(empleo);
+        }
+        return empleos;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.tecnica.demo.rowmapper;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <b>IndiceColumnas.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Resuelve una sola vez por cursor la posición de cada columna a
+ *               partir de ResultSetMetaData. El índice 0 indica que la columna
+ *               no viene en la consulta; los lectores regresan null en ese caso.
+ * @author: Sistema de Gestión de Candidatos
+ */
+final class IndiceColumnas {
+
+    private final Map<String, Integer> indices;
+
+    private IndiceColumnas(Map<String, Integer> indices) {
+        this.indices = indices;
+    }
+
+    static IndiceColumnas de(ResultSetMetaData metaData) throws SQLException {
+        int total = metaData.getColumnCount();
+        Map<String, Integer> indices = new HashMap<>(total * 2);
+
+        for (int i = 1; i <= total; i++) {
+            // Con columnas repetidas se conserva la primera, igual que rs.findColumn
+            indices.putIfAbsent(metaData.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+        }
+        return new IndiceColumnas(indices);
+    }
+
+    int indice(String columna) {
+        return this.indices.getOrDefault(columna, 0);
+    }
+
+    static Long entero(ResultSet rs, int indice) throws SQLException {
+        if (indice == 0) {
+            return null;
+        }
+        long valor = rs.getLong(indice);
+        return rs.wasNull() ? null : valor;
+    }
+
+    static String texto(ResultSet rs, int indice) throws SQLException {
+        return indice == 0 ? null : rs.getString(indice);
+    }
+
+    static LocalDate fecha(ResultSet rs, int indice) throws SQLException {
+        if (indice == 0) {
+            return null;
+        }
+        Date fecha = rs.getDate(indice);
+        return fecha == null ? null : fecha.toLocalDate();
+    }
+
+    static LocalDateTime fechaHora(ResultSet rs, int indice) throws SQLException {
+        if (indice == 0) {
+            return null;
+        }
+        Timestamp fecha = rs.getTimestamp(indice);
+        return fecha == null ? null : fecha.toLocalDateTime();
+    }
+
+    static BigDecimal decimal(ResultSet rs, int indice) throws SQLException {
+        return indice == 0 ? null : rs.getBigDecimal(indice);
+    }
+
+    static Boolean bandera(ResultSet rs, int indice) throws SQLException {
+        if (indice == 0) {
+            return null;
+        }
+        int valor = rs.getInt(indice);
+        return rs.wasNull() ? null : valor == 1;
+    }
+
+}
@@ -1,12 +1,19 @@
 package com.tecnica.demo.service;
 
+import com.tecnica.demo.busqueda.FiltroCandidatos;
 import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.DisponibilidadDto;
+import com.tecnica.demo.dto.PaginaDto;
+import com.tecnica.demo.dto.ResultadoLoteDto;
 import com.tecnica.demo.dto.registry.ActualizarDatosPersonalesRequest;
 import com.tecnica.demo.dto.registry.ActualizarDomicilioRequest;
 import com.tecnica.demo.dto.registry.CrearCandidatoRequest;
+import com.tecnica.demo.util.Paginacion;
+import com.tecnica.demo.util.Proyeccion;
 import com.tecnica.demo.util.Result;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <b>ICandidatoService.java</b>
@@ -25,6 +32,14 @@ public interface ICandidatoService {
      */
     Result<Long> crearCandidato(CrearCandidatoRequest request);
 
+    /**
+     * Crear candidatos en lote
+     *
+     * @param requests candidatos a crear
+     * @return Result con el resultado de cada fila, en el orden de la petición
+     */
+    Result<List<ResultadoLoteDto>> crearCandidatosLote(List<CrearCandidatoRequest> requests);
+
     /**
      * Actualizar datos personales del candidato
      *
@@ -59,6 +74,14 @@ public interface ICandidatoService {
      */
     Result<CandidatoDto> obtenerCandidato(Long candidatoId);
 
+    /**
+     * Obtener perfil del candidato (datos y empleos) en una sola llamada
+     *
+     * @param candidatoId ID del candidato
+     * @return Result con el candidato y su lista de empleos
+     */
+    Result<CandidatoDto> obtenerPerfil(Long candidatoId);
+
     /**
      * Listar todos los candidatos activos
      *
@@ -66,6 +89,22 @@ public interface ICandidatoService {
      */
     Result<List<CandidatoDto>> listarCandidatos();
 
+    /**
+     * Listar candidatos activos, paginado por llave (apellidos, nombres, id)
+     *
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> listarCandidatosPagina(Paginacion pagina);
+
+    /**
+     * Transmitir los candidatos activos conforme se leen de la base de datos
+     *
+     * @param consumidor recibe cada candidato
+     * @return Result con el número de candidatos transmitidos
+     */
+    Result<Long> transmitirCandidatos(Consumer<CandidatoDto> consumidor);
+
     /**
      * Buscar candidatos por código postal
      *
@@ -74,4 +113,60 @@ public interface ICandidatoService {
      */
     Result<List<CandidatoDto>> buscarPorCodigoPostal(String codigoPostal);
 
+    /**
+     * Buscar candidatos por código postal, paginado por llave (apellidos, nombres, id)
+     *
+     * @param codigoPostal código postal a buscar
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> buscarPorCodigoPostalPagina(String codigoPostal, Paginacion pagina);
+
+    /**
+     * Filtrar candidatos combinando criterios con el índice en memoria
+     *
+     * @param filtro criterios a combinar (AND)
+     * @param despuesDe ID del último candidato de la página anterior (opcional)
+     * @param tamanio tamaño de página
+     * @return Result con la página de candidatos en orden de ID
+     */
+    Result<PaginaDto<CandidatoDto>> filtrarCandidatos(FiltroCandidatos filtro, Long despuesDe, int tamanio);
+
+    /**
+     * Verificar si un email y un RFC están libres
+     *
+     * @param email email a verificar (opcional)
+     * @param rfc RFC a verificar (opcional)
+     * @param excluirId candidato que se está editando, no cuenta como duplicado (opcional)
+     * @return Result con la disponibilidad de cada valor recibido
+     */
+    Result<DisponibilidadDto> verificarDisponibilidad(String email, String rfc, Long excluirId);
+
+    /**
+     * Obtener candidato por ID con solo los campos pedidos
+     *
+     * @param candidatoId ID del candidato
+     * @param proyeccion campos a leer y si se incluyen sus empleos
+     * @return Result con datos del candidato
+     */
+    Result<CandidatoDto> obtenerCandidato(Long candidatoId, Proyeccion proyeccion);
+
+    /**
+     * Listar candidatos activos con solo los campos pedidos
+     *
+     * @param proyeccion campos a leer y si se incluyen sus empleos
+     * @param codigoPostal código postal a buscar (opcional)
+     * @return Result con lista de candidatos
+     */
+    Result<List<CandidatoDto>> consultarCandidatos(Proyeccion proyeccion, String codigoPostal);
+
+    /**
+     * Listar candidatos activos con solo los campos pedidos, paginado por llave
+     *
+     * @param proyeccion campos a leer y si se incluyen sus empleos
+     * @param codigoPostal código postal a buscar (opcional)
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> consultarCandidatosPagina(Proyeccion proyeccion, String codigoPostal, Paginacion pagina);
 }
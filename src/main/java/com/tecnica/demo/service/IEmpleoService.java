@@ -2,8 +2,10 @@ package com.tecnica.demo.service;
 
 import com.tecnica.demo.dto.CandidatoDto;
 import com.tecnica.demo.dto.EmpleoDto;
+import com.tecnica.demo.dto.PaginaDto;
 import com.tecnica.demo.dto.registry.ActualizarEmpleoRequest;
 import com.tecnica.demo.dto.registry.CrearEmpleoRequest;
+import com.tecnica.demo.util.Paginacion;
 import com.tecnica.demo.util.Result;
 
 import java.math.BigDecimal;
@@ -90,4 +92,47 @@ public interface IEmpleoService {
      */
     Result<List<CandidatoDto>> candidatosLaborandoActualmente();
 
+    /**
+     * Buscar candidatos por empresa, paginado por llave (apellidos, nombres, id)
+     *
+     * @param nombreEmpresa nombre de la empresa
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> buscarCandidatosPorEmpresaPagina(String nombreEmpresa, Paginacion pagina);
+
+    /**
+     * Candidatos con antigüedad mayor a 2 años, paginado por llave (apellidos, nombres, id)
+     *
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> candidatosConAntiguedad2AniosPagina(Paginacion pagina);
+
+    /**
+     * Candidatos con ingreso mayor al especificado, paginado por llave (apellidos, nombres, id)
+     *
+     * @param ingresoMinimo ingreso mínimo (opcional, default: 10000)
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> candidatosConIngresoMayorPagina(BigDecimal ingresoMinimo, Paginacion pagina);
+
+    /**
+     * Candidatos con más de X años de experiencia, paginado por llave (apellidos, nombres, id)
+     *
+     * @param aniosExperiencia años de experiencia (opcional, default: 5)
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> candidatosConExperienciaPagina(BigDecimal aniosExperiencia, Paginacion pagina);
+
+    /**
+     * Candidatos laborando actualmente, paginado por llave (apellidos, nombres, id)
+     *
+     * @param pagina cursor, orden y tamaño de página
+     * @return Result con la página de candidatos
+     */
+    Result<PaginaDto<CandidatoDto>> candidatosLaborandoActualmentePagina(Paginacion pagina);
+
 }
\ No newline at end of file
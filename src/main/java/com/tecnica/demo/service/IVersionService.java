@@ -0,0 +1,26 @@
+package com.tecnica.demo.service;
+
+import com.tecnica.demo.enums.EnumAlcanceVersion;
+import com.tecnica.demo.util.Result;
+
+import java.time.Instant;
+
+/**
+ * <b>IVersionService.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Interface de servicio para la versión de los recursos (ETag / Last-Modified)
+ * @author: Sistema de Gestión de Candidatos
+ */
+public interface IVersionService {
+
+    /**
+     * Obtener la última actualización de los datos de un recurso
+     *
+     * @param alcance recurso a versionar
+     * @param candidatoId ID del candidato; nulo para CANDIDATOS
+     * @return Result con la fecha, nula si el recurso no tiene filas
+     */
+    Result<Instant> obtenerVersion(EnumAlcanceVersion alcance, Long candidatoId);
+
+}
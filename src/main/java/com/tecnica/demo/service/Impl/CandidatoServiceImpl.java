@@ -1,22 +1,48 @@
 package com.tecnica.demo.service.Impl;
 
+import com.tecnica.demo.busqueda.FiltroCandidatos;
+import com.tecnica.demo.busqueda.MotorFiltrosCandidatos;
+import com.tecnica.demo.config.repository.EnrutadorDataSource;
 import com.tecnica.demo.constant.Constants;
 import com.tecnica.demo.dao.ICandidatoDao;
 import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.DisponibilidadDto;
+import com.tecnica.demo.dto.EmpleoDto;
+import com.tecnica.demo.dto.PaginaDto;
+import com.tecnica.demo.dto.ResultadoLoteDto;
 import com.tecnica.demo.dto.registry.ActualizarDatosPersonalesRequest;
 import com.tecnica.demo.dto.registry.ActualizarDomicilioRequest;
 import com.tecnica.demo.dto.registry.CrearCandidatoRequest;
+import com.tecnica.demo.duplicados.RegistroClavesCandidato;
+import com.tecnica.demo.evento.DatosCandidatoModificadosEvent;
 import com.tecnica.demo.service.ICandidatoService;
+import com.tecnica.demo.util.Paginacion;
+import com.tecnica.demo.util.Proyeccion;
 import com.tecnica.demo.util.Result;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * <b>CandidatoServiceImpl.java</b>
@@ -33,10 +59,46 @@ public class CandidatoServiceImpl implements ICandidatoService {
     @Autowired
     private ICandidatoDao candidatoDao;
 
+    @Autowired
+    private MotorFiltrosCandidatos motorFiltros;
+
+    @Autowired
+    private RegistroClavesCandidato registroClaves;
+
+    @Autowired
+    private ApplicationEventPublisher publicador;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${candidatos.lote.tamanio:500}")
+    private int tamanioLote;
+
+    @Value("${candidatos.lote.maximo:10000}")
+    private int maximoLote;
+
+    /**
+     * Con un tamaño de bloque 0 el recorrido del lote no avanzaría; se detiene el arranque
+     */
+    @PostConstruct
+    public void validarConfiguracion() {
+        if (tamanioLote <= 0) {
+            throw new IllegalStateException("candidatos.lote.tamanio debe ser mayor a 0: " + tamanioLote);
+        }
+        if (maximoLote <= 0) {
+            throw new IllegalStateException("candidatos.lote.maximo debe ser mayor a 0: " + maximoLote);
+        }
+    }
+
     @Override
     public Result<Long> crearCandidato(CrearCandidatoRequest request) {
         try {
             LOGGER.info(Constants.LOG_INFO_INSERTAR);
+            String duplicado = clavesExistentes(List.of(request), null).mensaje(request.getEmail(), request.getRfc());
+            if (duplicado != null) {
+                return Result.failure(duplicado);
+            }
+
             Map<String, Object> result = candidatoDao.insertarCandidato(request);
 
             BigDecimal candidatoIdBD = (BigDecimal) result.get(Constants.PA_CANDIDATO_ID);
@@ -47,6 +109,8 @@ public class CandidatoServiceImpl implements ICandidatoService {
 
             Long candidatoId = candidatoIdBD.longValue();
             LOGGER.info("Candidato creado exitosamente con ID: {}", candidatoId);
+            registroClaves.agregar(request.getEmail(), request.getRfc());
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deCandidato(candidatoId));
 
             return Result.success(candidatoId);
 
@@ -57,9 +121,88 @@ public class CandidatoServiceImpl implements ICandidatoService {
     }
 
     @Override
+    public Result<List<ResultadoLoteDto>> crearCandidatosLote(List<CrearCandidatoRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return Result.failure("El lote no contiene candidatos");
+        }
+        if (requests.size() > maximoLote) {
+            return Result.failure("El lote excede el máximo de " + maximoLote + " candidatos");
+        }
+
+        LOGGER.info("Creando lote de {} candidatos", requests.size());
+        List<ResultadoLoteDto> resultados = new ArrayList<>(requests.size());
+
+        for (int inicio = 0; inicio < requests.size(); inicio += tamanioLote) {
+            List<CrearCandidatoRequest> bloque = requests.subList(inicio, Math.min(inicio + tamanioLote, requests.size()));
+            ResultadoLoteDto[] filas = new ResultadoLoteDto[bloque.size()];
+
+            try {
+                // Las filas duplicadas se resuelven aquí y no viajan al procedure
+                ClavesExistentes existentes = clavesExistentes(bloque, null);
+                List<Integer> posiciones = new ArrayList<>(bloque.size());
+                List<CrearCandidatoRequest> nuevos = new ArrayList<>(bloque.size());
+
+                for (int i = 0; i < bloque.size(); i++) {
+                    CrearCandidatoRequest request = bloque.get(i);
+                    String duplicado = existentes.mensaje(request.getEmail(), request.getRfc());
+                    if (duplicado != null) {
+                        filas[i] = ResultadoLoteDto.builder().indice(inicio + i).exito(false).error(duplicado).build();
+                    } else {
+                        posiciones.add(i);
+                        nuevos.add(request);
+                    }
+                }
+
+                if (!nuevos.isEmpty()) {
+                    Map<String, Object> result = candidatoDao.insertarCandidatosLote(nuevos);
+                    Object[] ids = (Object[]) result.get(Constants.PA_CANDIDATO_IDS);
+                    Object[] codigos = (Object[]) result.get(Constants.PA_CODIGOS_ERROR);
+
+                    for (int j = 0; j < nuevos.size(); j++) {
+                        int i = posiciones.get(j);
+                        filas[i] = resultadoFila(inicio + i, (BigDecimal) ids[j], (BigDecimal) codigos[j]);
+                        if (Boolean.TRUE.equals(filas[i].getExito())) {
+                            registroClaves.agregar(nuevos.get(j).getEmail(), nuevos.get(j).getRfc());
+                        }
+                    }
+                }
+
+            } catch (RuntimeException e) {
+                // Un bloque fallido no detiene el resto del lote; sus filas pendientes se reportan como error
+                LOGGER.error(Constants.LOG_ERROR, e);
+                for (int i = 0; i < bloque.size(); i++) {
+                    if (filas[i] == null) {
+                        filas[i] = ResultadoLoteDto.builder()
+                                .indice(inicio + i)
+                                .exito(false)
+                                .error("Error interno al crear candidato: " + e.getMessage())
+                                .build();
+                    }
+                }
+            }
+            resultados.addAll(Arrays.asList(filas));
+        }
+
+        long creados = resultados.stream().filter(ResultadoLoteDto::getExito).count();
+        LOGGER.info("Lote procesado: {} creados, {} con error", creados, resultados.size() - creados);
+        if (creados > 0) {
+            publicador.publishEvent(DatosCandidatoModificadosEvent.varios());
+        }
+
+        return Result.success(resultados);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = Constants.CACHE_CANDIDATOS, key = "#candidatoId")
     public Result<Integer> actualizarDatosPersonales(Long candidatoId, ActualizarDatosPersonalesRequest request) {
         try {
             LOGGER.info(Constants.LOG_INFO_ACTUALIZAR + " ID: {}", candidatoId);
+            String duplicado = clavesExistentes(Arrays.asList(request.getEmail()), Arrays.asList(request.getRfc()), candidatoId)
+                    .mensaje(request.getEmail(), request.getRfc());
+            if (duplicado != null) {
+                return Result.failure(duplicado);
+            }
+
             Integer statusOper = candidatoDao.actualizarDatosPersonales(candidatoId, request);
 
             if (statusOper == null || statusOper != Constants.STATUS_OK) {
@@ -67,6 +210,8 @@ public class CandidatoServiceImpl implements ICandidatoService {
             }
 
             LOGGER.info("Datos personales actualizados exitosamente para candidato ID: {}", candidatoId);
+            registroClaves.agregar(request.getEmail(), request.getRfc());
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deCandidato(candidatoId));
             return Result.success(statusOper);
 
         } catch (RuntimeException e) {
@@ -76,6 +221,7 @@ public class CandidatoServiceImpl implements ICandidatoService {
     }
 
     @Override
+    @CacheEvict(cacheNames = Constants.CACHE_CANDIDATOS, key = "#candidatoId")
     public Result<Integer> actualizarDomicilio(Long candidatoId, ActualizarDomicilioRequest request) {
         try {
             LOGGER.info("Actualizando domicilio para candidato ID: {}", candidatoId);
@@ -86,6 +232,7 @@ public class CandidatoServiceImpl implements ICandidatoService {
             }
 
             LOGGER.info("Domicilio actualizado exitosamente para candidato ID: {}", candidatoId);
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deCandidato(candidatoId));
             return Result.success(statusOper);
 
         } catch (RuntimeException e) {
@@ -95,6 +242,7 @@ public class CandidatoServiceImpl implements ICandidatoService {
     }
 
     @Override
+    @CacheEvict(cacheNames = Constants.CACHE_CANDIDATOS, key = "#candidatoId")
     public Result<Integer> eliminarCandidato(Long candidatoId) {
         try {
             LOGGER.info(Constants.LOG_INFO_ELIMINAR + " ID: {}", candidatoId);
@@ -105,6 +253,7 @@ public class CandidatoServiceImpl implements ICandidatoService {
             }
 
             LOGGER.info("Candidato eliminado exitosamente ID: {}", candidatoId);
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deCandidato(candidatoId));
             return Result.success(statusOper);
 
         } catch (RuntimeException e) {
@@ -113,24 +262,81 @@ public class CandidatoServiceImpl implements ICandidatoService {
         }
     }
 
+    /**
+     * Lectura a través del cache de candidatos. Un fallo se lee del primario:
+     * leído de una réplica atrasada justo después de una escritura, el
+     * candidato anterior volvería al cache hasta que expire. La carga corre
+     * dentro del compute atómico de Caffeine, así que un @CacheEvict
+     * concurrente espera a que termine y la descarta, en lugar de que la
+     * carga regrese después del evict un candidato anterior. El cache guarda
+     * su propia copia y cada acierto regresa otra, así que quien modifique el
+     * DTO regresado no altera lo guardado.
+     */
     @Override
     public Result<CandidatoDto> obtenerCandidato(Long candidatoId) {
         try {
-            LOGGER.info(Constants.LOG_INFO_CONSULTAR + " ID: {}", candidatoId);
-            Map<String, Object> result = candidatoDao.obtenerCandidato(candidatoId);
+            Cache cache = cacheManager.getCache(Constants.CACHE_CANDIDATOS);
+            CandidatoDto candidato = cache != null
+                    ? cache.get(candidatoId, () -> copiar(cargarCandidato(candidatoId)))
+                    : cargarCandidato(candidatoId);
+            return Result.success(copiar(candidato));
+
+        } catch (Cache.ValueRetrievalException e) {
+            return fallaObtenerCandidato(candidatoId, e.getCause() instanceof RuntimeException causa ? causa : e);
+        } catch (RuntimeException e) {
+            return fallaObtenerCandidato(candidatoId, e);
+        }
+    }
+
+    /**
+     * Lee el candidato del primario. Si no existe lanza la excepción en lugar de
+     * regresar null, para que el cache no guarde la ausencia
+     */
+    private CandidatoDto cargarCandidato(Long candidatoId) {
+        LOGGER.info(Constants.LOG_INFO_CONSULTAR + " ID: {}", candidatoId);
+        Map<String, Object> result = EnrutadorDataSource.enPrimario(() -> candidatoDao.obtenerCandidato(candidatoId));
+
+        @SuppressWarnings("unchecked")
+        List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+        if (candidatos == null || candidatos.isEmpty()) {
+            throw new EmptyResultDataAccessException("Candidato no encontrado con ID: " + candidatoId, 1);
+        }
+        return candidatos.get(0);
+    }
+
+    private static Result<CandidatoDto> fallaObtenerCandidato(Long candidatoId, RuntimeException e) {
+        if (e instanceof EmptyResultDataAccessException) {
+            return Result.failure("Candidato no encontrado con ID: " + candidatoId);
+        }
+        LOGGER.error(Constants.LOG_ERROR, e);
+        return Result.failure("Error interno al obtener candidato: " + e.getMessage());
+    }
+
+    @Override
+    public Result<CandidatoDto> obtenerPerfil(Long candidatoId) {
+        try {
+            LOGGER.info("Consultando perfil del candidato ID: {}", candidatoId);
+            Map<String, Object> result = candidatoDao.obtenerPerfil(candidatoId);
 
             @SuppressWarnings("unchecked")
-            List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+            List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_CANDIDATO);
 
             if (candidatos == null || candidatos.isEmpty()) {
                 return Result.failure("Candidato no encontrado con ID: " + candidatoId);
             }
 
-            return Result.success(candidatos.get(0));
+            @SuppressWarnings("unchecked")
+            List<EmpleoDto> empleos = (List<EmpleoDto>) result.get(Constants.CUR_EMPLEOS);
+
+            CandidatoDto candidato = candidatos.get(0);
+            candidato.setListaEmpleos(empleos != null ? empleos : new ArrayList<>());
+
+            return Result.success(candidato);
 
         } catch (RuntimeException e) {
             LOGGER.error(Constants.LOG_ERROR, e);
-            return Result.failure("Error interno al obtener candidato: " + e.getMessage());
+            return Result.failure("Error interno al obtener perfil: " + e.getMessage());
         }
     }
 
@@ -156,6 +362,42 @@ public class CandidatoServiceImpl implements ICandidatoService {
         }
     }
 
+    @Override
+    public Result<PaginaDto<CandidatoDto>> listarCandidatosPagina(Paginacion pagina) {
+        try {
+            LOGGER.info("Listando candidatos paginados, tamaño: {}, orden: {}", pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = candidatoDao.listarCandidatosPagina(pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al obtener la página de candidatos");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al obtener la página de candidatos: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<Long> transmitirCandidatos(Consumer<CandidatoDto> consumidor) {
+        try {
+            LOGGER.info("Transmitiendo candidatos en streaming");
+            long transmitidos = candidatoDao.recorrerCandidatos(consumidor);
+
+            LOGGER.info("Se transmitieron {} candidatos", transmitidos);
+            return Result.success(transmitidos);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al transmitir candidatos: " + e.getMessage());
+        }
+    }
+
     @Override
     public Result<List<CandidatoDto>> buscarPorCodigoPostal(String codigoPostal) {
         try {
@@ -178,4 +420,259 @@ public class CandidatoServiceImpl implements ICandidatoService {
         }
     }
 
+    @Override
+    public Result<PaginaDto<CandidatoDto>> buscarPorCodigoPostalPagina(String codigoPostal, Paginacion pagina) {
+        try {
+            LOGGER.info("Buscando candidatos por código postal: {}, tamaño: {}, orden: {}", codigoPostal, pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = candidatoDao.buscarPorCodigoPostalPagina(codigoPostal, pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al buscar por código postal");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al buscar por código postal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<PaginaDto<CandidatoDto>> filtrarCandidatos(FiltroCandidatos filtro, Long despuesDe, int tamanio) {
+        try {
+            if (!motorFiltros.isCargado()) {
+                return Result.failure("El índice de búsqueda aún no está disponible");
+            }
+            MotorFiltrosCandidatos.ResultadoFiltro coincidencias = motorFiltros.filtrar(filtro, despuesDe, tamanio);
+            LOGGER.info("Filtro {} con {} coincidencias", filtro, coincidencias.total());
+
+            List<CandidatoDto> candidatos = List.of();
+            if (coincidencias.ids().length > 0) {
+                // Oracle solo se consulta para la página que se regresa
+                Map<String, Object> result = candidatoDao.obtenerCandidatosPorIds(coincidencias.ids());
+
+                @SuppressWarnings("unchecked")
+                List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+                if (filas == null) {
+                    return Result.failure("Error al obtener los candidatos filtrados");
+                }
+                candidatos = filas;
+            }
+
+            long[] ids = coincidencias.ids();
+            String siguienteCursor = coincidencias.hayMas() ? Paginacion.cursorPorId(ids[ids.length - 1]) : null;
+
+            return Result.success(PaginaDto.<CandidatoDto>builder()
+                    .elementos(candidatos)
+                    .tamanio(tamanio)
+                    .siguienteCursor(siguienteCursor)
+                    .hayMas(coincidencias.hayMas())
+                    .total(coincidencias.total())
+                    .build());
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al filtrar candidatos: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<DisponibilidadDto> verificarDisponibilidad(String email, String rfc, Long excluirId) {
+        try {
+            ClavesExistentes existentes = clavesExistentes(Arrays.asList(email), Arrays.asList(rfc), excluirId);
+
+            return Result.success(DisponibilidadDto.builder()
+                    .emailDisponible(email != null ? !existentes.emails().contains(email) : null)
+                    .rfcDisponible(rfc != null ? !existentes.rfcs().contains(rfc) : null)
+                    .build());
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al verificar disponibilidad: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<CandidatoDto> obtenerCandidato(Long candidatoId, Proyeccion proyeccion) {
+        try {
+            LOGGER.info(Constants.LOG_INFO_CONSULTAR + " ID: {}, {}", candidatoId, proyeccion);
+            List<CandidatoDto> candidatos = proyectar(proyeccion, candidatoId, null, null);
+
+            if (candidatos == null || candidatos.isEmpty()) {
+                return Result.failure("Candidato no encontrado con ID: " + candidatoId);
+            }
+
+            return Result.success(candidatos.get(0));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al obtener candidato: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<List<CandidatoDto>> consultarCandidatos(Proyeccion proyeccion, String codigoPostal) {
+        try {
+            LOGGER.info("Consultando candidatos, código postal: {}, {}", codigoPostal, proyeccion);
+            List<CandidatoDto> candidatos = proyectar(proyeccion, null, codigoPostal, null);
+
+            if (candidatos == null) {
+                return Result.failure("Error al obtener la lista de candidatos");
+            }
+
+            LOGGER.info("Se obtuvieron {} candidatos", candidatos.size());
+            return Result.success(candidatos);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al listar candidatos: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<PaginaDto<CandidatoDto>> consultarCandidatosPagina(Proyeccion proyeccion, String codigoPostal, Paginacion pagina) {
+        try {
+            LOGGER.info("Consultando candidatos paginados, código postal: {}, tamaño: {}, orden: {}, {}", codigoPostal,
+                    pagina.getTamanio(), pagina.getOrden().getValor(), proyeccion);
+            List<CandidatoDto> filas = proyectar(proyeccion, null, codigoPostal, pagina);
+
+            if (filas == null) {
+                return Result.failure("Error al obtener la página de candidatos");
+            }
+
+            PaginaDto<CandidatoDto> resultado = pagina.recortar(filas);
+            resultado.getElementos().forEach(proyeccion::quitarNoPedidos);
+            return Result.success(resultado);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al obtener la página de candidatos: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lee solo las columnas de la proyección y, si se pidió, los empleos de
+     * todos los candidatos leídos en una segunda llamada
+     */
+    private List<CandidatoDto> proyectar(Proyeccion proyeccion, Long candidatoId, String codigoPostal, Paginacion pagina) {
+        Map<String, Object> result = candidatoDao.proyectarCandidatos(proyeccion.columnas(pagina != null), candidatoId,
+                codigoPostal, pagina);
+
+        @SuppressWarnings("unchecked")
+        List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+        if (candidatos == null || candidatos.isEmpty() || !proyeccion.isExpandirEmpleos()) {
+            return candidatos;
+        }
+
+        // La fila extra de la paginación también se expande; son a lo más tamanio + 1 candidatos
+        Map<Long, CandidatoDto> porId = new HashMap<>(candidatos.size() * 2);
+        for (CandidatoDto candidato : candidatos) {
+            candidato.setListaEmpleos(new ArrayList<>());
+            porId.put(candidato.getId(), candidato);
+        }
+
+        Map<String, Object> resultEmpleos = candidatoDao.obtenerEmpleosDeCandidatos(
+                porId.keySet().stream().mapToLong(Long::longValue).toArray());
+
+        @SuppressWarnings("unchecked")
+        List<EmpleoDto> empleos = (List<EmpleoDto>) resultEmpleos.get(Constants.CUR_RESULTADO);
+
+        if (empleos != null) {
+            for (EmpleoDto empleo : empleos) {
+                CandidatoDto candidato = porId.get(empleo.getCandidatoId());
+                if (candidato != null) {
+                    candidato.getListaEmpleos().add(empleo);
+                }
+            }
+        }
+        return candidatos;
+    }
+
+    private ClavesExistentes clavesExistentes(List<CrearCandidatoRequest> requests, Long excluirId) {
+        return clavesExistentes(requests.stream().map(CrearCandidatoRequest::getEmail).toList(),
+                requests.stream().map(CrearCandidatoRequest::getRfc).toList(), excluirId);
+    }
+
+    /**
+     * Emails y RFCs que ya usa otro candidato. Oracle solo se consulta por los
+     * valores que el filtro de Bloom no puede descartar como nuevos.
+     */
+    private ClavesExistentes clavesExistentes(List<String> emails, List<String> rfcs, Long excluirId) {
+        List<String> emailsPorVerificar = emails.stream()
+                .filter(Objects::nonNull).filter(registroClaves::puedeExistirEmail).distinct().toList();
+        List<String> rfcsPorVerificar = rfcs.stream()
+                .filter(Objects::nonNull).filter(registroClaves::puedeExistirRfc).distinct().toList();
+
+        if (emailsPorVerificar.isEmpty() && rfcsPorVerificar.isEmpty()) {
+            return new ClavesExistentes(Set.of(), Set.of());
+        }
+
+        Map<String, Object> result = candidatoDao.buscarClavesExistentes(emailsPorVerificar, rfcsPorVerificar, excluirId);
+
+        @SuppressWarnings("unchecked")
+        List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+        Set<String> emailsExistentes = new HashSet<>();
+        Set<String> rfcsExistentes = new HashSet<>();
+        if (candidatos != null) {
+            candidatos.forEach(c -> {
+                emailsExistentes.add(c.getEmail());
+                rfcsExistentes.add(c.getRfc());
+            });
+        }
+        return new ClavesExistentes(emailsExistentes, rfcsExistentes);
+    }
+
+    /**
+     * Emails y RFCs confirmados en Oracle
+     */
+    private record ClavesExistentes(Set<String> emails, Set<String> rfcs) {
+
+        /**
+         * @return mensaje de error si el email o el RFC ya existen; nulo si ambos están libres
+         */
+        String mensaje(String email, String rfc) {
+            boolean emailExiste = email != null && emails.contains(email);
+            boolean rfcExiste = rfc != null && rfcs.contains(rfc);
+
+            if (emailExiste && rfcExiste) {
+                return "El email y el RFC ya existen en la base de datos";
+            }
+            if (emailExiste) {
+                return "El email ya existe en la base de datos";
+            }
+            return rfcExiste ? "El RFC ya existe en la base de datos" : null;
+        }
+    }
+
+    private static CandidatoDto copiar(CandidatoDto candidato) {
+        CandidatoDto copia = candidato.toBuilder().build();
+        if (candidato.getListaEmpleos() != null) {
+            copia.setListaEmpleos(candidato.getListaEmpleos().stream()
+                    .map(empleo -> empleo.toBuilder().build())
+                    .collect(Collectors.toCollection(ArrayList::new)));
+        }
+        return copia;
+    }
+
+    private static ResultadoLoteDto resultadoFila(int indice, BigDecimal id, BigDecimal codigo) {
+        int codigoError = codigo == null ? Constants.LOTE_FILA_OK : codigo.intValue();
+
+        if (codigoError == Constants.LOTE_FILA_OK && id != null) {
+            return ResultadoLoteDto.builder().indice(indice).id(id.longValue()).exito(true).build();
+        }
+
+        String error = codigoError == Constants.LOTE_FILA_DUPLICADA
+                ? "El email o RFC ya existe en la base de datos"
+                : String.format("Error ORA-%05d", codigoError);
+
+        return ResultadoLoteDto.builder().indice(indice).exito(false).error(error).build();
+    }
+
 }
@@ -1,21 +1,40 @@
 package com.tecnica.demo.service.Impl;
 
+import com.tecnica.demo.config.repository.EnrutadorDataSource;
 import com.tecnica.demo.constant.Constants;
 import com.tecnica.demo.dao.IEmpleoDao;
 import com.tecnica.demo.dto.CandidatoDto;
 import com.tecnica.demo.dto.EmpleoDto;
+import com.tecnica.demo.dto.PaginaDto;
 import com.tecnica.demo.dto.registry.ActualizarEmpleoRequest;
 import com.tecnica.demo.dto.registry.CrearEmpleoRequest;
+import com.tecnica.demo.enums.EnumConsultaAnalitica;
+import com.tecnica.demo.evento.DatosCandidatoModificadosEvent;
 import com.tecnica.demo.service.IEmpleoService;
+import com.tecnica.demo.util.Paginacion;
 import com.tecnica.demo.util.Result;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * <b>EmpleoServiceImpl.java</b>
@@ -29,10 +48,67 @@ public class EmpleoServiceImpl implements IEmpleoService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmpleoServiceImpl.class);
 
+    private static final String CACHE_ANALITICOS = "empleos.analiticos";
+
     @Autowired
     private IEmpleoDao iempleoDao;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher publicador;
+
+    @Value("${empleos.analiticos.refrescar-despues:5m}")
+    private Duration refrescarDespues;
+
+    @Value("${empleos.analiticos.expirar-despues:1h}")
+    private Duration expirarDespues;
+
+    @Value("${empleos.analiticos.maximo:500}")
+    private long maximoAnaliticos;
+
+    /**
+     * Resultados de las consultas analíticas por consulta y parámetro. Una
+     * entrada más vieja que refrescarDespues se sigue sirviendo mientras se
+     * recalcula en segundo plano; cualquier escritura de candidatos o empleos
+     * (DatosCandidatoModificadosEvent) vacía el cache.
+     */
+    private LoadingCache<ConsultaAnalitica, List<CandidatoDto>> analiticos;
+
+    /* Las recargas bloquean en JDBC: hilos virtuales en lugar del commonPool */
+    private final ExecutorService recargas = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    void inicializarCache() {
+        analiticos = Caffeine.newBuilder()
+                .maximumSize(maximoAnaliticos)
+                .refreshAfterWrite(refrescarDespues)
+                .expireAfterWrite(expirarDespues)
+                .executor(recargas)
+                .recordStats()
+                .build(this::cargarAnalitico);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, analiticos, CACHE_ANALITICOS);
+    }
+
+    /**
+     * Un candidato renombrado o dado de baja cambia los resultados analíticos
+     * igual que un empleo; ninguna entrada sabe qué candidatos contiene, así
+     * que se vacía todo el cache
+     */
+    @EventListener
+    public void alModificarCandidato(DatosCandidatoModificadosEvent evento) {
+        analiticos.invalidateAll();
+    }
+
+    @PreDestroy
+    public void detener() {
+        recargas.shutdownNow();
+    }
+
     @Override
+    @CacheEvict(cacheNames = Constants.CACHE_CANDIDATOS, key = "#candidatoId")
     public Result<Long> agregarEmpleo(Long candidatoId, CrearEmpleoRequest request) {
         try {
             LOGGER.info(Constants.LOG_INFO_INSERTAR + " para candidato ID: {}", candidatoId);
@@ -46,6 +122,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
 
             Long empleoId = empleoIdBD.longValue();
             LOGGER.info("Empleo agregado exitosamente con ID: {}", empleoId);
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deCandidato(candidatoId));
 
             return Result.success(empleoId);
 
@@ -56,6 +133,8 @@ public class EmpleoServiceImpl implements IEmpleoService {
     }
 
     @Override
+    // Solo se conoce el empleoId, no el candidato: se vacía el cache completo
+    @CacheEvict(cacheNames = Constants.CACHE_CANDIDATOS, allEntries = true)
     public Result<Integer> actualizarEmpleo(Long empleoId, ActualizarEmpleoRequest request) {
         try {
             LOGGER.info(Constants.LOG_INFO_ACTUALIZAR + " ID: {}", empleoId);
@@ -66,6 +145,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
             }
 
             LOGGER.info("Empleo actualizado exitosamente ID: {}", empleoId);
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deEmpleo(empleoId));
             return Result.success(statusOper);
 
         } catch (RuntimeException e) {
@@ -75,6 +155,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
     }
 
     @Override
+    @CacheEvict(cacheNames = Constants.CACHE_CANDIDATOS, allEntries = true)
     public Result<Integer> eliminarEmpleo(Long empleoId) {
         try {
             LOGGER.info(Constants.LOG_INFO_ELIMINAR + " ID: {}", empleoId);
@@ -85,6 +166,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
             }
 
             LOGGER.info("Empleo eliminado exitosamente ID: {}", empleoId);
+            publicador.publishEvent(DatosCandidatoModificadosEvent.deEmpleo(empleoId));
             return Result.success(statusOper);
 
         } catch (RuntimeException e) {
@@ -141,10 +223,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
     public Result<List<CandidatoDto>> candidatosConAntiguedad2Anios() {
         try {
             LOGGER.info("Buscando candidatos con antigüedad mayor a 2 años");
-            Map<String, Object> result = iempleoDao.candidatosConAntiguedad2Anios();
-
-            @SuppressWarnings("unchecked")
-            List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+            List<CandidatoDto> candidatos = analiticos.get(new ConsultaAnalitica(EnumConsultaAnalitica.ANTIGUEDAD_2_ANIOS, null));
 
             if (candidatos == null) {
                 return Result.failure("Error al buscar candidatos con antigüedad");
@@ -166,10 +245,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
                     new BigDecimal(Constants.INGRESO_MINIMO_DEFAULT);
 
             LOGGER.info("Buscando candidatos con ingreso mayor a: {}", ingreso);
-            Map<String, Object> result = iempleoDao.candidatosConIngresoMayor(ingreso);
-
-            @SuppressWarnings("unchecked")
-            List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+            List<CandidatoDto> candidatos = analiticos.get(new ConsultaAnalitica(EnumConsultaAnalitica.INGRESO_MAYOR, ingreso));
 
             if (candidatos == null) {
                 return Result.failure("Error al buscar candidatos con ingreso mayor");
@@ -191,10 +267,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
                     new BigDecimal(Constants.ANIOS_EXPERIENCIA_DEFAULT);
 
             LOGGER.info("Buscando candidatos con experiencia mayor a {} años", anios);
-            Map<String, Object> result = iempleoDao.candidatosConExperiencia(anios);
-
-            @SuppressWarnings("unchecked")
-            List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+            List<CandidatoDto> candidatos = analiticos.get(new ConsultaAnalitica(EnumConsultaAnalitica.EXPERIENCIA, anios));
 
             if (candidatos == null) {
                 return Result.failure("Error al buscar candidatos con experiencia");
@@ -213,10 +286,7 @@ public class EmpleoServiceImpl implements IEmpleoService {
     public Result<List<CandidatoDto>> candidatosLaborandoActualmente() {
         try {
             LOGGER.info("Buscando candidatos laborando actualmente");
-            Map<String, Object> result = iempleoDao.candidatosLaborandoActualmente();
-
-            @SuppressWarnings("unchecked")
-            List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+            List<CandidatoDto> candidatos = analiticos.get(new ConsultaAnalitica(EnumConsultaAnalitica.LABORANDO_ACTUALMENTE, null));
 
             if (candidatos == null) {
                 return Result.failure("Error al buscar candidatos laborando actualmente");
@@ -231,4 +301,145 @@ public class EmpleoServiceImpl implements IEmpleoService {
         }
     }
 
-}
\ No newline at end of file
+    @Override
+    public Result<PaginaDto<CandidatoDto>> buscarCandidatosPorEmpresaPagina(String nombreEmpresa, Paginacion pagina) {
+        try {
+            LOGGER.info("Buscando candidatos por empresa: {}, tamaño: {}, orden: {}", nombreEmpresa, pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = iempleoDao.buscarCandidatosPorEmpresaPagina(nombreEmpresa, pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al buscar candidatos por empresa");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al buscar candidatos por empresa: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<PaginaDto<CandidatoDto>> candidatosConAntiguedad2AniosPagina(Paginacion pagina) {
+        try {
+            LOGGER.info("Buscando candidatos con antigüedad mayor a 2 años, tamaño: {}, orden: {}", pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = iempleoDao.candidatosConAntiguedad2AniosPagina(pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al buscar candidatos con antigüedad");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al buscar candidatos con antigüedad: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<PaginaDto<CandidatoDto>> candidatosConIngresoMayorPagina(BigDecimal ingresoMinimo, Paginacion pagina) {
+        try {
+            BigDecimal ingreso = ingresoMinimo != null ? ingresoMinimo :
+                    new BigDecimal(Constants.INGRESO_MINIMO_DEFAULT);
+
+            LOGGER.info("Buscando candidatos con ingreso mayor a: {}, tamaño: {}, orden: {}", ingreso, pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = iempleoDao.candidatosConIngresoMayorPagina(ingreso, pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al buscar candidatos con ingreso mayor");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al buscar candidatos con ingreso mayor: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<PaginaDto<CandidatoDto>> candidatosConExperienciaPagina(BigDecimal aniosExperiencia, Paginacion pagina) {
+        try {
+            BigDecimal anios = aniosExperiencia != null ? aniosExperiencia :
+                    new BigDecimal(Constants.ANIOS_EXPERIENCIA_DEFAULT);
+
+            LOGGER.info("Buscando candidatos con experiencia mayor a {} años, tamaño: {}, orden: {}", anios, pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = iempleoDao.candidatosConExperienciaPagina(anios, pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al buscar candidatos con experiencia");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al buscar candidatos con experiencia: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<PaginaDto<CandidatoDto>> candidatosLaborandoActualmentePagina(Paginacion pagina) {
+        try {
+            LOGGER.info("Buscando candidatos laborando actualmente, tamaño: {}, orden: {}", pagina.getTamanio(), pagina.getOrden().getValor());
+            Map<String, Object> result = iempleoDao.candidatosLaborandoActualmentePagina(pagina);
+
+            @SuppressWarnings("unchecked")
+            List<CandidatoDto> filas = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+            if (filas == null) {
+                return Result.failure("Error al buscar candidatos laborando actualmente");
+            }
+
+            return Result.success(pagina.recortar(filas));
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al buscar candidatos laborando actualmente: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga y recarga del cache analítico. Se lee del primario: el resultado
+     * se sirve a todos los clientes y las recargas corren fuera de cualquier
+     * petición, así que de la réplica podrían guardar datos ya cambiados.
+     */
+    @SuppressWarnings("unchecked")
+    private List<CandidatoDto> cargarAnalitico(ConsultaAnalitica consulta) {
+        Map<String, Object> result = EnrutadorDataSource.enPrimario(() -> switch (consulta.tipo()) {
+            case ANTIGUEDAD_2_ANIOS -> iempleoDao.candidatosConAntiguedad2Anios();
+            case INGRESO_MAYOR -> iempleoDao.candidatosConIngresoMayor(consulta.parametro());
+            case EXPERIENCIA -> iempleoDao.candidatosConExperiencia(consulta.parametro());
+            case LABORANDO_ACTUALMENTE -> iempleoDao.candidatosLaborandoActualmente();
+        });
+
+        List<CandidatoDto> candidatos = (List<CandidatoDto>) result.get(Constants.CUR_RESULTADO);
+
+        // null no se guarda en el cache: el método que consulta lo reporta como error
+        return candidatos != null ? Collections.unmodifiableList(candidatos) : null;
+    }
+
+    /**
+     * Llave del cache analítico. El parámetro se normaliza para que 2 y 2.00
+     * compartan entrada.
+     */
+    private record ConsultaAnalitica(EnumConsultaAnalitica tipo, BigDecimal parametro) {
+
+        ConsultaAnalitica {
+            parametro = parametro != null ? parametro.stripTrailingZeros() : null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.tecnica.demo.service.Impl;
+
+import com.tecnica.demo.config.repository.EnrutadorDataSource;
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dao.ICandidatoDao;
+import com.tecnica.demo.enums.EnumAlcanceVersion;
+import com.tecnica.demo.service.IVersionService;
+import com.tecnica.demo.util.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * <b>VersionServiceImpl.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Implementación del servicio de versión de recursos. La versión
+ *               es la fecha_actualizacion más reciente de las filas que forman
+ *               el recurso, leída de un índice sin tocar los datos. Se lee
+ *               siempre del primario: una réplica atrasada devolvería una
+ *               versión anterior y el cliente recibiría un 304 falso.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Service
+public class VersionServiceImpl implements IVersionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VersionServiceImpl.class);
+
+    @Autowired
+    private ICandidatoDao candidatoDao;
+
+    @Override
+    public Result<Instant> obtenerVersion(EnumAlcanceVersion alcance, Long candidatoId) {
+        try {
+            Map<String, Object> result = EnrutadorDataSource.enPrimario(
+                    () -> candidatoDao.obtenerVersion(alcance, candidatoId));
+            Timestamp ultimaActualizacion = (Timestamp) result.get(Constants.PA_ULTIMA_ACTUALIZACION);
+
+            return Result.success(ultimaActualizacion != null ? ultimaActualizacion.toInstant() : null);
+
+        } catch (RuntimeException e) {
+            LOGGER.error(Constants.LOG_ERROR, e);
+            return Result.failure("Error interno al obtener la versión: " + e.getMessage());
+        }
+    }
+
+}
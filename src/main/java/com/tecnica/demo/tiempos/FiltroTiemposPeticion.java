@@ -0,0 +1,105 @@
+package com.tecnica.demo.tiempos;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * <b>FiltroTiemposPeticion.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Mide cada petición por fases (pool, PL/SQL, mapeo y JSON) y
+ *               devuelve el desglose en el encabezado Server-Timing. Va antes
+ *               que la cadena de seguridad para que el total incluya todos
+ *               los filtros. El encabezado se agrega justo antes de que la
+ *               respuesta se confirme; si el cuerpo rebasa el buffer, la fase
+ *               json y el total del encabezado son los de ese momento y el
+ *               desglose completo queda en el log. Las peticiones que tardan
+ *               umbral-lento o más se registran en una sola línea clave=valor.
+ *               Solo se crea con tiempos-peticion.habilitado=true.
+ * @author: Sistema de Gestión de Candidatos
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "tiempos-peticion.habilitado", havingValue = "true")
+public class FiltroTiemposPeticion extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FiltroTiemposPeticion.class);
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    @Value("${tiempos-peticion.encabezado:true}")
+    private boolean encabezado;
+
+    @Value("${tiempos-peticion.umbral-lento:1s}")
+    private Duration umbralLento;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        TiemposPeticion tiempos = TiemposPeticion.iniciar();
+        RespuestaConTiempos respuesta = new RespuestaConTiempos(response, tiempos);
+        try {
+            filterChain.doFilter(request, respuesta);
+        } finally {
+            tiempos.terminar();
+            // Respuestas sin cuerpo o que aún no se confirman (las confirma el contenedor al salir)
+            respuesta.agregarEncabezado();
+
+            if (!request.isAsyncStarted() && tiempos.getTotalNanos() >= this.umbralLento.toNanos()) {
+                LOGGER.warn("Peticion lenta metodo={} ruta={} status={} {}", request.getMethod(), ruta(request),
+                        response.getStatus(), tiempos.desglose());
+            }
+        }
+    }
+
+    /**
+     * Patrón del endpoint (agrupa /candidatos/{id}); la URI si no llegó a un controller
+     */
+    private static String ruta(HttpServletRequest request) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return patron != null ? patron.toString() : request.getRequestURI();
+    }
+
+    /**
+     * Agrega Server-Timing en el último momento en que todavía se pueden
+     * escribir encabezados (flush, sendError, redirect o cuerpo completo)
+     */
+    private final class RespuestaConTiempos extends OnCommittedResponseWrapper {
+
+        private final TiemposPeticion tiempos;
+
+        RespuestaConTiempos(HttpServletResponse response, TiemposPeticion tiempos) {
+            super(response);
+            this.tiempos = tiempos;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            agregarEncabezado();
+        }
+
+        void agregarEncabezado() {
+            if (encabezado && !isDisableOnResponseCommitted() && !getResponse().isCommitted()) {
+                setHeader(SERVER_TIMING, this.tiempos.encabezado());
+            }
+            disableOnResponseCommitted();
+        }
+    }
+}
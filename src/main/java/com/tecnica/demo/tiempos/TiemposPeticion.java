@@ -0,0 +1,128 @@
+package com.tecnica.demo.tiempos;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import com.tecnica.demo.enums.EnumFaseTiempo;
+
+/**
+ * <b>TiemposPeticion.java</b>
+ *
+ * @version: 1.0
+ * @descripcion: Acumula el tiempo de cada fase (EnumFaseTiempo) de la
+ *               petición en curso. FiltroTiemposPeticion la inicia y la
+ *               termina; el DataSource, las llamadas PL/SQL, los extractores
+ *               y CodecJson solo llaman a registrar, que no hace nada si el
+ *               hilo no tiene una petición medida (filtro deshabilitado,
+ *               arranque, streaming en otro hilo). Solo la toca el hilo de
+ *               la petición, así que los acumuladores no necesitan ser
+ *               atómicos.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class TiemposPeticion {
+
+    private static final ThreadLocal<TiemposPeticion> ACTUAL = new ThreadLocal<>();
+    private static final EnumFaseTiempo[] FASES = EnumFaseTiempo.values();
+
+    private final long inicio = System.nanoTime();
+    private final long[] nanos = new long[FASES.length];
+    private final int[] veces = new int[FASES.length];
+    private long fin;
+
+    private TiemposPeticion() {
+    }
+
+    /**
+     * Empieza a medir la petición del hilo actual
+     *
+     * @return acumulador de la petición
+     */
+    public static TiemposPeticion iniciar() {
+        TiemposPeticion tiempos = new TiemposPeticion();
+        ACTUAL.set(tiempos);
+        return tiempos;
+    }
+
+    /**
+     * Fija el total y desliga el acumulador del hilo; lo registrado después se ignora
+     */
+    public void terminar() {
+        this.fin = System.nanoTime();
+        ACTUAL.remove();
+    }
+
+    /**
+     * Suma una duración a la fase de la petición en curso, si la hay
+     *
+     * @param fase  fase medida
+     * @param nanos duración en nanosegundos
+     */
+    public static void registrar(EnumFaseTiempo fase, long nanos) {
+        TiemposPeticion tiempos = ACTUAL.get();
+        if (tiempos != null) {
+            tiempos.nanos[fase.ordinal()] += Math.max(0, nanos);
+            tiempos.veces[fase.ordinal()]++;
+        }
+    }
+
+    /**
+     * Tiempo acumulado hasta ahora en las fases que ocurren dentro de una
+     * llamada PL/SQL (pool y mapeo); con la diferencia antes y después de la
+     * llamada se obtiene su tiempo propio
+     *
+     * @return nanosegundos acumulados, 0 si no hay petición medida
+     */
+    public static long anidadas() {
+        TiemposPeticion tiempos = ACTUAL.get();
+        return tiempos == null ? 0
+                : tiempos.nanos[EnumFaseTiempo.POOL.ordinal()] + tiempos.nanos[EnumFaseTiempo.MAPEO.ordinal()];
+    }
+
+    public long getNanos(EnumFaseTiempo fase) {
+        return this.nanos[fase.ordinal()];
+    }
+
+    public int getVeces(EnumFaseTiempo fase) {
+        return this.veces[fase.ordinal()];
+    }
+
+    /**
+     * @return nanosegundos desde el inicio hasta terminar, o hasta ahora si no ha terminado
+     */
+    public long getTotalNanos() {
+        return (this.fin != 0 ? this.fin : System.nanoTime()) - this.inicio;
+    }
+
+    /**
+     * Valor del encabezado Server-Timing (W3C): una métrica por fase con su
+     * duración en milisegundos y al final el total de la aplicación
+     *
+     * @return p. ej. pool;dur=0.41;desc="Conexion del pool", ..., total;dur=18.20
+     */
+    public String encabezado() {
+        StringBuilder valor = new StringBuilder(200);
+        for (EnumFaseTiempo fase : FASES) {
+            valor.append(fase.getNombre()).append(";dur=").append(milisegundos(getNanos(fase)))
+                    .append(";desc=\"").append(fase.getDescripcion()).append("\", ");
+        }
+        return valor.append("total;dur=").append(milisegundos(getTotalNanos())).toString();
+    }
+
+    /**
+     * Línea clave=valor para el log de peticiones lentas
+     *
+     * @return p. ej. total_ms=812.40 pool_ms=0.41 plsql_ms=640.10 plsql_n=1 ...
+     */
+    public String desglose() {
+        StringBuilder valor = new StringBuilder(160).append("total_ms=").append(milisegundos(getTotalNanos()));
+        for (EnumFaseTiempo fase : FASES) {
+            valor.append(' ').append(fase.getNombre()).append("_ms=").append(milisegundos(getNanos(fase)))
+                    .append(' ').append(fase.getNombre()).append("_n=").append(getVeces(fase));
+        }
+        return valor.toString();
+    }
+
+    private static String milisegundos(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -1,9 +1,10 @@
 package com.tecnica.demo.util;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tecnica.demo.config.json.CodecJson;
 
 /**
  * <b>Converters.java</b>
@@ -14,6 +15,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 @Component
 public class Converters {
+
+	@Autowired
+	private CodecJson codecJson;
 	
 	/**
 	 * @param object
@@ -27,7 +31,6 @@ public class Converters {
 			return null;
 		}
 
-		ObjectMapper mapper = new ObjectMapper();
-		return mapper.writeValueAsString(object);
+		return codecJson.escribirTexto(object);
 	}
 }
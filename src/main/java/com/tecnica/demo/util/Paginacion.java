@@ -0,0 +1,210 @@
+package com.tecnica.demo.util;
+
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.PaginaDto;
+import com.tecnica.demo.enums.EnumOrdenPagina;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <b>Paginacion.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Paginación por llave (apellidos, nombres, id). El cursor es
+ *               opaco para el cliente: codifica el orden y la llave de la
+ *               última fila entregada.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class Paginacion {
+
+  private static final String SEPARADOR = "\u001F";
+  private static final String CURSOR_NO_VALIDO = "Cursor no válido";
+  /* Primer segmento de los cursores por id (ver cursorPorId) */
+  private static final String ORDEN_ID = "id";
+
+  private final EnumOrdenPagina orden;
+  private final int tamanio;
+  private final String apellidos;
+  private final String nombres;
+  private final Long id;
+
+  private Paginacion(EnumOrdenPagina orden, int tamanio, String apellidos, String nombres, Long id) {
+    this.orden = orden;
+    this.tamanio = tamanio;
+    this.apellidos = apellidos;
+    this.nombres = nombres;
+    this.id = id;
+  }
+
+  /**
+   * Construye la paginación a partir de los parámetros de la petición
+   *
+   * @param cursor        cursor de la página anterior; nulo para la primera página
+   * @param orden         orden solicitado (ver EnumOrdenPagina)
+   * @param tamanio       tamaño de página
+   * @param tamanioMaximo tamaño de página máximo permitido
+   * @return Paginacion validada
+   * @throws IllegalArgumentException si algún parámetro no es válido
+   */
+  public static Paginacion de(String cursor, String orden, Integer tamanio, int tamanioMaximo) {
+    EnumOrdenPagina ordenPagina = EnumOrdenPagina.desde(orden);
+
+    if (tamanio == null || tamanio < 1 || tamanio > tamanioMaximo) {
+      throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + tamanioMaximo);
+    }
+    if (cursor == null || cursor.isBlank()) {
+      return new Paginacion(ordenPagina, tamanio, null, null, null);
+    }
+
+    String[] partes = decodificar(cursor);
+    if (partes.length != 4 || !ordenPagina.getValor().equals(partes[0])) {
+      throw new IllegalArgumentException("El cursor no corresponde al orden solicitado");
+    }
+    try {
+      return new Paginacion(ordenPagina, tamanio, partes[1], partes[2], Long.valueOf(partes[3]));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(CURSOR_NO_VALIDO);
+    }
+  }
+
+  /**
+   * Cursor opaco para los listados en orden de id ascendente (motor de
+   * filtros en memoria)
+   *
+   * @param ultimoId id de la última fila entregada
+   * @return cursor de la página siguiente
+   */
+  public static String cursorPorId(long ultimoId) {
+    return codificar(ORDEN_ID, String.valueOf(ultimoId));
+  }
+
+  /**
+   * Id a partir del cual continuar un listado en orden de id. El motor de
+   * filtros guarda los IDs como int, así que uno fuera de 0..Integer.MAX_VALUE
+   * se rechaza en lugar de truncarse.
+   *
+   * @param cursor cursor generado por cursorPorId; nulo o vacío para la primera página
+   * @return id de la última fila entregada (exclusivo), nulo para la primera página
+   * @throws IllegalArgumentException si el cursor no es válido
+   */
+  public static Long idDeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    String[] partes = decodificar(cursor);
+    if (partes.length != 2 || !ORDEN_ID.equals(partes[0])) {
+      throw new IllegalArgumentException("El cursor no corresponde al orden solicitado");
+    }
+    long id;
+    try {
+      id = Long.parseLong(partes[1]);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(CURSOR_NO_VALIDO);
+    }
+    if (id < 0 || id > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(CURSOR_NO_VALIDO);
+    }
+    return id;
+  }
+
+  /**
+   * Parámetros de llave y límite para las funciones fn_pagina_* de PL/SQL.
+   * Se pide una fila (candidato) extra para saber si hay página siguiente.
+   *
+   * @return Map con los parámetros de paginación
+   */
+  public Map<String, Object> parametros() {
+    Map<String, Object> params = new HashMap<>();
+    params.put(Constants.PA_CURSOR_APELLIDOS, this.apellidos);
+    params.put(Constants.PA_CURSOR_NOMBRES, this.nombres);
+    params.put(Constants.PA_CURSOR_ID, this.id);
+    params.put(Constants.PA_DESCENDENTE, this.orden.isDescendente() ? 1 : 0);
+    params.put(Constants.PA_LIMITE, this.tamanio + 1);
+    return params;
+  }
+
+  /**
+   * Parámetros de paginación vacíos, para las funciones que paginan solo
+   * cuando reciben p_limite
+   *
+   * @return Map con los parámetros de paginación en nulo
+   */
+  public static Map<String, Object> sinPaginar() {
+    Map<String, Object> params = new HashMap<>();
+    params.put(Constants.PA_CURSOR_APELLIDOS, null);
+    params.put(Constants.PA_CURSOR_NOMBRES, null);
+    params.put(Constants.PA_CURSOR_ID, null);
+    params.put(Constants.PA_DESCENDENTE, 0);
+    params.put(Constants.PA_LIMITE, null);
+    return params;
+  }
+
+  /**
+   * Recorta las filas devueltas al tamaño de página y genera el cursor siguiente.
+   * Las búsquedas con empleos pueden traer varias filas por candidato, por eso
+   * el tamaño se cuenta en candidatos distintos.
+   *
+   * @param filas filas devueltas por la función paginada, ya ordenadas
+   * @return PaginaDto con los elementos de la página
+   */
+  public PaginaDto<CandidatoDto> recortar(List<CandidatoDto> filas) {
+    Set<Long> ids = new LinkedHashSet<>();
+    List<CandidatoDto> elementos = new ArrayList<>(filas.size());
+    boolean hayMas = false;
+
+    for (CandidatoDto fila : filas) {
+      if (ids.add(fila.getId()) && ids.size() > this.tamanio) {
+        hayMas = true;
+        break;
+      }
+      elementos.add(fila);
+    }
+
+    String siguienteCursor = null;
+    if (hayMas) {
+      siguienteCursor = cursor(elementos.get(elementos.size() - 1));
+    }
+
+    return PaginaDto.<CandidatoDto>builder()
+      .elementos(elementos)
+      .tamanio(this.tamanio)
+      .siguienteCursor(siguienteCursor)
+      .hayMas(hayMas)
+      .build();
+  }
+
+  private String cursor(CandidatoDto ultimo) {
+    return codificar(this.orden.getValor(), ultimo.getApellidos(), ultimo.getNombres(),
+      String.valueOf(ultimo.getId()));
+  }
+
+  private static String codificar(String... partes) {
+    String llave = String.join(SEPARADOR, partes);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(llave.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String[] decodificar(String cursor) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARADOR, -1);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(CURSOR_NO_VALIDO);
+    }
+  }
+
+  public EnumOrdenPagina getOrden() {
+    return orden;
+  }
+
+  public int getTamanio() {
+    return tamanio;
+  }
+
+}
@@ -0,0 +1,149 @@
+package com.tecnica.demo.util;
+
+import com.tecnica.demo.dto.CandidatoDto;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <b>Proyeccion.java</b>
+ *
+ * @version:  1.0
+ * @descripcion: Campos de CandidatoDto que pide el cliente (?fields=) y si se
+ *               expanden sus empleos (?expand=empleos). Se traduce a la lista
+ *               de columnas que lee fn_proyectar_candidatos; el id siempre se
+ *               incluye.
+ * @author: Sistema de Gestión de Candidatos
+ */
+public final class Proyeccion {
+
+  private static final String EXPANDIR_EMPLEOS = "empleos";
+
+  /* Campo JSON de CandidatoDto -> columna de candidatos */
+  private static final Map<String, String> COLUMNAS = new LinkedHashMap<>();
+
+  static {
+    COLUMNAS.put("id", "ID");
+    COLUMNAS.put("nombres", "NOMBRES");
+    COLUMNAS.put("apellidos", "APELLIDOS");
+    COLUMNAS.put("email", "EMAIL");
+    COLUMNAS.put("fechaNacimiento", "FECHA_NACIMIENTO");
+    COLUMNAS.put("rfc", "RFC");
+    COLUMNAS.put("telefono", "TELEFONO");
+    COLUMNAS.put("calle", "CALLE");
+    COLUMNAS.put("numero", "NUMERO");
+    COLUMNAS.put("colonia", "COLONIA");
+    COLUMNAS.put("ciudad", "CIUDAD");
+    COLUMNAS.put("estado", "ESTADO");
+    COLUMNAS.put("pais", "PAIS");
+    COLUMNAS.put("codigoPostal", "CODIGO_POSTAL");
+    COLUMNAS.put("activo", "ACTIVO");
+  }
+
+  private static final Proyeccion COMPLETA = new Proyeccion(null, false);
+
+  /* null: todos los campos */
+  private final Set<String> campos;
+  private final boolean expandirEmpleos;
+
+  private Proyeccion(Set<String> campos, boolean expandirEmpleos) {
+    this.campos = campos;
+    this.expandirEmpleos = expandirEmpleos;
+  }
+
+  /**
+   * Construye la proyección a partir de los parámetros de la petición
+   *
+   * @param fields campos de CandidatoDto separados por coma (opcional)
+   * @param expand relaciones a incluir separadas por coma; solo "empleos" (opcional)
+   * @return Proyeccion validada
+   * @throws IllegalArgumentException si algún campo o relación no existe
+   */
+  public static Proyeccion de(String fields, String expand) {
+    boolean expandirEmpleos = false;
+    if (expand != null && !expand.isBlank()) {
+      for (String relacion : expand.split(",")) {
+        if (!EXPANDIR_EMPLEOS.equals(relacion.trim().toLowerCase(Locale.ROOT))) {
+          throw new IllegalArgumentException("Solo se puede expandir: " + EXPANDIR_EMPLEOS);
+        }
+      }
+      expandirEmpleos = true;
+    }
+
+    if (fields == null || fields.isBlank()) {
+      return expandirEmpleos ? new Proyeccion(null, true) : COMPLETA;
+    }
+
+    Set<String> campos = new LinkedHashSet<>();
+    for (String campo : fields.split(",")) {
+      String nombre = campo.trim();
+      if (!COLUMNAS.containsKey(nombre)) {
+        throw new IllegalArgumentException("Campo no válido: " + nombre + ". Permitidos: " + COLUMNAS.keySet());
+      }
+      campos.add(nombre);
+    }
+    return new Proyeccion(campos, expandirEmpleos);
+  }
+
+  /**
+   * @return true si no se pidió proyección ni expansión: respuesta de siempre
+   */
+  public boolean isCompleta() {
+    return this.campos == null && !this.expandirEmpleos;
+  }
+
+  public boolean isExpandirEmpleos() {
+    return this.expandirEmpleos;
+  }
+
+  /**
+   * Columnas para fn_proyectar_candidatos. La paginación por llave necesita
+   * apellidos y nombres para el cursor aunque el cliente no los pida.
+   *
+   * @param paginada si la consulta se pagina por llave
+   * @return columnas separadas por coma; null para todas
+   */
+  public String columnas(boolean paginada) {
+    if (this.campos == null) {
+      return null;
+    }
+    Set<String> columnas = new LinkedHashSet<>();
+    this.campos.forEach(campo -> columnas.add(COLUMNAS.get(campo)));
+    if (paginada) {
+      columnas.add(COLUMNAS.get("apellidos"));
+      columnas.add(COLUMNAS.get("nombres"));
+    }
+    return String.join(",", columnas);
+  }
+
+  /**
+   * Quita los campos que se leyeron solo para el cursor de paginación; se
+   * llama después de generar el cursor
+   *
+   * @param candidato candidato de la página
+   */
+  public void quitarNoPedidos(CandidatoDto candidato) {
+    if (this.campos == null) {
+      return;
+    }
+    if (!this.campos.contains("apellidos")) {
+      candidato.setApellidos(null);
+    }
+    if (!this.campos.contains("nombres")) {
+      candidato.setNombres(null);
+    }
+  }
+
+  /**
+   * Forma canónica, para distinguir respuestas guardadas en cache
+   */
+  @Override
+  public String toString() {
+    return "fields=" + (this.campos != null ? String.join(",", this.campos) : "*")
+      + "&expand=" + (this.expandirEmpleos ? EXPANDIR_EMPLEOS : "");
+  }
+
+}
@@ -0,0 +1,91 @@
+package com.tecnica.demo.auth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.cache.CachesEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus.PrometheusMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementContextAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.tecnica.demo.jfr.GrabacionJfrEndpoint;
+
+@WebMvcTest(useDefaultFilters = false, properties = {
+		"management.endpoint.jfr.enabled=true",
+		"management.endpoints.web.exposure.include=health,caches,jfr,prometheus",
+		"spring.security.user.password=clave" })
+@Import({ WebSecurityConfig.class, GrabacionJfrEndpoint.class })
+@ImportAutoConfiguration({ EndpointAutoConfiguration.class, WebEndpointAutoConfiguration.class,
+		ManagementContextAutoConfiguration.class, HealthEndpointAutoConfiguration.class,
+		CachesEndpointAutoConfiguration.class, MetricsAutoConfiguration.class,
+		PrometheusMetricsExportAutoConfiguration.class })
+class WebSecurityConfigTests {
+
+	private static final String JFR = "/Test/v1/actuator/jfr";
+	private static final String CACHES = "/Test/v1/actuator/caches";
+	private static final String PROMETHEUS = "/Test/v1/actuator/prometheus";
+	private static final String CREDENCIALES = "Basic "
+			+ Base64.getEncoder().encodeToString("actuator:clave".getBytes(StandardCharsets.UTF_8));
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void grabacionesJfrSinCredencialesResponden401() throws Exception {
+		mockMvc.perform(get(JFR)).andExpect(status().isUnauthorized());
+		mockMvc.perform(post(JFR).contentType(MediaType.APPLICATION_JSON).content("{}"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(delete(JFR)).andExpect(status().isUnauthorized());
+		mockMvc.perform(get(JFR + "/1")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void grabacionesJfrConElRolActuatorAdmin() throws Exception {
+		mockMvc.perform(get(JFR).header(HttpHeaders.AUTHORIZATION, CREDENCIALES)).andExpect(status().isOk());
+		mockMvc.perform(get(JFR + "/1").header(HttpHeaders.AUTHORIZATION, CREDENCIALES)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void cachesSinCredencialesResponden401() throws Exception {
+		mockMvc.perform(get(CACHES)).andExpect(status().isUnauthorized());
+		mockMvc.perform(delete(CACHES)).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void cachesConElRolActuatorAdmin() throws Exception {
+		mockMvc.perform(get(CACHES).header(HttpHeaders.AUTHORIZATION, CREDENCIALES)).andExpect(status().isOk());
+		mockMvc.perform(delete(CACHES).header(HttpHeaders.AUTHORIZATION, CREDENCIALES))
+				.andExpect(status().isNoContent());
+	}
+
+	@Test
+	void prometheusSinCredencialesResponde401() throws Exception {
+		mockMvc.perform(get(PROMETHEUS)).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void prometheusConElRolActuatorAdmin() throws Exception {
+		mockMvc.perform(get(PROMETHEUS).header(HttpHeaders.AUTHORIZATION, CREDENCIALES)).andExpect(status().isOk());
+	}
+
+	@Test
+	void healthSigueAbierto() throws Exception {
+		mockMvc.perform(get("/Test/v1/actuator/health")).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,297 @@
+package com.tecnica.demo.busqueda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dao.ICandidatoDao;
+import com.tecnica.demo.dto.DatosIndiceDto;
+import com.tecnica.demo.evento.DatosCandidatoModificadosEvent;
+
+class MotorFiltrosCandidatosTests {
+
+	private static final FiltroCandidatos TODOS = new FiltroCandidatos(null, null, null, null);
+
+	/* Tabla simulada: lo que Oracle regresaría en este momento */
+	private final Map<Long, DatosIndiceDto> tabla = new ConcurrentHashMap<>();
+
+	private ICandidatoDao candidatoDao;
+	private MotorFiltrosCandidatos motor;
+
+	@BeforeEach
+	void crear() {
+		candidatoDao = mock(ICandidatoDao.class);
+		when(candidatoDao.obtenerDatosIndice(isNull(), isNull())).thenAnswer(i -> cursor(new ArrayList<>(tabla.values())));
+		when(candidatoDao.obtenerDatosIndice(any(Long.class), isNull())).thenAnswer(i -> {
+			DatosIndiceDto fila = tabla.get(i.<Long>getArgument(0));
+			return cursor(fila != null ? List.of(fila) : List.of());
+		});
+
+		motor = new MotorFiltrosCandidatos();
+		ReflectionTestUtils.setField(motor, "candidatoDao", candidatoDao);
+		ReflectionTestUtils.setField(motor, "umbralParalelo", 50000);
+	}
+
+	@AfterEach
+	void detener() {
+		motor.detener();
+	}
+
+	@Test
+	void sinCargarNoFiltra() {
+		assertThat(motor.isCargado()).isFalse();
+		assertThatThrownBy(() -> motor.filtrar(TODOS, null, 10)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void combinaLaborandoYEstadoSinImportarMayusculas() {
+		guardar(fila(1, " jalisco ", new BigDecimal("20000"), BigDecimal.ZERO, LocalDate.now().minusYears(1)));
+		guardar(fila(2, "Jalisco", null, new BigDecimal("12")));
+		guardar(fila(3, "CDMX", new BigDecimal("30000"), BigDecimal.ZERO, LocalDate.now().minusYears(1)));
+		DatosIndiceDto inactivo = fila(4, "JALISCO", null, BigDecimal.ZERO);
+		inactivo.setActivo(false);
+		guardar(inactivo);
+		motor.recargar();
+
+		assertThat(ids(TODOS)).containsExactly(1, 2, 3);
+		assertThat(ids(new FiltroCandidatos(null, null, null, "JALISCO"))).containsExactly(1, 2);
+		assertThat(ids(new FiltroCandidatos(true, null, null, "jalisco"))).containsExactly(1);
+		assertThat(ids(new FiltroCandidatos(false, null, null, null))).containsExactly(2);
+		assertThat(ids(new FiltroCandidatos(null, null, null, "SONORA"))).isEmpty();
+	}
+
+	@Test
+	void ingresoMinimoYExperienciaSonEstrictos() {
+		guardar(fila(1, "CDMX", new BigDecimal("20000"), BigDecimal.ZERO, LocalDate.now().minusYears(3)));
+		guardar(fila(2, "CDMX", new BigDecimal("15000"), new BigDecimal("24")));
+		guardar(fila(3, "CDMX", null, new BigDecimal("30")));
+		motor.recargar();
+
+		assertThat(ids(new FiltroCandidatos(null, new BigDecimal("15000"), null, null))).containsExactly(1);
+		assertThat(ids(new FiltroCandidatos(null, null, new BigDecimal("2"), null))).containsExactly(1, 3);
+		assertThat(ids(new FiltroCandidatos(null, new BigDecimal("10000"), new BigDecimal("2"), null))).containsExactly(1);
+	}
+
+	@Test
+	void losEmpleosAbiertosSimultaneosSumanSuExperiencia() {
+		LocalDate haceAnioYMedio = LocalDate.now().minusMonths(18);
+		guardar(fila(1, "CDMX", new BigDecimal("20000"), BigDecimal.ZERO, haceAnioYMedio, haceAnioYMedio));
+		guardar(fila(2, "CDMX", new BigDecimal("20000"), BigDecimal.ZERO, haceAnioYMedio));
+		motor.recargar();
+
+		assertThat(ids(new FiltroCandidatos(null, null, new BigDecimal("2"), null))).containsExactly(1);
+	}
+
+	@Test
+	void elRecorridoEnParaleloDaLoMismoQueElSecuencial() {
+		for (long id = 1; id <= 500; id++) {
+			guardar(fila(id, id % 2 == 0 ? "CDMX" : "JALISCO", new BigDecimal(id * 100), new BigDecimal(id % 40)));
+		}
+		motor.recargar();
+		FiltroCandidatos filtro = new FiltroCandidatos(null, new BigDecimal("10000"), new BigDecimal("2"), "CDMX");
+		List<Integer> secuencial = ids(filtro);
+
+		ReflectionTestUtils.setField(motor, "umbralParalelo", 0);
+
+		assertThat(secuencial).isNotEmpty();
+		assertThat(ids(filtro)).isEqualTo(secuencial);
+	}
+
+	@Test
+	void paginaDespuesDelUltimoId() {
+		for (long id = 1; id <= 5; id++) {
+			guardar(fila(id, "CDMX", null, BigDecimal.ZERO));
+		}
+		motor.recargar();
+
+		MotorFiltrosCandidatos.ResultadoFiltro primera = motor.filtrar(TODOS, null, 2);
+		MotorFiltrosCandidatos.ResultadoFiltro ultima = motor.filtrar(TODOS, 4L, 2);
+
+		assertThat(primera.ids()).containsExactly(1, 2);
+		assertThat(primera.hayMas()).isTrue();
+		assertThat(primera.total()).isEqualTo(5);
+		assertThat(ultima.ids()).containsExactly(5);
+		assertThat(ultima.hayMas()).isFalse();
+	}
+
+	@Test
+	void rechazaIdsFueraDeRangoEnLugarDeTruncarlos() {
+		guardar(fila(1, "CDMX", null, BigDecimal.ZERO));
+		motor.recargar();
+
+		assertThatThrownBy(() -> motor.filtrar(TODOS, -2L, 10)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> motor.filtrar(TODOS, Integer.MAX_VALUE + 1L, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(motor.filtrar(TODOS, (long) Integer.MAX_VALUE, 10).ids()).isEmpty();
+	}
+
+	@Test
+	void sinCoincidenciasNoRepartePorRangos() {
+		guardar(fila(1, "CDMX", null, BigDecimal.ZERO));
+		motor.recargar();
+		ReflectionTestUtils.setField(motor, "umbralParalelo", 0);
+
+		assertThat(ids(new FiltroCandidatos(null, new BigDecimal("1"), null, "SONORA"))).isEmpty();
+	}
+
+	@Test
+	void unEventoPorCandidatoActualizaOQuitaSinRecargar() {
+		guardar(fila(1, "CDMX", null, BigDecimal.ZERO));
+		guardar(fila(2, "CDMX", null, BigDecimal.ZERO));
+		motor.recargar();
+
+		guardar(fila(1, "JALISCO", null, BigDecimal.ZERO));
+		tabla.remove(2L);
+		guardar(fila(70000, "JALISCO", null, BigDecimal.ZERO));
+		motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(1L));
+		motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(2L));
+		motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(70000L));
+
+		assertThat(ids(new FiltroCandidatos(null, null, null, "CDMX"))).isEmpty();
+		assertThat(ids(new FiltroCandidatos(null, null, null, "JALISCO"))).containsExactly(1, 70000);
+	}
+
+	@Test
+	void lasActualizacionesDuranteUnaRecargaNoSePierdenAlReemplazarElIndice() throws Exception {
+		guardar(fila(1, "CDMX", null, BigDecimal.ZERO));
+		motor.recargar();
+
+		// La lectura completa toma la tabla como está y se detiene antes de regresarla
+		CountDownLatch leyendo = new CountDownLatch(1);
+		CountDownLatch continuar = new CountDownLatch(1);
+		when(candidatoDao.obtenerDatosIndice(isNull(), isNull())).thenAnswer(i -> {
+			Map<String, Object> foto = cursor(new ArrayList<>(tabla.values()));
+			leyendo.countDown();
+			continuar.await(5, TimeUnit.SECONDS);
+			return foto;
+		});
+		ExecutorService hilo = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> recarga = hilo.submit(motor::recargar);
+			assertThat(leyendo.await(5, TimeUnit.SECONDS)).isTrue();
+
+			guardar(fila(2, "CDMX", null, BigDecimal.ZERO));
+			tabla.remove(1L);
+			motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(2L));
+			motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(1L));
+			assertThat(ids(TODOS)).containsExactly(2);
+
+			continuar.countDown();
+			recarga.get(5, TimeUnit.SECONDS);
+		} finally {
+			hilo.shutdownNow();
+		}
+
+		assertThat(ids(TODOS)).containsExactly(2);
+	}
+
+	@Test
+	void unaLecturaAnteriorNoReemplazaALaYaAplicada() throws Exception {
+		LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 10, 0);
+		guardar(version(fila(1, "CDMX", null, BigDecimal.ZERO), inicio));
+		motor.recargar();
+
+		// Dos escrituras seguidas: la primera lectura se aplica después de la segunda
+		DatosIndiceDto anterior = version(fila(1, "SONORA", null, BigDecimal.ZERO), inicio.plusSeconds(1));
+		DatosIndiceDto reciente = version(fila(1, "JALISCO", null, BigDecimal.ZERO), inicio.plusSeconds(2));
+		CountDownLatch leida = new CountDownLatch(1);
+		CountDownLatch continuar = new CountDownLatch(1);
+		when(candidatoDao.obtenerDatosIndice(1L, null)).thenAnswer(i -> {
+			leida.countDown();
+			continuar.await(5, TimeUnit.SECONDS);
+			return cursor(List.of(anterior));
+		}).thenAnswer(i -> cursor(List.of(reciente)));
+		ExecutorService hilo = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> primera = hilo.submit(() -> motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(1L)));
+			assertThat(leida.await(5, TimeUnit.SECONDS)).isTrue();
+
+			motor.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(1L));
+			continuar.countDown();
+			primera.get(5, TimeUnit.SECONDS);
+		} finally {
+			hilo.shutdownNow();
+		}
+
+		assertThat(ids(new FiltroCandidatos(null, null, null, "JALISCO"))).containsExactly(1);
+		assertThat(ids(new FiltroCandidatos(null, null, null, "SONORA"))).isEmpty();
+	}
+
+	@Test
+	void unEventoDeVariosRecargaFueraDelHiloQueLoPublica() throws Exception {
+		guardar(fila(1, "CDMX", null, BigDecimal.ZERO));
+		motor.recargar();
+
+		CountDownLatch continuar = new CountDownLatch(1);
+		CountDownLatch recargado = new CountDownLatch(1);
+		AtomicReference<Thread> lector = new AtomicReference<>();
+		when(candidatoDao.obtenerDatosIndice(isNull(), isNull())).thenAnswer(i -> {
+			lector.set(Thread.currentThread());
+			continuar.await(5, TimeUnit.SECONDS);
+			recargado.countDown();
+			return cursor(new ArrayList<>(tabla.values()));
+		});
+		guardar(fila(2, "CDMX", null, BigDecimal.ZERO));
+
+		motor.alModificarCandidato(DatosCandidatoModificadosEvent.varios());
+		motor.alModificarCandidato(DatosCandidatoModificadosEvent.varios());
+
+		assertThat(recargado.getCount()).isEqualTo(1);
+		continuar.countDown();
+		assertThat(recargado.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(lector.get()).isNotSameAs(Thread.currentThread());
+		ExecutorService recargas = (ExecutorService) ReflectionTestUtils.getField(motor, "recargas");
+		recargas.shutdown();
+		assertThat(recargas.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(ids(TODOS)).containsExactly(1, 2);
+	}
+
+	private List<Integer> ids(FiltroCandidatos filtro) {
+		return Arrays.stream(motor.filtrar(filtro, null, 1000).ids()).mapToInt(id -> (int) id).boxed().toList();
+	}
+
+	private void guardar(DatosIndiceDto fila) {
+		tabla.put(fila.getId(), fila);
+	}
+
+	private static Map<String, Object> cursor(List<DatosIndiceDto> filas) {
+		return Map.of(Constants.CUR_RESULTADO, filas);
+	}
+
+	private static DatosIndiceDto version(DatosIndiceDto fila, LocalDateTime fechaActualizacion) {
+		fila.setFechaActualizacion(fechaActualizacion);
+		return fila;
+	}
+
+	private static DatosIndiceDto fila(long id, String estado, BigDecimal ingresoActual, BigDecimal mesesCerrados,
+			LocalDate... iniciosAbiertos) {
+		double meses = Arrays.stream(iniciosAbiertos).mapToDouble(MotorFiltrosCandidatos::mesFraccionario).sum();
+		return DatosIndiceDto.builder().id(id).activo(true).estado(estado).laborando(ingresoActual != null)
+				.ingresoActual(ingresoActual).mesesCerrados(mesesCerrados)
+				.numAbiertos((long) iniciosAbiertos.length).mesesIniciosAbiertos(BigDecimal.valueOf(meses)).build();
+	}
+}
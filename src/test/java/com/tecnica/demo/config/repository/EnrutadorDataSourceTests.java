@@ -0,0 +1,160 @@
+package com.tecnica.demo.config.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.tecnica.demo.config.repository.EnrutadorDataSource.Destino;
+
+import jakarta.servlet.http.Cookie;
+
+class EnrutadorDataSourceTests {
+
+	private static final long VENTANA_MS = 5000;
+
+	private EnrutadorDataSource enrutador;
+
+	@BeforeEach
+	void crear() {
+		enrutador = EnrutadorDataSource.crear(mock(DataSource.class), mock(DataSource.class), VENTANA_MS);
+	}
+
+	@AfterEach
+	void limpiar() {
+		terminarTransaccion();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void lecturaSinEscrituraPreviaVaALaReplica() {
+		peticion(new MockHttpServletRequest());
+
+		assertThat(leer()).isEqualTo(Destino.REPLICA);
+	}
+
+	@Test
+	void escrituraVaAlPrimario() {
+		peticion(new MockHttpServletRequest());
+		iniciarTransaccion(false);
+
+		assertThat(enrutador.determineCurrentLookupKey()).isEqualTo(Destino.PRIMARIO);
+	}
+
+	@Test
+	void despuesDeConfirmarLaMismaPeticionLeeDelPrimarioYRecibeLaCookie() {
+		MockHttpServletResponse response = peticion(new MockHttpServletRequest());
+		escribirYConfirmar();
+
+		assertThat(leer()).isEqualTo(Destino.PRIMARIO);
+		assertThat(response.getCookie(VentanaPrimario.COOKIE)).isNotNull();
+	}
+
+	@Test
+	void laEscrituraDeUnClienteNoMandaAlPrimarioLasLecturasDeOtro() {
+		MockHttpServletResponse response = peticion(new MockHttpServletRequest());
+		escribirYConfirmar();
+		Cookie cookie = response.getCookie(VentanaPrimario.COOKIE);
+
+		peticion(new MockHttpServletRequest());
+		assertThat(leer()).isEqualTo(Destino.REPLICA);
+
+		MockHttpServletRequest mismoCliente = new MockHttpServletRequest();
+		mismoCliente.setCookies(cookie);
+		peticion(mismoCliente);
+		assertThat(leer()).isEqualTo(Destino.PRIMARIO);
+	}
+
+	@Test
+	void unaEscrituraRevertidaNoAbreLaVentana() {
+		MockHttpServletResponse response = peticion(new MockHttpServletRequest());
+		iniciarTransaccion(false);
+		enrutador.determineCurrentLookupKey();
+		terminarTransaccion();
+
+		assertThat(leer()).isEqualTo(Destino.REPLICA);
+		assertThat(response.getCookie(VentanaPrimario.COOKIE)).isNull();
+	}
+
+	@Test
+	void cookieVencidaOFueraDeLaVentanaSeIgnora() {
+		long ahora = System.currentTimeMillis();
+		for (long hasta : new long[] { ahora - 1, ahora + 10 * VENTANA_MS }) {
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setCookies(new Cookie(VentanaPrimario.COOKIE, Long.toString(hasta)));
+			peticion(request);
+
+			assertThat(leer()).isEqualTo(Destino.REPLICA);
+		}
+
+		MockHttpServletRequest invalida = new MockHttpServletRequest();
+		invalida.setCookies(new Cookie(VentanaPrimario.COOKIE, "x"));
+		peticion(invalida);
+		assertThat(leer()).isEqualTo(Destino.REPLICA);
+	}
+
+	@Test
+	void sinPeticionLasLecturasVanALaReplica() {
+		iniciarTransaccion(false);
+		enrutador.determineCurrentLookupKey();
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		terminarTransaccion();
+
+		assertThat(leer()).isEqualTo(Destino.REPLICA);
+	}
+
+	@Test
+	void enPrimarioLeeDelPrimarioSinAbrirLaVentana() {
+		MockHttpServletResponse response = peticion(new MockHttpServletRequest());
+
+		assertThat(EnrutadorDataSource.enPrimario(this::leer)).isEqualTo(Destino.PRIMARIO);
+		assertThat(leer()).isEqualTo(Destino.REPLICA);
+		assertThat(response.getCookie(VentanaPrimario.COOKIE)).isNull();
+	}
+
+	private MockHttpServletResponse peticion(MockHttpServletRequest request) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+		return response;
+	}
+
+	private void escribirYConfirmar() {
+		iniciarTransaccion(false);
+		assertThat(enrutador.determineCurrentLookupKey()).isEqualTo(Destino.PRIMARIO);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		terminarTransaccion();
+	}
+
+	private Object leer() {
+		iniciarTransaccion(true);
+		try {
+			return enrutador.determineCurrentLookupKey();
+		} finally {
+			terminarTransaccion();
+		}
+	}
+
+	private static void iniciarTransaccion(boolean soloLectura) {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(soloLectura);
+	}
+
+	private static void terminarTransaccion() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+}
@@ -0,0 +1,100 @@
+package com.tecnica.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.tecnica.demo.enums.EnumAlcanceVersion;
+import com.tecnica.demo.service.IVersionService;
+import com.tecnica.demo.util.Result;
+
+class ValidadorVersionTests {
+
+	private static final Instant VERSION = Instant.parse("2024-05-10T12:30:15.123456Z");
+	private static final String ETAG = "\"candidato-7-" + Long.toHexString(VERSION.getEpochSecond() * 1_000_000L + 123_456) + "\"";
+
+	private IVersionService versionService;
+	private ValidadorVersion validador;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void crear() {
+		versionService = mock(IVersionService.class);
+		validador = new ValidadorVersion(versionService);
+		request = new MockHttpServletRequest("GET", "/candidatos/7");
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	void primeraPeticionRecibeEtagYLastModified() {
+		when(versionService.obtenerVersion(EnumAlcanceVersion.CANDIDATO, 7L)).thenReturn(Result.success(VERSION));
+
+		assertThat(noModificado(EnumAlcanceVersion.CANDIDATO, 7L)).isFalse();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+		assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(VERSION.getEpochSecond() * 1000);
+		assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+	}
+
+	@Test
+	void ifNoneMatchConLaVersionVigenteResponde304() {
+		when(versionService.obtenerVersion(EnumAlcanceVersion.CANDIDATO, 7L)).thenReturn(Result.success(VERSION));
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+		assertThat(noModificado(EnumAlcanceVersion.CANDIDATO, 7L)).isTrue();
+		assertThat(response.getStatus()).isEqualTo(304);
+	}
+
+	@Test
+	void unCambioDeMicrosegundosCambiaElEtag() {
+		when(versionService.obtenerVersion(EnumAlcanceVersion.CANDIDATO, 7L))
+				.thenReturn(Result.success(VERSION.plusNanos(1_000)));
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+		assertThat(noModificado(EnumAlcanceVersion.CANDIDATO, 7L)).isFalse();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(ETAG);
+	}
+
+	@Test
+	void elEtagDistingueElRecurso() {
+		when(versionService.obtenerVersion(EnumAlcanceVersion.CANDIDATOS, null)).thenReturn(Result.success(VERSION));
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+		assertThat(noModificado(EnumAlcanceVersion.CANDIDATOS, null)).isFalse();
+		assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"candidatos-").doesNotContain("-7-");
+	}
+
+	@Test
+	void ifModifiedSinceSeUsaSinIfNoneMatch() {
+		when(versionService.obtenerVersion(EnumAlcanceVersion.PERFIL, 7L)).thenReturn(Result.success(VERSION));
+		request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, VERSION.plusSeconds(60).toEpochMilli());
+
+		assertThat(noModificado(EnumAlcanceVersion.PERFIL, 7L)).isTrue();
+		assertThat(response.getStatus()).isEqualTo(304);
+	}
+
+	@Test
+	void sinVersionLaPeticionSigueSinEncabezados() {
+		when(versionService.obtenerVersion(EnumAlcanceVersion.CANDIDATO, 7L)).thenReturn(Result.failure("sin conexión"));
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+		assertThat(noModificado(EnumAlcanceVersion.CANDIDATO, 7L)).isFalse();
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+		assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+	}
+
+	private boolean noModificado(EnumAlcanceVersion alcance, Long candidatoId) {
+		return validador.noModificado(new ServletWebRequest(request, response), alcance, candidatoId);
+	}
+}
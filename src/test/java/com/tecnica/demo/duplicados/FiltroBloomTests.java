@@ -0,0 +1,50 @@
+package com.tecnica.demo.duplicados;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class FiltroBloomTests {
+
+	@Test
+	void noTieneFalsosNegativos() {
+		FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filtro.agregar("candidato" + i + "@correo.mx"));
+
+		assertThat(IntStream.range(0, 10_000).allMatch(i -> filtro.puedeContener("candidato" + i + "@correo.mx")))
+				.isTrue();
+	}
+
+	@Test
+	void losFalsosPositivosQuedanCercaDeLaTasaDimensionada() {
+		FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filtro.agregar("RFC" + i));
+
+		long falsos = IntStream.range(0, 100_000).filter(i -> filtro.puedeContener("OTRO" + i)).count();
+
+		assertThat(falsos / 100_000d).isLessThan(0.02);
+	}
+
+	@Test
+	void vacioNoContieneNadaYDistingueMayusculas() {
+		FiltroBloom filtro = new FiltroBloom(0, 0.01);
+		assertThat(filtro.puedeContener("")).isFalse();
+
+		filtro.agregar("Ana@Correo.mx");
+		filtro.agregar("ñandú@correo.mx");
+
+		assertThat(filtro.puedeContener("Ana@Correo.mx")).isTrue();
+		assertThat(filtro.puedeContener("ñandú@correo.mx")).isTrue();
+		assertThat(filtro.puedeContener("ana@correo.mx")).isFalse();
+	}
+
+	@Test
+	void admiteAltasConcurrentes() {
+		FiltroBloom filtro = new FiltroBloom(50_000, 0.01);
+		IntStream.range(0, 50_000).parallel().forEach(i -> filtro.agregar("c" + i));
+
+		assertThat(IntStream.range(0, 50_000).allMatch(i -> filtro.puedeContener("c" + i))).isTrue();
+	}
+}
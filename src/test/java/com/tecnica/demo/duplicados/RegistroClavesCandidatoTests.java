@@ -0,0 +1,103 @@
+package com.tecnica.demo.duplicados;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tecnica.demo.dao.ICandidatoDao;
+import com.tecnica.demo.dto.CandidatoDto;
+
+class RegistroClavesCandidatoTests {
+
+	private ICandidatoDao candidatoDao;
+	private RegistroClavesCandidato registro;
+
+	@BeforeEach
+	void crear() {
+		candidatoDao = mock(ICandidatoDao.class);
+		registro = new RegistroClavesCandidato();
+		ReflectionTestUtils.setField(registro, "candidatoDao", candidatoDao);
+		ReflectionTestUtils.setField(registro, "capacidad", 1000L);
+		ReflectionTestUtils.setField(registro, "falsosPositivos", 0.001);
+	}
+
+	@Test
+	void sinCargarTodoPuedeExistir() {
+		assertThat(registro.isCargado()).isFalse();
+		assertThat(registro.puedeExistirEmail("nuevo@correo.mx")).isTrue();
+		assertThat(registro.puedeExistirRfc("XAXX010101000")).isTrue();
+	}
+
+	@Test
+	void despuesDeCargarDescartaLosValoresNuevos() {
+		tabla(List.of(candidato("ana@correo.mx", "AAAA800101AAA"), candidato("luis@correo.mx", null)));
+
+		registro.recargar();
+
+		assertThat(registro.isCargado()).isTrue();
+		assertThat(registro.puedeExistirEmail("ana@correo.mx")).isTrue();
+		assertThat(registro.puedeExistirEmail("luis@correo.mx")).isTrue();
+		assertThat(registro.puedeExistirRfc("AAAA800101AAA")).isTrue();
+		assertThat(registro.puedeExistirEmail("nuevo@correo.mx")).isFalse();
+		assertThat(registro.puedeExistirRfc("BBBB800101BBB")).isFalse();
+		assertThat(registro.puedeExistirEmail(null)).isTrue();
+	}
+
+	@Test
+	void lasAltasSeVenSinRecargar() {
+		tabla(List.of());
+		registro.recargar();
+
+		registro.agregar("nuevo@correo.mx", "CCCC800101CCC");
+
+		assertThat(registro.puedeExistirEmail("nuevo@correo.mx")).isTrue();
+		assertThat(registro.puedeExistirRfc("CCCC800101CCC")).isTrue();
+	}
+
+	@Test
+	void lasAltasDuranteLaCargaQuedanEnLosFiltrosNuevos() {
+		tabla(List.of());
+		registro.recargar();
+		doAnswer(i -> {
+			registro.agregar("durante@correo.mx", "DDDD800101DDD");
+			return 0L;
+		}).when(candidatoDao).recorrerClavesUnicas(any());
+
+		registro.recargar();
+
+		assertThat(registro.puedeExistirEmail("durante@correo.mx")).isTrue();
+		assertThat(registro.puedeExistirRfc("DDDD800101DDD")).isTrue();
+	}
+
+	@Test
+	void seReconstruyeMasGrandeSiLaTablaRebasaLaCapacidad() {
+		ReflectionTestUtils.setField(registro, "capacidad", 2L);
+		tabla(List.of(candidato("a@correo.mx", "A"), candidato("b@correo.mx", "B"), candidato("c@correo.mx", "C")));
+
+		registro.recargar();
+
+		verify(candidatoDao, times(2)).recorrerClavesUnicas(any());
+		assertThat(registro.puedeExistirEmail("c@correo.mx")).isTrue();
+	}
+
+	private void tabla(List<CandidatoDto> candidatos) {
+		doAnswer(i -> {
+			candidatos.forEach(i.<Consumer<CandidatoDto>>getArgument(0));
+			return (long) candidatos.size();
+		}).when(candidatoDao).recorrerClavesUnicas(any());
+	}
+
+	private static CandidatoDto candidato(String email, String rfc) {
+		return CandidatoDto.builder().email(email).rfc(rfc).build();
+	}
+}
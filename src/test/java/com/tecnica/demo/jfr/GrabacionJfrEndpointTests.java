@@ -0,0 +1,85 @@
+package com.tecnica.demo.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class GrabacionJfrEndpointTests {
+
+	private GrabacionJfrEndpoint endpoint;
+
+	@BeforeEach
+	void crear() {
+		endpoint = new GrabacionJfrEndpoint();
+		ReflectionTestUtils.setField(endpoint, "configuracion", "profile");
+		ReflectionTestUtils.setField(endpoint, "duracionMaxima", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(endpoint, "tamanioMaximo", DataSize.ofMegabytes(20));
+		ReflectionTestUtils.setField(endpoint, "umbral", Duration.ofMillis(1));
+	}
+
+	@AfterEach
+	void cerrar() {
+		endpoint.cerrar();
+	}
+
+	@Test
+	void ajustesHabilitanLosEventosPropiosYExcluyenLosQuePuedenTraerSecretos() throws Exception {
+		Map<String, String> ajustes = endpoint.ajustes(5);
+
+		assertThat(ajustes).containsEntry(EventoLlamadaPlsql.NOMBRE + "#enabled", "true")
+				.containsEntry(EventoLlamadaPlsql.NOMBRE + "#threshold", "5 ms");
+		for (String evento : GrabacionJfrEndpoint.EVENTOS_EXCLUIDOS) {
+			assertThat(ajustes).containsEntry(evento + "#enabled", "false");
+		}
+	}
+
+	@Test
+	void laGrabacionTraeLosEventosPropiosYNoLasPropiedadesDeSistema() throws Exception {
+		assertThat(endpoint.iniciar(60L, 0L).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+		EventoSerializacion evento = new EventoSerializacion();
+		evento.begin();
+		evento.tipo = "prueba";
+		evento.commit();
+		long id = (Long) endpoint.estado().get("id");
+		endpoint.detener();
+
+		WebEndpointResponse<Resource> descarga = endpoint.descargar(id);
+		assertThat(descarga.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+		Path archivo = descarga.getBody().getFile().toPath();
+		List<String> tipos = RecordingFile.readAllEvents(archivo).stream()
+				.map(RecordedEvent::getEventType).map(t -> t.getName()).distinct().toList();
+
+		assertThat(tipos).contains(EventoSerializacion.NOMBRE)
+				.doesNotContainAnyElementsOf(GrabacionJfrEndpoint.EVENTOS_EXCLUIDOS);
+	}
+
+	@Test
+	void soloHayUnaGrabacionALaVez() {
+		assertThat(endpoint.iniciar(null, null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+
+		assertThat(endpoint.iniciar(null, null).getStatus()).isEqualTo(409);
+	}
+
+	@Test
+	void descargarOtraGrabacionResponde404() {
+		assertThat(endpoint.descargar(1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+
+		endpoint.iniciar(null, null);
+		long id = (Long) endpoint.estado().get("id");
+		assertThat(endpoint.descargar(id + 1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+	}
+}
@@ -0,0 +1,165 @@
+package com.tecnica.demo.respuestas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tecnica.demo.config.json.CodecJson;
+import com.tecnica.demo.evento.DatosCandidatoModificadosEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheRespuestasTests {
+
+	private static final String CLAVE = "candidatos?tamanio=10";
+
+	private static final VersionRecurso RECURSO = new VersionRecurso(Instant.parse("2024-05-01T10:00:00Z"), "\"candidatos-1\"");
+
+	private CacheRespuestas cache;
+
+	@BeforeEach
+	void crear() {
+		cache = new CacheRespuestas();
+		ReflectionTestUtils.setField(cache, "codecJson", new CodecJson(new ObjectMapper()));
+		ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "maximo", DataSize.ofMegabytes(1));
+		ReflectionTestUtils.setField(cache, "expirarDespues", Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(cache, "umbralGzip", DataSize.ofBytes(100));
+		cache.inicializarCache();
+	}
+
+	@Test
+	void sirveLoGuardadoConLaMismaVersion() throws IOException {
+		long version = cache.version();
+		assertThat(cache.responder(CLAVE, version, RECURSO, peticion(null))).isNull();
+
+		ResponseEntity<byte[]> guardada = cache.guardarYResponder(CLAVE, version, RECURSO, Map.of("id", 1), peticion(null));
+		ResponseEntity<byte[]> servida = cache.responder(CLAVE, version, RECURSO, peticion(null));
+
+		assertThat(texto(guardada.getBody())).isEqualTo("{\"id\":1}");
+		assertThat(servida.getBody()).isEqualTo(guardada.getBody());
+		assertThat(servida.getHeaders().getContentLength()).isEqualTo(guardada.getBody().length);
+		assertThat(servida.getHeaders().getFirst(HttpHeaders.VARY)).isNull();
+	}
+
+	@Test
+	void unaEscrituraInvalidaLasRespuestasGuardadas() throws IOException {
+		long version = cache.version();
+		cache.guardarYResponder(CLAVE, version, RECURSO, Map.of("id", 1), peticion(null));
+
+		cache.alModificarCandidato(DatosCandidatoModificadosEvent.varios());
+
+		assertThat(cache.version()).isEqualTo(version + 1);
+		assertThat(cache.responder(CLAVE, version, RECURSO, peticion(null))).isNull();
+		assertThat(cache.responder(CLAVE, cache.version(), RECURSO, peticion(null))).isNull();
+	}
+
+	@Test
+	void loLeidoAntesDeUnaEscrituraSeRespondePeroNoSeGuarda() throws IOException {
+		long version = cache.version();
+		cache.alModificarCandidato(DatosCandidatoModificadosEvent.deCandidato(1L));
+
+		ResponseEntity<byte[]> respuesta = cache.guardarYResponder(CLAVE, version, RECURSO, Map.of("id", 1), peticion(null));
+
+		assertThat(respuesta.getBody()).isNotEmpty();
+		assertThat(cache.responder(CLAVE, version, RECURSO, peticion(null))).isNull();
+		assertThat(cache.responder(CLAVE, cache.version(), RECURSO, peticion(null))).isNull();
+	}
+
+	@Test
+	void losCuerposGrandesSeSirvenComprimidosSoloAQuienAceptaGzip() throws IOException {
+		long version = cache.version();
+		String grande = "x".repeat(500);
+		cache.guardarYResponder(CLAVE, version, RECURSO, Map.of("nombre", grande), peticion(null));
+
+		ResponseEntity<byte[]> plana = cache.responder(CLAVE, version, RECURSO, peticion(null));
+		ResponseEntity<byte[]> comprimida = cache.responder(CLAVE, version, RECURSO, peticion("gzip, deflate"));
+
+		assertThat(plana.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(plana.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(comprimida.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(comprimida.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(comprimida.getBody().length).isLessThan(plana.getBody().length);
+		assertThat(comprimida.getHeaders().getContentLength()).isEqualTo(comprimida.getBody().length);
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(comprimida.getBody()))) {
+			assertThat(gzip.readAllBytes()).isEqualTo(plana.getBody());
+		}
+	}
+
+	@Test
+	void unaVersionDistintaDelRecursoNoSeSirve() throws IOException {
+		long version = cache.version();
+		cache.guardarYResponder(CLAVE, version, RECURSO, Map.of("id", 1), peticion(null));
+
+		// Escritura en otra instancia: el contador local no cambia, la versión sí
+		VersionRecurso nueva = new VersionRecurso(Instant.parse("2024-05-01T10:05:00Z"), "\"candidatos-2\"");
+
+		assertThat(cache.responder(CLAVE, version, nueva, peticion(null))).isNull();
+		assertThat(cache.responder(CLAVE, version, null, peticion(null))).isNull();
+	}
+
+	@Test
+	void elEtagSaleDeLaEntradaYElCuerpoComprimidoTieneElSuyo() throws IOException {
+		long version = cache.version();
+		cache.guardarYResponder(CLAVE, version, RECURSO, Map.of("nombre", "x".repeat(500)), peticion(null));
+
+		ResponseEntity<byte[]> plana = cache.responder(CLAVE, version, RECURSO, peticion(null));
+		ResponseEntity<byte[]> comprimida = cache.responder(CLAVE, version, RECURSO, peticion("gzip"));
+
+		assertThat(plana.getHeaders().getETag()).isEqualTo("\"candidatos-1\"");
+		assertThat(comprimida.getHeaders().getETag()).isEqualTo("\"candidatos-1-gzip\"");
+		assertThat(plana.getHeaders().getLastModified()).isEqualTo(RECURSO.ultimaActualizacion().toEpochMilli());
+		assertThat(plana.getHeaders().getCacheControl()).isEqualTo("no-cache");
+	}
+
+	@Test
+	void sinVersionNoSeEnvianEncabezadosDeVersion() throws IOException {
+		long version = cache.version();
+		ResponseEntity<byte[]> respuesta = cache.guardarYResponder(CLAVE, version, null, Map.of("id", 1), peticion(null));
+
+		assertThat(respuesta.getHeaders().getETag()).isNull();
+		assertThat(cache.responder(CLAVE, version, null, peticion(null))).isNotNull();
+	}
+
+	@Test
+	void aceptaGzipRespetaElValorQ() {
+		assertThat(CacheRespuestas.aceptaGzip(peticion("gzip"))).isTrue();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("deflate, GZIP;q=0.5"))).isTrue();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("gzip; q=0.001"))).isTrue();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("gzip;q=1.0"))).isTrue();
+
+		assertThat(CacheRespuestas.aceptaGzip(peticion(null))).isFalse();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("br, deflate"))).isFalse();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("x-gzip"))).isFalse();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("gzip;q=0"))).isFalse();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("gzip; q=0.000"))).isFalse();
+		assertThat(CacheRespuestas.aceptaGzip(peticion("br, gzip ;q=0."))).isFalse();
+	}
+
+	private static MockHttpServletRequest peticion(String acceptEncoding) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/candidatos");
+		if (acceptEncoding != null) {
+			request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		}
+		return request;
+	}
+
+	private static String texto(byte[] cuerpo) {
+		return new String(cuerpo, StandardCharsets.UTF_8);
+	}
+}
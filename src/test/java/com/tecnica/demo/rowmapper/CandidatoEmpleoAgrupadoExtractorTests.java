@@ -0,0 +1,69 @@
+package com.tecnica.demo.rowmapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.EmpleoDto;
+
+class CandidatoEmpleoAgrupadoExtractorTests {
+
+	private static final String[] COLUMNAS = { "ID", "NOMBRES", "APELLIDOS", "ACTIVO", "NOMBRE_EMPRESA",
+			"FECHA_INGRESO", "FECHA_SALIDA", "INGRESO_MENSUAL", "ANIOS_EXPERIENCIA" };
+
+	private final CandidatoEmpleoAgrupadoExtractor extractor = new CandidatoEmpleoAgrupadoExtractor();
+
+	@Test
+	void juntaLasFilasContiguasDeCadaCandidato() throws SQLException {
+		List<CandidatoDto> candidatos = extractor.extractData(CursorPrueba.de(COLUMNAS,
+				fila(1, "Ana", "Acme", "2020-01-01", null, "30000"),
+				fila(1, "Ana", "Beta", "2015-03-01", "2019-12-31", "20000"),
+				fila(2, "Luis", "Gamma", "2021-06-01", null, "25000"),
+				fila(3, "Eva", null, null, null, null)));
+
+		assertThat(candidatos).extracting(CandidatoDto::getId).containsExactly(1L, 2L, 3L);
+
+		CandidatoDto ana = candidatos.get(0);
+		assertThat(ana.getNombres()).isEqualTo("Ana");
+		assertThat(ana.getActivo()).isTrue();
+		assertThat(ana.getExperienciaTotal()).isEqualTo(5.5);
+		assertThat(ana.getListaEmpleos()).extracting(EmpleoDto::getNombreEmpresa).containsExactly("Acme", "Beta");
+		assertThat(ana.getListaEmpleos().get(1).getFechaSalida()).isEqualTo(LocalDate.of(2019, 12, 31));
+		assertThat(ana.getListaEmpleos().get(1).getIngresoMensual()).isEqualByComparingTo("20000");
+
+		assertThat(candidatos.get(1).getListaEmpleos()).extracting(EmpleoDto::getNombreEmpresa)
+				.containsExactly("Gamma");
+		assertThat(candidatos.get(2).getListaEmpleos()).isNull();
+	}
+
+	@Test
+	void unaFilaSinEmpleoNoAgregaEmpleoAlCandidatoActual() throws SQLException {
+		List<CandidatoDto> candidatos = extractor.extractData(CursorPrueba.de(COLUMNAS,
+				fila(4, "Ana", null, null, null, null),
+				fila(4, "Ana", "Acme", "2020-01-01", null, "30000"),
+				fila(4, "Ana", null, null, null, null)));
+
+		assertThat(candidatos).hasSize(1);
+		assertThat(candidatos.get(0).getListaEmpleos()).extracting(EmpleoDto::getNombreEmpresa)
+				.containsExactly("Acme");
+	}
+
+	@Test
+	void unCursorVacioNoTraeCandidatos() throws SQLException {
+		assertThat(extractor.extractData(CursorPrueba.de(COLUMNAS))).isEmpty();
+	}
+
+	private static Object[] fila(long id, String nombres, String empresa, String ingreso, String salida,
+			String ingresoMensual) {
+		return new Object[] { BigDecimal.valueOf(id), nombres, "Pérez", BigDecimal.ONE, empresa,
+				ingreso != null ? Date.valueOf(ingreso) : null, salida != null ? Date.valueOf(salida) : null,
+				ingresoMensual != null ? new BigDecimal(ingresoMensual) : null, new BigDecimal("5.5") };
+	}
+}
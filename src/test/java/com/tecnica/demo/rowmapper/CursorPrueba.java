@@ -0,0 +1,57 @@
+package com.tecnica.demo.rowmapper;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+/**
+ * Cursor en memoria con solo lo que leen los mapeadores: next, wasNull,
+ * getMetaData y los getters por índice. Los números se dan como BigDecimal,
+ * igual que los NUMBER de Oracle.
+ */
+final class CursorPrueba {
+
+	private CursorPrueba() {
+	}
+
+	static ResultSet de(String[] columnas, Object[]... filas) {
+		ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(CursorPrueba.class.getClassLoader(),
+				new Class<?>[] { ResultSetMetaData.class }, (proxy, metodo, args) -> switch (metodo.getName()) {
+					case "getColumnCount" -> columnas.length;
+					case "getColumnLabel", "getColumnName" -> columnas[(int) args[0] - 1];
+					default -> throw new UnsupportedOperationException(metodo.getName());
+				});
+
+		int[] fila = { -1 };
+		boolean[] nulo = { false };
+		return (ResultSet) Proxy.newProxyInstance(CursorPrueba.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, metodo, args) -> {
+					switch (metodo.getName()) {
+					case "next":
+						return ++fila[0] < filas.length;
+					case "wasNull":
+						return nulo[0];
+					case "getMetaData":
+						return metaData;
+					default:
+						break;
+					}
+					if (args == null || args.length != 1 || !(args[0] instanceof Integer indice)) {
+						throw new UnsupportedOperationException(metodo.getName());
+					}
+					Object valor = filas[fila[0]][indice - 1];
+					nulo[0] = valor == null;
+					return switch (metodo.getName()) {
+					case "getLong" -> valor == null ? 0L : ((BigDecimal) valor).longValue();
+					case "getInt" -> valor == null ? 0 : ((BigDecimal) valor).intValue();
+					case "getBigDecimal" -> (BigDecimal) valor;
+					case "getString" -> valor == null ? null : valor.toString();
+					case "getDate" -> (Date) valor;
+					case "getObject" -> valor;
+					default -> throw new UnsupportedOperationException(metodo.getName());
+					};
+				});
+	}
+}
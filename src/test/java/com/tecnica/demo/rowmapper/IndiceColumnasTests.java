@@ -0,0 +1,63 @@
+package com.tecnica.demo.rowmapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class IndiceColumnasTests {
+
+	@Test
+	void resuelveLasColumnasSinImportarMayusculasYConservaLaPrimeraRepetida() throws SQLException {
+		ResultSet rs = CursorPrueba.de(new String[] { "id", "Nombres", "ID" }, new Object[] { BigDecimal.ONE, "Ana", BigDecimal.TWO });
+		IndiceColumnas indice = IndiceColumnas.de(rs.getMetaData());
+
+		assertThat(indice.indice("ID")).isEqualTo(1);
+		assertThat(indice.indice("NOMBRES")).isEqualTo(2);
+		assertThat(indice.indice("EMAIL")).isZero();
+	}
+
+	@Test
+	void leeCadaTipoYDistingueNulos() throws SQLException {
+		ResultSet rs = CursorPrueba.de(new String[] { "ID", "NOMBRES", "FECHA", "INGRESO", "ACTIVO" },
+				new Object[] { new BigDecimal("7"), "Ana", Date.valueOf("1990-02-03"), new BigDecimal("15000.50"),
+						new BigDecimal("1") },
+				new Object[] { null, null, null, null, null },
+				new Object[] { new BigDecimal("0"), "", Date.valueOf("2000-01-01"), BigDecimal.ZERO, new BigDecimal("0") });
+
+		assertThat(rs.next()).isTrue();
+		assertThat(IndiceColumnas.entero(rs, 1)).isEqualTo(7L);
+		assertThat(IndiceColumnas.texto(rs, 2)).isEqualTo("Ana");
+		assertThat(IndiceColumnas.fecha(rs, 3)).isEqualTo(LocalDate.of(1990, 2, 3));
+		assertThat(IndiceColumnas.decimal(rs, 4)).isEqualByComparingTo("15000.50");
+		assertThat(IndiceColumnas.bandera(rs, 5)).isTrue();
+
+		assertThat(rs.next()).isTrue();
+		assertThat(IndiceColumnas.entero(rs, 1)).isNull();
+		assertThat(IndiceColumnas.texto(rs, 2)).isNull();
+		assertThat(IndiceColumnas.fecha(rs, 3)).isNull();
+		assertThat(IndiceColumnas.decimal(rs, 4)).isNull();
+		assertThat(IndiceColumnas.bandera(rs, 5)).isNull();
+
+		assertThat(rs.next()).isTrue();
+		assertThat(IndiceColumnas.entero(rs, 1)).isZero();
+		assertThat(IndiceColumnas.bandera(rs, 5)).isFalse();
+	}
+
+	@Test
+	void unaColumnaQueNoVieneSeLeeComoNula() throws SQLException {
+		ResultSet rs = CursorPrueba.de(new String[] { "ID" }, new Object[] { new BigDecimal("1") });
+		rs.next();
+
+		assertThat(IndiceColumnas.entero(rs, 0)).isNull();
+		assertThat(IndiceColumnas.texto(rs, 0)).isNull();
+		assertThat(IndiceColumnas.fecha(rs, 0)).isNull();
+		assertThat(IndiceColumnas.decimal(rs, 0)).isNull();
+		assertThat(IndiceColumnas.bandera(rs, 0)).isNull();
+	}
+}
@@ -0,0 +1,117 @@
+package com.tecnica.demo.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tecnica.demo.constant.Constants;
+import com.tecnica.demo.dto.CandidatoDto;
+import com.tecnica.demo.dto.PaginaDto;
+import com.tecnica.demo.enums.EnumOrdenPagina;
+
+class PaginacionTests {
+
+	@Test
+	void primeraPaginaSinCursor() {
+		Paginacion paginacion = Paginacion.de(null, null, 10, 100);
+		Map<String, Object> parametros = paginacion.parametros();
+
+		assertThat(paginacion.getOrden()).isEqualTo(EnumOrdenPagina.APELLIDOS);
+		assertThat(parametros.get(Constants.PA_CURSOR_ID)).isNull();
+		assertThat(parametros.get(Constants.PA_DESCENDENTE)).isEqualTo(0);
+		assertThat(parametros.get(Constants.PA_LIMITE)).isEqualTo(11);
+	}
+
+	@Test
+	void elCursorSiguienteRegresaLaLlaveDeLaUltimaFila() {
+		Paginacion primera = Paginacion.de("", "-apellidos", 2, 100);
+		PaginaDto<CandidatoDto> pagina = primera.recortar(List.of(fila(7, "Pérez López", "Ana"),
+				fila(5, "Pérez López", "Ana"), fila(3, "Ortiz", "Luis")));
+
+		assertThat(pagina.getElementos()).extracting(CandidatoDto::getId).containsExactly(7L, 5L);
+		assertThat(pagina.getHayMas()).isTrue();
+		assertThat(pagina.getSiguienteCursor()).doesNotContain("=", "+", "/");
+
+		Map<String, Object> parametros = Paginacion.de(pagina.getSiguienteCursor(), "-apellidos", 2, 100).parametros();
+		assertThat(parametros.get(Constants.PA_CURSOR_APELLIDOS)).isEqualTo("Pérez López");
+		assertThat(parametros.get(Constants.PA_CURSOR_NOMBRES)).isEqualTo("Ana");
+		assertThat(parametros.get(Constants.PA_CURSOR_ID)).isEqualTo(5L);
+		assertThat(parametros.get(Constants.PA_DESCENDENTE)).isEqualTo(1);
+	}
+
+	@Test
+	void elTamanioSeCuentaEnCandidatosDistintos() {
+		PaginaDto<CandidatoDto> pagina = Paginacion.de(null, null, 2, 100).recortar(List.of(fila(1, "A", "A"),
+				fila(1, "A", "A"), fila(2, "B", "B"), fila(2, "B", "B")));
+
+		assertThat(pagina.getElementos()).hasSize(4);
+		assertThat(pagina.getHayMas()).isFalse();
+		assertThat(pagina.getSiguienteCursor()).isNull();
+	}
+
+	@Test
+	void rechazaTamanioFueraDeRango() {
+		for (Integer tamanio : new Integer[] { null, 0, 101 }) {
+			assertThatThrownBy(() -> Paginacion.de(null, null, tamanio, 100))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	void rechazaOrdenNoPermitido() {
+		assertThatThrownBy(() -> Paginacion.de(null, "email", 10, 100)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Orden no permitido");
+	}
+
+	@Test
+	void rechazaCursoresAlterados() {
+		String deOtroOrden = Paginacion.de(null, "-apellidos", 1, 100)
+				.recortar(List.of(fila(2, "B", "B"), fila(1, "A", "A"))).getSiguienteCursor();
+
+		assertThatThrownBy(() -> Paginacion.de(deOtroOrden, "apellidos", 1, 100))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("orden");
+		assertThatThrownBy(() -> Paginacion.de("no es base64!", null, 1, 100))
+				.isInstanceOf(IllegalArgumentException.class).hasMessage("Cursor no válido");
+		assertThatThrownBy(() -> Paginacion.de(codificar("apellidos\u001FA\u001FA\u001Fx"), null, 1, 100))
+				.isInstanceOf(IllegalArgumentException.class).hasMessage("Cursor no válido");
+		assertThatThrownBy(() -> Paginacion.de(codificar("apellidos\u001FA\u001F1"), null, 1, 100))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void elCursorPorIdEsOpacoYRegresaElId() {
+		String cursor = Paginacion.cursorPorId(42);
+
+		assertThat(cursor).isNotEqualTo("42").doesNotContain("=", "+", "/");
+		assertThat(Paginacion.idDeCursor(cursor)).isEqualTo(42L);
+		assertThat(Paginacion.idDeCursor(null)).isNull();
+		assertThat(Paginacion.idDeCursor(" ")).isNull();
+	}
+
+	@Test
+	void rechazaCursoresPorIdFueraDeRangoOAlterados() {
+		for (String llave : new String[] { "id\u001F-1", "id\u001F2147483648", "id\u001Fx", "id" }) {
+			assertThatThrownBy(() -> Paginacion.idDeCursor(codificar(llave)))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+		assertThatThrownBy(() -> Paginacion.idDeCursor("42")).isInstanceOf(IllegalArgumentException.class);
+		String deApellidos = Paginacion.de(null, null, 1, 100)
+				.recortar(List.of(fila(1, "A", "A"), fila(2, "B", "B"))).getSiguienteCursor();
+		assertThatThrownBy(() -> Paginacion.idDeCursor(deApellidos)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("orden");
+	}
+
+	private static String codificar(String llave) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(llave.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static CandidatoDto fila(long id, String apellidos, String nombres) {
+		return CandidatoDto.builder().id(id).apellidos(apellidos).nombres(nombres).build();
+	}
+}
@@ -0,0 +1,71 @@
+package com.tecnica.demo.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.tecnica.demo.dto.CandidatoDto;
+
+class ProyeccionTests {
+
+	@Test
+	void sinParametrosEsLaRespuestaCompleta() {
+		Proyeccion proyeccion = Proyeccion.de(null, " ");
+
+		assertThat(proyeccion.isCompleta()).isTrue();
+		assertThat(proyeccion.isExpandirEmpleos()).isFalse();
+		assertThat(proyeccion.columnas(true)).isNull();
+		assertThat(proyeccion).hasToString("fields=*&expand=");
+	}
+
+	@Test
+	void traduceLosCamposAColumnasSinRepetir() {
+		Proyeccion proyeccion = Proyeccion.de(" email ,codigoPostal,email", null);
+
+		assertThat(proyeccion.isCompleta()).isFalse();
+		assertThat(proyeccion.columnas(false)).isEqualTo("EMAIL,CODIGO_POSTAL");
+		assertThat(proyeccion).hasToString("fields=email,codigoPostal&expand=");
+	}
+
+	@Test
+	void laPaginacionAgregaLaLlaveDelCursor() {
+		assertThat(Proyeccion.de("email", null).columnas(true)).isEqualTo("EMAIL,APELLIDOS,NOMBRES");
+		assertThat(Proyeccion.de("nombres,apellidos", null).columnas(true)).isEqualTo("NOMBRES,APELLIDOS");
+	}
+
+	@Test
+	void quitaSoloLosCamposLeidosParaElCursor() {
+		CandidatoDto candidato = CandidatoDto.builder().id(1L).nombres("Ana").apellidos("Pérez").email("a@correo.mx")
+				.build();
+
+		Proyeccion.de("email,nombres", null).quitarNoPedidos(candidato);
+
+		assertThat(candidato.getNombres()).isEqualTo("Ana");
+		assertThat(candidato.getApellidos()).isNull();
+		assertThat(candidato.getEmail()).isEqualTo("a@correo.mx");
+
+		CandidatoDto completo = CandidatoDto.builder().nombres("Ana").apellidos("Pérez").build();
+		Proyeccion.de(null, "empleos").quitarNoPedidos(completo);
+		assertThat(completo.getApellidos()).isEqualTo("Pérez");
+	}
+
+	@Test
+	void expandirEmpleosSinCampos() {
+		Proyeccion proyeccion = Proyeccion.de(null, "Empleos");
+
+		assertThat(proyeccion.isCompleta()).isFalse();
+		assertThat(proyeccion.isExpandirEmpleos()).isTrue();
+		assertThat(proyeccion.columnas(false)).isNull();
+		assertThat(proyeccion).hasToString("fields=*&expand=empleos");
+	}
+
+	@Test
+	void rechazaCamposYRelacionesDesconocidos() {
+		assertThatThrownBy(() -> Proyeccion.de("email,password", null)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("password");
+		assertThatThrownBy(() -> Proyeccion.de("EMAIL", null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Proyeccion.de(null, "empleos,domicilio"))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("empleos");
+	}
+}